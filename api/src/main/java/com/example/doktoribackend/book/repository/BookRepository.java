@@ -3,8 +3,12 @@ package com.example.doktoribackend.book.repository;
 import com.example.doktoribackend.book.domain.Book;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
     Optional<Book> findByIsbn(String isbn);
+
+    List<Book> findByIsbnIn(Collection<String> isbns);
 }
\ No newline at end of file
@@ -30,6 +30,13 @@ public interface BookReportRepository extends JpaRepository<BookReport, Long> {
             "AND br.createdAt >= :startOfDay")
     int countTodaySubmissions(@Param("userId") Long userId, @Param("startOfDay") LocalDateTime startOfDay);
 
+    // 특정 모임에서 한 사용자의 독후감 전체 조회 (나의 모임 상세용)
+    @Query("SELECT br FROM BookReport br " +
+            "WHERE br.user.id = :userId " +
+            "AND br.meetingRound.meeting.id = :meetingId " +
+            "AND br.deletedAt IS NULL")
+    List<BookReport> findByUserIdAndMeetingId(@Param("userId") Long userId, @Param("meetingId") Long meetingId);
+
     // 특정 회차의 독후감 목록 조회 (관리 화면용)
     @Query("SELECT br FROM BookReport br " +
             "WHERE br.meetingRound.id = :roundId " +
@@ -2,6 +2,7 @@ package com.example.doktoribackend.bookReport.service;
 
 import com.example.doktoribackend.bookReport.domain.BookReportStatus;
 import com.example.doktoribackend.bookReport.repository.BookReportRepository;
+import com.example.doktoribackend.common.scheduling.ScheduledJobLock;
 import com.example.doktoribackend.notification.domain.NotificationTypeCode;
 import com.example.doktoribackend.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -24,10 +26,16 @@ public class BookReportSchedulerService {
 
     private final BookReportRepository bookReportRepository;
     private final NotificationService notificationService;
+    private final ScheduledJobLock scheduledJobLock;
 
     @Scheduled(cron = "0 */5 * * * *")
     @Transactional
     public void failStalePendingReports() {
+        scheduledJobLock.runExclusively("book-report.fail-stale-pending",
+                Duration.ofMinutes(5), Duration.ofMinutes(1), this::failStalePending);
+    }
+
+    private void failStalePending() {
         LocalDateTime threshold = LocalDateTime.now().minusMinutes(PENDING_TIMEOUT_MINUTES);
 
         List<BookReportRepository.StaleReportProjection> staleReports =
@@ -33,9 +33,7 @@ import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -49,6 +47,7 @@ public class BookReportService {
     private final MeetingMemberRepository meetingMemberRepository;
     private final UserRepository userRepository;
     private final AiValidationService aiValidationService;
+    private final RoundBookReportAssembler roundBookReportAssembler;
 
     @Transactional
     public BookReportCreateResponse createBookReport(Long userId, Long roundId, BookReportCreateRequest request) {
@@ -160,28 +159,14 @@ public class BookReportService {
         List<MeetingMember> approvedMembers = meetingMemberRepository
                 .findApprovedMembersByMeetingIdOrderByCreatedAt(meetingId);
 
-        // 4. 해당 회차의 독후감 목록 조회
-        List<BookReport> bookReports = bookReportRepository.findByMeetingRoundId(roundId);
-        Map<Long, BookReport> bookReportByUserId = bookReports.stream()
-                .collect(Collectors.toMap(
-                        br -> br.getUser().getId(),
-                        br -> br
-                ));
-
-        // 5. 각 멤버의 APPROVED 독후감 수 일괄 조회 (N+1 방지)
-        Map<Long, Long> approvedCountByUserId = bookReportRepository
-                .countApprovedByMeetingIdGroupByUser(meetingId)
-                .stream()
-                .collect(Collectors.toMap(
-                        BookReportRepository.MemberApprovedCountProjection::getUserId,
-                        BookReportRepository.MemberApprovedCountProjection::getApprovedCount
-                ));
+        // 4~5. 해당 회차의 독후감 목록과 멤버별 APPROVED 독후감 수 일괄 조회 (N+1 방지)
+        RoundBookReportAssembler.RoundReports roundReports = roundBookReportAssembler.forRound(roundId, meetingId);
 
         // 6. 멤버별 정보 조합
         List<BookReportManagementResponse.MemberBookReportInfo> memberInfos = approvedMembers.stream()
                 .map(member -> {
                     Long memberUserId = member.getUser().getId();
-                    BookReport bookReport = bookReportByUserId.get(memberUserId);
+                    BookReport bookReport = roundReports.reportOf(memberUserId);
 
                     // bookReport 정보
                     BookReportManagementResponse.BookReportInfo bookReportInfo = null;
@@ -194,7 +179,7 @@ public class BookReportService {
                     }
 
                     // submissionRate 계산: (APPROVED 수 / roundNo) * 100
-                    long approvedCount = approvedCountByUserId.getOrDefault(memberUserId, 0L);
+                    long approvedCount = roundReports.approvedCountOf(memberUserId);
                     int submissionRate = (int) Math.round((double) approvedCount / roundNo * 100);
 
                     return BookReportManagementResponse.MemberBookReportInfo.builder()
@@ -212,9 +197,7 @@ public class BookReportService {
                 .toList();
 
         // 8. submittedCount 계산 (APPROVED 상태인 독후감 수)
-        int submittedCount = (int) bookReports.stream()
-                .filter(br -> br.getStatus() == BookReportStatus.APPROVED)
-                .count();
+        int submittedCount = roundReports.submittedCount();
 
         return BookReportManagementResponse.builder()
                 .roundNo(roundNo)
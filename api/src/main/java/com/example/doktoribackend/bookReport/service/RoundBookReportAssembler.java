@@ -0,0 +1,97 @@
+package com.example.doktoribackend.bookReport.service;
+
+import com.example.doktoribackend.bookReport.domain.BookReport;
+import com.example.doktoribackend.bookReport.domain.BookReportStatus;
+import com.example.doktoribackend.bookReport.domain.BookReportStatusResolver;
+import com.example.doktoribackend.bookReport.domain.UserBookReportStatus;
+import com.example.doktoribackend.bookReport.repository.BookReportRepository;
+import com.example.doktoribackend.meeting.domain.MeetingRound;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회차별 독후감 정보를 일괄 조회해 조립한다.
+ * 회차 수나 멤버 수만큼 쿼리를 반복하지 않도록 한 번에 읽어 회차 ID / 회차 번호 / 사용자 ID로 인덱싱한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoundBookReportAssembler {
+
+    private final BookReportRepository bookReportRepository;
+
+    /**
+     * 한 사용자의 모임 내 독후감 (나의 모임 상세용).
+     */
+    public MemberReports forMember(Long userId, Long meetingId, List<MeetingRound> rounds) {
+        Map<Long, BookReport> reportsByRoundId = bookReportRepository.findByUserIdAndMeetingId(userId, meetingId)
+                .stream()
+                .collect(Collectors.toMap(br -> br.getMeetingRound().getId(), Function.identity(),
+                        RoundBookReportAssembler::latest));
+        Map<Integer, MeetingRound> roundsByNo = rounds.stream()
+                .collect(Collectors.toMap(MeetingRound::getRoundNo, Function.identity()));
+        return new MemberReports(reportsByRoundId, roundsByNo);
+    }
+
+    /**
+     * 한 회차의 멤버별 독후감과 모임 내 멤버별 승인 수 (독후감 관리용).
+     */
+    public RoundReports forRound(Long roundId, Long meetingId) {
+        List<BookReport> bookReports = bookReportRepository.findByMeetingRoundId(roundId);
+        Map<Long, BookReport> reportsByUserId = bookReports.stream()
+                .collect(Collectors.toMap(br -> br.getUser().getId(), Function.identity(),
+                        RoundBookReportAssembler::latest));
+        Map<Long, Long> approvedCountByUserId = bookReportRepository
+                .countApprovedByMeetingIdGroupByUser(meetingId)
+                .stream()
+                .collect(Collectors.toMap(
+                        BookReportRepository.MemberApprovedCountProjection::getUserId,
+                        BookReportRepository.MemberApprovedCountProjection::getApprovedCount
+                ));
+        return new RoundReports(reportsByUserId, approvedCountByUserId);
+    }
+
+    private static BookReport latest(BookReport a, BookReport b) {
+        return a.getId() > b.getId() ? a : b;
+    }
+
+    public record MemberReports(Map<Long, BookReport> reportsByRoundId, Map<Integer, MeetingRound> roundsByNo) {
+
+        public Optional<BookReport> reportOf(MeetingRound round) {
+            return Optional.ofNullable(reportsByRoundId.get(round.getId()));
+        }
+
+        public MeetingRound prevRoundOf(MeetingRound round) {
+            return roundsByNo.get(round.getRoundNo() - 1);
+        }
+
+        public UserBookReportStatus statusOf(MeetingRound round, LocalDateTime now) {
+            return reportOf(round)
+                    .map(br -> BookReportStatusResolver.fromBookReportStatus(br.getStatus()))
+                    .orElseGet(() -> BookReportStatusResolver.resolveNotSubmitted(now, round, prevRoundOf(round)));
+        }
+    }
+
+    public record RoundReports(Map<Long, BookReport> reportsByUserId, Map<Long, Long> approvedCountByUserId) {
+
+        public BookReport reportOf(Long userId) {
+            return reportsByUserId.get(userId);
+        }
+
+        public long approvedCountOf(Long userId) {
+            return approvedCountByUserId.getOrDefault(userId, 0L);
+        }
+
+        public int submittedCount() {
+            return (int) reportsByUserId.values().stream()
+                    .filter(br -> br.getStatus() == BookReportStatus.APPROVED)
+                    .count();
+        }
+    }
+}
@@ -23,4 +23,7 @@ public class ZoomConfig {
 
     @NotBlank(message = "Zoom API Base URL은 필수입니다")
     private final String apiBaseUrl;
+
+    @NotBlank(message = "Zoom OAuth Token URL은 필수입니다")
+    private final String tokenUrl;
 }
\ No newline at end of file
@@ -16,7 +16,8 @@ import java.util.List;
 @Table(name = "meetings", indexes = {
         @Index(name = "idx_meeting_list", columnList = "status,deleted_at,id"),
         @Index(name = "idx_meeting_genre_status", columnList = "reading_genre_id,status,deleted_at,id"),
-        @Index(name = "idx_meeting_scheduler", columnList = "status,deleted_at,recruitment_deadline")
+        @Index(name = "idx_meeting_scheduler", columnList = "status,deleted_at,recruitment_deadline"),
+        @Index(name = "idx_meeting_transition", columnList = "status,deleted_at,next_transition_at")
 })
 @Getter
 @Builder
@@ -86,6 +87,10 @@ public class Meeting extends BaseTimeEntity {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // 마지막 회차 종료 시각. 이 시각이 지난 FINISHED 모임은 스케줄러가 CANCELED로 전환한다.
+    @Column(name = "next_transition_at")
+    private LocalDateTime nextTransitionAt;
+
     @OneToMany(mappedBy = "meeting", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("roundNo ASC")
     @Builder.Default
@@ -202,4 +207,11 @@ public class Meeting extends BaseTimeEntity {
     public void changeLeader(User newLeader) {
         this.leaderUser = newLeader;
     }
+
+    public void scheduleTransition(List<MeetingRound> rounds) {
+        this.nextTransitionAt = rounds.stream()
+                .map(MeetingRound::getEndAt)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+    }
 }
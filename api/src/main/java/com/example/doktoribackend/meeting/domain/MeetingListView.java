@@ -0,0 +1,96 @@
+package com.example.doktoribackend.meeting.domain;
+
+import com.example.doktoribackend.common.domain.BaseTimeEntity;
+import com.example.doktoribackend.meeting.dto.RoundCountCode;
+import com.example.doktoribackend.meeting.dto.StartTimeCode;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 홈 모임 목록 조회용 읽기 모델.
+ * 모임이 생성/수정되거나 인원, 상태, 모임장이 바뀔 때 같은 트랜잭션에서 갱신한다.
+ */
+@Entity
+@Table(name = "meeting_list_view", indexes = {
+        @Index(name = "idx_meeting_list_view_feed",
+                columnList = "status,meeting_id,recruitment_deadline,reading_genre_code,day_of_week,start_time_slot,round_count_bucket"),
+        @Index(name = "idx_meeting_list_view_leader", columnList = "leader_user_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MeetingListView extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "meeting_id")
+    private Long meetingId;
+
+    @Column(name = "leader_user_id", nullable = false)
+    private Long leaderUserId;
+
+    @Column(name = "leader_nickname", nullable = false, length = 20)
+    private String leaderNickname;
+
+    @Column(name = "reading_genre_id", nullable = false)
+    private Long readingGenreId;
+
+    @Column(name = "reading_genre_code", nullable = false, length = 20)
+    private String readingGenreCode;
+
+    @Column(name = "meeting_image_path", nullable = false, length = 512)
+    private String meetingImagePath;
+
+    @Column(nullable = false, length = 50)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TINYINT")
+    private Integer capacity;
+
+    @Column(name = "current_count", nullable = false, columnDefinition = "TINYINT")
+    private Integer currentCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MeetingStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", nullable = false, length = 3)
+    private MeetingDayOfWeek dayOfWeek;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "start_time_slot", length = 10)
+    private StartTimeCode startTimeSlot;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "round_count_bucket", length = 20)
+    private RoundCountCode roundCountBucket;
+
+    @Column(name = "recruitment_deadline", nullable = false)
+    private LocalDate recruitmentDeadline;
+
+    public static MeetingListView from(Meeting meeting, String readingGenreCode) {
+        MeetingListView view = new MeetingListView();
+        view.meetingId = meeting.getId();
+        view.refresh(meeting, readingGenreCode);
+        return view;
+    }
+
+    public void refresh(Meeting meeting, String readingGenreCode) {
+        this.leaderUserId = meeting.getLeaderUser().getId();
+        this.leaderNickname = meeting.getLeaderUser().getNickname();
+        this.readingGenreId = meeting.getReadingGenreId();
+        this.readingGenreCode = readingGenreCode;
+        this.meetingImagePath = meeting.getMeetingImagePath();
+        this.title = meeting.getTitle();
+        this.capacity = meeting.getCapacity();
+        this.currentCount = meeting.getCurrentCount();
+        this.status = meeting.getStatus();
+        this.dayOfWeek = meeting.getDayOfWeek();
+        this.startTimeSlot = StartTimeCode.slotOf(meeting.getStartTime());
+        this.roundCountBucket = RoundCountCode.bucketOf(meeting.getRoundCount());
+        this.recruitmentDeadline = meeting.getRecruitmentDeadline();
+    }
+}
@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "meeting_rounds",
-        uniqueConstraints = @UniqueConstraint(name = "uk_meeting_round", columnNames = {"meeting_id", "round_no"})
+        uniqueConstraints = @UniqueConstraint(name = "uk_meeting_round", columnNames = {"meeting_id", "round_no"}),
+        indexes = @Index(name = "idx_meeting_round_status_end_at", columnList = "status,end_at")
 )
 @Getter
 @Builder
@@ -0,0 +1,52 @@
+package com.example.doktoribackend.meeting.domain;
+
+import com.example.doktoribackend.common.domain.BaseTimeEntity;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모임 검색 문서. 모임 제목과 회차 도서 제목을 ngram FULLTEXT 인덱스로 검색한다.
+ * 도서 제목은 구문 검색이 서로 다른 제목에 걸쳐 일치하지 않도록 제목마다 한 행으로 저장한다.
+ */
+@Entity
+@Table(name = "meeting_search_documents")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MeetingSearchDocument extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "meeting_id")
+    private Long meetingId;
+
+    @Column(name = "meeting_title", nullable = false, length = 50)
+    private String meetingTitle;
+
+    @ElementCollection
+    @CollectionTable(name = "meeting_search_books", joinColumns = @JoinColumn(name = "meeting_id"))
+    @Column(name = "book_title", nullable = false)
+    private List<String> bookTitles = new ArrayList<>();
+
+    public static MeetingSearchDocument of(Long meetingId, String meetingTitle, List<String> bookTitles) {
+        MeetingSearchDocument document = new MeetingSearchDocument();
+        document.meetingId = meetingId;
+        document.update(meetingTitle, bookTitles);
+        return document;
+    }
+
+    public void update(String meetingTitle, List<String> bookTitles) {
+        this.meetingTitle = meetingTitle;
+        this.bookTitles.clear();
+        this.bookTitles.addAll(bookTitles.stream().distinct().toList());
+    }
+}
@@ -16,4 +16,21 @@ public class MeetingListRow {
     private final Integer capacity;
     private final Integer currentMemberCount;
     private final LocalDate recruitmentDeadline;
+
+    // 나의 모임 목록에서만 채워진다.
+    private final Integer currentRound;
+
+    public MeetingListRow(
+            Long meetingId,
+            String meetingImagePath,
+            String title,
+            Long readingGenreId,
+            String leaderNickname,
+            Integer capacity,
+            Integer currentMemberCount,
+            LocalDate recruitmentDeadline
+    ) {
+        this(meetingId, meetingImagePath, title, readingGenreId, leaderNickname,
+                capacity, currentMemberCount, recruitmentDeadline, null);
+    }
 }
@@ -20,4 +20,20 @@ public enum RoundCountCode {
         }
         throw new IllegalArgumentException("Invalid roundCount value: " + value);
     }
-}
\ No newline at end of file
+
+    /**
+     * 회차 수가 속한 필터 구간 (1회, 3~4회, 5~8회). 어느 구간에도 속하지 않으면 null.
+     */
+    public static RoundCountCode bucketOf(int roundCount) {
+        if (roundCount == 1) {
+            return ONE;
+        }
+        if (roundCount >= 3 && roundCount <= 4) {
+            return THREE_OR_MORE;
+        }
+        if (roundCount >= 5 && roundCount <= 8) {
+            return FIVE_OR_MORE;
+        }
+        return null;
+    }
+}
@@ -22,4 +22,17 @@ public enum StartTimeCode {
         }
         throw new IllegalArgumentException("Invalid startTime value: " + time);
     }
-}
\ No newline at end of file
+
+    /**
+     * 시작 시각이 속한 시간대. 09:00 이전은 어느 시간대에도 속하지 않는다.
+     */
+    public static StartTimeCode slotOf(LocalTime startTime) {
+        StartTimeCode slot = null;
+        for (StartTimeCode code : values()) {
+            if (!startTime.isBefore(code.time)) {
+                slot = code;
+            }
+        }
+        return slot;
+    }
+}
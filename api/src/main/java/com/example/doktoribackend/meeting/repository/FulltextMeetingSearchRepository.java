@@ -0,0 +1,130 @@
+package com.example.doktoribackend.meeting.repository;
+
+import com.example.doktoribackend.meeting.domain.MeetingStatus;
+import com.example.doktoribackend.meeting.dto.MeetingListRow;
+import com.example.doktoribackend.meeting.dto.MeetingSearchRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * meeting_search_documents(모임 제목)와 meeting_search_books(도서 제목)의 ngram FULLTEXT 인덱스로 후보를 찾고
+ * meeting_list_view에서 필터를 적용한다.
+ * ngram 토큰(2글자)보다 짧은 검색어는 인덱스로 찾을 수 없어 LIKE 검색으로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = MeetingSearchRepository.ENGINE_PROPERTY, havingValue = "fulltext", matchIfMissing = true)
+public class FulltextMeetingSearchRepository implements MeetingSearchRepository {
+
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    private final MeetingRepository meetingRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<MeetingListRow> search(MeetingSearchRequest request, int limit) {
+        String keyword = request.getKeywordTrimmed();
+        if (keyword != null && !keyword.isEmpty() && keyword.length() < NGRAM_TOKEN_SIZE) {
+            return meetingRepository.searchMeetings(request, limit);
+        }
+        boolean hasKeyword = keyword != null && !keyword.isEmpty();
+
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT v.meeting_id, v.meeting_image_path, v.title, v.reading_genre_id, ")
+                .append("v.leader_nickname, v.capacity, v.current_count, v.recruitment_deadline ");
+
+        if (hasKeyword) {
+            // 도서 제목으로 일치한 모임을 정렬에서 앞에 두기 위해 어느 쪽에서 일치했는지 남긴다.
+            sql.append("FROM (SELECT t.meeting_id, MAX(t.book_hit) AS book_score FROM (")
+                    .append("SELECT d.meeting_id, 0 AS book_hit FROM meeting_search_documents d ")
+                    .append("WHERE MATCH(d.meeting_title) AGAINST (:keyword IN BOOLEAN MODE) ")
+                    .append("UNION ALL ")
+                    .append("SELECT b.meeting_id, 1 AS book_hit FROM meeting_search_books b ")
+                    .append("WHERE MATCH(b.book_title) AGAINST (:keyword IN BOOLEAN MODE)) t ")
+                    .append("GROUP BY t.meeting_id) hit ")
+                    .append("JOIN meeting_list_view v ON v.meeting_id = hit.meeting_id ");
+            params.put("keyword", toPhrase(keyword));
+        } else {
+            sql.append("FROM meeting_list_view v ");
+        }
+
+        sql.append("WHERE v.recruitment_deadline >= :today ");
+        params.put("today", LocalDate.now());
+
+        if (request.getCursorId() != null) {
+            sql.append("AND v.meeting_id < :cursorId ");
+            params.put("cursorId", request.getCursorId());
+        }
+        if (request.getReadingGenres() != null && !request.getReadingGenres().isEmpty()) {
+            sql.append("AND v.reading_genre_code IN (:readingGenres) ");
+            params.put("readingGenres", request.getReadingGenres());
+        }
+        if (request.getDayOfWeek() != null && !request.getDayOfWeek().isEmpty()) {
+            sql.append("AND v.day_of_week IN (:dayOfWeek) ");
+            params.put("dayOfWeek", request.getDayOfWeek().stream().map(Enum::name).toList());
+        }
+        if (request.getRoundCount() != null) {
+            sql.append("AND v.round_count_bucket = :roundCount ");
+            params.put("roundCount", request.getRoundCount().name());
+        }
+        if (request.getStartTimeFrom() != null && !request.getStartTimeFrom().isEmpty()) {
+            sql.append("AND v.start_time_slot IN (:startTimeSlots) ");
+            params.put("startTimeSlots", request.getStartTimeFrom().stream().map(Enum::name).toList());
+        }
+
+        sql.append("ORDER BY ");
+        if (hasKeyword) {
+            sql.append("CASE WHEN hit.book_score > 0 THEN 0 ELSE 1 END, ");
+        }
+        sql.append("CASE WHEN v.status = :recruiting THEN 0 ELSE 1 END, v.meeting_id DESC");
+        params.put("recruiting", MeetingStatus.RECRUITING.name());
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+                .map(FulltextMeetingSearchRepository::toRow)
+                .toList();
+    }
+
+    private static String toPhrase(String keyword) {
+        // 큰따옴표 구문 검색: ngram 토큰이 연속으로 일치해야 하므로 LIKE '%kw%'와 같은 의미가 된다.
+        return "\"" + keyword.replace("\"", " ") + "\"";
+    }
+
+    private static MeetingListRow toRow(Object[] row) {
+        return new MeetingListRow(
+                ((Number) row[0]).longValue(),
+                (String) row[1],
+                (String) row[2],
+                ((Number) row[3]).longValue(),
+                (String) row[4],
+                ((Number) row[5]).intValue(),
+                ((Number) row[6]).intValue(),
+                toLocalDate(row[7])
+        );
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate localDate) {
+            return localDate;
+        }
+        return ((Date) value).toLocalDate();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.doktoribackend.meeting.repository;
+
+import com.example.doktoribackend.meeting.dto.MeetingListRow;
+import com.example.doktoribackend.meeting.dto.MeetingSearchRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * FULLTEXT를 지원하지 않는 DB(H2 테스트 환경)용 LIKE 기반 검색.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = MeetingSearchRepository.ENGINE_PROPERTY, havingValue = "like")
+public class LikeMeetingSearchRepository implements MeetingSearchRepository {
+
+    private final MeetingRepository meetingRepository;
+
+    @Override
+    public List<MeetingListRow> search(MeetingSearchRequest request, int limit) {
+        return meetingRepository.searchMeetings(request, limit);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.doktoribackend.meeting.repository;
+
+import com.example.doktoribackend.meeting.domain.MeetingListView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MeetingListViewRepository extends JpaRepository<MeetingListView, Long> {
+
+    @Modifying
+    @Query("UPDATE MeetingListView v SET v.leaderNickname = :nickname " +
+            "WHERE v.leaderUserId = :leaderUserId")
+    int updateLeaderNickname(@Param("leaderUserId") Long leaderUserId, @Param("nickname") String nickname);
+
+    @Modifying
+    @Query("UPDATE MeetingListView v SET v.status = 'FINISHED' " +
+            "WHERE v.status = 'RECRUITING' " +
+            "AND v.recruitmentDeadline < :today")
+    int bulkUpdateExpiredToFinished(@Param("today") LocalDate today);
+
+    @Modifying
+    @Query("UPDATE MeetingListView v SET v.status = 'CANCELED' " +
+            "WHERE v.meetingId IN :meetingIds " +
+            "AND v.status = 'FINISHED'")
+    int bulkUpdateCompletedToCanceled(@Param("meetingIds") List<Long> meetingIds);
+}
@@ -44,5 +44,17 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long>, Meeting
             "AND m.deletedAt IS NULL")
     int bulkUpdateExpiredToFinished(@Param("today") LocalDate today);
 
+    @Query("SELECT m.id FROM Meeting m " +
+            "WHERE m.status = 'FINISHED' " +
+            "AND m.deletedAt IS NULL " +
+            "AND (m.nextTransitionAt IS NULL OR m.nextTransitionAt <= :now)")
+    List<Long> findIdsDueForCompletion(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Meeting m SET m.status = 'CANCELED' " +
+            "WHERE m.id IN :meetingIds " +
+            "AND m.status = 'FINISHED'")
+    int bulkUpdateCompletedToCanceled(@Param("meetingIds") List<Long> meetingIds);
+
     boolean existsByIdAndDeletedAtIsNull(Long id);
 }
@@ -1,6 +1,7 @@
 package com.example.doktoribackend.meeting.repository;
 
 import com.example.doktoribackend.meeting.domain.Meeting;
+import com.example.doktoribackend.meeting.domain.MeetingListView;
 import com.example.doktoribackend.meeting.domain.MeetingMember;
 import com.example.doktoribackend.meeting.domain.MeetingMemberStatus;
 import com.example.doktoribackend.meeting.domain.MeetingRound;
@@ -34,53 +35,42 @@ public class MeetingRepositoryImpl implements MeetingRepositoryCustom {
     public List<MeetingListRow> findMeetingList(MeetingListRequest request, int limit) {
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
         CriteriaQuery<MeetingListRow> query = cb.createQuery(MeetingListRow.class);
-        Root<Meeting> meeting = query.from(Meeting.class);
-        Join<Meeting, User> leader = meeting.join("leaderUser", JoinType.INNER);
+        Root<MeetingListView> view = query.from(MeetingListView.class);
 
+        // 필터 값은 모두 읽기 모델에 미리 계산된 컬럼이라 idx_meeting_list_view_feed 범위 스캔에서 인덱스 항목만으로 거른다.
+        // 조회 컬럼(이미지, 제목, 닉네임 등)은 인덱스에 없어 커버링은 아니며, 조건을 통과한 limit개 행만 PK로 읽는다.
         List<Predicate> predicates = new ArrayList<>();
-        predicates.add(cb.isNull(meeting.get("deletedAt")));
-        predicates.add(cb.equal(meeting.get("status"), MeetingStatus.RECRUITING));
-        predicates.add(cb.greaterThanOrEqualTo(meeting.get("recruitmentDeadline"), LocalDate.now()));
+        predicates.add(cb.equal(view.get("status"), MeetingStatus.RECRUITING));
+        predicates.add(cb.greaterThanOrEqualTo(view.get("recruitmentDeadline"), LocalDate.now()));
 
         if (request.getCursorId() != null) {
-            predicates.add(cb.lt(meeting.get("id"), request.getCursorId()));
+            predicates.add(cb.lt(view.get("meetingId"), request.getCursorId()));
         }
         if (request.getReadingGenres() != null && !request.getReadingGenres().isEmpty()) {
-            Join<Meeting, ReadingGenre> genre = meeting.join("readingGenre", JoinType.INNER);
-            predicates.add(genre.get("code").in(request.getReadingGenres()));
+            predicates.add(view.get("readingGenreCode").in(request.getReadingGenres()));
         }
         if (request.getDayOfWeek() != null && !request.getDayOfWeek().isEmpty()) {
-            predicates.add(meeting.get("dayOfWeek").in(request.getDayOfWeek()));
+            predicates.add(view.get("dayOfWeek").in(request.getDayOfWeek()));
         }
         if (request.getRoundCount() != null) {
-            int roundCount = request.getRoundCountValue();
-            if (roundCount == 1) {
-                predicates.add(cb.equal(meeting.get("roundCount"), 1));
-            } else if (roundCount == 3) {
-                predicates.add(cb.between(meeting.get("roundCount"), 3, 4));
-            } else if (roundCount == 5) {
-                predicates.add(cb.between(meeting.get("roundCount"), 5, 8));
-            }
+            predicates.add(cb.equal(view.get("roundCountBucket"), request.getRoundCount()));
         }
-
-        Predicate startTimePredicate = buildStartTimePredicate(cb, meeting, request.getStartTimeValues());
-        if (startTimePredicate != null) {
-            predicates.add(startTimePredicate);
+        if (request.getStartTimeFrom() != null && !request.getStartTimeFrom().isEmpty()) {
+            predicates.add(view.get("startTimeSlot").in(request.getStartTimeFrom()));
         }
 
-        // Join + projection to avoid N+1 when mapping leader nickname.
         query.select(cb.construct(MeetingListRow.class,
-                        meeting.get("id"),
-                        meeting.get("meetingImagePath"),
-                        meeting.get("title"),
-                        meeting.get("readingGenreId"),
-                        leader.get("nickname"),
-                        meeting.get("capacity"),
-                        meeting.get("currentCount"),
-                        meeting.get("recruitmentDeadline")
+                        view.get("meetingId"),
+                        view.get("meetingImagePath"),
+                        view.get("title"),
+                        view.get("readingGenreId"),
+                        view.get("leaderNickname"),
+                        view.get("capacity"),
+                        view.get("currentCount"),
+                        view.get("recruitmentDeadline")
                 ))
                 .where(predicates.toArray(new Predicate[0]))
-                .orderBy(cb.desc(meeting.get("id")));
+                .orderBy(cb.desc(view.get("meetingId")));
 
         TypedQuery<MeetingListRow> typedQuery = entityManager.createQuery(query);
         typedQuery.setMaxResults(limit);
@@ -310,7 +300,8 @@ public class MeetingRepositoryImpl implements MeetingRepositoryCustom {
                         leader.get("nickname"),
                         meeting.get("capacity"),
                         meeting.get("currentCount"),
-                        meeting.get("recruitmentDeadline")
+                        meeting.get("recruitmentDeadline"),
+                        meeting.get("currentRound")
                 ))
                 .where(predicates.toArray(new Predicate[0]))
                 .orderBy(cb.desc(meeting.get("id")));
@@ -371,7 +362,8 @@ public class MeetingRepositoryImpl implements MeetingRepositoryCustom {
                         leader.get("nickname"),
                         meeting.get("capacity"),
                         meeting.get("currentCount"),
-                        meeting.get("recruitmentDeadline")
+                        meeting.get("recruitmentDeadline"),
+                        meeting.get("currentRound")
                 ))
                 .where(predicates.toArray(new Predicate[0]))
                 .orderBy(cb.desc(meeting.get("id")));
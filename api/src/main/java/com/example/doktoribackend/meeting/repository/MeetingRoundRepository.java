@@ -25,17 +25,33 @@ public interface MeetingRoundRepository extends JpaRepository<MeetingRound, Long
             @Param("targetTime") LocalDateTime targetTime
     );
 
+    @Query("SELECT mr FROM MeetingRound mr " +
+            "JOIN FETCH mr.meeting m " +
+            "WHERE m.status IN :statuses " +
+            "AND mr.startAt > :from " +
+            "AND mr.startAt <= :to " +
+            "AND mr.meetingLink IS NOT NULL")
+    List<MeetingRound> findRoundsWithLinkStartingBetween(
+            @Param("statuses") List<MeetingStatus> statuses,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
     @Query("SELECT mr FROM MeetingRound mr " +
             "JOIN FETCH mr.meeting " +
             "WHERE mr.id IN :ids")
     List<MeetingRound> findByIdsWithMeeting(@Param("ids") List<Long> ids);
 
-    @Query("SELECT mr FROM MeetingRound mr " +
-            "JOIN FETCH mr.meeting m " +
+    @Query("SELECT mr.id AS roundId, m.id AS meetingId, m.title AS meetingTitle, mm.user.id AS userId " +
+            "FROM MeetingRound mr " +
+            "JOIN mr.meeting m " +
+            "JOIN MeetingMember mm ON mm.meeting = m " +
             "WHERE mr.startAt > :from " +
             "AND mr.startAt <= :to " +
-            "AND m.status IN ('RECRUITING', 'FINISHED')")
-    List<MeetingRound> findRoundsStartingBetween(
+            "AND m.status IN ('RECRUITING', 'FINISHED') " +
+            "AND mm.status = 'APPROVED' " +
+            "ORDER BY m.id ASC, mr.id ASC")
+    List<RoundMemberProjection> findApprovedMembersOfRoundsStartingBetween(
             @Param("from") LocalDateTime from,
             @Param("to") LocalDateTime to
     );
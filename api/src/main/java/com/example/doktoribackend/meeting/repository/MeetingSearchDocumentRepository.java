@@ -0,0 +1,7 @@
+package com.example.doktoribackend.meeting.repository;
+
+import com.example.doktoribackend.meeting.domain.MeetingSearchDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MeetingSearchDocumentRepository extends JpaRepository<MeetingSearchDocument, Long> {
+}
@@ -0,0 +1,17 @@
+package com.example.doktoribackend.meeting.repository;
+
+import com.example.doktoribackend.meeting.dto.MeetingListRow;
+import com.example.doktoribackend.meeting.dto.MeetingSearchRequest;
+
+import java.util.List;
+
+/**
+ * 모임 검색. 정렬: 도서 제목 매칭 우선 → RECRUITING 우선 → 최신순.
+ * app.meeting.search-engine 값으로 구현을 고른다 (fulltext: MySQL ngram FULLTEXT, like: LIKE 스캔).
+ */
+public interface MeetingSearchRepository {
+
+    String ENGINE_PROPERTY = "app.meeting.search-engine";
+
+    List<MeetingListRow> search(MeetingSearchRequest request, int limit);
+}
@@ -0,0 +1,11 @@
+package com.example.doktoribackend.meeting.repository;
+
+/**
+ * 기간 내 시작하는 회차와 그 모임의 승인 멤버 한 명을 담는 Projection 인터페이스
+ */
+public interface RoundMemberProjection {
+    Long getRoundId();
+    Long getMeetingId();
+    String getMeetingTitle();
+    Long getUserId();
+}
@@ -18,6 +18,7 @@ public class LeaderDelegationService {
 
     private final MeetingRepository meetingRepository;
     private final MeetingMemberRepository meetingMemberRepository;
+    private final MeetingListViewService meetingListViewService;
 
     @Transactional
     public LeaderDelegationResponse delegateLeader(
@@ -62,6 +63,7 @@ public class LeaderDelegationService {
         currentLeaderMember.demoteToMember();
         newLeaderMember.promoteToLeader();
         meeting.changeLeader(newLeaderMember.getUser());
+        meetingListViewService.sync(meeting);
 
         // 9. 응답 반환
         return LeaderDelegationResponse.builder()
@@ -0,0 +1,177 @@
+package com.example.doktoribackend.meeting.service;
+
+import com.example.doktoribackend.book.domain.Book;
+import com.example.doktoribackend.book.repository.BookRepository;
+import com.example.doktoribackend.common.client.KakaoBookClient;
+import com.example.doktoribackend.common.client.KakaoBookResponse;
+import com.example.doktoribackend.common.error.ErrorCode;
+import com.example.doktoribackend.exception.BusinessException;
+import com.example.doktoribackend.meeting.dto.RoundRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 모임 생성/수정 요청의 회차별 도서를 Book으로 바꾼다.
+ * Kakao 조회는 {@link #prefetch}에서 트랜잭션을 열기 전에 가상 스레드로 동시에 끝내고,
+ * 트랜잭션 안의 {@link #resolve}는 DB 조회와 저장만 한다.
+ */
+@Slf4j
+@Component
+public class MeetingBookResolver {
+
+    private final BookRepository bookRepository;
+    private final KakaoBookClient kakaoBookClient;
+    private final Duration lookupTimeout;
+
+    public MeetingBookResolver(
+            BookRepository bookRepository,
+            KakaoBookClient kakaoBookClient,
+            @Value("${app.meeting.book-lookup-timeout:5s}") Duration lookupTimeout
+    ) {
+        this.bookRepository = bookRepository;
+        this.kakaoBookClient = kakaoBookClient;
+        this.lookupTimeout = lookupTimeout;
+    }
+
+    /**
+     * DB에 없던 ISBN의 Kakao 도서 정보.
+     */
+    public record PrefetchedBooks(Map<String, KakaoBookResponse.KakaoBookDocument> documents) {
+    }
+
+    /**
+     * 트랜잭션 밖에서 호출한다. 이미 등록된 도서는 IN 조회 한 번으로 거르고, 나머지만 Kakao에서 동시에 찾는다.
+     * Kakao에 없는 ISBN이 있으면 BOOK_NOT_FOUND를, 제한 시간 안에 답이 없으면 UPSTREAM_KAKAO_FAILED를 던진다.
+     */
+    public PrefetchedBooks prefetch(Collection<RoundRequest> rounds) {
+        Set<String> isbns = isbnsOf(rounds);
+        Set<String> known = bookRepository.findByIsbnIn(isbns).stream()
+                .map(Book::getIsbn)
+                .collect(Collectors.toSet());
+
+        List<String> unknown = isbns.stream()
+                .filter(isbn -> !known.contains(isbn))
+                .toList();
+        return new PrefetchedBooks(fetchFromKakao(unknown));
+    }
+
+    /**
+     * 트랜잭션 안에서 호출한다. 삭제된 도서는 되살리고, 새 도서는 prefetch한 정보로 한 번에 저장한다.
+     */
+    public Map<String, Book> resolve(Collection<RoundRequest> rounds, PrefetchedBooks prefetched) {
+        Set<String> isbns = isbnsOf(rounds);
+        Map<String, Book> books = new HashMap<>();
+        for (Book book : bookRepository.findByIsbnIn(isbns)) {
+            if (book.isDeleted()) {
+                book.revive();
+            }
+            books.put(book.getIsbn(), book);
+        }
+
+        List<Book> created = new ArrayList<>();
+        for (String isbn : isbns) {
+            if (books.containsKey(isbn)) {
+                continue;
+            }
+            KakaoBookResponse.KakaoBookDocument document = Optional
+                    .ofNullable(prefetched.documents().get(isbn))
+                    .or(() -> kakaoBookClient.searchByIsbn(isbn))
+                    .orElseThrow(() -> new BusinessException(ErrorCode.BOOK_NOT_FOUND));
+            created.add(toBookFromKakao(document, isbn));
+        }
+        bookRepository.saveAll(created).forEach(book -> books.put(book.getIsbn(), book));
+        return books;
+    }
+
+    private Set<String> isbnsOf(Collection<RoundRequest> rounds) {
+        return rounds.stream()
+                .map(round -> round.book().isbn())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private Map<String, KakaoBookResponse.KakaoBookDocument> fetchFromKakao(List<String> isbns) {
+        if (isbns.isEmpty()) {
+            return Map.of();
+        }
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            Map<String, Future<Optional<KakaoBookResponse.KakaoBookDocument>>> lookups = new LinkedHashMap<>();
+            for (String isbn : isbns) {
+                lookups.put(isbn, executor.submit(() -> kakaoBookClient.searchByIsbn(isbn)));
+            }
+
+            long deadline = System.nanoTime() + lookupTimeout.toNanos();
+            Map<String, KakaoBookResponse.KakaoBookDocument> documents = new HashMap<>();
+            for (Map.Entry<String, Future<Optional<KakaoBookResponse.KakaoBookDocument>>> lookup : lookups.entrySet()) {
+                documents.put(lookup.getKey(), await(lookup.getKey(), lookup.getValue(), deadline)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.BOOK_NOT_FOUND)));
+            }
+            return documents;
+        } finally {
+            // 실패하거나 시간을 넘기면 남은 조회를 기다리지 않는다.
+            executor.shutdownNow();
+        }
+    }
+
+    private Optional<KakaoBookResponse.KakaoBookDocument> await(
+            String isbn, Future<Optional<KakaoBookResponse.KakaoBookDocument>> lookup, long deadline) {
+        try {
+            return lookup.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Kakao 도서 조회 시간 초과 - ISBN: {}, Timeout: {}", isbn, lookupTimeout);
+            throw new BusinessException(ErrorCode.UPSTREAM_KAKAO_FAILED);
+        } catch (ExecutionException e) {
+            log.warn("Kakao 도서 조회 실패 - ISBN: {}, Error: {}", isbn, e.getCause().getMessage());
+            throw new BusinessException(ErrorCode.UPSTREAM_KAKAO_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.UPSTREAM_KAKAO_FAILED);
+        }
+    }
+
+    private Book toBookFromKakao(KakaoBookResponse.KakaoBookDocument doc, String isbn) {
+        String authors = doc.authors() != null ? String.join(", ", doc.authors()) : null;
+        LocalDate publishedAt = parsePublishedAt(doc.datetime());
+
+        return Book.create(
+                isbn,
+                doc.title(),
+                authors,
+                doc.publisher(),
+                doc.thumbnail(),
+                publishedAt
+        );
+    }
+
+    private LocalDate parsePublishedAt(String datetime) {
+        if (datetime == null || datetime.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(datetime.substring(0, 10));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
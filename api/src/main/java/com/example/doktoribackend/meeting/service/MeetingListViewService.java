@@ -0,0 +1,42 @@
+package com.example.doktoribackend.meeting.service;
+
+import com.example.doktoribackend.common.error.ErrorCode;
+import com.example.doktoribackend.exception.BusinessException;
+import com.example.doktoribackend.meeting.domain.Meeting;
+import com.example.doktoribackend.meeting.domain.MeetingListView;
+import com.example.doktoribackend.meeting.repository.MeetingListViewRepository;
+import com.example.doktoribackend.reading.domain.ReadingGenre;
+import com.example.doktoribackend.reading.repository.ReadingGenreRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * meeting_list_view 읽기 모델 동기화.
+ * 모임 목록에 노출되는 값을 바꾸는 쪽에서 변경 직후 호출한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MeetingListViewService {
+
+    private final MeetingListViewRepository meetingListViewRepository;
+    private final ReadingGenreRepository readingGenreRepository;
+
+    @Transactional
+    public void sync(Meeting meeting) {
+        String readingGenreCode = readingGenreRepository.findById(meeting.getReadingGenreId())
+                .map(ReadingGenre::getCode)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE));
+
+        meetingListViewRepository.findById(meeting.getId())
+                .ifPresentOrElse(
+                        view -> view.refresh(meeting, readingGenreCode),
+                        () -> meetingListViewRepository.save(MeetingListView.from(meeting, readingGenreCode))
+                );
+    }
+
+    @Transactional
+    public void syncLeaderNickname(Long leaderUserId, String nickname) {
+        meetingListViewRepository.updateLeaderNickname(leaderUserId, nickname);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.doktoribackend.meeting.service;
+
+import com.example.doktoribackend.meeting.domain.Meeting;
+import com.example.doktoribackend.meeting.domain.MeetingRound;
+import com.example.doktoribackend.meeting.domain.MeetingSearchDocument;
+import com.example.doktoribackend.meeting.repository.MeetingSearchDocumentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * meeting_search_documents 동기화. 모임 제목이나 회차 도서가 바뀌는 생성/수정 시점에 호출한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MeetingSearchIndexService {
+
+    private final MeetingSearchDocumentRepository meetingSearchDocumentRepository;
+
+    @Transactional
+    public void index(Meeting meeting, List<MeetingRound> rounds) {
+        List<String> bookTitles = rounds.stream()
+                .map(round -> round.getBook().getTitle())
+                .toList();
+
+        meetingSearchDocumentRepository.findById(meeting.getId())
+                .ifPresentOrElse(
+                        document -> document.update(meeting.getTitle(), bookTitles),
+                        () -> meetingSearchDocumentRepository.save(
+                                MeetingSearchDocument.of(meeting.getId(), meeting.getTitle(), bookTitles))
+                );
+    }
+}
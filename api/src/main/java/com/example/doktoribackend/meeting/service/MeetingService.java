@@ -1,14 +1,9 @@
 package com.example.doktoribackend.meeting.service;
 
-import com.example.doktoribackend.common.client.KakaoBookClient;
 import com.example.doktoribackend.book.domain.Book;
-import com.example.doktoribackend.common.client.KakaoBookResponse;
-import com.example.doktoribackend.book.repository.BookRepository;
 import com.example.doktoribackend.bookReport.domain.BookReport;
 import com.example.doktoribackend.bookReport.domain.BookReportStatus;
-import com.example.doktoribackend.bookReport.domain.BookReportStatusResolver;
-import com.example.doktoribackend.bookReport.domain.UserBookReportStatus;
-import com.example.doktoribackend.bookReport.repository.BookReportRepository;
+import com.example.doktoribackend.bookReport.service.RoundBookReportAssembler;
 import com.example.doktoribackend.common.error.ErrorCode;
 import com.example.doktoribackend.exception.BusinessException;
 import com.example.doktoribackend.meeting.domain.Meeting;
@@ -18,7 +13,6 @@ import com.example.doktoribackend.meeting.domain.MeetingMemberStatus;
 import com.example.doktoribackend.meeting.domain.MeetingRound;
 import com.example.doktoribackend.meeting.domain.MeetingRoundStatus;
 import com.example.doktoribackend.meeting.domain.MeetingStatus;
-import com.example.doktoribackend.meeting.dto.BookRequest;
 import com.example.doktoribackend.meeting.dto.MeetingCreateRequest;
 import com.example.doktoribackend.meeting.dto.MeetingCreateResponse;
 import com.example.doktoribackend.meeting.dto.MeetingDetailResponse;
@@ -42,6 +36,7 @@ import com.example.doktoribackend.meeting.dto.MeetingListRow;
 import com.example.doktoribackend.meeting.repository.MeetingMemberRepository;
 import com.example.doktoribackend.meeting.repository.MeetingRepository;
 import com.example.doktoribackend.meeting.repository.MeetingRoundRepository;
+import com.example.doktoribackend.meeting.repository.MeetingSearchRepository;
 import com.example.doktoribackend.meeting.repository.NextRoundProjection;
 import com.example.doktoribackend.reading.domain.ReadingGenre;
 import com.example.doktoribackend.reading.repository.ReadingGenreRepository;
@@ -51,13 +46,16 @@ import com.example.doktoribackend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -71,15 +69,25 @@ public class MeetingService {
     private final MeetingRepository meetingRepository;
     private final MeetingRoundRepository meetingRoundRepository;
     private final MeetingMemberRepository meetingMemberRepository;
-    private final BookRepository bookRepository;
-    private final KakaoBookClient kakaoBookClient;
+    private final MeetingBookResolver meetingBookResolver;
     private final UserRepository userRepository;
     private final ReadingGenreRepository readingGenreRepository;
-    private final BookReportRepository bookReportRepository;
     private final ImageUrlResolver imageUrlResolver;
+    private final MeetingListViewService meetingListViewService;
+    private final MeetingSearchIndexService meetingSearchIndexService;
+    private final MeetingSearchRepository meetingSearchRepository;
+    private final RoundBookReportAssembler roundBookReportAssembler;
+    private final PlatformTransactionManager transactionManager;
 
-    @Transactional
     public MeetingCreateResponse createMeeting(Long userId, MeetingCreateRequest request) {
+        // Kakao 도서 조회는 트랜잭션(커넥션)을 잡기 전에 끝낸다.
+        MeetingBookResolver.PrefetchedBooks prefetched = meetingBookResolver.prefetch(request.rounds());
+        return new TransactionTemplate(transactionManager)
+                .execute(status -> createMeeting(userId, request, prefetched));
+    }
+
+    private MeetingCreateResponse createMeeting(
+            Long userId, MeetingCreateRequest request, MeetingBookResolver.PrefetchedBooks prefetched) {
         User leader = userRepository.findByIdAndDeletedAtIsNull(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
@@ -114,20 +122,24 @@ public class MeetingService {
                 1
         );
         meetingRepository.save(meeting);
+        meetingListViewService.sync(meeting);
 
         LocalDateTime approvedAt = LocalDateTime.now();
         MeetingMember leaderMember = MeetingMember.createLeader(meeting, leader, approvedAt);
         meetingMemberRepository.save(leaderMember);
 
+        Map<String, Book> books = meetingBookResolver.resolve(request.rounds(), prefetched);
         List<MeetingRound> rounds = request.rounds().stream()
                 .map(round -> {
-                    Book book = resolveBook(round.book());
+                    Book book = books.get(round.book().isbn());
                     LocalDateTime startAt = LocalDateTime.of(round.date(), startTime);
                     LocalDateTime endAt = startAt.plusMinutes(durationMinutes);
                     return MeetingRound.create(meeting, book, round.roundNo(), startAt, endAt);
                 })
                 .toList();
         meetingRoundRepository.saveAll(rounds);
+        meeting.scheduleTransition(rounds);
+        meetingSearchIndexService.index(meeting, rounds);
 
         if (Boolean.TRUE.equals(request.leaderIntroSavePolicy())) {
             leader.updateLeaderIntro(request.leaderIntro());
@@ -237,7 +249,7 @@ public class MeetingService {
     @Transactional(readOnly = true)
     public MeetingListResponse searchMeetings(MeetingSearchRequest request) {
         int size = request.getSizeOrDefault();
-        List<MeetingListRow> results = meetingRepository.searchMeetings(request, size + 1);
+        List<MeetingListRow> results = meetingSearchRepository.search(request, size + 1);
 
         boolean hasNext = results.size() > size;
         List<MeetingListRow> sliced = hasNext ? results.subList(0, size) : results;
@@ -251,7 +263,7 @@ public class MeetingService {
         return new MeetingListResponse(mapped, pageInfo);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public MyMeetingListResponse getMyMeetings(Long userId, MyMeetingListRequest request) {
         int size = request.getSizeOrDefault();
         boolean activeOnly = request.isActiveFilter();
@@ -266,25 +278,12 @@ public class MeetingService {
         boolean hasNext = results.size() > size;
         List<MeetingListRow> sliced = hasNext ? results.subList(0, size) : results;
 
-        // 조회된 모임 중 종료된 모임 상태 갱신
-        LocalDateTime now = LocalDateTime.now();
-        updateCompletedMeetingsStatus(sliced, now);
-
         // N+1 해결: 다음 회차 일괄 조회
-        List<Long> meetingIds = sliced.stream()
-                .map(MeetingListRow::getMeetingId)
-                .toList();
-        
-        Map<Long, LocalDateTime> nextRoundMap = meetingRoundRepository
-                .findNextRoundDatesByMeetingIds(meetingIds, now)
-                .stream()
-                .collect(Collectors.toMap(
-                        NextRoundProjection::getMeetingId,
-                        NextRoundProjection::getNextRoundDate
-                ));
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, LocalDateTime> nextRoundMap = findNextRoundDates(sliced, now);
 
         List<MyMeetingItem> mapped = sliced.stream()
-                .map(row -> toMyMeetingItem(row, now, nextRoundMap))
+                .map(row -> toMyMeetingItem(row, nextRoundMap))
                 .toList();
 
         Long nextCursorId = hasNext ? mapped.getLast().getMeetingId() : null;
@@ -293,17 +292,16 @@ public class MeetingService {
         return new MyMeetingListResponse(mapped, pageInfo);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public MyMeetingListResponse getMyTodayMeetings(Long userId) {
         LocalDate today = LocalDate.now();
         List<MeetingListRow> results = meetingRepository.findMyTodayMeetings(userId, today);
 
-        // 조회된 모임 중 종료된 모임 상태 갱신
         LocalDateTime now = LocalDateTime.now();
-        updateCompletedMeetingsStatus(results, now);
+        Map<Long, LocalDateTime> nextRoundMap = findNextRoundDates(results, now);
 
         List<MyMeetingItem> mapped = results.stream()
-                .map(row -> toMyMeetingItem(row, now))
+                .map(row -> toMyMeetingItem(row, nextRoundMap))
                 .toList();
 
         // 페이징 없음
@@ -312,7 +310,7 @@ public class MeetingService {
         return new MyMeetingListResponse(mapped, pageInfo);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public MyMeetingDetailResponse getMyMeetingDetail(Long userId, Long meetingId) {
         // 1. 모임 기본 정보 조회
         Meeting meeting = meetingRepository.findByIdWithLeader(meetingId)
@@ -329,9 +327,8 @@ public class MeetingService {
             throw new BusinessException(ErrorCode.MEETING_NOT_FOUND);
         }
 
-        // 3. 종료된 모임 상태 갱신
+        // 3. 기준 시각 (종료 모임의 상태 전환은 MeetingScheduler가 처리)
         LocalDateTime now = LocalDateTime.now();
-        updateCompletedMeetingStatus(meeting, now);
 
         // 4. ReadingGenre 조회
         ReadingGenre readingGenre = readingGenreRepository.findById(meeting.getReadingGenreId())
@@ -344,8 +341,11 @@ public class MeetingService {
         // 6. 회차 정보 조회
         List<MeetingRound> rounds = meetingRoundRepository.findByMeetingIdWithBook(meetingId);
 
+        // 7. 나의 독후감 일괄 조회 (회차별 조회 대신 한 번에)
+        RoundBookReportAssembler.MemberReports myReports = roundBookReportAssembler.forMember(userId, meetingId, rounds);
+
         List<MyMeetingDetailResponse.RoundDetail> roundDetails = rounds.stream()
-                .map(round -> toRoundDetail(round, userId, now, meeting, myMember, rounds))
+                .map(round -> toRoundDetail(round, now, myReports))
                 .collect(Collectors.toList());
 
         // 6. DTO 생성
@@ -370,42 +370,23 @@ public class MeetingService {
 
     private MyMeetingDetailResponse.RoundDetail toRoundDetail(
             MeetingRound round,
-            Long userId,
             LocalDateTime now,
-            Meeting meeting,
-            MeetingMember myMember,
-            List<MeetingRound> allRounds
+            RoundBookReportAssembler.MemberReports myReports
     ) {
         // 1. dDay 계산
         LocalDate roundDate = round.getStartAt().toLocalDate();
         LocalDate today = LocalDate.now();
         int dDay = (int) ChronoUnit.DAYS.between(today, roundDate);
 
-        // 2. 독후감 조회
-        Optional<BookReport> bookReportOpt = bookReportRepository
-                .findByUserIdAndMeetingRoundIdAndDeletedAtIsNull(userId, round.getId());
-
-        // 3. 이전 회차 조회 (상태 판단용)
-        MeetingRound prevRound = allRounds.stream()
-                .filter(r -> r.getRoundNo() == round.getRoundNo() - 1)
-                .findFirst()
-                .orElse(null);
-
-        // 4. BookReportInfo 생성
-        MyMeetingDetailResponse.RoundDetail.BookReportInfo bookReportInfo;
-        if (bookReportOpt.isPresent()) {
-            BookReport bookReport = bookReportOpt.get();
-            UserBookReportStatus status = BookReportStatusResolver.fromBookReportStatus(bookReport.getStatus());
-            bookReportInfo = MyMeetingDetailResponse.RoundDetail.BookReportInfo.builder()
-                    .status(status.name())
-                    .id(bookReport.getId())
-                    .build();
-        } else {
-            UserBookReportStatus status = BookReportStatusResolver.resolveNotSubmitted(now, round, prevRound);
-            bookReportInfo = MyMeetingDetailResponse.RoundDetail.BookReportInfo.builder()
-                    .status(status.name())
-                    .build();
-        }
+        // 2. 독후감 (일괄 조회 결과에서 찾기)
+        Optional<BookReport> bookReportOpt = myReports.reportOf(round);
+
+        // 3~4. BookReportInfo 생성 (미제출이면 이전 회차 기준으로 상태 판단)
+        MyMeetingDetailResponse.RoundDetail.BookReportInfo bookReportInfo =
+                MyMeetingDetailResponse.RoundDetail.BookReportInfo.builder()
+                        .status(myReports.statusOf(round, now).name())
+                        .id(bookReportOpt.map(BookReport::getId).orElse(null))
+                        .build();
 
         // 6. meetingLink 공개 여부 (10분 전부터)
         LocalDateTime tenMinutesBefore = round.getStartAt().minusMinutes(10);
@@ -441,36 +422,24 @@ public class MeetingService {
                 .build();
     }
 
-    private MyMeetingItem toMyMeetingItem(MeetingListRow row, LocalDateTime now) {
-        // Meeting 조회 (currentRound 필요)
-        Meeting meeting = meetingRepository.findById(row.getMeetingId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
+    private Map<Long, LocalDateTime> findNextRoundDates(List<MeetingListRow> rows, LocalDateTime now) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
 
-        // 다음 회차 날짜 조회
-        List<LocalDateTime> nextRounds = meetingRoundRepository.findNextRoundDate(row.getMeetingId(), now);
-        LocalDate meetingDate = nextRounds.isEmpty() ? null : nextRounds.getFirst().toLocalDate();
+        List<Long> meetingIds = rows.stream()
+                .map(MeetingListRow::getMeetingId)
+                .toList();
 
-        return MyMeetingItem.builder()
-                .meetingId(row.getMeetingId())
-                .meetingImagePath(imageUrlResolver.toUrl(row.getMeetingImagePath()))
-                .title(row.getTitle())
-                .readingGenreId(row.getReadingGenreId())
-                .leaderNickname(row.getLeaderNickname())
-                .currentRound(meeting.getCurrentRound())
-                .meetingDate(meetingDate)
-                .build();
+        return meetingRoundRepository.findNextRoundDatesByMeetingIds(meetingIds, now)
+                .stream()
+                .collect(Collectors.toMap(
+                        NextRoundProjection::getMeetingId,
+                        NextRoundProjection::getNextRoundDate
+                ));
     }
 
-    // N+1 해결 버전: Map을 사용한 toMyMeetingItem
-    private MyMeetingItem toMyMeetingItem(
-            MeetingListRow row, 
-            LocalDateTime now, 
-            Map<Long, LocalDateTime> nextRoundMap
-    ) {
-        // Meeting 조회 (currentRound 필요)
-        Meeting meeting = meetingRepository.findById(row.getMeetingId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
-
+    private MyMeetingItem toMyMeetingItem(MeetingListRow row, Map<Long, LocalDateTime> nextRoundMap) {
         // Map에서 다음 회차 날짜 조회 (O(1))
         LocalDateTime nextRound = nextRoundMap.get(row.getMeetingId());
         LocalDate meetingDate = nextRound != null ? nextRound.toLocalDate() : null;
@@ -481,7 +450,7 @@ public class MeetingService {
                 .title(row.getTitle())
                 .readingGenreId(row.getReadingGenreId())
                 .leaderNickname(row.getLeaderNickname())
-                .currentRound(meeting.getCurrentRound())
+                .currentRound(row.getCurrentRound())
                 .meetingDate(meetingDate)
                 .build();
     }
@@ -506,101 +475,29 @@ public class MeetingService {
         );
     }
 
-    private Book resolveBook(BookRequest request) {
-        String isbn = request.isbn();
-
-        return bookRepository.findByIsbn(isbn)
-                .map(this::reviveIfDeleted)
-                .orElseGet(() -> kakaoBookClient.searchByIsbn(isbn)
-                        .map(doc -> bookRepository.save(toBookFromKakao(doc, isbn)))
-                        .orElseThrow(() -> new BusinessException(ErrorCode.BOOK_NOT_FOUND)));
-    }
-
-    private Book reviveIfDeleted(Book existing) {
-        if (existing.isDeleted()) {
-            existing.revive();
-        }
-        return existing;
-    }
-
-    private Book toBookFromKakao(KakaoBookResponse.KakaoBookDocument doc, String isbn) {
-        String authors = doc.authors() != null ? String.join(", ", doc.authors()) : null;
-        LocalDate publishedAt = parsePublishedAt(doc.datetime());
-
-        return Book.create(
-                isbn,
-                doc.title(),
-                authors,
-                doc.publisher(),
-                doc.thumbnail(),
-                publishedAt
-        );
-    }
-
-    private LocalDate parsePublishedAt(String datetime) {
-        if (datetime == null || datetime.isBlank()) {
-            return null;
-        }
-        try {
-            return LocalDate.parse(datetime.substring(0, 10));
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    /**
-     * 조회된 모임 목록 중 모든 회차가 종료된 FINISHED 모임을 CANCELED로 변경
-     */
-    private void updateCompletedMeetingsStatus(List<MeetingListRow> rows, LocalDateTime now) {
-        if (rows.isEmpty()) {
-            return;
-        }
-
-        List<Long> meetingIds = rows.stream()
-                .map(MeetingListRow::getMeetingId)
+    public MeetingCreateResponse updateMeeting(Long userId, Long meetingId, MeetingUpdateRequest request) {
+        // 수정할 수 없는 요청이면 Kakao를 부르지 않도록 모임/권한/상태부터 확인하고 잠금 회차를 구한다.
+        Set<Integer> lockedRoundNos = new TransactionTemplate(transactionManager).execute(status -> {
+            findUpdatableMeeting(userId, meetingId);
+            return identifyLockedRounds(
+                    meetingRoundRepository.findByMeetingIdWithBook(meetingId), LocalDateTime.now());
+        });
+
+        // Kakao 도서 조회는 트랜잭션(커넥션)을 잡기 전에 끝낸다. 잠금 회차의 도서는 바뀌지 않으므로 조회하지 않는다.
+        List<RoundRequest> unlockedRounds = request.rounds().stream()
+                .filter(r -> !lockedRoundNos.contains(r.roundNo()))
                 .toList();
-
-        List<Meeting> completedMeetings = meetingRepository.findCompletedMeetingsInIds(meetingIds, now);
-
-        for (Meeting meeting : completedMeetings) {
-            meeting.updateStatusToCanceled();
-        }
-    }
-
-    /**
-     * 단일 모임이 모든 회차 종료된 FINISHED 상태면 CANCELED로 변경
-     */
-    private void updateCompletedMeetingStatus(Meeting meeting, LocalDateTime now) {
-        if (meeting.getStatus() != MeetingStatus.FINISHED) {
-            return;
-        }
-
-        List<Meeting> completedMeetings = meetingRepository.findCompletedMeetingsInIds(
-                List.of(meeting.getId()), now);
-
-        if (!completedMeetings.isEmpty()) {
-            meeting.updateStatusToCanceled();
-        }
+        MeetingBookResolver.PrefetchedBooks prefetched = meetingBookResolver.prefetch(unlockedRounds);
+        return new TransactionTemplate(transactionManager)
+                .execute(status -> updateMeeting(userId, meetingId, request, prefetched));
     }
 
-    @Transactional
-    public MeetingCreateResponse updateMeeting(Long userId, Long meetingId, MeetingUpdateRequest request) {
+    private MeetingCreateResponse updateMeeting(
+            Long userId, Long meetingId, MeetingUpdateRequest request, MeetingBookResolver.PrefetchedBooks prefetched) {
         LocalDateTime now = LocalDateTime.now();
 
-        // 1. 모임 조회
-        Meeting meeting = meetingRepository.findByIdWithLeader(meetingId)
-                .filter(m -> m.getDeletedAt() == null)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
-
-        // 2. 권한 체크 (리더만 수정 가능)
-        if (!meeting.isLeader(userId)) {
-            throw new BusinessException(ErrorCode.MEETING_UPDATE_FORBIDDEN);
-        }
-
-        // 3. 상태 체크 (CANCELED 모임은 수정 불가)
-        if (meeting.isCanceled()) {
-            throw new BusinessException(ErrorCode.MEETING_UPDATE_NOT_ALLOWED);
-        }
+        // 1~3. 모임 조회, 권한 체크(리더만 수정 가능), 상태 체크(CANCELED 모임은 수정 불가)
+        Meeting meeting = findUpdatableMeeting(userId, meetingId);
 
         // 4. readingGenre 유효성 체크
         if (!readingGenreRepository.existsByIdAndDeletedAtIsNull(request.readingGenreId())) {
@@ -626,10 +523,13 @@ public class MeetingService {
         LocalTime startTime = request.startTime();
         int durationMinutes = request.durationMinutes();
 
-        List<MeetingRound> newRounds = request.rounds().stream()
+        List<RoundRequest> roundsToCreate = request.rounds().stream()
                 .filter(r -> !lockedRoundNos.contains(r.roundNo()))
+                .toList();
+        Map<String, Book> books = meetingBookResolver.resolve(roundsToCreate, prefetched);
+        List<MeetingRound> newRounds = roundsToCreate.stream()
                 .map(round -> {
-                    Book book = resolveBook(round.book());
+                    Book book = books.get(round.book().isbn());
                     LocalDateTime startAt = LocalDateTime.of(round.date(), startTime);
                     LocalDateTime endAt = startAt.plusMinutes(durationMinutes);
                     return MeetingRound.create(meeting, book, round.roundNo(), startAt, endAt);
@@ -656,6 +556,14 @@ public class MeetingService {
                 dayOfWeek,
                 firstRoundAt
         );
+        meetingListViewService.sync(meeting);
+
+        List<MeetingRound> currentRounds = new ArrayList<>(newRounds);
+        existingRounds.stream()
+                .filter(r -> lockedRoundNos.contains(r.getRoundNo()))
+                .forEach(currentRounds::add);
+        meeting.scheduleTransition(currentRounds);
+        meetingSearchIndexService.index(meeting, currentRounds);
 
         // 11. leaderIntroSavePolicy 처리
         if (Boolean.TRUE.equals(request.leaderIntroSavePolicy())) {
@@ -666,6 +574,21 @@ public class MeetingService {
         return new MeetingCreateResponse(meeting.getId());
     }
 
+    private Meeting findUpdatableMeeting(Long userId, Long meetingId) {
+        Meeting meeting = meetingRepository.findByIdWithLeader(meetingId)
+                .filter(m -> m.getDeletedAt() == null)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEETING_NOT_FOUND));
+
+        if (!meeting.isLeader(userId)) {
+            throw new BusinessException(ErrorCode.MEETING_UPDATE_FORBIDDEN);
+        }
+
+        if (meeting.isCanceled()) {
+            throw new BusinessException(ErrorCode.MEETING_UPDATE_NOT_ALLOWED);
+        }
+        return meeting;
+    }
+
     /**
      * 잠금 회차 식별: DONE 상태이거나 진행중인 회차
      * 진행중 회차: 이전 회차 endAt ≤ now < 현재 회차 endAt
@@ -787,6 +710,7 @@ public class MeetingService {
             if (meeting.isRecruitmentClosed()) {
                 meeting.updateStatusToFinished();
             }
+            meetingListViewService.sync(meeting);
         } else if (newStatus == MeetingMemberStatus.REJECTED) {
             // 거절 처리
             joinRequest.reject(now);
@@ -849,6 +773,7 @@ public class MeetingService {
 
         // 6. 모임 인원 감소
         meeting.decrementCurrentCount();
+        meetingListViewService.sync(meeting);
     }
 
     @Transactional(readOnly = true)
@@ -966,6 +891,7 @@ public class MeetingService {
 
         // 8. 모임 인원 감소
         meeting.decrementCurrentCount();
+        meetingListViewService.sync(meeting);
     }
 
     private OffsetDateTime toKstOffset(LocalDateTime time) {
@@ -0,0 +1,145 @@
+package com.example.doktoribackend.notification.cache;
+
+import com.example.doktoribackend.notification.domain.UserPushToken;
+import com.example.doktoribackend.notification.repository.UserPushTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 발송 가능한 FCM 토큰 캐시.
+ * 알림 수신 동의가 꺼져 있거나 토큰이 없는 사용자도 "토큰 없음"으로 캐시한다.
+ * 토큰 등록과 수신 동의 변경은 커밋 후 {@link #evictAfterCommit(Long)}로 무효화하고,
+ * 다른 서버에서 바뀐 값은 TTL이 지나면 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class PushTokenRegistry {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final UserPushTokenRepository userPushTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidatedCounter;
+
+    public PushTokenRegistry(UserPushTokenRepository userPushTokenRepository,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.userPushTokenRepository = userPushTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.hitCounter = meterRegistry.counter("notification.push_token.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("notification.push_token.cache", "result", "miss");
+        this.invalidatedCounter = meterRegistry.counter("notification.push_token.invalidated");
+        Gauge.builder("notification.push_token.cache.size", tokens, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 알림을 받을 수 있는 사용자의 토큰. 캐시에 없는 사용자는 한 번의 쿼리로 함께 읽는다.
+     */
+    public Map<Long, String> findEnabledTokens(Collection<Long> userIds) {
+        Map<Long, String> result = new LinkedHashMap<>();
+        List<Long> misses = new ArrayList<>();
+        long now = System.nanoTime();
+
+        for (Long userId : userIds) {
+            CachedToken cached = tokens.get(userId);
+            if (cached != null && !cached.isExpired(now)) {
+                if (cached.token() != null) {
+                    result.put(userId, cached.token());
+                }
+            } else {
+                misses.add(userId);
+            }
+        }
+        hitCounter.increment(userIds.size() - misses.size());
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        missCounter.increment(misses.size());
+        long loadedVersion = version.get();
+        Map<Long, String> loaded = new LinkedHashMap<>();
+        for (UserPushToken pushToken : userPushTokenRepository.findByUserIdsWithNotificationEnabled(misses)) {
+            loaded.put(pushToken.getUserId(), pushToken.getToken());
+        }
+
+        for (Long userId : misses) {
+            String token = loaded.get(userId);
+            tokens.compute(userId, (id, existing) ->
+                    version.get() == loadedVersion ? new CachedToken(token, now) : existing);
+            if (token != null) {
+                result.put(userId, token);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * FCM이 유효하지 않다고 응답한 토큰을 한 번의 DELETE로 지우고 캐시에서 뺀다.
+     */
+    public void invalidate(Map<Long, String> invalidTokens) {
+        if (invalidTokens.isEmpty()) {
+            return;
+        }
+        List<String> tokenValues = List.copyOf(invalidTokens.values());
+        Integer deleted = transactionTemplate.execute(status -> userPushTokenRepository.deleteAllByTokenIn(tokenValues));
+        invalidTokens.keySet().forEach(this::evict);
+        invalidatedCounter.increment(invalidTokens.size());
+        log.info("Cleaned up {} invalid FCM tokens", deleted);
+    }
+
+    public void evict(Long userId) {
+        version.incrementAndGet();
+        tokens.remove(userId);
+    }
+
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(userId);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.nanoTime();
+        tokens.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+    }
+
+    private record CachedToken(String token, long loadedAt) {
+
+        boolean isExpired(long now) {
+            return now - loadedAt > TTL.toNanos();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.doktoribackend.notification.domain;
+
+import com.example.doktoribackend.notification.dto.NotificationDeliveryTask;
+import com.example.doktoribackend.notification.dto.SseNotificationEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 발송 대기 행. 알림 저장과 같은 트랜잭션에서 기록하고, 커밋 후 릴레이가 읽어 발송 큐로 넘긴다.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_relay", columnList = "status,available_at,id"),
+        @Index(name = "idx_notification_outbox_purge", columnList = "status,delivered_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "notification_id")
+    private Long notificationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type_code", nullable = false, length = 50)
+    private NotificationTypeCode typeCode;
+
+    @Column(name = "user_ids", nullable = false, columnDefinition = "TEXT")
+    private String userIds;
+
+    @Column(nullable = false, length = 80)
+    private String title;
+
+    @Column(nullable = false, length = 300)
+    private String message;
+
+    @Column(name = "link_path")
+    private String linkPath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    public static NotificationOutbox from(NotificationDeliveryTask task) {
+        SseNotificationEvent event = task.sseEvent();
+        NotificationOutbox outbox = new NotificationOutbox();
+        outbox.notificationId = event.id();
+        outbox.typeCode = event.typeCode();
+        outbox.userIds = task.userIds().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        outbox.title = task.title();
+        outbox.message = task.message();
+        outbox.linkPath = task.linkPath();
+        outbox.status = OutboxStatus.PENDING;
+        outbox.createdAt = event.createdAt() != null ? event.createdAt() : LocalDateTime.now();
+        outbox.availableAt = outbox.createdAt;
+        return outbox;
+    }
+
+    /**
+     * 릴레이가 가져간 뒤 lease 동안은 다른 릴레이가 다시 가져가지 않는다.
+     * 발송 완료 표시 없이 lease가 끝나면 재발송 대상이 된다(at-least-once).
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.availableAt = leaseUntil;
+    }
+
+    public NotificationDeliveryTask toTask() {
+        List<Long> recipients = Arrays.stream(userIds.split(","))
+                .map(Long::valueOf)
+                .toList();
+        SseNotificationEvent event = new SseNotificationEvent(
+                notificationId, typeCode, title, message, linkPath, createdAt);
+        return new NotificationDeliveryTask(recipients, title, message, linkPath, event, id);
+    }
+}
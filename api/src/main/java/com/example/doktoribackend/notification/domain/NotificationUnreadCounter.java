@@ -0,0 +1,39 @@
+package com.example.doktoribackend.notification.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 읽지 않은 알림 수.
+ * 알림 생성/읽음 시점에 증감하며, 배지 조회는 notifications 대신 이 행 하나만 읽는다.
+ */
+@Entity
+@Table(name = "notification_unread_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationUnreadCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+
+    @Column(name = "last_notified_at", nullable = false)
+    private LocalDateTime lastNotifiedAt;
+
+    /**
+     * 조회 기간 안에 읽지 않은 알림이 있는지. 마지막 알림이 기간 밖이면 남은 수와 관계없이 없다.
+     */
+    public boolean hasUnreadSince(LocalDateTime since) {
+        return unreadCount > 0 && !lastNotifiedAt.isBefore(since);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.doktoribackend.notification.domain;
+
+public enum OutboxStatus {
+    PENDING,
+    DELIVERED
+}
@@ -0,0 +1,10 @@
+package com.example.doktoribackend.notification.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record NotificationBatch(
+        List<Long> userIds,
+        Map<String, String> parameters
+) {
+}
@@ -7,6 +7,17 @@ public record NotificationDeliveryTask(
         String title,
         String message,
         String linkPath,
-        SseNotificationEvent sseEvent
+        SseNotificationEvent sseEvent,
+        Long outboxId
 ) {
+
+    public NotificationDeliveryTask(
+            List<Long> userIds,
+            String title,
+            String message,
+            String linkPath,
+            SseNotificationEvent sseEvent
+    ) {
+        this(userIds, title, message, linkPath, sseEvent, null);
+    }
 }
@@ -0,0 +1,85 @@
+package com.example.doktoribackend.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 여러 사용자에게 같은 알림을 저장하는 일괄 INSERT.
+ * IDENTITY 키라 Hibernate는 행마다 INSERT를 보내므로, users에서 바로 INSERT ... SELECT 해
+ * User 엔티티를 읽지 않고 청크당 한 문장으로 저장한다. 존재하지 않는 사용자는 SELECT에서 걸러진다.
+ * 같은 청크로 사용자별 읽지 않은 알림 수도 한 문장으로 올린다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+    static final int CHUNK_SIZE = 1_000;
+
+    private static final String INSERT_PREFIX = "INSERT INTO notifications "
+            + "(user_id, type_id, title, message, link_path, is_read, created_at) "
+            + "SELECT u.id, ?, ?, ?, ?, FALSE, ? FROM users u WHERE u.id IN (";
+    private static final int FIXED_PARAMS = 5;
+
+    private static final String COUNTER_PREFIX = "INSERT INTO notification_unread_counters "
+            + "(user_id, unread_count, last_notified_at) "
+            + "SELECT u.id, 1, ? FROM users u WHERE u.id IN (";
+    private static final String COUNTER_SUFFIX =
+            " ON DUPLICATE KEY UPDATE unread_count = unread_count + 1, last_notified_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertForUsers(
+            List<Long> userIds,
+            Long typeId,
+            String title,
+            String message,
+            String linkPath,
+            LocalDateTime createdAt
+    ) {
+        Timestamp createdAtTs = Timestamp.valueOf(createdAt);
+        int inserted = 0;
+        for (int from = 0; from < userIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + CHUNK_SIZE, userIds.size()));
+
+            Object[] args = new Object[FIXED_PARAMS + chunk.size()];
+            args[0] = typeId;
+            args[1] = title;
+            args[2] = message;
+            args[3] = linkPath;
+            args[4] = createdAtTs;
+            for (int i = 0; i < chunk.size(); i++) {
+                args[FIXED_PARAMS + i] = chunk.get(i);
+            }
+            inserted += jdbcTemplate.update(buildInList(INSERT_PREFIX, chunk.size(), ""), args);
+            incrementUnread(chunk, createdAtTs);
+        }
+        return inserted;
+    }
+
+    private void incrementUnread(List<Long> userIds, Timestamp now) {
+        Object[] args = new Object[userIds.size() + 2];
+        args[0] = now;
+        for (int i = 0; i < userIds.size(); i++) {
+            args[1 + i] = userIds.get(i);
+        }
+        args[args.length - 1] = now;
+        jdbcTemplate.update(buildInList(COUNTER_PREFIX, userIds.size(), COUNTER_SUFFIX), args);
+    }
+
+    private static String buildInList(String prefix, int ids, String suffix) {
+        StringBuilder sql = new StringBuilder(prefix.length() + ids * 3 + 1 + suffix.length());
+        sql.append(prefix);
+        for (int i = 0; i < ids; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append('?');
+        }
+        return sql.append(')').append(suffix).toString();
+    }
+}
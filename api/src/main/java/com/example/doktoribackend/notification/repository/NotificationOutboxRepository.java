@@ -0,0 +1,41 @@
+package com.example.doktoribackend.notification.repository;
+
+import com.example.doktoribackend.notification.domain.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // lock.timeout -2 = SKIP LOCKED: 다른 노드가 잡고 있는 행은 건너뛴다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o " +
+            "WHERE o.status = 'PENDING' " +
+            "AND o.availableAt <= :now " +
+            "ORDER BY o.id ASC")
+    List<NotificationOutbox> findClaimable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = 'DELIVERED', o.deliveredAt = :now " +
+            "WHERE o.id IN :ids")
+    int markDelivered(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query("SELECT o.id FROM NotificationOutbox o " +
+            "WHERE o.status = 'DELIVERED' " +
+            "AND o.deliveredAt < :cutoff")
+    List<Long> findDeliveredIdsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.id IN :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+}
@@ -2,6 +2,7 @@ package com.example.doktoribackend.notification.repository;
 
 import com.example.doktoribackend.notification.domain.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -20,14 +21,15 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
             @Param("since") LocalDateTime since
     );
 
-    @Query("SELECT CASE WHEN COUNT(n) > 0 THEN true ELSE false END " +
-            "FROM Notification n " +
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :now " +
             "WHERE n.user.id = :userId " +
             "AND n.isRead = false " +
             "AND n.deletedAt IS NULL " +
             "AND n.createdAt >= :since")
-    boolean existsUnreadByUserIdSince(
+    int markAllAsReadSince(
             @Param("userId") Long userId,
-            @Param("since") LocalDateTime since
+            @Param("since") LocalDateTime since,
+            @Param("now") LocalDateTime now
     );
 }
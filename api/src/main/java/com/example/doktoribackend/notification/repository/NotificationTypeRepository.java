@@ -3,10 +3,18 @@ package com.example.doktoribackend.notification.repository;
 import com.example.doktoribackend.notification.domain.NotificationType;
 import com.example.doktoribackend.notification.domain.NotificationTypeCode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface NotificationTypeRepository extends JpaRepository<NotificationType, Long> {
 
     Optional<NotificationType> findByCodeAndDeletedAtIsNull(NotificationTypeCode code);
-}
\ No newline at end of file
+
+    List<NotificationType> findAllByDeletedAtIsNull();
+
+    @Query("SELECT MAX(t.updatedAt) FROM NotificationType t")
+    Optional<LocalDateTime> findLastUpdatedAt();
+}
@@ -0,0 +1,44 @@
+package com.example.doktoribackend.notification.repository;
+
+import com.example.doktoribackend.notification.domain.NotificationUnreadCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface NotificationUnreadCounterRepository extends JpaRepository<NotificationUnreadCounter, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO notification_unread_counters (user_id, unread_count, last_notified_at) " +
+            "VALUES (:userId, 1, :now) " +
+            "ON DUPLICATE KEY UPDATE unread_count = unread_count + 1, last_notified_at = :now",
+            nativeQuery = true)
+    void increment(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE NotificationUnreadCounter c SET c.unreadCount = c.unreadCount - 1 " +
+            "WHERE c.userId = :userId AND c.unreadCount > 0")
+    int decrement(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE NotificationUnreadCounter c SET c.unreadCount = 0 " +
+            "WHERE c.userId = :userId AND c.unreadCount > 0")
+    int reset(@Param("userId") Long userId);
+
+    // 조회 기간(since) 밖으로 밀려난 알림을 빼고 다시 센다. idx_notification_user_unread로 사용자별 범위 스캔.
+    // 기간 안에 알림을 받은 사용자는 카운터가 0이어도 다시 세어 아래로 어긋난 값을 바로잡는다.
+    @Modifying
+    @Query(value = "UPDATE notification_unread_counters c " +
+            "SET c.unread_count = (" +
+            "    SELECT COUNT(*) FROM notifications n " +
+            "    WHERE n.user_id = c.user_id " +
+            "    AND n.is_read = FALSE " +
+            "    AND n.deleted_at IS NULL " +
+            "    AND n.created_at >= :since" +
+            ") " +
+            "WHERE c.unread_count > 0 OR c.last_notified_at >= :since",
+            nativeQuery = true)
+    int recount(@Param("since") LocalDateTime since);
+}
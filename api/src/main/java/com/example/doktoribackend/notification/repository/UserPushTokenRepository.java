@@ -2,6 +2,7 @@ package com.example.doktoribackend.notification.repository;
 
 import com.example.doktoribackend.notification.domain.UserPushToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,4 +17,8 @@ public interface UserPushTokenRepository extends JpaRepository<UserPushToken, Lo
             "JOIN UserPreference up ON up.user.id = upt.userId " +
             "WHERE upt.userId IN :userIds AND up.notificationAgreement = true")
     List<UserPushToken> findByUserIdsWithNotificationEnabled(@Param("userIds") List<Long> userIds);
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("DELETE FROM UserPushToken upt WHERE upt.token IN :tokens")
+    int deleteAllByTokenIn(@Param("tokens") List<String> tokens);
+}
@@ -0,0 +1,97 @@
+package com.example.doktoribackend.notification.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 파싱한 알림 템플릿.
+ * 리터럴 조각과 {key} 자리표시자를 번갈아 담아 두고, 렌더링은 정확한 크기의 StringBuilder 하나로 한 번에 이어 붙인다.
+ * literals는 항상 keys보다 하나 많다: literals[0] keys[0] literals[1] ... keys[n-1] literals[n]
+ */
+public final class CompiledTemplate {
+
+    private final String source;
+    private final String[] literals;
+    private final String[] keys;
+    private final int literalLength;
+
+    private CompiledTemplate(String source, String[] literals, String[] keys) {
+        this.source = source;
+        this.literals = literals;
+        this.keys = keys;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static CompiledTemplate compile(String template) {
+        if (template == null) {
+            return null;
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        int literalStart = 0;
+        int i = 0;
+        while (i < template.length()) {
+            int end = placeholderEnd(template, i);
+            if (end < 0) {
+                i++;
+                continue;
+            }
+            literals.add(template.substring(literalStart, i));
+            keys.add(template.substring(i + 1, end));
+            literalStart = end + 1;
+            i = literalStart;
+        }
+        literals.add(template.substring(literalStart));
+
+        return new CompiledTemplate(template, literals.toArray(String[]::new), keys.toArray(String[]::new));
+    }
+
+    // \{(\w+)} 과 같은 규칙: '{' 다음에 단어 문자가 하나 이상 오고 '}'로 닫혀야 한다.
+    private static int placeholderEnd(String template, int start) {
+        if (template.charAt(start) != '{') {
+            return -1;
+        }
+        int j = start + 1;
+        while (j < template.length() && isWordChar(template.charAt(j))) {
+            j++;
+        }
+        if (j == start + 1 || j >= template.length() || template.charAt(j) != '}') {
+            return -1;
+        }
+        return j;
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    public String render(Map<String, String> parameters) {
+        if (keys.length == 0 || parameters == null || parameters.isEmpty()) {
+            return source;
+        }
+
+        String[] values = new String[keys.length];
+        int length = literalLength;
+        for (int i = 0; i < keys.length; i++) {
+            String value = parameters.get(keys[i]);
+            values[i] = value != null ? value : "{" + keys[i] + "}";
+            length += values[i].length();
+        }
+
+        StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < keys.length; i++) {
+            result.append(literals[i]).append(values[i]);
+        }
+        return result.append(literals[keys.length]).toString();
+    }
+
+    public String source() {
+        return source;
+    }
+}
@@ -1,14 +1,15 @@
 package com.example.doktoribackend.notification.service;
 
-import com.example.doktoribackend.notification.domain.UserPushToken;
-import com.example.doktoribackend.notification.repository.UserPushTokenRepository;
+import com.example.doktoribackend.notification.cache.PushTokenRegistry;
 import com.google.firebase.messaging.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -16,32 +17,30 @@ import java.util.List;
 public class FcmService {
 
     private final FirebaseMessaging firebaseMessaging;
-    private final UserPushTokenRepository userPushTokenRepository;
+    private final PushTokenRegistry pushTokenRegistry;
     private static final int BATCH_SIZE = 500;
 
     public void sendToUser(Long userId, String title, String body, String linkPath) {
-        List<UserPushToken> tokens = userPushTokenRepository
-                .findByUserIdsWithNotificationEnabled(List.of(userId));
+        String token = pushTokenRegistry.findEnabledTokens(List.of(userId)).get(userId);
 
-        if (tokens.isEmpty()) {
+        if (token == null) {
             log.debug("No FCM token found for userId: {}", userId);
             return;
         }
 
-        sendToToken(tokens.getFirst().getToken(), title, body, linkPath);
+        sendToToken(token, title, body, linkPath);
     }
 
     public void sendToUsers(List<Long> userIds, String title, String body, String linkPath) {
-        List<UserPushToken> tokens = userPushTokenRepository
-                .findByUserIdsWithNotificationEnabled(userIds);
+        Map<Long, String> tokens = pushTokenRegistry.findEnabledTokens(userIds);
 
         if (tokens.isEmpty()) {
             return;
         }
 
-        List<String> failedTokens = sendBatch(tokens, title, body, linkPath);
-        if (!failedTokens.isEmpty()) {
-            cleanupInvalidTokens(failedTokens);
+        Map<Long, String> invalidTokens = sendBatch(new ArrayList<>(tokens.entrySet()), title, body, linkPath);
+        if (!invalidTokens.isEmpty()) {
+            pushTokenRegistry.invalidate(invalidTokens);
         }
     }
 
@@ -80,10 +79,11 @@ public class FcmService {
         }
     }
 
-    private List<String> sendBatch(List<UserPushToken> pushTokens, String title, String body, String linkPath) {
+    private Map<Long, String> sendBatch(List<Map.Entry<Long, String>> pushTokens,
+                                        String title, String body, String linkPath) {
         List<Message> messages = pushTokens.stream()
                 .map(pt -> Message.builder()
-                        .setToken(pt.getToken())
+                        .setToken(pt.getValue())
                         .setNotification(Notification.builder()
                                 .setTitle(title)
                                 .setBody(body)
@@ -92,7 +92,7 @@ public class FcmService {
                         .build())
                 .toList();
 
-        List<String> failedTokens = new ArrayList<>();
+        Map<Long, String> invalidTokens = new LinkedHashMap<>();
 
         for (int i = 0; i < messages.size(); i += BATCH_SIZE) {
             int end = Math.min(i + BATCH_SIZE, messages.size());
@@ -110,7 +110,8 @@ public class FcmService {
                         MessagingErrorCode errorCode = sendResponse.getException().getMessagingErrorCode();
                         if (errorCode == MessagingErrorCode.UNREGISTERED
                                 || errorCode == MessagingErrorCode.INVALID_ARGUMENT) {
-                            failedTokens.add(pushTokens.get(i + j).getToken());
+                            Map.Entry<Long, String> pushToken = pushTokens.get(i + j);
+                            invalidTokens.put(pushToken.getKey(), pushToken.getValue());
                         }
                     }
                 }
@@ -119,14 +120,6 @@ public class FcmService {
             }
         }
 
-        return failedTokens;
-    }
-
-    private void cleanupInvalidTokens(List<String> invalidTokens) {
-        for (String token : invalidTokens) {
-            userPushTokenRepository.findByToken(token)
-                    .ifPresent(userPushTokenRepository::delete);
-        }
-        log.info("Cleaned up {} invalid FCM tokens", invalidTokens.size());
+        return invalidTokens;
     }
 }
@@ -1,87 +1,200 @@
 package com.example.doktoribackend.notification.service;
 
 import com.example.doktoribackend.notification.dto.NotificationDeliveryTask;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
+/**
+ * 알림 발송 큐 소비자.
+ * 태스크를 SSE / FCM 레인으로 나눠 넣고, 레인마다 여러 워커(가상 스레드)가 독립적으로 처리한다.
+ * 느린 FCM 배치가 인앱 SSE 알림을 막지 않으며, FCM 동시 요청 수는 FCM 워커 수로 제한된다.
+ * 두 레인이 모두 처리한 아웃박스 태스크는 릴레이에 완료를 알린다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class NotificationDeliveryConsumer {
 
+    private static final int LANE_CAPACITY = 10_000;
+
     private final BlockingQueue<NotificationDeliveryTask> notificationDeliveryQueue;
-    private final SseEmitterService sseEmitterService;
-    private final FcmService fcmService;
+    private final NotificationOutboxRelay notificationOutboxRelay;
+    private final DeliveryLane sseLane;
+    private final DeliveryLane fcmLane;
 
     private volatile boolean running = true;
-    private Thread consumerThread;
+    private Thread dispatcherThread;
+
+    public NotificationDeliveryConsumer(
+            BlockingQueue<NotificationDeliveryTask> notificationDeliveryQueue,
+            SseEmitterService sseEmitterService,
+            FcmService fcmService,
+            NotificationOutboxRelay notificationOutboxRelay,
+            MeterRegistry meterRegistry,
+            @Value("${app.notification.delivery.sse-workers:2}") int sseWorkers,
+            @Value("${app.notification.delivery.fcm-workers:8}") int fcmWorkers
+    ) {
+        this.notificationDeliveryQueue = notificationDeliveryQueue;
+        this.notificationOutboxRelay = notificationOutboxRelay;
+        this.sseLane = new DeliveryLane("sse", sseWorkers, meterRegistry,
+                task -> sseEmitterService.sendToUsers(task.userIds(), task.sseEvent()));
+        this.fcmLane = new DeliveryLane("fcm", fcmWorkers, meterRegistry,
+                task -> fcmService.sendToUsers(task.userIds(), task.title(), task.message(), task.linkPath()));
+    }
 
     @PostConstruct
     void start() {
-        consumerThread = Thread.ofVirtual()
+        running = true;
+        sseLane.start();
+        fcmLane.start();
+        dispatcherThread = Thread.ofVirtual()
                 .name("notification-delivery-consumer")
-                .start(this::consumeLoop);
+                .start(this::dispatchLoop);
     }
 
-    private void consumeLoop() {
+    private void dispatchLoop() {
         while (running) {
             try {
                 NotificationDeliveryTask task = notificationDeliveryQueue.take();
-                deliver(task);
+                dispatch(task);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 break;
             } catch (Exception e) {
-                log.error("Failed to deliver notification", e);
+                log.error("Failed to dispatch notification", e);
             }
         }
     }
 
-    private void deliver(NotificationDeliveryTask task) {
-        List<Long> userIds = task.userIds();
-
-        try {
-            sseEmitterService.sendToUsers(userIds, task.sseEvent());
-        } catch (Exception e) {
-            log.error("SSE delivery failed for userIds: {}", userIds, e);
-        }
-
-        try {
-            fcmService.sendToUsers(userIds, task.title(), task.message(), task.linkPath());
-        } catch (Exception e) {
-            log.error("FCM delivery failed for userIds: {}", userIds, e);
+    private void dispatch(NotificationDeliveryTask task) {
+        AtomicInteger pendingLanes = new AtomicInteger(2);
+        Runnable onLaneDone = () -> {
+            if (pendingLanes.decrementAndGet() == 0 && task.outboxId() != null) {
+                notificationOutboxRelay.acknowledge(task.outboxId());
+            }
+        };
+        boolean sseQueued = sseLane.offer(task, onLaneDone);
+        boolean fcmQueued = fcmLane.offer(task, onLaneDone);
+        if ((!sseQueued || !fcmQueued) && task.outboxId() != null) {
+            // 한 레인이라도 버리면 완료를 알리지 않는다. lease가 끝나면 릴레이가 다시 가져와 발송한다.
+            notificationOutboxRelay.release(task.outboxId());
         }
     }
 
     @PreDestroy
     void shutdown() {
         running = false;
-        consumerThread.interrupt();
+        dispatcherThread.interrupt();
+        sseLane.stop();
+        fcmLane.stop();
 
         List<NotificationDeliveryTask> remaining = new ArrayList<>();
         notificationDeliveryQueue.drainTo(remaining);
 
         log.info("Draining {} remaining notification tasks", remaining.size());
+        remaining.forEach(this::dispatch);
 
         long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
-        for (NotificationDeliveryTask task : remaining) {
-            if (System.currentTimeMillis() > deadline) {
-                log.warn("Shutdown timeout reached, {} tasks not delivered",
-                        remaining.size() - remaining.indexOf(task));
-                break;
+        sseLane.drain(deadline);
+        fcmLane.drain(deadline);
+    }
+
+    private record LaneItem(NotificationDeliveryTask task, Runnable onDone, long enqueuedAtNanos) {
+    }
+
+    /**
+     * 발송 채널 하나의 큐와 워커.
+     * 큐 깊이와 대기+발송 지연 시간을 레인 태그로 기록한다.
+     */
+    private static final class DeliveryLane {
+
+        private final String name;
+        private final int workerCount;
+        private final Consumer<NotificationDeliveryTask> handler;
+        private final BlockingQueue<LaneItem> queue = new LinkedBlockingQueue<>(LANE_CAPACITY);
+        private final Timer latencyTimer;
+        private final List<Thread> workers = new ArrayList<>();
+
+        private volatile boolean running;
+
+        private DeliveryLane(String name, int workerCount, MeterRegistry meterRegistry,
+                             Consumer<NotificationDeliveryTask> handler) {
+            this.name = name;
+            this.workerCount = workerCount;
+            this.handler = handler;
+            this.latencyTimer = meterRegistry.timer("notification.delivery.latency", "lane", name);
+            Gauge.builder("notification.delivery.queue.depth", queue, BlockingQueue::size)
+                    .tag("lane", name)
+                    .register(meterRegistry);
+        }
+
+        void start() {
+            running = true;
+            for (int i = 0; i < workerCount; i++) {
+                workers.add(Thread.ofVirtual()
+                        .name("notification-delivery-" + name + "-" + i)
+                        .start(this::workLoop));
+            }
+        }
+
+        boolean offer(NotificationDeliveryTask task, Runnable onDone) {
+            if (!queue.offer(new LaneItem(task, onDone, System.nanoTime()))) {
+                log.warn("Notification {} lane is full, task dropped for userIds: {}", name, task.userIds());
+                return false;
+            }
+            return true;
+        }
+
+        private void workLoop() {
+            while (running) {
+                try {
+                    deliver(queue.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
             }
+        }
+
+        private void deliver(LaneItem item) {
             try {
-                deliver(task);
+                handler.accept(item.task());
             } catch (Exception e) {
-                log.error("Failed to deliver task during shutdown", e);
+                log.error("{} delivery failed for userIds: {}", name.toUpperCase(), item.task().userIds(), e);
+            } finally {
+                latencyTimer.record(System.nanoTime() - item.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+                item.onDone().run();
+            }
+        }
+
+        void stop() {
+            running = false;
+            workers.forEach(Thread::interrupt);
+            workers.clear();
+        }
+
+        void drain(long deadline) {
+            List<LaneItem> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            for (int i = 0; i < remaining.size(); i++) {
+                if (System.currentTimeMillis() > deadline) {
+                    log.warn("Shutdown timeout reached, {} {} tasks not delivered", remaining.size() - i, name);
+                    return;
+                }
+                deliver(remaining.get(i));
             }
         }
     }
@@ -0,0 +1,187 @@
+package com.example.doktoribackend.notification.service;
+
+import com.example.doktoribackend.notification.domain.NotificationOutbox;
+import com.example.doktoribackend.notification.dto.NotificationDeliveryTask;
+import com.example.doktoribackend.notification.repository.NotificationOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 알림 아웃박스 릴레이.
+ * 커밋된 아웃박스 행을 배치로 가져와(SKIP LOCKED) 발송 큐에 넣고, 발송이 끝난 행은 모아서 한 번에 완료 처리한다.
+ * 가져간 행은 lease 동안 다시 가져가지 않으며, 완료 표시 전에 서버가 내려가면 lease 만료 후 다시 발송된다(at-least-once).
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    static final int BATCH_SIZE = 500;
+    private static final long LEASE_MINUTES = 5;
+    private static final int PURGE_BATCH_SIZE = 1_000;
+    private static final long RETENTION_DAYS = 1;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final BlockingQueue<NotificationDeliveryTask> notificationDeliveryQueue;
+    private final TransactionTemplate transactionTemplate;
+
+    // 이 노드가 발송 중인 행. lease가 끝나 다시 가져와도 중복으로 큐에 넣지 않는다.
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedQueue<Long> deliveredIds = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean relaying = new AtomicBoolean(false);
+
+    public NotificationOutboxRelay(
+            NotificationOutboxRepository notificationOutboxRepository,
+            BlockingQueue<NotificationDeliveryTask> notificationDeliveryQueue,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationDeliveryQueue = notificationDeliveryQueue;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 바로 릴레이를 돌린다. 트랜잭션 밖이면 즉시 돌린다.
+     */
+    public void triggerAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Thread.ofVirtual().name("notification-outbox-relay").start(this::relay);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Thread.ofVirtual().name("notification-outbox-relay").start(NotificationOutboxRelay.this::relay);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.outbox.relay-interval:1000}")
+    public void relay() {
+        if (!relaying.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flushDelivered();
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("Failed to relay notification outbox", e);
+        } finally {
+            relaying.set(false);
+        }
+    }
+
+    private int relayBatch() {
+        int limit = Math.min(BATCH_SIZE, notificationDeliveryQueue.remainingCapacity());
+        if (limit <= 0) {
+            // 큐가 가득 차면 행을 그대로 두고 다음 주기에 다시 가져온다.
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> claimed = transactionTemplate.execute(status -> {
+            List<NotificationOutbox> rows = notificationOutboxRepository
+                    .findClaimable(now, PageRequest.of(0, limit));
+            rows.forEach(row -> row.claim(now.plusMinutes(LEASE_MINUTES)));
+            return rows;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        for (NotificationOutbox row : claimed) {
+            if (!inFlight.add(row.getId())) {
+                continue;
+            }
+            if (!notificationDeliveryQueue.offer(row.toTask())) {
+                // lease가 끝나면 다시 가져간다.
+                inFlight.remove(row.getId());
+                log.warn("Notification delivery queue is full, outboxId: {} will be retried", row.getId());
+            }
+        }
+        return claimed.size();
+    }
+
+    /**
+     * SSE / FCM 발송이 모두 끝난 아웃박스 행을 완료 대상으로 모은다.
+     */
+    public void acknowledge(Long outboxId) {
+        deliveredIds.add(outboxId);
+    }
+
+    /**
+     * 발송 레인에서 버려진 태스크의 아웃박스 행. 완료 처리하지 않고, lease가 끝나 다시 가져오면 큐에 넣도록 발송 중 목록에서 뺀다.
+     */
+    public void release(Long outboxId) {
+        inFlight.remove(outboxId);
+    }
+
+    private void flushDelivered() {
+        List<Long> ids = new ArrayList<>();
+        Long id;
+        while ((id = deliveredIds.poll()) != null) {
+            ids.add(id);
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+                transactionTemplate.executeWithoutResult(status ->
+                        notificationOutboxRepository.markDelivered(chunk, now));
+            }
+            ids.forEach(inFlight::remove);
+        } catch (Exception e) {
+            deliveredIds.addAll(ids);
+            throw e;
+        }
+    }
+
+    @Scheduled(cron = "0 30 * * * *")
+    public void purgeDelivered() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(RETENTION_DAYS);
+        int total = 0;
+        List<Long> ids;
+        do {
+            ids = notificationOutboxRepository.findDeliveredIdsBefore(cutoff, PageRequest.of(0, PURGE_BATCH_SIZE));
+            if (!ids.isEmpty()) {
+                List<Long> batch = ids;
+                total += transactionTemplate.execute(status -> notificationOutboxRepository.deleteAllByIds(batch));
+            }
+        } while (ids.size() == PURGE_BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("발송 완료 알림 아웃박스 {}건 삭제", total);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        try {
+            flushDelivered();
+        } catch (Exception e) {
+            log.warn("Failed to flush delivered notification outbox on shutdown", e);
+        }
+    }
+}
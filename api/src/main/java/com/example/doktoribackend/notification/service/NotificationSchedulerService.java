@@ -1,18 +1,24 @@
 package com.example.doktoribackend.notification.service;
 
-import com.example.doktoribackend.meeting.domain.MeetingRound;
-import com.example.doktoribackend.meeting.repository.MeetingMemberRepository;
+import com.example.doktoribackend.common.scheduling.ScheduledJobLock;
 import com.example.doktoribackend.meeting.repository.MeetingRoundRepository;
+import com.example.doktoribackend.meeting.repository.RoundMemberProjection;
 import com.example.doktoribackend.notification.domain.NotificationTypeCode;
+import com.example.doktoribackend.notification.dto.NotificationBatch;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -20,10 +26,13 @@ import java.util.Map;
 public class NotificationSchedulerService {
 
     private final MeetingRoundRepository meetingRoundRepository;
-    private final MeetingMemberRepository meetingMemberRepository;
     private final NotificationService notificationService;
+    private final ScheduledJobLock scheduledJobLock;
 
     private static final String PARAM_MEETING_ID = "meetingId";
+    // 같은 주기 안에서는 다른 노드가 같은 대상 범위를 다시 보내지 않도록 lease를 유지한다.
+    private static final Duration LEASE_FOR = Duration.ofMinutes(10);
+    private static final Duration MIN_HOLD = Duration.ofMinutes(5);
 
     @Scheduled(cron = "0 0 * * * *")
     public void sendReviewDeadline24hNotifications() {
@@ -34,28 +43,8 @@ public class NotificationSchedulerService {
         log.info("[Scheduler] 독후감 마감 24시간 전 알림 스케줄러 시작 - 실행시간: {}, 대상 범위: {} ~ {}",
                 now, from, to);
 
-        List<MeetingRound> rounds = meetingRoundRepository.findRoundsStartingBetween(from, to);
-
-        if (rounds.isEmpty()) {
-            return;
-        }
-
-        int totalSent = 0;
-        for (MeetingRound round : rounds) {
-            int sentCount = sendNotificationToMembers(
-                    round,
-                    NotificationTypeCode.BOOK_REPORT_DEADLINE_24H_BEFORE,
-                    Map.of(PARAM_MEETING_ID, round.getMeeting().getId().toString(),
-                            "meetingTitle", round.getMeeting().getTitle())
-            );
-            totalSent += sentCount;
-
-            log.info("[Scheduler] 독후감 마감 24시간 전 알림 발송 - MeetingRoundId: {}, 대상 인원: {}명",
-                    round.getId(), sentCount);
-        }
-
-        log.info("[Scheduler] 독후감 마감 24시간 전 알림 완료 - 총 대상 회차: {}개, 총 알림 발송: {}명",
-                rounds.size(), totalSent);
+        scheduledJobLock.runExclusively("notification.deadline-24h", LEASE_FOR, MIN_HOLD, () ->
+                sendDeadlineReminders("독후감 마감 24시간 전", NotificationTypeCode.BOOK_REPORT_DEADLINE_24H_BEFORE, from, to));
     }
 
     @Scheduled(cron = "0 0,30 * * * *")
@@ -67,42 +56,63 @@ public class NotificationSchedulerService {
         log.info("[Scheduler] 독후감 마감 30분 전 알림 스케줄러 시작 - 실행시간: {}, 대상 범위: {} ~ {}",
                 now, from, to);
 
-        List<MeetingRound> rounds = meetingRoundRepository.findRoundsStartingBetween(from, to);
+        scheduledJobLock.runExclusively("notification.deadline-30m", LEASE_FOR, MIN_HOLD, () ->
+                sendDeadlineReminders("독후감 마감 30분 전", NotificationTypeCode.BOOK_REPORT_DEADLINE_30M_BEFORE, from, to));
+    }
+
+    @Scheduled(cron = "0 15 * * * *")
+    public void recountUnreadNotifications() {
+        scheduledJobLock.runExclusively("notification.recount-unread", LEASE_FOR, MIN_HOLD, () -> {
+            int updated = notificationService.recountUnread();
+            log.info("[Scheduler] 읽지 않은 알림 수 재계산 완료 - 대상 사용자: {}명", updated);
+        });
+    }
 
-        if (rounds.isEmpty()) {
+    /**
+     * 기간 내 회차의 (회차, 모임 제목, 승인 멤버)를 한 번에 읽어 모임별로 수신자를 묶고,
+     * 모든 모임의 알림을 한 트랜잭션으로 저장한다.
+     */
+    private void sendDeadlineReminders(
+            String label,
+            NotificationTypeCode typeCode,
+            LocalDateTime from,
+            LocalDateTime to
+    ) {
+        List<RoundMemberProjection> rows =
+                meetingRoundRepository.findApprovedMembersOfRoundsStartingBetween(from, to);
+
+        if (rows.isEmpty()) {
             return;
         }
 
-        int totalSent = 0;
-        for (MeetingRound round : rounds) {
-            int sentCount = sendNotificationToMembers(
-                    round,
-                    NotificationTypeCode.BOOK_REPORT_DEADLINE_30M_BEFORE,
-                    Map.of(PARAM_MEETING_ID, round.getMeeting().getId().toString(),
-                            "meetingTitle", round.getMeeting().getTitle())
-            );
-            totalSent += sentCount;
-
-            log.info("[Scheduler] 독후감 마감 30분 전 알림 발송 - MeetingRoundId: {}, 대상 인원: {}명",
-                    round.getId(), sentCount);
+        Map<Long, ReminderGroup> groups = new LinkedHashMap<>();
+        Set<Long> roundIds = new HashSet<>();
+        for (RoundMemberProjection row : rows) {
+            roundIds.add(row.getRoundId());
+            groups.computeIfAbsent(row.getMeetingId(), id -> new ReminderGroup(id, row.getMeetingTitle()))
+                    .userIds().add(row.getUserId());
         }
 
-        log.info("[Scheduler] 독후감 마감 30분 전 알림 완료 - 총 대상 회차: {}개, 총 알림 발송: {}명",
-                rounds.size(), totalSent);
+        List<NotificationBatch> batches = groups.values().stream()
+                .map(ReminderGroup::toBatch)
+                .toList();
+        int totalSent = notificationService.createAndSendBatches(typeCode, batches);
+
+        log.info("[Scheduler] {} 알림 완료 - 총 대상 회차: {}개, 대상 모임: {}개, 총 알림 발송: {}명",
+                label, roundIds.size(), groups.size(), totalSent);
     }
 
-    private int sendNotificationToMembers(
-            MeetingRound round,
-            NotificationTypeCode typeCode,
-            Map<String, String> parameters
-    ) {
-        Long meetingId = round.getMeeting().getId();
-        List<Long> memberUserIds = meetingMemberRepository.findApprovedMemberUserIds(meetingId);
+    private record ReminderGroup(Long meetingId, String meetingTitle, Set<Long> userIds) {
 
-        if (!memberUserIds.isEmpty()) {
-            notificationService.createAndSendBatch(memberUserIds, typeCode, parameters);
+        private ReminderGroup(Long meetingId, String meetingTitle) {
+            this(meetingId, meetingTitle, new LinkedHashSet<>());
         }
 
-        return memberUserIds.size();
+        private NotificationBatch toBatch() {
+            return new NotificationBatch(
+                    List.copyOf(userIds),
+                    Map.of(PARAM_MEETING_ID, meetingId.toString(), "meetingTitle", meetingTitle)
+            );
+        }
     }
 }
@@ -4,17 +4,21 @@ import com.example.doktoribackend.common.error.ErrorCode;
 import com.example.doktoribackend.exception.BusinessException;
 import com.example.doktoribackend.exception.UserNotFoundException;
 import com.example.doktoribackend.notification.domain.Notification;
-import com.example.doktoribackend.notification.domain.NotificationType;
+import com.example.doktoribackend.notification.domain.NotificationOutbox;
 import com.example.doktoribackend.notification.domain.NotificationTypeCode;
 import com.example.doktoribackend.notification.dto.HasUnreadResponse;
+import com.example.doktoribackend.notification.dto.NotificationBatch;
 import com.example.doktoribackend.notification.dto.NotificationDeliveryTask;
 import com.example.doktoribackend.notification.dto.NotificationListResponse;
 import com.example.doktoribackend.notification.dto.NotificationResponse;
 import com.example.doktoribackend.notification.dto.SseNotificationEvent;
-import com.example.doktoribackend.notification.exception.NotificationTypeNotFoundException;
 import com.example.doktoribackend.notification.mapper.NotificationMapper;
+import com.example.doktoribackend.notification.repository.NotificationBulkRepository;
+import com.example.doktoribackend.notification.repository.NotificationOutboxRepository;
 import com.example.doktoribackend.notification.repository.NotificationRepository;
 import com.example.doktoribackend.notification.repository.NotificationTypeRepository;
+import com.example.doktoribackend.notification.repository.NotificationUnreadCounterRepository;
+import com.example.doktoribackend.notification.service.NotificationTypeRegistry.NotificationTemplate;
 import com.example.doktoribackend.user.domain.User;
 import com.example.doktoribackend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -23,9 +27,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
 
 @Slf4j
 @Service
@@ -33,10 +37,13 @@ import java.util.concurrent.BlockingQueue;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationBulkRepository notificationBulkRepository;
     private final NotificationTypeRepository notificationTypeRepository;
+    private final NotificationUnreadCounterRepository notificationUnreadCounterRepository;
     private final UserRepository userRepository;
-    private final TemplateRenderer templateRenderer;
-    private final BlockingQueue<NotificationDeliveryTask> notificationDeliveryQueue;
+    private final NotificationTypeRegistry notificationTypeRegistry;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationOutboxRelay notificationOutboxRelay;
 
     private static final int RECENT_DAYS = 3;
 
@@ -49,26 +56,26 @@ public class NotificationService {
         User user = userRepository.findById(userId)
                 .orElseThrow(UserNotFoundException::new);
 
-        NotificationType type = notificationTypeRepository.findByCodeAndDeletedAtIsNull(typeCode)
-                .orElseThrow(NotificationTypeNotFoundException::new);
+        NotificationTemplate template = notificationTypeRegistry.get(typeCode);
 
-        String title = type.getTitle();
-        String message = templateRenderer.render(type.getMessageTemplate(), parameters);
-        String linkPath = templateRenderer.render(type.getLinkTemplate(), parameters);
+        String title = template.title();
+        String message = template.renderMessage(parameters);
+        String linkPath = template.renderLink(parameters);
 
         Notification notification = Notification.builder()
                 .user(user)
-                .type(type)
+                .type(notificationTypeRepository.getReferenceById(template.typeId()))
                 .title(title)
                 .message(message)
                 .linkPath(linkPath)
                 .build();
 
         notification = notificationRepository.save(notification);
+        notificationUnreadCounterRepository.increment(userId, LocalDateTime.now());
 
         SseNotificationEvent sseEvent = new SseNotificationEvent(
                 notification.getId(),
-                notification.getType().getCode(),
+                typeCode,
                 notification.getTitle(),
                 notification.getMessage(),
                 notification.getLinkPath(),
@@ -89,42 +96,70 @@ public class NotificationService {
             return;
         }
 
-        NotificationType type = notificationTypeRepository.findByCodeAndDeletedAtIsNull(typeCode)
-                .orElseThrow(NotificationTypeNotFoundException::new);
+        NotificationTemplate template = notificationTypeRegistry.get(typeCode);
+        enqueue(insertBatch(template, userIds, parameters, LocalDateTime.now()));
+    }
 
-        String title = type.getTitle();
-        String message = templateRenderer.render(type.getMessageTemplate(), parameters);
-        String linkPath = templateRenderer.render(type.getLinkTemplate(), parameters);
+    /**
+     * 같은 타입의 알림을 여러 수신자 묶음에 한 트랜잭션으로 저장한다.
+     * 타입 조회는 한 번, 템플릿 렌더링은 묶음마다 한 번이며 아웃박스도 한 번에 기록한다.
+     */
+    @Transactional
+    public int createAndSendBatches(NotificationTypeCode typeCode, List<NotificationBatch> batches) {
+        List<NotificationBatch> targets = batches.stream()
+                .filter(batch -> !batch.userIds().isEmpty())
+                .toList();
+        if (targets.isEmpty()) {
+            return 0;
+        }
 
-        List<User> users = userRepository.findAllById(userIds);
+        NotificationTemplate template = notificationTypeRegistry.get(typeCode);
+        LocalDateTime now = LocalDateTime.now();
 
-        List<Notification> notifications = users.stream()
-                .map(user -> Notification.builder()
-                        .user(user)
-                        .type(type)
-                        .title(title)
-                        .message(message)
-                        .linkPath(linkPath)
-                        .build())
-                .toList();
+        List<NotificationDeliveryTask> tasks = new ArrayList<>(targets.size());
+        int recipients = 0;
+        for (NotificationBatch batch : targets) {
+            tasks.add(insertBatch(template, batch.userIds(), batch.parameters(), now));
+            recipients += batch.userIds().size();
+        }
+        enqueueAll(tasks);
+        return recipients;
+    }
+
+    private NotificationDeliveryTask insertBatch(
+            NotificationTemplate template,
+            List<Long> userIds,
+            Map<String, String> parameters,
+            LocalDateTime now
+    ) {
+        String title = template.title();
+        String message = template.renderMessage(parameters);
+        String linkPath = template.renderLink(parameters);
 
-        notificationRepository.saveAll(notifications);
+        notificationBulkRepository.insertForUsers(userIds, template.typeId(), title, message, linkPath, now);
 
         SseNotificationEvent sseEvent = new SseNotificationEvent(
                 null,
-                typeCode,
+                template.code(),
                 title,
                 message,
                 linkPath,
-                LocalDateTime.now()
+                now
         );
-        enqueue(new NotificationDeliveryTask(userIds, title, message, linkPath, sseEvent));
+        return new NotificationDeliveryTask(userIds, title, message, linkPath, sseEvent);
     }
 
+    // 알림과 같은 트랜잭션에 아웃박스를 기록하고, 커밋 후 릴레이가 발송 큐로 넘긴다.
     private void enqueue(NotificationDeliveryTask task) {
-        if (!notificationDeliveryQueue.offer(task)) {
-            log.warn("Notification delivery queue is full, task dropped for userIds: {}", task.userIds());
-        }
+        notificationOutboxRepository.save(NotificationOutbox.from(task));
+        notificationOutboxRelay.triggerAfterCommit();
+    }
+
+    private void enqueueAll(List<NotificationDeliveryTask> tasks) {
+        notificationOutboxRepository.saveAll(tasks.stream()
+                .map(NotificationOutbox::from)
+                .toList());
+        notificationOutboxRelay.triggerAfterCommit();
     }
 
     @Transactional(readOnly = true)
@@ -146,7 +181,9 @@ public class NotificationService {
     @Transactional(readOnly = true)
     public HasUnreadResponse hasUnread(Long userId) {
         LocalDateTime since = LocalDateTime.now().minusDays(RECENT_DAYS);
-        boolean hasUnread = notificationRepository.existsUnreadByUserIdSince(userId, since);
+        boolean hasUnread = notificationUnreadCounterRepository.findById(userId)
+                .map(counter -> counter.hasUnreadSince(since))
+                .orElse(false);
         return new HasUnreadResponse(hasUnread);
     }
 
@@ -159,18 +196,29 @@ public class NotificationService {
             throw new BusinessException(ErrorCode.AUTH_FORBIDDEN);
         }
 
-        notification.markAsRead();
+        if (!notification.isRead()) {
+            notification.markAsRead();
+            // 조회 기간 밖의 알림은 recount가 이미 카운터에서 뺐다.
+            LocalDateTime since = LocalDateTime.now().minusDays(RECENT_DAYS);
+            if (!notification.getCreatedAt().isBefore(since)) {
+                notificationUnreadCounterRepository.decrement(userId);
+            }
+        }
     }
 
     @Transactional
     public void markAllAsRead(Long userId) {
-        LocalDateTime since = LocalDateTime.now().minusDays(RECENT_DAYS);
-
-        List<Notification> notifications = notificationRepository
-                .findRecentByUserId(userId, since);
+        LocalDateTime now = LocalDateTime.now();
+        notificationRepository.markAllAsReadSince(userId, now.minusDays(RECENT_DAYS), now);
+        notificationUnreadCounterRepository.reset(userId);
+    }
 
-        notifications.stream()
-                .filter(n -> !n.isRead())
-                .forEach(Notification::markAsRead);
+    /**
+     * 조회 기간을 벗어난 읽지 않은 알림을 카운터에서 빼고, 기간 안에 알림을 받은 사용자의 카운터가 어긋났으면 바로잡는다.
+     * 카운터는 생성/읽음 시점에만 바뀌므로 주기적으로 맞춘다.
+     */
+    @Transactional
+    public int recountUnread() {
+        return notificationUnreadCounterRepository.recount(LocalDateTime.now().minusDays(RECENT_DAYS));
     }
 }
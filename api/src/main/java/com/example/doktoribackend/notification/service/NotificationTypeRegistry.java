@@ -0,0 +1,119 @@
+package com.example.doktoribackend.notification.service;
+
+import com.example.doktoribackend.notification.domain.NotificationType;
+import com.example.doktoribackend.notification.domain.NotificationTypeCode;
+import com.example.doktoribackend.notification.exception.NotificationTypeNotFoundException;
+import com.example.doktoribackend.notification.repository.NotificationTypeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 알림 타입 레지스트리.
+ * 시작 시 삭제되지 않은 알림 타입을 모두 읽어 템플릿을 미리 컴파일해 두고,
+ * notification_types의 마지막 수정 시각이 바뀌면 통째로 다시 적재한다.
+ * 레지스트리에 없는 코드는 DB에서 직접 찾는다(적재 이후 추가된 타입).
+ */
+@Slf4j
+@Component
+public class NotificationTypeRegistry {
+
+    private final NotificationTypeRepository notificationTypeRepository;
+    private final TemplateRenderer templateRenderer;
+    private final TransactionTemplate readOnlyTx;
+    private final TransactionTemplate loadTx;
+
+    private volatile Snapshot snapshot = new Snapshot(new EnumMap<>(NotificationTypeCode.class), null);
+
+    public NotificationTypeRegistry(NotificationTypeRepository notificationTypeRepository,
+                                    TemplateRenderer templateRenderer,
+                                    PlatformTransactionManager transactionManager) {
+        this.notificationTypeRepository = notificationTypeRepository;
+        this.templateRenderer = templateRenderer;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        // 변경 여부 확인은 레플리카로 충분하지만, 스냅샷은 레플리카 지연과 무관하게 프라이머리에서 적재한다.
+        this.loadTx = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void load() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 적재에 실패해도 조회 시 DB로 대체되므로 기동은 계속한다.
+            log.warn("Failed to load notification types", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.type-refresh-interval:60000}")
+    public void refreshIfChanged() {
+        LocalDateTime lastUpdatedAt = readOnlyTx.execute(status ->
+                notificationTypeRepository.findLastUpdatedAt().orElse(null));
+        if (!Objects.equals(lastUpdatedAt, snapshot.lastUpdatedAt())) {
+            reload();
+        }
+    }
+
+    public void reload() {
+        Snapshot loaded = loadTx.execute(status -> {
+            Map<NotificationTypeCode, NotificationTemplate> templates = new EnumMap<>(NotificationTypeCode.class);
+            notificationTypeRepository.findAllByDeletedAtIsNull()
+                    .forEach(type -> templates.put(type.getCode(), toTemplate(type)));
+            return new Snapshot(templates, notificationTypeRepository.findLastUpdatedAt().orElse(null));
+        });
+        snapshot = loaded;
+        log.info("알림 타입 {}건 적재", loaded.templates().size());
+    }
+
+    public NotificationTemplate get(NotificationTypeCode code) {
+        NotificationTemplate template = snapshot.templates().get(code);
+        if (template != null) {
+            return template;
+        }
+        return notificationTypeRepository.findByCodeAndDeletedAtIsNull(code)
+                .map(this::toTemplate)
+                .orElseThrow(NotificationTypeNotFoundException::new);
+    }
+
+    private NotificationTemplate toTemplate(NotificationType type) {
+        return new NotificationTemplate(
+                type.getId(),
+                type.getCode(),
+                type.getTitle(),
+                templateRenderer.compile(type.getMessageTemplate()),
+                templateRenderer.compile(type.getLinkTemplate())
+        );
+    }
+
+    private record Snapshot(Map<NotificationTypeCode, NotificationTemplate> templates, LocalDateTime lastUpdatedAt) {
+    }
+
+    /**
+     * 컴파일된 알림 타입. 엔티티 대신 식별자와 템플릿만 들고 있어 트랜잭션 밖에서도 안전하게 공유된다.
+     */
+    public record NotificationTemplate(
+            Long typeId,
+            NotificationTypeCode code,
+            String title,
+            CompiledTemplate messageTemplate,
+            CompiledTemplate linkTemplate
+    ) {
+
+        public String renderMessage(Map<String, String> parameters) {
+            return messageTemplate.render(parameters);
+        }
+
+        public String renderLink(Map<String, String> parameters) {
+            return linkTemplate == null ? null : linkTemplate.render(parameters);
+        }
+    }
+}
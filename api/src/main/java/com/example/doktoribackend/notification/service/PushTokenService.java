@@ -1,6 +1,7 @@
 package com.example.doktoribackend.notification.service;
 
 import com.example.doktoribackend.exception.UserNotFoundException;
+import com.example.doktoribackend.notification.cache.PushTokenRegistry;
 import com.example.doktoribackend.notification.domain.Platform;
 import com.example.doktoribackend.notification.domain.PushProvider;
 import com.example.doktoribackend.notification.domain.UserPushToken;
@@ -19,6 +20,7 @@ public class PushTokenService {
 
     private final UserPushTokenRepository userPushTokenRepository;
     private final UserRepository userRepository;
+    private final PushTokenRegistry pushTokenRegistry;
 
     @Transactional
     public void registerToken(Long userId, String token, Platform platform) {
@@ -28,6 +30,7 @@ public class PushTokenService {
         Optional<UserPushToken> existingToken = userPushTokenRepository.findByToken(token);
         if (existingToken.isPresent() && !existingToken.get().getUserId().equals(userId)) {
             userPushTokenRepository.delete(existingToken.get());
+            pushTokenRegistry.evictAfterCommit(existingToken.get().getUserId());
         }
 
         Optional<UserPushToken> userToken = userPushTokenRepository.findById(userId);
@@ -43,6 +46,7 @@ public class PushTokenService {
                     .build();
             userPushTokenRepository.save(newToken);
         }
+        pushTokenRegistry.evictAfterCommit(userId);
     }
 
 }
@@ -1,36 +1,109 @@
 package com.example.doktoribackend.notification.service;
 
 import com.example.doktoribackend.notification.dto.SseNotificationEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
+/**
+ * 알림 SSE 연결 허브.
+ * 사용자별로 여러 연결(탭/기기)을 유지하고, userId 기준 샤드로 나눠 하트비트를 샤드마다 나눠 보낸다.
+ * 연결마다 작은 전송 큐를 두고 가상 스레드가 비우며, 큐가 가득 찬 느린 연결은 끊어 재연결하게 한다.
+ */
 @Slf4j
 @Service
 public class SseEmitterService {
 
     private static final Long SSE_TIMEOUT = 30 * 60 * 1000L;
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    static final int SHARD_COUNT = 16;
+    static final int MAX_CONNECTIONS_PER_USER = 5;
+    static final int SEND_QUEUE_CAPACITY = 32;
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 15_000;
 
-    public SseEmitter subscribe(Long userId) {
-        SseEmitter existingEmitter = emitters.remove(userId);
-        if (existingEmitter != null) {
-            existingEmitter.complete();
+    private final List<Map<Long, List<Connection>>> shards = new ArrayList<>(SHARD_COUNT);
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicInteger heartbeatCursor = new AtomicInteger();
+
+    private final ScheduledExecutorService heartbeatExecutor =
+            Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "notification-sse-heartbeat");
+                t.setDaemon(true);
+                return t;
+            });
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Timer sendTimer;
+    private final Counter overflowDropCounter;
+    private final Counter errorDropCounter;
+
+    public SseEmitterService(MeterRegistry meterRegistry) {
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards.add(new ConcurrentHashMap<>());
         }
+        this.sendTimer = meterRegistry.timer("notification.sse.send");
+        this.overflowDropCounter = meterRegistry.counter("notification.sse.dropped", "reason", "overflow");
+        this.errorDropCounter = meterRegistry.counter("notification.sse.dropped", "reason", "error");
+        Gauge.builder("notification.sse.connections", connectionCount, AtomicInteger::get)
+                .register(meterRegistry);
+    }
 
+    @PostConstruct
+    void startHeartbeat() {
+        // 한 주기를 샤드 수로 나눠 매 틱마다 한 샤드씩 하트비트를 보낸다.
+        long tickMillis = HEARTBEAT_INTERVAL_MILLIS / SHARD_COUNT;
+        heartbeatExecutor.scheduleAtFixedRate(this::sendHeartbeatToNextShard,
+                tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopHeartbeat() {
+        heartbeatExecutor.shutdown();
+        sendExecutor.shutdown();
+    }
+
+    public SseEmitter subscribe(Long userId) {
         SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
-        emitters.put(userId, emitter);
+        Connection connection = new Connection(userId, emitter);
 
-        emitter.onCompletion(() -> emitters.remove(userId));
+        List<Connection> userConnections = shardOf(userId).compute(userId, (id, existing) -> {
+            List<Connection> connections = existing != null ? existing : new CopyOnWriteArrayList<>();
+            connections.add(connection);
+            return connections;
+        });
+        connectionCount.incrementAndGet();
 
-        emitter.onTimeout(() -> emitters.remove(userId));
+        // 연결 수 상한을 넘으면 가장 오래된 연결부터 닫는다.
+        while (userConnections.size() > MAX_CONNECTIONS_PER_USER) {
+            Connection oldest = userConnections.getFirst();
+            remove(oldest);
+            oldest.emitter.complete();
+        }
 
-        emitter.onError(e -> emitters.remove(userId));
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
 
         try {
             emitter.send(SseEmitter.event()
@@ -38,25 +111,22 @@ public class SseEmitterService {
                     .data("connected"));
         } catch (IOException e) {
             log.error("Failed to send SSE connect event", e);
-            emitters.remove(userId);
+            remove(connection);
         }
         return emitter;
     }
 
     public void sendToUser(Long userId, SseNotificationEvent event) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter == null) {
+        List<Connection> userConnections = shardOf(userId).get(userId);
+        if (userConnections == null) {
             log.debug("No active SSE connection");
             return;
         }
 
-        try {
-            emitter.send(SseEmitter.event()
+        for (Connection connection : userConnections) {
+            connection.enqueue(() -> SseEmitter.event()
                     .name("notification")
                     .data(event));
-        } catch (IOException e) {
-            log.warn("Failed to send SSE notification to userId: {}", userId);
-            emitters.remove(userId);
         }
     }
 
@@ -65,4 +135,107 @@ public class SseEmitterService {
             sendToUser(userId, event);
         }
     }
+
+    int connectionCount(Long userId) {
+        List<Connection> userConnections = shardOf(userId).get(userId);
+        return userConnections == null ? 0 : userConnections.size();
+    }
+
+    private void sendHeartbeatToNextShard() {
+        int shardIndex = Math.floorMod(heartbeatCursor.getAndIncrement(), SHARD_COUNT);
+        shards.get(shardIndex).values().forEach(userConnections -> {
+            for (Connection connection : userConnections) {
+                connection.enqueueHeartbeat();
+            }
+        });
+    }
+
+    private Map<Long, List<Connection>> shardOf(Long userId) {
+        return shards.get(Math.floorMod(userId.hashCode(), SHARD_COUNT));
+    }
+
+    private void remove(Connection connection) {
+        Map<Long, List<Connection>> shard = shardOf(connection.userId);
+        shard.computeIfPresent(connection.userId, (id, userConnections) -> {
+            if (userConnections.remove(connection)) {
+                connectionCount.decrementAndGet();
+            }
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    /**
+     * 연결 하나와 그 연결의 전송 큐.
+     * SseEventBuilder는 build 시 내부 버퍼를 변경하므로 전송 직전에 만든다.
+     */
+    private final class Connection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Supplier<SseEmitter.SseEventBuilder>> queue =
+                new ArrayBlockingQueue<>(SEND_QUEUE_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(Supplier<SseEmitter.SseEventBuilder> event) {
+            if (!queue.offer(event)) {
+                log.warn("SSE send queue full, dropping connection for userId: {}", userId);
+                overflowDropCounter.increment();
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        void enqueueHeartbeat() {
+            // 밀린 이벤트가 있으면 그 전송이 연결 확인을 대신한다.
+            if (queue.isEmpty() && queue.offer(() -> SseEmitter.event().comment("heartbeat"))) {
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Supplier<SseEmitter.SseEventBuilder> event;
+                while ((event = queue.poll()) != null) {
+                    if (!send(event.get())) {
+                        queue.clear();
+                        return;
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+            // 비운 직후 들어온 이벤트를 놓치지 않도록 다시 확인한다.
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private boolean send(SseEmitter.SseEventBuilder event) {
+            long start = System.nanoTime();
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.warn("Failed to send SSE notification to userId: {}", userId);
+                errorDropCounter.increment();
+                remove(this);
+                return false;
+            } finally {
+                sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
 }
@@ -3,29 +3,28 @@ package com.example.doktoribackend.notification.service;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 알림 템플릿 렌더러.
+ * 템플릿 문자열은 처음 한 번만 파싱해 {@link CompiledTemplate}으로 캐시한다. 템플릿 종류는 알림 타입 수만큼이라 캐시는 작다.
+ */
 @Component
 public class TemplateRenderer {
 
-    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{(\\w+)}");
+    private final Map<String, CompiledTemplate> compiled = new ConcurrentHashMap<>();
+
+    public CompiledTemplate compile(String template) {
+        if (template == null) {
+            return null;
+        }
+        return compiled.computeIfAbsent(template, CompiledTemplate::compile);
+    }
 
     public String render(String template, Map<String, String> parameters) {
         if (template == null || parameters == null || parameters.isEmpty()) {
             return template;
         }
-
-        Matcher matcher = PLACEHOLDER_PATTERN.matcher(template);
-        StringBuilder result = new StringBuilder();
-
-        while (matcher.find()) {
-            String key = matcher.group(1);
-            String replacement = parameters.getOrDefault(key, matcher.group(0));
-            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
-        }
-        matcher.appendTail(result);
-
-        return result.toString();
+        return compile(template).render(parameters);
     }
 }
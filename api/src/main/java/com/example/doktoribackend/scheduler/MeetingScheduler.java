@@ -1,5 +1,7 @@
 package com.example.doktoribackend.scheduler;
 
+import com.example.doktoribackend.common.scheduling.ScheduledJobLock;
+import com.example.doktoribackend.meeting.repository.MeetingListViewRepository;
 import com.example.doktoribackend.meeting.repository.MeetingRepository;
 import com.example.doktoribackend.meeting.repository.MeetingRoundRepository;
 import lombok.RequiredArgsConstructor;
@@ -8,8 +10,10 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Component
@@ -18,6 +22,8 @@ public class MeetingScheduler {
 
     private final MeetingRepository meetingRepository;
     private final MeetingRoundRepository meetingRoundRepository;
+    private final MeetingListViewRepository meetingListViewRepository;
+    private final ScheduledJobLock scheduledJobLock;
 
     /**
      * 매일 자정에 모집 마감일이 지난 모임들의 상태를 FINISHED로 변경
@@ -27,24 +33,48 @@ public class MeetingScheduler {
     @Scheduled(cron = "0 0 0 * * *")
     @Transactional
     public void updateExpiredRecruitmentStatus() {
+        scheduledJobLock.runExclusively("meeting.expire-recruitment",
+                Duration.ofMinutes(10), Duration.ofMinutes(1), this::expireRecruitment);
+    }
+
+    private void expireRecruitment() {
         LocalDate today = LocalDate.now();
 
         int updatedCount = meetingRepository.bulkUpdateExpiredToFinished(today);
+        meetingListViewRepository.bulkUpdateExpiredToFinished(today);
 
         log.info("모집 마감일이 지난 {} 개의 모임 상태를 FINISHED로 업데이트했습니다.", updatedCount);
     }
 
     /**
-     * 매 시간 정각에 종료 시간이 지난 회차의 상태를 DONE으로 변경
-     * "0 0 * * * *" = 매 시간 00분 00초
+     * 매 분 종료 시간이 지난 회차를 DONE으로, 모든 회차가 끝난 FINISHED 모임을 CANCELED로 변경
+     * 조회 API에서 상태를 갱신하지 않도록 (status, end_at) / (status, deleted_at, next_transition_at) 인덱스로
+     * 전환 시각이 지난 대상만 찾는다.
+     * "0 * * * * *" = 매 분 00초
      */
-    @Scheduled(cron = "0 0 * * * *")
+    @Scheduled(cron = "0 * * * * *")
     @Transactional
-    public void completeExpiredRounds() {
+    public void advanceMeetingStates() {
+        scheduledJobLock.runExclusively("meeting.advance-states",
+                Duration.ofMinutes(5), Duration.ofSeconds(30), this::advanceStates);
+    }
+
+    private void advanceStates() {
         LocalDateTime now = LocalDateTime.now();
 
-        int updatedCount = meetingRoundRepository.bulkUpdateExpiredToDone(now);
+        int roundCount = meetingRoundRepository.bulkUpdateExpiredToDone(now);
+        if (roundCount > 0) {
+            log.info("종료 시간이 지난 {} 개의 회차 상태를 DONE으로 업데이트했습니다.", roundCount);
+        }
+
+        List<Long> completedMeetingIds = meetingRepository.findIdsDueForCompletion(now);
+        if (completedMeetingIds.isEmpty()) {
+            return;
+        }
+
+        int meetingCount = meetingRepository.bulkUpdateCompletedToCanceled(completedMeetingIds);
+        meetingListViewRepository.bulkUpdateCompletedToCanceled(completedMeetingIds);
 
-        log.info("종료 시간이 지난 {} 개의 회차 상태를 DONE으로 업데이트했습니다.", updatedCount);
+        log.info("모든 회차가 종료된 {} 개의 모임 상태를 CANCELED로 업데이트했습니다.", meetingCount);
     }
 }
@@ -7,6 +7,8 @@ import com.example.doktoribackend.exception.BusinessException;
 import com.example.doktoribackend.common.s3.ImageUrlResolver;
 import com.example.doktoribackend.meeting.domain.MeetingMember;
 import com.example.doktoribackend.meeting.repository.MeetingMemberRepository;
+import com.example.doktoribackend.meeting.service.MeetingListViewService;
+import com.example.doktoribackend.notification.cache.PushTokenRegistry;
 import com.example.doktoribackend.s3.service.FileService;
 import com.example.doktoribackend.user.domain.Gender;
 import com.example.doktoribackend.user.domain.User;
@@ -35,6 +37,8 @@ public class UserService {
     private final TokenService tokenService;
     private final ImageUrlResolver imageUrlResolver;
     private final FileService fileService;
+    private final MeetingListViewService meetingListViewService;
+    private final PushTokenRegistry pushTokenRegistry;
 
     @Transactional(readOnly = true)
     public UserProfileResponse getMyProfile(Long userId) {
@@ -61,11 +65,16 @@ public class UserService {
         String newImagePath = request.profileImagePath();
         fileService.deleteImageIfChanged(oldImagePath, newImagePath);
 
+        String oldNickname = user.getNickname();
         user.updateNickname(request.nickname());
         user.updateProfileImage(newImagePath);
         user.updateLeaderIntro(request.leaderIntro());
         user.updateMemberIntro(request.memberIntro());
 
+        if (!oldNickname.equals(user.getNickname())) {
+            meetingListViewService.syncLeaderNickname(userId, user.getNickname());
+        }
+
         return UserMapper.toUserProfileResponse(user, imageUrlResolver);
     }
 
@@ -91,6 +100,7 @@ public class UserService {
         } else {
             preference.updateRequiredInfo(request.gender(), request.birthYear(), request.notificationAgreement());
         }
+        pushTokenRegistry.evictAfterCommit(userId);
         user.completeProfile();
         return UserMapper.toUserProfileResponse(user, imageUrlResolver);
     }
@@ -112,6 +122,7 @@ public class UserService {
         }
         if (preference.isNotificationAgreement() != notificationAgreement) {
             preference.changeNotificationAgreement(notificationAgreement);
+            pushTokenRegistry.evictAfterCommit(userId);
         }
     }
 
@@ -133,6 +144,7 @@ public class UserService {
         List<MeetingMember> leaderMeetings = meetingMemberRepository.findActiveLeaderMeetingsByUserId(userId);
         for (MeetingMember leaderMember : leaderMeetings) {
             leaderMember.getMeeting().updateStatusToCanceled();
+            meetingListViewService.sync(leaderMember.getMeeting());
             // TODO: 알림 전송 (별도 작업)
         }
 
@@ -0,0 +1,70 @@
+package com.example.doktoribackend.zoom.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 permitsPerSecond개씩 채워지고 최대 burst개까지 쌓이는 토큰 버킷.
+ * 토큰이 없으면 다음 토큰이 채워질 때까지 호출 스레드(가상 스레드)를 재운다.
+ */
+public final class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond와 burst는 0보다 커야 합니다.");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰 하나를 얻을 때까지 기다린다. deadlineNanos(nanoClock 기준)까지 얻지 못하면 false를 반환한다.
+     */
+    public boolean acquire(long deadlineNanos) throws InterruptedException {
+        while (true) {
+            long waitNanos = tryAcquire();
+            if (waitNanos == 0) {
+                return true;
+            }
+            if (nanoClock.getAsLong() + waitNanos > deadlineNanos) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 토큰이 있으면 하나를 쓰고 0을, 없으면 다음 토큰까지 남은 나노초를 반환한다.
+     */
+    long tryAcquire() {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+            lastRefillNanos = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / permitsPerNano));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.doktoribackend.zoom.service;
+
+import com.example.doktoribackend.meeting.domain.MeetingRound;
+import com.example.doktoribackend.zoom.exception.ZoomAuthenticationException;
+import com.example.doktoribackend.zoom.exception.ZoomRetryableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 회차 Zoom 링크를 동시에 생성한다.
+ * 시작 시각이 이른 회차부터 꺼내도록 우선순위 큐에 넣고, 가상 스레드 워커 여러 개가 토큰 버킷으로
+ * Zoom 호출 속도를 맞추며 처리한다. 재시도 가능한 오류는 지수 백오프로 다시 시도하고,
+ * 인증 오류가 나면 남은 회차를 모두 멈추고 예외를 던진다.
+ * Zoom 호출 한도는 계정 단위이고 링크 생성은 샤드로 나눠 여러 노드에서 동시에 돌므로,
+ * 설정한 초당 요청 수와 burst는 클러스터 전체 값으로 보고 노드 수로 나눠 이 노드의 버킷에 쓴다.
+ */
+@Slf4j
+@Component
+public class ZoomLinkProvisioner {
+
+    private static final int MEETING_DURATION_MINUTES = 30;
+    private static final Comparator<MeetingRound> BY_START_AT =
+            Comparator.comparing(MeetingRound::getStartAt).thenComparing(MeetingRound::getId);
+
+    private final ZoomService zoomService;
+    private final ZoomLinkUpdateService zoomLinkUpdateService;
+    private final TokenBucket rateLimiter;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    private final Counter createdCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+    private final Timer createTimer;
+
+    public ZoomLinkProvisioner(
+            ZoomService zoomService,
+            ZoomLinkUpdateService zoomLinkUpdateService,
+            MeterRegistry meterRegistry,
+            @Value("${zoom.provisioning.requests-per-second:10}") double requestsPerSecond,
+            @Value("${zoom.provisioning.burst:10}") int burst,
+            @Value("${zoom.provisioning.nodes:1}") int nodes,
+            @Value("${zoom.provisioning.concurrency:8}") int concurrency,
+            @Value("${zoom.provisioning.max-attempts:3}") int maxAttempts,
+            @Value("${zoom.provisioning.retry-backoff:500ms}") Duration retryBackoff
+    ) {
+        this.zoomService = zoomService;
+        this.zoomLinkUpdateService = zoomLinkUpdateService;
+        this.rateLimiter = new TokenBucket(requestsPerSecond / nodes, Math.max(1, burst / nodes));
+        this.concurrency = concurrency;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.createdCounter = meterRegistry.counter("zoom.provisioning", "result", "created");
+        this.failedCounter = meterRegistry.counter("zoom.provisioning", "result", "failed");
+        this.retriedCounter = meterRegistry.counter("zoom.provisioning", "result", "retried");
+        this.createTimer = meterRegistry.timer("zoom.create_meeting");
+    }
+
+    public record Result(int total, int succeeded, int failed, int unprocessed) {
+    }
+
+    /**
+     * 링크가 없는 회차의 Zoom 미팅을 만들어 저장하고, 저장한 회차마다 onCreated를 호출한다.
+     * deadlineNanos(System.nanoTime 기준)가 지나면 남은 회차는 처리하지 않고 다음 실행으로 넘긴다.
+     */
+    public Result provision(List<MeetingRound> rounds, long deadlineNanos, Consumer<MeetingRound> onCreated) {
+        if (rounds.isEmpty()) {
+            return new Result(0, 0, 0, 0);
+        }
+
+        PriorityBlockingQueue<MeetingRound> queue = new PriorityBlockingQueue<>(rounds.size(), BY_START_AT);
+        queue.addAll(rounds);
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicReference<ZoomAuthenticationException> authFailure = new AtomicReference<>();
+
+        int workers = Math.min(concurrency, rounds.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> {
+                    MeetingRound round;
+                    while (authFailure.get() == null
+                            && System.nanoTime() < deadlineNanos
+                            && (round = queue.poll()) != null) {
+                        try {
+                            if (provisionOne(round, deadlineNanos, onCreated)) {
+                                succeeded.incrementAndGet();
+                            } else {
+                                failed.incrementAndGet();
+                            }
+                        } catch (ZoomAuthenticationException e) {
+                            authFailure.compareAndSet(null, e);
+                        }
+                    }
+                });
+            }
+        }
+
+        if (authFailure.get() != null) {
+            throw authFailure.get();
+        }
+        return new Result(rounds.size(), succeeded.get(), failed.get(), queue.size());
+    }
+
+    private boolean provisionOne(MeetingRound meetingRound, long deadlineNanos, Consumer<MeetingRound> onCreated) {
+        Long meetingRoundId = meetingRound.getId();
+        LocalDateTime startAt = meetingRound.getStartAt();
+
+        if (meetingRound.getMeetingLink() != null) {
+            return true;
+        }
+
+        if (startAt.isBefore(LocalDateTime.now())) {
+            return false;
+        }
+
+        String topic = String.format("%s - %d회차", meetingRound.getMeeting().getTitle(), meetingRound.getRoundNo());
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                if (!rateLimiter.acquire(deadlineNanos)) {
+                    return false;
+                }
+                String joinUrl = createTimer.recordCallable(() ->
+                        zoomService.createMeeting(topic, startAt, MEETING_DURATION_MINUTES));
+                zoomLinkUpdateService.saveMeetingLink(meetingRoundId, joinUrl);
+                createdCounter.increment();
+                onCreated.accept(meetingRound);
+                return true;
+            } catch (ZoomAuthenticationException e) {
+                throw e;
+            } catch (ZoomRetryableException e) {
+                if (attempt == maxAttempts || !backoff(attempt, deadlineNanos)) {
+                    log.warn("[Scheduler] Zoom 링크 생성 실패 (다음 실행에서 재시도) - MeetingRoundId: {}, StartAt: {}, 시도: {}회, Error: {}",
+                            meetingRoundId, startAt, attempt, e.getMessage());
+                    break;
+                }
+                retriedCounter.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.warn("[Scheduler] Zoom 링크 생성 실패 (다음 실행에서 재시도) - MeetingRoundId: {}, StartAt: {}, Error: {}",
+                        meetingRoundId, startAt, e.getMessage());
+                break;
+            }
+        }
+        failedCounter.increment();
+        return false;
+    }
+
+    private boolean backoff(int attempt, long deadlineNanos) {
+        long waitNanos = retryBackoff.toNanos() << (attempt - 1);
+        if (System.nanoTime() + waitNanos >= deadlineNanos) {
+            return false;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.doktoribackend.zoom.service;
 
+import com.example.doktoribackend.common.scheduling.ScheduledJobLock;
+import com.example.doktoribackend.common.scheduling.Shard;
 import com.example.doktoribackend.meeting.domain.MeetingRound;
 import com.example.doktoribackend.meeting.domain.MeetingStatus;
 import com.example.doktoribackend.meeting.repository.MeetingMemberRepository;
@@ -7,51 +9,92 @@ import com.example.doktoribackend.meeting.repository.MeetingRoundRepository;
 import com.example.doktoribackend.notification.domain.NotificationTypeCode;
 import com.example.doktoribackend.notification.service.NotificationService;
 import com.example.doktoribackend.zoom.exception.ZoomAuthenticationException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ZoomLinkSchedulerService {
 
     private final MeetingRoundRepository meetingRoundRepository;
     private final MeetingMemberRepository meetingMemberRepository;
-    private final ZoomService zoomService;
-    private final ZoomLinkUpdateService zoomLinkUpdateService;
+    private final ZoomLinkProvisioner zoomLinkProvisioner;
     private final NotificationService notificationService;
+    private final ScheduledJobLock scheduledJobLock;
+    private final Duration provisionLookAhead;
 
-    private static final int BATCH_SIZE = 10;
-    private static final long RATE_LIMIT_DELAY_MS = 100L;
-    private static final int MEETING_DURATION_MINUTES = 30;
+    private static final int BATCH_SIZE = 100;
     private static final long MAX_EXECUTION_SECONDS = 50L;
-    private static final int LOOK_AHEAD_MINUTES = 10;
+    private static final int NOTIFY_BEFORE_MINUTES = 10;
+
+    private static final String JOB_NAME = "zoom.create-links";
+    private static final String NOTIFY_JOB_NAME = "zoom.round-start-notification";
+    private static final int SHARD_COUNT = 4;
+    private static final Duration LEASE_FOR = Duration.ofMinutes(2);
+    private static final Duration MIN_HOLD = Duration.ofSeconds(30);
 
     private static final List<MeetingStatus> TARGET_STATUSES = Arrays.asList(
             MeetingStatus.FINISHED,
             MeetingStatus.RECRUITING
     );
 
+    public ZoomLinkSchedulerService(
+            MeetingRoundRepository meetingRoundRepository,
+            MeetingMemberRepository meetingMemberRepository,
+            ZoomLinkProvisioner zoomLinkProvisioner,
+            NotificationService notificationService,
+            ScheduledJobLock scheduledJobLock,
+            @Value("${zoom.provisioning.look-ahead:60m}") Duration provisionLookAhead
+    ) {
+        this.meetingRoundRepository = meetingRoundRepository;
+        this.meetingMemberRepository = meetingMemberRepository;
+        this.zoomLinkProvisioner = zoomLinkProvisioner;
+        this.notificationService = notificationService;
+        this.scheduledJobLock = scheduledJobLock;
+        this.provisionLookAhead = provisionLookAhead;
+    }
+
+    /**
+     * 매 분 시작 알림 대상(10분 뒤 시작)에게 알림을 보내고, look-ahead 안의 링크 없는 회차에 Zoom 링크를 만든다.
+     * 링크는 미리 만들어 두고, 알림은 링크가 있는 회차가 10분 전 구간에 들어올 때 보낸다.
+     * 10분 전 구간에 들어온 뒤에야 링크가 만들어진 회차는 만든 즉시 알림을 보낸다.
+     */
     @Scheduled(cron = "0 * * * * *")
     public void createZoomLinksForUpcomingMeetings() {
         LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
-        LocalDateTime targetTime = now.plusMinutes(LOOK_AHEAD_MINUTES);
+        LocalDateTime notifyUntil = now.plusMinutes(NOTIFY_BEFORE_MINUTES);
+        LocalDateTime targetTime = now.plus(provisionLookAhead);
 
         log.info("[Scheduler] Zoom 링크 생성 스케줄러 시작 - 실행시간: {}, 대상 범위: {} ~ {}",
                 now, now, targetTime);
 
-        long startTimeMillis = System.currentTimeMillis();
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(MAX_EXECUTION_SECONDS);
 
         try {
-            processBatchZoomLinkCreation(now, targetTime, startTimeMillis);
+            scheduledJobLock.runExclusively(NOTIFY_JOB_NAME, LEASE_FOR, MIN_HOLD, () ->
+                    sendRoundStartNotifications(notifyUntil.minusMinutes(1), notifyUntil));
+
+            List<Long> meetingRoundIds = meetingRoundRepository.findMeetingRoundIdsForZoomLinkCreation(
+                    TARGET_STATUSES, now, targetTime);
+
+            if (meetingRoundIds.isEmpty()) {
+                return;
+            }
+
+            // 회차 ID를 샤드로 나눠 노드마다 lease를 잡은 샤드만 처리한다.
+            scheduledJobLock.runSharded(JOB_NAME, SHARD_COUNT, LEASE_FOR, MIN_HOLD, shard ->
+                    processBatchZoomLinkCreation(shard, meetingRoundIds, notifyUntil, deadlineNanos));
         } catch (ZoomAuthenticationException e) {
             log.error("[Scheduler] Zoom 인증 실패로 스케줄러 중단 - Error: {}", e.getMessage(), e);
         } catch (Exception e) {
@@ -59,78 +102,46 @@ public class ZoomLinkSchedulerService {
         }
     }
 
-    private void processBatchZoomLinkCreation(LocalDateTime now, LocalDateTime targetTime, long startTimeMillis) {
-        List<Long> meetingRoundIds = meetingRoundRepository.findMeetingRoundIdsForZoomLinkCreation(
-                TARGET_STATUSES, now, targetTime);
+    private void sendRoundStartNotifications(LocalDateTime from, LocalDateTime to) {
+        List<MeetingRound> rounds = meetingRoundRepository.findRoundsWithLinkStartingBetween(TARGET_STATUSES, from, to);
+        rounds.forEach(this::sendRoundStartNotification);
+    }
+
+    private void processBatchZoomLinkCreation(
+            Shard shard,
+            List<Long> allMeetingRoundIds,
+            LocalDateTime notifyUntil,
+            long deadlineNanos
+    ) {
+        List<Long> meetingRoundIds = allMeetingRoundIds.stream()
+                .filter(shard::contains)
+                .toList();
 
         if (meetingRoundIds.isEmpty()) {
             return;
         }
 
-        int totalCount = meetingRoundIds.size();
-        int successCount = 0;
-        int failCount = 0;
-        int processedCount = 0;
-
+        long startNanos = System.nanoTime();
+        List<MeetingRound> rounds = new ArrayList<>(meetingRoundIds.size());
         for (int i = 0; i < meetingRoundIds.size(); i += BATCH_SIZE) {
-            long elapsedSeconds = Duration.ofMillis(System.currentTimeMillis() - startTimeMillis).toSeconds();
-            if (elapsedSeconds >= MAX_EXECUTION_SECONDS) {
-                log.warn("[Scheduler] 실행 시간 {}초 초과로 중단 - 처리: {}/{}, 성공: {}, 실패: {}",
-                        MAX_EXECUTION_SECONDS, processedCount, totalCount, successCount, failCount);
-                break;
-            }
-
             int endIndex = Math.min(i + BATCH_SIZE, meetingRoundIds.size());
-            List<Long> batchIds = meetingRoundIds.subList(i, endIndex);
-
-            List<MeetingRound> batch = meetingRoundRepository.findByIdsWithMeeting(batchIds);
-
-            for (MeetingRound meetingRound : batch) {
-                boolean success = processZoomLinkCreation(meetingRound);
-                processedCount++;
-
-                if (success) {
-                    successCount++;
-                } else {
-                    failCount++;
-                }
-                sleep();
-            }
+            rounds.addAll(meetingRoundRepository.findByIdsWithMeeting(meetingRoundIds.subList(i, endIndex)));
         }
 
-        long totalDurationMs = System.currentTimeMillis() - startTimeMillis;
-        log.info("[Scheduler] 배치 처리 완료 - Total: {}, Success: {}, Failed: {}, Duration: {}ms",
-                totalCount, successCount, failCount, totalDurationMs);
-    }
-
-    private boolean processZoomLinkCreation(MeetingRound meetingRound) {
-        Long meetingRoundId = meetingRound.getId();
-        Long meetingId = meetingRound.getMeeting().getId();
-        LocalDateTime startAt = meetingRound.getStartAt();
-        String meetingTitle = meetingRound.getMeeting().getTitle();
-
-        if (meetingRound.getMeetingLink() != null) {
-            return true;
-        }
+        ZoomLinkProvisioner.Result result = zoomLinkProvisioner.provision(rounds, deadlineNanos, round -> {
+            if (!round.getStartAt().isAfter(notifyUntil)) {
+                sendRoundStartNotification(round);
+            }
+        });
 
-        if (startAt.isBefore(LocalDateTime.now())) {
-            return false;
+        if (result.unprocessed() > 0) {
+            log.warn("[Scheduler] 실행 시간 {}초 초과로 중단 - 샤드: {}/{}, 미처리: {}/{}",
+                    MAX_EXECUTION_SECONDS, shard.index(), shard.count(), result.unprocessed(), result.total());
         }
 
-        String topic = String.format("%s - %d회차", meetingTitle, meetingRound.getRoundNo());
-
-        try {
-            String joinUrl = zoomService.createMeeting(topic, startAt, MEETING_DURATION_MINUTES);
-            zoomLinkUpdateService.saveMeetingLink(meetingRoundId, joinUrl);
-            sendRoundStartNotification(meetingRound);
-            return true;
-        } catch (ZoomAuthenticationException e) {
-            throw e;
-        } catch (Exception e) {
-            log.warn("[Scheduler] Zoom 링크 생성 실패 (다음 실행에서 재시도) - MeetingRoundId: {}, MeetingId: {}, StartAt: {}, Error: {}",
-                    meetingRoundId, meetingId, startAt, e.getMessage());
-            return false;
-        }
+        long totalDurationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        log.info("[Scheduler] 배치 처리 완료 - 샤드: {}/{}, Total: {}, Success: {}, Failed: {}, Duration: {}ms",
+                shard.index(), shard.count(), result.total(), result.succeeded(), result.failed(), totalDurationMs);
     }
 
     private void sendRoundStartNotification(MeetingRound meetingRound) {
@@ -153,13 +164,4 @@ public class ZoomLinkSchedulerService {
                     meetingRound.getId(), e.getMessage());
         }
     }
-
-    private void sleep() {
-        try {
-            Thread.sleep(RATE_LIMIT_DELAY_MS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("[Scheduler] Thread interrupted during sleep");
-        }
-    }
 }
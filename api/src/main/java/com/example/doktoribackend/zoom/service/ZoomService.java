@@ -9,36 +9,48 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 
 @Slf4j
 @Service
 public class ZoomService {
 
     private final ZoomConfig zoomConfig;
+    private final ZoomTokenManager zoomTokenManager;
     private final RestClient restClient;
 
     private static final int DEFAULT_DURATION_MINUTES = 60;
 
-    public ZoomService(ZoomConfig zoomConfig) {
+    public ZoomService(ZoomConfig zoomConfig, ZoomTokenManager zoomTokenManager) {
         this.zoomConfig = zoomConfig;
+        this.zoomTokenManager = zoomTokenManager;
         this.restClient = RestClient.builder().build();
     }
 
     public String createMeeting(String topic, LocalDateTime startTime, int durationMinutes) {
+        String accessToken = zoomTokenManager.getAccessToken();
         try {
-            String accessToken = getAccessToken();
+            return requestCreateMeeting(accessToken, topic, startTime, durationMinutes);
+        } catch (ZoomAuthenticationException e) {
+            // 캐시된 토큰이 Zoom 쪽에서 먼저 폐기된 경우: 새로 발급받아 한 번만 다시 시도한다.
+            log.warn("Zoom API 인증 실패 - 토큰을 새로 발급받아 재시도합니다. Topic: {}", topic);
+            zoomTokenManager.invalidate(accessToken);
+            return requestCreateMeeting(zoomTokenManager.getAccessToken(), topic, startTime, durationMinutes);
+        }
+    }
+
+    public String createMeeting(String topic, LocalDateTime startTime) {
+        return createMeeting(topic, startTime, DEFAULT_DURATION_MINUTES);
+    }
 
+    private String requestCreateMeeting(String accessToken, String topic, LocalDateTime startTime, int durationMinutes) {
+        try {
             String meetingUrl = zoomConfig.getApiBaseUrl() + "/users/me/meetings";
 
             Map<String, Object> meetingRequest = buildMeetingRequest(topic, startTime, durationMinutes);
@@ -88,10 +100,6 @@ public class ZoomService {
         }
     }
 
-    public String createMeeting(String topic, LocalDateTime startTime) {
-        return createMeeting(topic, startTime, DEFAULT_DURATION_MINUTES);
-    }
-
     private Map<String, Object> buildMeetingRequest(String topic, LocalDateTime startTime, int durationMinutes) {
         Map<String, Object> meetingRequest = new HashMap<>();
         meetingRequest.put("topic", topic);
@@ -112,40 +120,6 @@ public class ZoomService {
         return meetingRequest;
     }
 
-    private String getAccessToken() {
-        try {
-            String tokenUrl = "https://zoom.us/oauth/token";
-
-            String auth = zoomConfig.getClientId() + ":" + zoomConfig.getClientSecret();
-            String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes());
-
-            MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
-            body.add("grant_type", "account_credentials");
-            body.add("account_id", zoomConfig.getAccountId());
-
-            Map<String, Object> responseBody = restClient.post()
-                    .uri(tokenUrl)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .header("Authorization", "Basic " + encodedAuth)
-                    .body(body)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::isError, (req, res) -> {
-                        log.error("Zoom Access Token 발급 실패 - Status: {}, Body: {}",
-                                res.getStatusCode(), new String(res.getBody().readAllBytes()));
-                        throw new ZoomAuthenticationException("Zoom 인증에 실패했습니다.");
-                    })
-                    .body(new ParameterizedTypeReference<>() {});
-
-            return (String) Objects.requireNonNull(responseBody).get("access_token");
-
-        } catch (ZoomAuthenticationException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Zoom Access Token 발급 실패", e);
-            throw new ZoomAuthenticationException("Zoom 인증에 실패했습니다.", e);
-        }
-    }
-
     private String formatStartTime(LocalDateTime startTime) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
         return startTime.format(formatter);
@@ -0,0 +1,165 @@
+package com.example.doktoribackend.zoom.service;
+
+import com.example.doktoribackend.config.ZoomConfig;
+import com.example.doktoribackend.zoom.exception.ZoomAuthenticationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Zoom Server-to-Server OAuth access token 캐시.
+ * 만료 직전(expirySkew)까지 같은 토큰을 쓰고, 만료가 refreshAhead 안으로 들어오면 현재 토큰을 그대로 돌려주면서
+ * 백그라운드에서 새 토큰을 받는다. 갱신은 한 번에 하나만 돌며(single-flight), 동시에 토큰이 필요한 호출은
+ * 진행 중인 갱신 결과를 함께 기다린다.
+ */
+@Slf4j
+@Component
+public class ZoomTokenManager {
+
+    private final ZoomConfig zoomConfig;
+    private final RestClient restClient;
+    private final Duration expirySkew;
+    private final Duration refreshAhead;
+
+    private final AtomicReference<CachedToken> cached = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<CachedToken>> inFlight = new AtomicReference<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter refreshFailureCounter;
+    private final Timer refreshTimer;
+
+    public ZoomTokenManager(
+            ZoomConfig zoomConfig,
+            MeterRegistry meterRegistry,
+            @Value("${zoom.token.expiry-skew:60s}") Duration expirySkew,
+            @Value("${zoom.token.refresh-ahead:5m}") Duration refreshAhead
+    ) {
+        this.zoomConfig = zoomConfig;
+        this.restClient = RestClient.builder().build();
+        this.expirySkew = expirySkew;
+        this.refreshAhead = refreshAhead;
+        this.hitCounter = meterRegistry.counter("zoom.token.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("zoom.token.cache", "result", "miss");
+        this.refreshFailureCounter = meterRegistry.counter("zoom.token.refresh.failed");
+        this.refreshTimer = meterRegistry.timer("zoom.token.refresh");
+    }
+
+    private record CachedToken(String value, Instant usableUntil, Instant refreshFrom) {
+    }
+
+    public String getAccessToken() {
+        Instant now = Instant.now();
+        CachedToken token = cached.get();
+        if (token != null && now.isBefore(token.usableUntil())) {
+            hitCounter.increment();
+            if (!now.isBefore(token.refreshFrom())) {
+                refreshAsync();
+            }
+            return token.value();
+        }
+
+        missCounter.increment();
+        try {
+            return refreshAsync().join().value();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ZoomAuthenticationException authException) {
+                throw authException;
+            }
+            throw new ZoomAuthenticationException("Zoom 인증에 실패했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * Zoom이 401로 거절한 토큰을 버린다. 그사이 이미 새 토큰으로 바뀌었으면 그대로 둔다.
+     */
+    public void invalidate(String rejectedToken) {
+        CachedToken token = cached.get();
+        if (token != null && token.value().equals(rejectedToken)) {
+            cached.compareAndSet(token, null);
+        }
+    }
+
+    private CompletableFuture<CachedToken> refreshAsync() {
+        while (true) {
+            CompletableFuture<CachedToken> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<CachedToken> refresh = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, refresh)) {
+                Thread.ofVirtual().name("zoom-token-refresh").start(() -> runRefresh(refresh));
+                return refresh;
+            }
+        }
+    }
+
+    private void runRefresh(CompletableFuture<CachedToken> refresh) {
+        try {
+            CachedToken token = refreshTimer.recordCallable(this::requestToken);
+            cached.set(token);
+            refresh.complete(token);
+        } catch (Exception e) {
+            refreshFailureCounter.increment();
+            log.warn("Zoom Access Token 갱신 실패 - Error: {}", e.getMessage());
+            refresh.completeExceptionally(e);
+        } finally {
+            inFlight.compareAndSet(refresh, null);
+        }
+    }
+
+    private CachedToken requestToken() {
+        try {
+            String auth = zoomConfig.getClientId() + ":" + zoomConfig.getClientSecret();
+            String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes());
+
+            MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
+            body.add("grant_type", "account_credentials");
+            body.add("account_id", zoomConfig.getAccountId());
+
+            Map<String, Object> responseBody = restClient.post()
+                    .uri(zoomConfig.getTokenUrl())
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .header("Authorization", "Basic " + encodedAuth)
+                    .body(body)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, (req, res) -> {
+                        log.error("Zoom Access Token 발급 실패 - Status: {}, Body: {}",
+                                res.getStatusCode(), new String(res.getBody().readAllBytes()));
+                        throw new ZoomAuthenticationException("Zoom 인증에 실패했습니다.");
+                    })
+                    .body(new ParameterizedTypeReference<>() {});
+
+            Objects.requireNonNull(responseBody);
+            String accessToken = (String) Objects.requireNonNull(responseBody.get("access_token"));
+            long expiresIn = ((Number) responseBody.getOrDefault("expires_in", 3600)).longValue();
+
+            Instant expiresAt = Instant.now().plusSeconds(expiresIn);
+            return new CachedToken(accessToken, expiresAt.minus(expirySkew), expiresAt.minus(refreshAhead));
+
+        } catch (ZoomAuthenticationException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Zoom Access Token 발급 실패", e);
+            throw new ZoomAuthenticationException("Zoom 인증에 실패했습니다.", e);
+        }
+    }
+}
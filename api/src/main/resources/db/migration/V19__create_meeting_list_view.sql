@@ -0,0 +1,59 @@
+-- 홈 모임 목록 조회용 읽기 모델
+-- 문제: findMeetingList가 users 조인, 장르 조인, 시작 시간 구간 OR 조건을 매 페이지마다 계산하고
+--       옵티마이저가 idx_meeting_list / idx_meeting_list_v2 사이에서 플랜을 바꿔가며 선택함
+-- 해결: 모임장 닉네임, 장르 코드, 시작 시간대/회차 수 버킷을 미리 계산해 둔 테이블에서
+--       (status, meeting_id) 인덱스 범위 스캔 한 번으로 조회
+
+CREATE TABLE meeting_list_view (
+    meeting_id BIGINT PRIMARY KEY,
+    leader_user_id BIGINT NOT NULL,
+    leader_nickname VARCHAR(20) NOT NULL,
+    reading_genre_id BIGINT NOT NULL,
+    reading_genre_code VARCHAR(20) NOT NULL,
+    meeting_image_path VARCHAR(512) NOT NULL,
+    title VARCHAR(50) NOT NULL,
+    capacity TINYINT NOT NULL,
+    current_count TINYINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    day_of_week VARCHAR(3) NOT NULL,
+    start_time_slot VARCHAR(10),
+    round_count_bucket VARCHAR(20),
+    recruitment_deadline DATE NOT NULL,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    INDEX idx_meeting_list_view_feed (status, meeting_id, recruitment_deadline, reading_genre_code,
+                                      day_of_week, start_time_slot, round_count_bucket),
+    INDEX idx_meeting_list_view_leader (leader_user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT INTO meeting_list_view (
+    meeting_id, leader_user_id, leader_nickname, reading_genre_id, reading_genre_code,
+    meeting_image_path, title, capacity, current_count, status, day_of_week,
+    start_time_slot, round_count_bucket, recruitment_deadline
+)
+SELECT m.id,
+       m.leader_user_id,
+       u.nickname,
+       m.reading_genre_id,
+       g.code,
+       m.meeting_image_path,
+       m.title,
+       m.capacity,
+       m.current_count,
+       m.status,
+       m.day_of_week,
+       CASE
+           WHEN m.start_time >= '19:00:00' THEN 'EVENING'
+           WHEN m.start_time >= '14:00:00' THEN 'AFTERNOON'
+           WHEN m.start_time >= '09:00:00' THEN 'MORNING'
+       END,
+       CASE
+           WHEN m.round_count = 1 THEN 'ONE'
+           WHEN m.round_count BETWEEN 3 AND 4 THEN 'THREE_OR_MORE'
+           WHEN m.round_count BETWEEN 5 AND 8 THEN 'FIVE_OR_MORE'
+       END,
+       m.recruitment_deadline
+FROM meetings m
+JOIN users u ON u.id = m.leader_user_id
+JOIN reading_genres g ON g.id = m.reading_genre_id
+WHERE m.deleted_at IS NULL;
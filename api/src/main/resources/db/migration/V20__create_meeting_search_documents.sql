@@ -0,0 +1,27 @@
+-- 모임 검색용 n-gram FULLTEXT 인덱스
+-- 문제: searchMeetings가 LOWER(title) LIKE '%kw%'와 회차-도서 상관 서브쿼리(EXISTS LIKE)를
+--       WHERE와 정렬에서 두 번 수행해 모임/도서 수에 비례한 풀스캔 발생
+-- 해결: 모임 제목과 회차 도서 제목을 모은 검색 문서 테이블에 ngram FULLTEXT 인덱스를 두고,
+--       MATCH ... AGAINST로 후보를 찾은 뒤 meeting_list_view와 조인해 필터를 적용
+
+SET SESSION group_concat_max_len = 1048576;
+
+CREATE TABLE meeting_search_documents (
+    meeting_id BIGINT PRIMARY KEY,
+    meeting_title VARCHAR(50) NOT NULL,
+    book_titles TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    FULLTEXT INDEX ft_meeting_search_all (meeting_title, book_titles) WITH PARSER ngram,
+    FULLTEXT INDEX ft_meeting_search_book (book_titles) WITH PARSER ngram
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT INTO meeting_search_documents (meeting_id, meeting_title, book_titles)
+SELECT m.id,
+       m.title,
+       COALESCE(GROUP_CONCAT(DISTINCT b.title SEPARATOR '\n'), '')
+FROM meetings m
+LEFT JOIN meeting_rounds r ON r.meeting_id = m.id
+LEFT JOIN books b ON b.id = r.book_id
+WHERE m.deleted_at IS NULL
+GROUP BY m.id, m.title;
@@ -0,0 +1,16 @@
+-- 모임 완료 전환 대상 조회용 다음 전환 시각
+-- 문제: 스케줄러가 FINISHED 모임마다 남은 회차를 NOT EXISTS 상관 서브쿼리로 확인해
+--       모임/회차 수에 비례한 스캔 발생
+-- 해결: 마지막 회차 종료 시각을 meetings.next_transition_at에 두고
+--       (status, deleted_at, next_transition_at) 인덱스 범위 스캔으로 전환 대상을 조회.
+--       회차가 없는 모임은 NULL로 남고 조회 시 바로 전환 대상에 포함
+ALTER TABLE meetings ADD COLUMN next_transition_at DATETIME(6) NULL AFTER deleted_at;
+
+UPDATE meetings m
+    JOIN (SELECT meeting_id, MAX(end_at) AS last_end_at
+          FROM meeting_rounds
+          GROUP BY meeting_id) r ON r.meeting_id = m.id
+SET m.next_transition_at = r.last_end_at;
+
+CREATE INDEX idx_meeting_transition ON meetings (status, deleted_at, next_transition_at);
+CREATE INDEX idx_meeting_round_status_end_at ON meeting_rounds (status, end_at);
@@ -0,0 +1,17 @@
+CREATE TABLE notification_outbox (
+    id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+    notification_id BIGINT UNSIGNED NULL,
+    type_code VARCHAR(50) NOT NULL,
+    user_ids TEXT NOT NULL,
+    title VARCHAR(80) NOT NULL,
+    message VARCHAR(300) NOT NULL,
+    link_path VARCHAR(255) NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    available_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    delivered_at DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    INDEX idx_notification_outbox_relay (status, available_at, id),
+    INDEX idx_notification_outbox_purge (status, delivered_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
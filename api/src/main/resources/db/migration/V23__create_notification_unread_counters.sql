@@ -0,0 +1,16 @@
+CREATE TABLE notification_unread_counters (
+    user_id BIGINT NOT NULL,
+    unread_count INT NOT NULL DEFAULT 0,
+    last_notified_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 최근 3일 알림 기준으로 초기값을 채운다.
+INSERT INTO notification_unread_counters (user_id, unread_count, last_notified_at)
+SELECT n.user_id,
+       SUM(CASE WHEN n.is_read = 0 THEN 1 ELSE 0 END),
+       MAX(n.created_at)
+FROM notifications n
+WHERE n.deleted_at IS NULL
+  AND n.created_at >= NOW(6) - INTERVAL 3 DAY
+GROUP BY n.user_id;
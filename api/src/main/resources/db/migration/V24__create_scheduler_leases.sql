@@ -0,0 +1,7 @@
+CREATE TABLE scheduler_leases (
+    name VARCHAR(100) NOT NULL,
+    owner VARCHAR(150) NOT NULL,
+    locked_at DATETIME(6) NOT NULL,
+    locked_until DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
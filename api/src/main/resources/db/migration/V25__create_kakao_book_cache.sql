@@ -0,0 +1,7 @@
+CREATE TABLE kakao_book_cache (
+    cache_key VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (cache_key),
+    INDEX idx_kakao_book_cache_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
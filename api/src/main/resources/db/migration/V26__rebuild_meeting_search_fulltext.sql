@@ -0,0 +1,30 @@
+-- 모임 검색 FULLTEXT 인덱스 재생성
+-- 문제: V20의 ngram 인덱스가 InnoDB 기본 stopword 목록으로 만들어져 'a', 'i' 등이 포함된 토큰이 색인되지 않아
+--       영문 검색어 결과가 LIKE 경로와 달라지고, 도서 제목을 한 컬럼에 이어 붙여 구문 검색이 서로 다른 제목에 걸쳐 일치함
+-- 해결: stopword를 끈 세션에서 인덱스를 다시 만들고, 도서 제목은 제목마다 한 행씩 별도 테이블에 색인
+--       (테이블을 재구성해 인덱스가 다시 만들어질 때도 같은 세션 설정을 먼저 적용해야 함)
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+CREATE TABLE meeting_search_books (
+    meeting_id BIGINT NOT NULL,
+    book_title VARCHAR(255) NOT NULL,
+    INDEX idx_meeting_search_books_meeting (meeting_id),
+    FULLTEXT INDEX ft_meeting_search_book_title (book_title) WITH PARSER ngram
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT INTO meeting_search_books (meeting_id, book_title)
+SELECT DISTINCT d.meeting_id, b.title
+FROM meeting_search_documents d
+JOIN meeting_rounds r ON r.meeting_id = d.meeting_id
+JOIN books b ON b.id = r.book_id;
+
+ALTER TABLE meeting_search_documents
+    DROP INDEX ft_meeting_search_all,
+    DROP INDEX ft_meeting_search_book,
+    DROP COLUMN book_titles;
+
+ALTER TABLE meeting_search_documents
+    ADD FULLTEXT INDEX ft_meeting_search_title (meeting_title) WITH PARSER ngram;
+
+SET SESSION innodb_ft_enable_stopword = DEFAULT;
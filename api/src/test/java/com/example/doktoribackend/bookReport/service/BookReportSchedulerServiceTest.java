@@ -2,8 +2,10 @@ package com.example.doktoribackend.bookReport.service;
 
 import com.example.doktoribackend.bookReport.domain.BookReportStatus;
 import com.example.doktoribackend.bookReport.repository.BookReportRepository;
+import com.example.doktoribackend.common.scheduling.ScheduledJobLock;
 import com.example.doktoribackend.notification.domain.NotificationTypeCode;
 import com.example.doktoribackend.notification.service.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,7 @@ import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
@@ -30,9 +33,20 @@ class BookReportSchedulerServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private ScheduledJobLock scheduledJobLock;
+
     @InjectMocks
     private BookReportSchedulerService schedulerService;
 
+    @BeforeEach
+    void setUp() {
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return true;
+        }).given(scheduledJobLock).runExclusively(anyString(), any(), any(), any());
+    }
+
     @Nested
     @DisplayName("failStalePendingReports")
     class FailStalePendingReportsTests {
@@ -0,0 +1,181 @@
+package com.example.doktoribackend.meeting.repository;
+
+import com.example.doktoribackend.meeting.dto.MeetingListRow;
+import com.example.doktoribackend.meeting.dto.MeetingSearchRequest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LIKE 검색과 ngram FULLTEXT 검색의 지연 시간 비교.
+ * FULLTEXT는 H2에서 동작하지 않아 MySQL을 지정했을 때만 실행한다.
+ *
+ * SEARCH_BENCHMARK_DB_URL=jdbc:mysql://localhost:3306/doktori_bench SEARCH_BENCHMARK_DB_USERNAME=root \
+ * ./gradlew :api:test --tests '*MeetingSearchBenchmarkTest'
+ *
+ * 데이터셋(기본 100만 모임, SEARCH_BENCHMARK_MEETINGS로 변경)은 최초 실행 시 생성하고 이후 재사용한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "SEARCH_BENCHMARK_DB_URL", matches = ".+")
+@DisplayName("모임 검색 LIKE vs FULLTEXT 벤치마크")
+class MeetingSearchBenchmarkTest {
+
+    private static final int MEETING_COUNT = Integer.parseInt(
+            System.getenv().getOrDefault("SEARCH_BENCHMARK_MEETINGS", "1000000"));
+    private static final int BOOK_COUNT = 50_000;
+    private static final int USER_COUNT = 1_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 30;
+    private static final int PAGE_SIZE = 11;
+    private static final List<String> KEYWORDS = List.of("데미안", "어린 왕자", "경제", "함께 읽는", "철학");
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private MeetingSearchRepository meetingSearchRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("SEARCH_BENCHMARK_DB_URL"));
+        registry.add("spring.datasource.username",
+                () -> System.getenv().getOrDefault("SEARCH_BENCHMARK_DB_USERNAME", "root"));
+        registry.add("spring.datasource.password",
+                () -> System.getenv().getOrDefault("SEARCH_BENCHMARK_DB_PASSWORD", ""));
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("app.meeting.search-engine", () -> "fulltext");
+    }
+
+    @BeforeAll
+    void generateDataset() {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM meetings", Long.class);
+        if (existing != null && existing >= MEETING_COUNT) {
+            return;
+        }
+
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = " + (MEETING_COUNT + 1));
+
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO reading_genres (id, code, name, priority) VALUES " +
+                        "(1, 'NOVEL', '소설', 1), (2, 'ECONOMY_BUSINESS', '경제/경영', 2), (3, 'ESSAY', '에세이', 3)");
+        jdbcTemplate.update(
+                "INSERT INTO users (nickname) " +
+                        "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?) " +
+                        "SELECT CONCAT('bench', n) FROM seq", USER_COUNT);
+        jdbcTemplate.update(
+                "INSERT INTO books (title) " +
+                        "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?) " +
+                        "SELECT CONCAT(ELT(1 + n % 8, '데미안', '어린 왕자', '경제학 콘서트', '정의란 무엇인가', " +
+                        "'코스모스', '철학은 어떻게 삶의 무기가 되는가', '채식주의자', '사피엔스'), ' ', n) FROM seq",
+                BOOK_COUNT);
+
+        Long minUserId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        Long minBookId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM books", Long.class);
+
+        jdbcTemplate.update(
+                "INSERT INTO meetings (leader_user_id, reading_genre_id, meeting_image_path, title, description, " +
+                        "capacity, current_count, round_count, status, day_of_week, start_time, first_round_at, " +
+                        "recruitment_deadline) " +
+                        "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?) " +
+                        "SELECT ? + n % ?, 1 + n % 3, 'meeting/bench.jpg', " +
+                        "CONCAT(ELT(1 + n % 6, '함께 읽는', '주말 아침', '퇴근 후', '천천히 읽는', '토론하는', '경제 공부'), " +
+                        "' 독서 모임 ', n), '설명', 8, 1 + n % 7, 1 + n % 8, " +
+                        "IF(n % 4 = 0, 'FINISHED', 'RECRUITING'), ELT(1 + n % 7, 'MON', 'TUE', 'WED', 'THU', 'FRI', 'SAT', 'SUN'), " +
+                        "MAKETIME(9 + n % 12, 0, 0), NOW() + INTERVAL 30 DAY, CURDATE() + INTERVAL (1 + n % 20) DAY " +
+                        "FROM seq",
+                MEETING_COUNT, minUserId, USER_COUNT);
+        jdbcTemplate.update(
+                "INSERT INTO meeting_rounds (meeting_id, book_id, round_no, status, start_at, end_at) " +
+                        "SELECT m.id, ? + (m.id * 7919) % ?, 1, 'SCHEDULED', m.first_round_at, " +
+                        "m.first_round_at + INTERVAL 1 HOUR FROM meetings m",
+                minBookId, BOOK_COUNT);
+
+        jdbcTemplate.update("DELETE FROM meeting_list_view");
+        jdbcTemplate.update(
+                "INSERT INTO meeting_list_view (meeting_id, leader_user_id, leader_nickname, reading_genre_id, " +
+                        "reading_genre_code, meeting_image_path, title, capacity, current_count, status, day_of_week, " +
+                        "start_time_slot, round_count_bucket, recruitment_deadline) " +
+                        "SELECT m.id, m.leader_user_id, u.nickname, m.reading_genre_id, g.code, m.meeting_image_path, " +
+                        "m.title, m.capacity, m.current_count, m.status, m.day_of_week, " +
+                        "CASE WHEN m.start_time >= '19:00:00' THEN 'EVENING' WHEN m.start_time >= '14:00:00' " +
+                        "THEN 'AFTERNOON' WHEN m.start_time >= '09:00:00' THEN 'MORNING' END, " +
+                        "CASE WHEN m.round_count = 1 THEN 'ONE' WHEN m.round_count BETWEEN 3 AND 4 THEN 'THREE_OR_MORE' " +
+                        "WHEN m.round_count BETWEEN 5 AND 8 THEN 'FIVE_OR_MORE' END, m.recruitment_deadline " +
+                        "FROM meetings m JOIN users u ON u.id = m.leader_user_id " +
+                        "JOIN reading_genres g ON g.id = m.reading_genre_id");
+        jdbcTemplate.update("DELETE FROM meeting_search_books");
+        jdbcTemplate.update("DELETE FROM meeting_search_documents");
+        jdbcTemplate.update(
+                "INSERT INTO meeting_search_documents (meeting_id, meeting_title) SELECT m.id, m.title FROM meetings m");
+        jdbcTemplate.update(
+                "INSERT INTO meeting_search_books (meeting_id, book_title) " +
+                        "SELECT DISTINCT r.meeting_id, b.title FROM meeting_rounds r JOIN books b ON b.id = r.book_id");
+    }
+
+    @Test
+    @Transactional(readOnly = true)
+    @DisplayName("두 검색 경로의 p50/p95 지연 시간을 비교하고 결과가 같은지 확인한다")
+    void compareSearchPaths() {
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("📊 모임 검색 벤치마크 (모임 " + MEETING_COUNT + "개)");
+        System.out.println("=".repeat(80));
+
+        for (String keyword : KEYWORDS) {
+            MeetingSearchRequest request = new MeetingSearchRequest();
+            request.setKeyword(keyword);
+
+            List<Long> likeIds = ids(meetingRepository.searchMeetings(request, PAGE_SIZE));
+            List<Long> fulltextIds = ids(meetingSearchRepository.search(request, PAGE_SIZE));
+            assertThat(fulltextIds).containsExactlyElementsOf(likeIds);
+
+            long[] like = measure(() -> meetingRepository.searchMeetings(request, PAGE_SIZE));
+            long[] fulltext = measure(() -> meetingSearchRepository.search(request, PAGE_SIZE));
+
+            System.out.printf("   [%s] LIKE p50=%dms p95=%dms | FULLTEXT p50=%dms p95=%dms%n",
+                    keyword, like[0], like[1], fulltext[0], fulltext[1]);
+        }
+        System.out.println("=".repeat(80) + "\n");
+    }
+
+    private long[] measure(Supplier<List<MeetingListRow>> search) {
+        for (int i = 0; i < WARMUP; i++) {
+            search.get();
+        }
+        List<Long> elapsed = new ArrayList<>();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            search.get();
+            elapsed.add((System.nanoTime() - start) / 1_000_000);
+        }
+        Collections.sort(elapsed);
+        return new long[]{
+                elapsed.get(ITERATIONS / 2),
+                elapsed.get((int) Math.ceil(ITERATIONS * 0.95) - 1)
+        };
+    }
+
+    private List<Long> ids(List<MeetingListRow> rows) {
+        return rows.stream().map(MeetingListRow::getMeetingId).toList();
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.doktoribackend.meeting.service;
+
+import com.example.doktoribackend.book.domain.Book;
+import com.example.doktoribackend.book.repository.BookRepository;
+import com.example.doktoribackend.common.client.KakaoBookClient;
+import com.example.doktoribackend.common.client.KakaoBookResponse;
+import com.example.doktoribackend.common.error.ErrorCode;
+import com.example.doktoribackend.exception.BusinessException;
+import com.example.doktoribackend.meeting.dto.BookRequest;
+import com.example.doktoribackend.meeting.dto.RoundRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("모임 회차 도서 조회")
+class MeetingBookResolverTest {
+
+    private static final String KNOWN_ISBN = "9788937460449";
+    private static final String NEW_ISBN_1 = "9788936434120";
+    private static final String NEW_ISBN_2 = "9788932473901";
+    private static final String NEW_ISBN_3 = "9788954651134";
+
+    @Mock
+    BookRepository bookRepository;
+
+    @Mock
+    KakaoBookClient kakaoBookClient;
+
+    @Captor
+    ArgumentCaptor<List<Book>> savedCaptor;
+
+    private MeetingBookResolver meetingBookResolver;
+
+    @BeforeEach
+    void setUp() {
+        meetingBookResolver = new MeetingBookResolver(bookRepository, kakaoBookClient, Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("등록된 도서는 Kakao를 호출하지 않고, 중복 ISBN은 한 번만 조회한다")
+    void prefetch_skipsKnownAndDuplicateIsbns() {
+        // given
+        List<RoundRequest> rounds = rounds(KNOWN_ISBN, NEW_ISBN_1, NEW_ISBN_1, KNOWN_ISBN);
+        given(bookRepository.findByIsbnIn(anyCollection())).willReturn(List.of(book(KNOWN_ISBN, null)));
+        given(kakaoBookClient.searchByIsbn(NEW_ISBN_1)).willReturn(Optional.of(document(NEW_ISBN_1)));
+
+        // when
+        MeetingBookResolver.PrefetchedBooks prefetched = meetingBookResolver.prefetch(rounds);
+
+        // then
+        assertThat(prefetched.documents()).containsOnlyKeys(NEW_ISBN_1);
+        then(kakaoBookClient).should(times(1)).searchByIsbn(NEW_ISBN_1);
+        then(kakaoBookClient).should(never()).searchByIsbn(KNOWN_ISBN);
+    }
+
+    @Test
+    @DisplayName("새 도서는 Kakao에서 동시에 조회한다")
+    void prefetch_fetchesUnknownIsbnsConcurrently() {
+        // given
+        List<RoundRequest> rounds = rounds(NEW_ISBN_1, NEW_ISBN_2, NEW_ISBN_3);
+        given(bookRepository.findByIsbnIn(anyCollection())).willReturn(List.of());
+        willAnswer(invocation -> {
+            Thread.sleep(300);
+            return Optional.of(document(invocation.getArgument(0)));
+        }).given(kakaoBookClient).searchByIsbn(anyString());
+
+        // when
+        long start = System.nanoTime();
+        MeetingBookResolver.PrefetchedBooks prefetched = meetingBookResolver.prefetch(rounds);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        assertThat(prefetched.documents()).containsOnlyKeys(NEW_ISBN_1, NEW_ISBN_2, NEW_ISBN_3);
+        // 하나씩 조회하면 900ms 이상 걸린다.
+        assertThat(elapsedMillis).isLessThan(800);
+    }
+
+    @Test
+    @DisplayName("Kakao에 없는 ISBN이 있으면 BOOK_NOT_FOUND")
+    void prefetch_unknownIsbn_throwsBookNotFound() {
+        // given
+        given(bookRepository.findByIsbnIn(anyCollection())).willReturn(List.of());
+        given(kakaoBookClient.searchByIsbn(NEW_ISBN_1)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> meetingBookResolver.prefetch(rounds(NEW_ISBN_1)))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.BOOK_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 Kakao가 응답하지 않으면 UPSTREAM_KAKAO_FAILED")
+    void prefetch_timeout_throwsUpstreamFailed() {
+        // given
+        meetingBookResolver = new MeetingBookResolver(bookRepository, kakaoBookClient, Duration.ofMillis(100));
+        given(bookRepository.findByIsbnIn(anyCollection())).willReturn(List.of());
+        willAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return Optional.of(document(NEW_ISBN_1));
+        }).given(kakaoBookClient).searchByIsbn(NEW_ISBN_1);
+
+        // when
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> meetingBookResolver.prefetch(rounds(NEW_ISBN_1)))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.UPSTREAM_KAKAO_FAILED);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        assertThat(elapsedMillis).isLessThan(2_000);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 삭제된 도서를 되살리고 새 도서를 한 번에 저장한다")
+    void resolve_revivesDeletedAndSavesNewBooks() {
+        // given
+        Book deleted = book(KNOWN_ISBN, LocalDateTime.now().minusDays(1));
+        given(bookRepository.findByIsbnIn(anyCollection())).willReturn(List.of(deleted));
+        willAnswer(invocation -> invocation.getArgument(0)).given(bookRepository).saveAll(anyList());
+        MeetingBookResolver.PrefetchedBooks prefetched = new MeetingBookResolver.PrefetchedBooks(
+                Map.of(NEW_ISBN_1, document(NEW_ISBN_1), NEW_ISBN_2, document(NEW_ISBN_2)));
+
+        // when
+        Map<String, Book> books = meetingBookResolver.resolve(
+                rounds(KNOWN_ISBN, NEW_ISBN_1, NEW_ISBN_2, NEW_ISBN_1), prefetched);
+
+        // then
+        assertThat(books).containsOnlyKeys(KNOWN_ISBN, NEW_ISBN_1, NEW_ISBN_2);
+        assertThat(deleted.isDeleted()).isFalse();
+        assertThat(books.get(NEW_ISBN_1).getTitle()).isEqualTo("도서 " + NEW_ISBN_1);
+        assertThat(books.get(NEW_ISBN_1).getPublishedAt()).isEqualTo(LocalDate.of(2000, 12, 20));
+
+        then(bookRepository).should(times(1)).saveAll(savedCaptor.capture());
+        assertThat(savedCaptor.getValue()).hasSize(2);
+        then(kakaoBookClient).should(never()).searchByIsbn(anyString());
+    }
+
+    private List<RoundRequest> rounds(String... isbns) {
+        LocalDate date = LocalDate.now().plusDays(7);
+        return IntStream.range(0, isbns.length)
+                .mapToObj(i -> new RoundRequest(i + 1, date.plusWeeks(i),
+                        new BookRequest(isbns[i], "도서 " + isbns[i], null, null)))
+                .toList();
+    }
+
+    private Book book(String isbn, LocalDateTime deletedAt) {
+        return Book.builder()
+                .isbn(isbn)
+                .title("도서 " + isbn)
+                .deletedAt(deletedAt)
+                .build();
+    }
+
+    private KakaoBookResponse.KakaoBookDocument document(String isbn) {
+        return new KakaoBookResponse.KakaoBookDocument("도서 " + isbn, List.of("저자"), "출판사",
+                "https://image/" + isbn, "2000-12-20T00:00:00.000+09:00", isbn);
+    }
+}
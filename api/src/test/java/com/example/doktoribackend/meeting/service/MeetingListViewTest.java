@@ -0,0 +1,149 @@
+package com.example.doktoribackend.meeting.service;
+
+import com.example.doktoribackend.meeting.domain.Meeting;
+import com.example.doktoribackend.meeting.domain.MeetingDayOfWeek;
+import com.example.doktoribackend.meeting.dto.MeetingListRequest;
+import com.example.doktoribackend.meeting.dto.MeetingListRow;
+import com.example.doktoribackend.meeting.dto.RoundCountCode;
+import com.example.doktoribackend.meeting.dto.StartTimeCode;
+import com.example.doktoribackend.meeting.repository.MeetingRepository;
+import com.example.doktoribackend.user.domain.User;
+import com.example.doktoribackend.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("meeting_list_view 읽기 모델 기반 모임 목록 조회")
+class MeetingListViewTest {
+
+    @Autowired
+    private MeetingListViewService meetingListViewService;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User leader;
+    private Long novelGenreId;
+    private Long essayGenreId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute(
+                "INSERT INTO reading_genres (code, name, priority, created_at, updated_at) " +
+                        "VALUES ('VIEW_NOVEL', '소설', 1, NOW(), NOW()), ('VIEW_ESSAY', '에세이', 2, NOW(), NOW())"
+        );
+        novelGenreId = jdbcTemplate.queryForObject(
+                "SELECT id FROM reading_genres WHERE code = 'VIEW_NOVEL'", Long.class);
+        essayGenreId = jdbcTemplate.queryForObject(
+                "SELECT id FROM reading_genres WHERE code = 'VIEW_ESSAY'", Long.class);
+
+        leader = userRepository.save(new User("모임장", null, null, null));
+    }
+
+    private Meeting createMeeting(Long genreId, MeetingDayOfWeek dayOfWeek, LocalTime startTime, int roundCount) {
+        Meeting meeting = Meeting.create(
+                leader, genreId, "소개", "meeting/test.jpg", "모임", "설명",
+                8, roundCount, dayOfWeek, startTime, 60,
+                LocalDateTime.now().plusDays(10), LocalDate.now().plusDays(5), 1
+        );
+        meetingRepository.save(meeting);
+        meetingListViewService.sync(meeting);
+        return meeting;
+    }
+
+    private List<Long> findMeetingIds(MeetingListRequest request) {
+        entityManager.flush();
+        entityManager.clear();
+        return meetingRepository.findMeetingList(request, 10).stream()
+                .map(MeetingListRow::getMeetingId)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("장르, 요일, 시간대, 회차 수 필터를 읽기 모델 컬럼으로 적용한다")
+    void findMeetingList_filtersByPrecomputedColumns() {
+        // given
+        Meeting target = createMeeting(novelGenreId, MeetingDayOfWeek.MON, LocalTime.of(15, 30), 4);
+        createMeeting(essayGenreId, MeetingDayOfWeek.MON, LocalTime.of(15, 30), 4);
+        createMeeting(novelGenreId, MeetingDayOfWeek.TUE, LocalTime.of(15, 30), 4);
+        createMeeting(novelGenreId, MeetingDayOfWeek.MON, LocalTime.of(19, 0), 4);
+        createMeeting(novelGenreId, MeetingDayOfWeek.MON, LocalTime.of(15, 30), 5);
+
+        MeetingListRequest request = new MeetingListRequest();
+        request.setReadingGenres(List.of("VIEW_NOVEL"));
+        request.setDayOfWeek(List.of(MeetingDayOfWeek.MON));
+        request.setStartTimeFrom(List.of(StartTimeCode.AFTERNOON));
+        request.setRoundCount(RoundCountCode.THREE_OR_MORE);
+
+        // when
+        List<Long> meetingIds = findMeetingIds(request);
+
+        // then
+        assertThat(meetingIds).containsExactly(target.getId());
+    }
+
+    @Test
+    @DisplayName("커서 이전 모임을 최신순으로 반환하고 모집 중이 아닌 모임은 제외한다")
+    void findMeetingList_keysetAndStatus() {
+        // given
+        Meeting first = createMeeting(novelGenreId, MeetingDayOfWeek.MON, LocalTime.of(10, 0), 1);
+        Meeting second = createMeeting(novelGenreId, MeetingDayOfWeek.MON, LocalTime.of(10, 0), 1);
+        Meeting finished = createMeeting(novelGenreId, MeetingDayOfWeek.MON, LocalTime.of(10, 0), 1);
+        Meeting third = createMeeting(novelGenreId, MeetingDayOfWeek.MON, LocalTime.of(10, 0), 1);
+        finished.updateStatusToFinished();
+        meetingListViewService.sync(finished);
+
+        MeetingListRequest request = new MeetingListRequest();
+        request.setReadingGenres(List.of("VIEW_NOVEL"));
+        request.setCursorId(third.getId());
+
+        // when
+        List<Long> meetingIds = findMeetingIds(request);
+
+        // then
+        assertThat(meetingIds).containsExactly(second.getId(), first.getId());
+    }
+
+    @Test
+    @DisplayName("인원 변경과 모임장 닉네임 변경이 목록에 반영된다")
+    void sync_reflectsCountAndNickname() {
+        // given
+        Meeting meeting = createMeeting(novelGenreId, MeetingDayOfWeek.MON, LocalTime.of(10, 0), 1);
+        meeting.incrementCurrentCount();
+        meetingListViewService.sync(meeting);
+
+        // when
+        meetingListViewService.syncLeaderNickname(leader.getId(), "새닉네임");
+
+        // then
+        MeetingListRequest request = new MeetingListRequest();
+        request.setReadingGenres(List.of("VIEW_NOVEL"));
+        entityManager.flush();
+        entityManager.clear();
+        MeetingListRow row = meetingRepository.findMeetingList(request, 10).get(0);
+        assertThat(row.getMeetingId()).isEqualTo(meeting.getId());
+        assertThat(row.getCurrentMemberCount()).isEqualTo(2);
+        assertThat(row.getLeaderNickname()).isEqualTo("새닉네임");
+    }
+}
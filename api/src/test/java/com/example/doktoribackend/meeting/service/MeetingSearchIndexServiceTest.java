@@ -0,0 +1,89 @@
+package com.example.doktoribackend.meeting.service;
+
+import com.example.doktoribackend.book.domain.Book;
+import com.example.doktoribackend.meeting.domain.Meeting;
+import com.example.doktoribackend.meeting.domain.MeetingRound;
+import com.example.doktoribackend.meeting.domain.MeetingSearchDocument;
+import com.example.doktoribackend.meeting.repository.MeetingSearchDocumentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingSearchIndexServiceTest {
+
+    private static final Long MEETING_ID = 10L;
+
+    @Mock
+    MeetingSearchDocumentRepository meetingSearchDocumentRepository;
+
+    @InjectMocks
+    MeetingSearchIndexService meetingSearchIndexService;
+
+    private Meeting createMeeting(String title) {
+        Meeting meeting = Meeting.builder().title(title).build();
+        ReflectionTestUtils.setField(meeting, "id", MEETING_ID);
+        return meeting;
+    }
+
+    private MeetingRound createRound(Meeting meeting, String bookTitle, int roundNo) {
+        Book book = Book.create("978000000000" + roundNo, bookTitle, "저자", "출판사", null, LocalDate.now());
+        LocalDateTime startAt = LocalDateTime.now().plusDays(roundNo);
+        return MeetingRound.create(meeting, book, roundNo, startAt, startAt.plusHours(1));
+    }
+
+    @Test
+    @DisplayName("검색 문서가 없으면 모임 제목과 중복 제거한 도서 제목으로 생성한다")
+    void index_createsDocument() {
+        // given
+        Meeting meeting = createMeeting("데미안 함께 읽기");
+        List<MeetingRound> rounds = List.of(
+                createRound(meeting, "데미안", 1),
+                createRound(meeting, "데미안", 2),
+                createRound(meeting, "수레바퀴 아래서", 3));
+        given(meetingSearchDocumentRepository.findById(MEETING_ID)).willReturn(Optional.empty());
+
+        // when
+        meetingSearchIndexService.index(meeting, rounds);
+
+        // then
+        ArgumentCaptor<MeetingSearchDocument> captor = ArgumentCaptor.forClass(MeetingSearchDocument.class);
+        then(meetingSearchDocumentRepository).should().save(captor.capture());
+        assertThat(captor.getValue().getMeetingId()).isEqualTo(MEETING_ID);
+        assertThat(captor.getValue().getMeetingTitle()).isEqualTo("데미안 함께 읽기");
+        assertThat(captor.getValue().getBookTitles()).containsExactly("데미안", "수레바퀴 아래서");
+    }
+
+    @Test
+    @DisplayName("검색 문서가 있으면 제목과 도서 목록을 갱신한다")
+    void index_updatesDocument() {
+        // given
+        Meeting meeting = createMeeting("새 제목");
+        MeetingSearchDocument document = MeetingSearchDocument.of(MEETING_ID, "옛 제목", List.of("옛 도서"));
+        given(meetingSearchDocumentRepository.findById(MEETING_ID)).willReturn(Optional.of(document));
+
+        // when
+        meetingSearchIndexService.index(meeting, List.of(createRound(meeting, "새 도서", 1)));
+
+        // then
+        assertThat(document.getMeetingTitle()).isEqualTo("새 제목");
+        assertThat(document.getBookTitles()).containsExactly("새 도서");
+        then(meetingSearchDocumentRepository).should(never()).save(any());
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.doktoribackend.meeting.service;
+
+import com.example.doktoribackend.book.domain.Book;
+import com.example.doktoribackend.book.repository.BookRepository;
+import com.example.doktoribackend.bookReport.domain.BookReport;
+import com.example.doktoribackend.bookReport.repository.BookReportRepository;
+import com.example.doktoribackend.meeting.domain.Meeting;
+import com.example.doktoribackend.meeting.domain.MeetingDayOfWeek;
+import com.example.doktoribackend.meeting.domain.MeetingMember;
+import com.example.doktoribackend.meeting.domain.MeetingRound;
+import com.example.doktoribackend.meeting.dto.MyMeetingDetailResponse;
+import com.example.doktoribackend.meeting.dto.MyMeetingListRequest;
+import com.example.doktoribackend.meeting.dto.MyMeetingListResponse;
+import com.example.doktoribackend.meeting.repository.MeetingMemberRepository;
+import com.example.doktoribackend.meeting.repository.MeetingRepository;
+import com.example.doktoribackend.meeting.repository.MeetingRoundRepository;
+import com.example.doktoribackend.user.domain.User;
+import com.example.doktoribackend.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("나의 모임 조회 쿼리 수 회귀 테스트")
+class MyMeetingQueryCountTest {
+
+    @Autowired
+    private MeetingService meetingService;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private MeetingRoundRepository meetingRoundRepository;
+    @Autowired
+    private MeetingMemberRepository meetingMemberRepository;
+    @Autowired
+    private BookReportRepository bookReportRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User member;
+    private Book book;
+    private Long genreId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute(
+                "INSERT INTO reading_genres (code, name, priority, created_at, updated_at) " +
+                        "VALUES ('QUERY_COUNT', '테스트장르', 1, NOW(), NOW())"
+        );
+        genreId = jdbcTemplate.queryForObject(
+                "SELECT id FROM reading_genres WHERE code = 'QUERY_COUNT'", Long.class);
+
+        member = userRepository.save(new User("모임장", null, null, null));
+        book = bookRepository.save(Book.create(
+                "9788901234560", "테스트 책", "테스트 저자", "테스트 출판사", null, LocalDate.now()));
+    }
+
+    private Meeting createMeeting(int roundCount, LocalDateTime firstRoundAt) {
+        Meeting meeting = meetingRepository.save(Meeting.create(
+                member, genreId, "소개", "meeting/test.jpg", "모임", "설명",
+                10, roundCount, MeetingDayOfWeek.MON, LocalTime.of(19, 0), 60,
+                firstRoundAt, LocalDate.now().plusDays(5), 1
+        ));
+        meetingMemberRepository.save(MeetingMember.createLeader(meeting, member, LocalDateTime.now()));
+
+        List<MeetingRound> rounds = new ArrayList<>();
+        for (int roundNo = 1; roundNo <= roundCount; roundNo++) {
+            LocalDateTime startAt = firstRoundAt.plusDays(7L * (roundNo - 1));
+            rounds.add(MeetingRound.create(meeting, book, roundNo, startAt, startAt.plusHours(1)));
+        }
+        meetingRoundRepository.saveAll(rounds);
+        return meeting;
+    }
+
+    private Meeting createMeetingWithReports(int roundCount) {
+        Meeting meeting = createMeeting(roundCount, LocalDateTime.now().plusDays(7));
+        meetingRoundRepository.findByMeetingIdWithBook(meeting.getId())
+                .forEach(round -> bookReportRepository.save(BookReport.create(member, round, "독후감")));
+        return meeting;
+    }
+
+    private <T> long countQueries(Supplier<T> call, Consumer<T> verify) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        T result = call.get();
+
+        long count = statistics.getPrepareStatementCount();
+        verify.accept(result);
+        return count;
+    }
+
+    private long countDetailQueries(Long meetingId, int expectedRounds) {
+        return countQueries(
+                () -> meetingService.getMyMeetingDetail(member.getId(), meetingId),
+                (MyMeetingDetailResponse response) -> {
+                    assertThat(response.getRounds()).hasSize(expectedRounds);
+                    assertThat(response.getRounds())
+                            .allSatisfy(round -> assertThat(round.getBookReport().getId()).isNotNull());
+                });
+    }
+
+    private long countMyMeetingsQueries(int expectedItems) {
+        MyMeetingListRequest request = new MyMeetingListRequest();
+        request.setStatus("ACTIVE");
+        request.setSize(10);
+        return countQueries(
+                () -> meetingService.getMyMeetings(member.getId(), request),
+                (MyMeetingListResponse response) -> assertThat(response.getItems())
+                        .hasSize(expectedItems)
+                        .allSatisfy(item -> {
+                            assertThat(item.getCurrentRound()).isEqualTo(1);
+                            assertThat(item.getMeetingDate()).isNotNull();
+                        }));
+    }
+
+    private long countTodayQueries(int expectedItems) {
+        return countQueries(
+                () -> meetingService.getMyTodayMeetings(member.getId()),
+                (MyMeetingListResponse response) -> assertThat(response.getItems()).hasSize(expectedItems));
+    }
+
+    @Test
+    @DisplayName("회차 수가 늘어도 실행되는 쿼리 수는 같다")
+    void queryCountDoesNotGrowWithRounds() {
+        // given
+        Meeting twoRounds = createMeetingWithReports(2);
+        Meeting eightRounds = createMeetingWithReports(8);
+
+        // when
+        long twoRoundQueries = countDetailQueries(twoRounds.getId(), 2);
+        long eightRoundQueries = countDetailQueries(eightRounds.getId(), 8);
+
+        // then
+        assertThat(eightRoundQueries).isEqualTo(twoRoundQueries);
+    }
+
+    @Test
+    @DisplayName("나의 모임 목록은 모임 수와 관계없이 같은 수의 쿼리로 조회된다")
+    void myMeetings_queryCountDoesNotGrowWithRows() {
+        // given
+        for (int i = 0; i < 2; i++) {
+            createMeeting(3, LocalDateTime.now().plusDays(7));
+        }
+        long twoRowQueries = countMyMeetingsQueries(2);
+
+        for (int i = 0; i < 6; i++) {
+            createMeeting(3, LocalDateTime.now().plusDays(7));
+        }
+
+        // when
+        long eightRowQueries = countMyMeetingsQueries(8);
+
+        // then
+        assertThat(eightRowQueries).isEqualTo(twoRowQueries);
+    }
+
+    @Test
+    @DisplayName("오늘의 모임 목록은 모임 수와 관계없이 같은 수의 쿼리로 조회된다")
+    void todayMeetings_queryCountDoesNotGrowWithRows() {
+        // given
+        LocalDateTime todayRound = LocalDate.now().atTime(23, 59);
+        createMeeting(1, todayRound);
+        long oneRowQueries = countTodayQueries(1);
+
+        for (int i = 0; i < 4; i++) {
+            createMeeting(1, todayRound);
+        }
+
+        // when
+        long fiveRowQueries = countTodayQueries(5);
+
+        // then
+        assertThat(fiveRowQueries).isEqualTo(oneRowQueries);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.doktoribackend.notification.cache;
+
+import com.example.doktoribackend.notification.domain.Platform;
+import com.example.doktoribackend.notification.domain.PushProvider;
+import com.example.doktoribackend.notification.domain.UserPushToken;
+import com.example.doktoribackend.notification.repository.UserPushTokenRepository;
+import com.example.doktoribackend.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PushTokenRegistryTest {
+
+    @Mock
+    UserPushTokenRepository userPushTokenRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry meterRegistry;
+    PushTokenRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new PushTokenRegistry(userPushTokenRepository, transactionManager, meterRegistry);
+    }
+
+    private UserPushToken createToken(Long userId, String token) {
+        User user = User.builder().nickname("user" + userId).build();
+        ReflectionTestUtils.setField(user, "id", userId);
+        UserPushToken pushToken = UserPushToken.builder()
+                .user(user)
+                .platform(Platform.ANDROID)
+                .provider(PushProvider.FCM)
+                .token(token)
+                .build();
+        ReflectionTestUtils.setField(pushToken, "userId", userId);
+        return pushToken;
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.counter("notification.push_token.cache", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("토큰이 없는 사용자까지 캐시해 두 번째 조회는 DB를 읽지 않는다")
+    void findEnabledTokens_cachesHitsAndMisses() {
+        // given
+        given(userPushTokenRepository.findByUserIdsWithNotificationEnabled(List.of(1L, 2L)))
+                .willReturn(List.of(createToken(1L, "token1")));
+
+        // when
+        Map<Long, String> first = registry.findEnabledTokens(List.of(1L, 2L));
+        Map<Long, String> second = registry.findEnabledTokens(List.of(1L, 2L));
+
+        // then
+        assertThat(first).containsExactly(Map.entry(1L, "token1"));
+        assertThat(second).isEqualTo(first);
+        then(userPushTokenRepository).should(times(1)).findByUserIdsWithNotificationEnabled(anyList());
+        assertThat(cacheCount("miss")).isEqualTo(2);
+        assertThat(cacheCount("hit")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화한 사용자는 다음 조회에서 다시 읽는다")
+    void evict_reloadsOnNextLookup() {
+        // given
+        given(userPushTokenRepository.findByUserIdsWithNotificationEnabled(List.of(1L)))
+                .willReturn(List.of(createToken(1L, "token1")))
+                .willReturn(List.of());
+        registry.findEnabledTokens(List.of(1L));
+
+        // when
+        registry.evict(1L);
+        Map<Long, String> tokens = registry.findEnabledTokens(List.of(1L));
+
+        // then
+        assertThat(tokens).isEmpty();
+        then(userPushTokenRepository).should(times(2)).findByUserIdsWithNotificationEnabled(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 한 번의 DELETE로 지우고 캐시에서 뺀다")
+    void invalidate_bulkDeletesAndEvicts() {
+        // given
+        given(userPushTokenRepository.findByUserIdsWithNotificationEnabled(List.of(1L, 2L)))
+                .willReturn(List.of(createToken(1L, "token1"), createToken(2L, "token2")));
+        given(userPushTokenRepository.deleteAllByTokenIn(anyList())).willReturn(2);
+        registry.findEnabledTokens(List.of(1L, 2L));
+
+        // when
+        registry.invalidate(Map.of(1L, "token1", 2L, "token2"));
+
+        // then
+        then(userPushTokenRepository).should().deleteAllByTokenIn(anyList());
+        assertThat(meterRegistry.counter("notification.push_token.invalidated").count()).isEqualTo(2);
+        registry.findEnabledTokens(List.of(1L, 2L));
+        then(userPushTokenRepository).should(times(2)).findByUserIdsWithNotificationEnabled(List.of(1L, 2L));
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.doktoribackend.notification.repository;
+
+import com.example.doktoribackend.notification.domain.NotificationType;
+import com.example.doktoribackend.notification.domain.NotificationTypeCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수신자 수별 알림 일괄 INSERT 처리량(rows/s).
+ * H2 수치는 MySQL과 달라 의미가 없으므로 MySQL을 지정했을 때만 실행한다.
+ *
+ * NOTIFICATION_BENCHMARK_DB_URL=jdbc:mysql://localhost:3306/doktori_bench NOTIFICATION_BENCHMARK_DB_USERNAME=root \
+ * ./gradlew :api:test --tests '*NotificationBulkInsertBenchmarkTest'
+ *
+ * 수신자 수마다 트랜잭션 안에서 사용자를 만들고 측정한 뒤 롤백한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@EnabledIfEnvironmentVariable(named = "NOTIFICATION_BENCHMARK_DB_URL", matches = ".+")
+@DisplayName("알림 일괄 INSERT 처리량 벤치마크")
+class NotificationBulkInsertBenchmarkTest {
+
+    private static final int WARMUP = 2;
+    private static final int ITERATIONS = 10;
+
+    @Autowired
+    private NotificationBulkRepository notificationBulkRepository;
+    @Autowired
+    private NotificationTypeRepository notificationTypeRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private NotificationType type;
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("NOTIFICATION_BENCHMARK_DB_URL"));
+        registry.add("spring.datasource.username",
+                () -> System.getenv().getOrDefault("NOTIFICATION_BENCHMARK_DB_USERNAME", "root"));
+        registry.add("spring.datasource.password",
+                () -> System.getenv().getOrDefault("NOTIFICATION_BENCHMARK_DB_PASSWORD", ""));
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @BeforeEach
+    void setUp() {
+        type = notificationTypeRepository.findByCodeAndDeletedAtIsNull(NotificationTypeCode.ROUND_START_10M_BEFORE)
+                .orElseGet(() -> notificationTypeRepository.save(NotificationType.builder()
+                        .code(NotificationTypeCode.ROUND_START_10M_BEFORE)
+                        .title("10분 후 토론이 시작돼요")
+                        .messageTemplate("곧 화상 토론이 열려요.")
+                        .linkTemplate("/my-meeting/{meetingId}")
+                        .build()));
+    }
+
+    private List<Long> createUsers(int count) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (nickname) VALUES (?)",
+                IntStream.range(0, count).mapToObj(i -> new Object[]{"bench" + i}).toList());
+        return jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id DESC LIMIT ?", Long.class, count);
+    }
+
+    @ParameterizedTest(name = "{0}명")
+    @ValueSource(ints = {100, 1_000, 10_000})
+    @DisplayName("수신자 수별 초당 저장 행 수를 측정한다")
+    void insertForUsers_throughput(int recipients) {
+        List<Long> userIds = createUsers(recipients);
+
+        for (int i = 0; i < WARMUP; i++) {
+            insert(userIds);
+        }
+        List<Long> elapsed = new ArrayList<>();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            int inserted = insert(userIds);
+            elapsed.add(System.nanoTime() - start);
+            assertThat(inserted).isEqualTo(recipients);
+        }
+        Collections.sort(elapsed);
+        long p50Nanos = elapsed.get(ITERATIONS / 2);
+
+        System.out.printf("%n📊 알림 일괄 INSERT - 수신자 %d명: p50=%dms, %d rows/s%n%n",
+                recipients, p50Nanos / 1_000_000, (long) (recipients / (p50Nanos / 1e9)));
+    }
+
+    private int insert(List<Long> userIds) {
+        return notificationBulkRepository.insertForUsers(
+                userIds, type.getId(), "제목", "메시지", "/link", LocalDateTime.now());
+    }
+}
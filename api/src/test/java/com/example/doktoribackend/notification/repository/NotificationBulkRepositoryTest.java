@@ -0,0 +1,97 @@
+package com.example.doktoribackend.notification.repository;
+
+import com.example.doktoribackend.notification.domain.NotificationType;
+import com.example.doktoribackend.notification.domain.NotificationTypeCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("알림 일괄 INSERT")
+class NotificationBulkRepositoryTest {
+
+    @Autowired
+    private NotificationBulkRepository notificationBulkRepository;
+    @Autowired
+    private NotificationTypeRepository notificationTypeRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private NotificationType type;
+
+    @BeforeEach
+    void setUp() {
+        type = notificationTypeRepository.save(NotificationType.builder()
+                .code(NotificationTypeCode.ROUND_START_10M_BEFORE)
+                .title("10분 후 토론이 시작돼요")
+                .messageTemplate("곧 화상 토론이 열려요.")
+                .linkTemplate("/my-meeting/{meetingId}")
+                .build());
+    }
+
+    private List<Long> createUsers(int count) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (nickname, onboarding_completed, profile_completed, role, created_at, updated_at) "
+                        + "VALUES (?, FALSE, FALSE, 'ROLE_USER', NOW(), NOW())",
+                IntStream.range(0, count).mapToObj(i -> new Object[]{"u" + i}).toList());
+        return jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id DESC LIMIT ?", Long.class, count);
+    }
+
+    private int countNotifications() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notifications WHERE type_id = ?", Integer.class, type.getId());
+        return count == null ? 0 : count;
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 건너뛰고 저장한다")
+    void insertForUsers_skipsMissingUsers() {
+        // given
+        List<Long> userIds = new ArrayList<>(createUsers(3));
+        userIds.add(999_999L);
+
+        // when
+        int inserted = notificationBulkRepository.insertForUsers(
+                userIds, type.getId(), "제목", "메시지", "/link", LocalDateTime.now());
+
+        // then
+        assertThat(inserted).isEqualTo(3);
+        assertThat(countNotifications()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("사용자별 읽지 않은 알림 수를 함께 올린다")
+    void insertForUsers_incrementsUnreadCounters() {
+        // given
+        List<Long> userIds = createUsers(2);
+
+        // when
+        notificationBulkRepository.insertForUsers(
+                userIds, type.getId(), "제목", "메시지", "/link", LocalDateTime.now());
+        notificationBulkRepository.insertForUsers(
+                userIds.subList(0, 1), type.getId(), "제목", "메시지", "/link", LocalDateTime.now());
+
+        // then
+        assertThat(unreadCountOf(userIds.get(0))).isEqualTo(2);
+        assertThat(unreadCountOf(userIds.get(1))).isEqualTo(1);
+    }
+
+    private Integer unreadCountOf(Long userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT unread_count FROM notification_unread_counters WHERE user_id = ?", Integer.class, userId);
+    }
+}
@@ -1,10 +1,6 @@
 package com.example.doktoribackend.notification.service;
 
-import com.example.doktoribackend.notification.domain.Platform;
-import com.example.doktoribackend.notification.domain.PushProvider;
-import com.example.doktoribackend.notification.domain.UserPushToken;
-import com.example.doktoribackend.notification.repository.UserPushTokenRepository;
-import com.example.doktoribackend.user.domain.User;
+import com.example.doktoribackend.notification.cache.PushTokenRegistry;
 import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
@@ -17,10 +13,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -35,7 +31,7 @@ class FcmServiceTest {
     FirebaseMessaging firebaseMessaging;
 
     @Mock
-    UserPushTokenRepository userPushTokenRepository;
+    PushTokenRegistry pushTokenRegistry;
 
     @InjectMocks
     FcmService fcmService;
@@ -45,18 +41,8 @@ class FcmServiceTest {
     void sendToUser_withToken_sendsPush() throws FirebaseMessagingException {
         // given
         Long userId = 1L;
-        User user = User.builder().nickname("testUser").build();
-        ReflectionTestUtils.setField(user, "id", userId);
-
-        UserPushToken pushToken = UserPushToken.builder()
-                .user(user)
-                .platform(Platform.ANDROID)
-                .provider(PushProvider.FCM)
-                .token("fcm-token-123")
-                .build();
-
-        given(userPushTokenRepository.findByUserIdsWithNotificationEnabled(List.of(userId)))
-                .willReturn(List.of(pushToken));
+        given(pushTokenRegistry.findEnabledTokens(List.of(userId)))
+                .willReturn(Map.of(userId, "fcm-token-123"));
         given(firebaseMessaging.send(any(Message.class))).willReturn("message-id");
 
         // when
@@ -71,8 +57,8 @@ class FcmServiceTest {
     void sendToUser_noToken_doesNotSend() throws FirebaseMessagingException {
         // given
         Long userId = 1L;
-        given(userPushTokenRepository.findByUserIdsWithNotificationEnabled(List.of(userId)))
-                .willReturn(List.of());
+        given(pushTokenRegistry.findEnabledTokens(List.of(userId)))
+                .willReturn(Map.of());
 
         // when
         fcmService.sendToUser(userId, "제목", "내용", "/link");
@@ -86,18 +72,8 @@ class FcmServiceTest {
     void sendToUser_fcmFails_doesNotThrow() throws FirebaseMessagingException {
         // given
         Long userId = 1L;
-        User user = User.builder().nickname("testUser").build();
-        ReflectionTestUtils.setField(user, "id", userId);
-
-        UserPushToken pushToken = UserPushToken.builder()
-                .user(user)
-                .platform(Platform.ANDROID)
-                .provider(PushProvider.FCM)
-                .token("fcm-token-123")
-                .build();
-
-        given(userPushTokenRepository.findByUserIdsWithNotificationEnabled(List.of(userId)))
-                .willReturn(List.of(pushToken));
+        given(pushTokenRegistry.findEnabledTokens(List.of(userId)))
+                .willReturn(Map.of(userId, "fcm-token-123"));
         given(firebaseMessaging.send(any(Message.class)))
                 .willThrow(mock(FirebaseMessagingException.class));
 
@@ -114,15 +90,9 @@ class FcmServiceTest {
         // given
         List<Long> userIds = List.of(1L, 2L);
 
-        User user1 = User.builder().nickname("user1").build();
-        User user2 = User.builder().nickname("user2").build();
-        ReflectionTestUtils.setField(user1, "id", 1L);
-        ReflectionTestUtils.setField(user2, "id", 2L);
-
-        UserPushToken token1 = UserPushToken.builder()
-                .user(user1).platform(Platform.ANDROID).provider(PushProvider.FCM).token("token1").build();
-        UserPushToken token2 = UserPushToken.builder()
-                .user(user2).platform(Platform.IOS).provider(PushProvider.FCM).token("token2").build();
+        Map<Long, String> tokens = new LinkedHashMap<>();
+        tokens.put(1L, "token1");
+        tokens.put(2L, "token2");
 
         BatchResponse batchResponse = mock(BatchResponse.class);
         doReturn(2).when(batchResponse).getSuccessCount();
@@ -132,8 +102,7 @@ class FcmServiceTest {
                 mockSuccessResponse()
         )).when(batchResponse).getResponses();
 
-        given(userPushTokenRepository.findByUserIdsWithNotificationEnabled(userIds))
-                .willReturn(List.of(token1, token2));
+        given(pushTokenRegistry.findEnabledTokens(userIds)).willReturn(tokens);
         doReturn(batchResponse).when(firebaseMessaging).sendEach(anyList());
 
         // when
@@ -148,8 +117,7 @@ class FcmServiceTest {
     void sendToUsers_noTokens_doesNotSend() throws FirebaseMessagingException {
         // given
         List<Long> userIds = List.of(1L, 2L);
-        given(userPushTokenRepository.findByUserIdsWithNotificationEnabled(userIds))
-                .willReturn(List.of());
+        given(pushTokenRegistry.findEnabledTokens(userIds)).willReturn(Map.of());
 
         // when
         fcmService.sendToUsers(userIds, "제목", "내용", "/link");
@@ -159,38 +127,30 @@ class FcmServiceTest {
     }
 
     @Test
-    @DisplayName("sendToUsers: 유효하지 않은 토큰은 삭제한다")
+    @DisplayName("sendToUsers: 유효하지 않은 토큰은 모아서 한 번에 삭제한다")
     void sendToUsers_invalidToken_cleansUp() throws FirebaseMessagingException {
         // given
-        List<Long> userIds = List.of(1L);
-
-        User user = User.builder().nickname("user1").build();
-        ReflectionTestUtils.setField(user, "id", 1L);
+        List<Long> userIds = List.of(1L, 2L);
+        Map<Long, String> tokens = new LinkedHashMap<>();
+        tokens.put(1L, "invalid-token");
+        tokens.put(2L, "valid-token");
 
-        UserPushToken token = UserPushToken.builder()
-                .user(user)
-                .platform(Platform.ANDROID)
-                .provider(PushProvider.FCM)
-                .token("invalid-token")
-                .build();
         BatchResponse batchResponse = mock(BatchResponse.class);
-        doReturn(0).when(batchResponse).getSuccessCount();
+        doReturn(1).when(batchResponse).getSuccessCount();
         doReturn(1).when(batchResponse).getFailureCount();
         doReturn(List.of(
-                mockFailureResponse(MessagingErrorCode.UNREGISTERED)
+                mockFailureResponse(MessagingErrorCode.UNREGISTERED),
+                mockSuccessResponse()
         )).when(batchResponse).getResponses();
 
-        given(userPushTokenRepository.findByUserIdsWithNotificationEnabled(userIds))
-                .willReturn(List.of(token));
+        given(pushTokenRegistry.findEnabledTokens(userIds)).willReturn(tokens);
         doReturn(batchResponse).when(firebaseMessaging).sendEach(anyList());
 
-        given(userPushTokenRepository.findByToken("invalid-token"))
-                .willReturn(Optional.of(token));
         // when
         fcmService.sendToUsers(userIds, "제목", "내용", "/link");
 
         // then
-        then(userPushTokenRepository).should().delete(token);
+        then(pushTokenRegistry).should().invalidate(Map.of(1L, "invalid-token"));
     }
 
     private SendResponse mockSuccessResponse() {
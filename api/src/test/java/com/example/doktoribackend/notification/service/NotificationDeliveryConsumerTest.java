@@ -3,6 +3,7 @@ package com.example.doktoribackend.notification.service;
 import com.example.doktoribackend.notification.domain.NotificationTypeCode;
 import com.example.doktoribackend.notification.dto.NotificationDeliveryTask;
 import com.example.doktoribackend.notification.dto.SseNotificationEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +23,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
@@ -35,13 +37,16 @@ class NotificationDeliveryConsumerTest {
     @Mock
     FcmService fcmService;
 
+    @Mock
+    NotificationOutboxRelay notificationOutboxRelay;
+
     BlockingQueue<NotificationDeliveryTask> queue;
     NotificationDeliveryConsumer consumer;
 
     @BeforeEach
     void setUp() {
         queue = new LinkedBlockingQueue<>(100);
-        consumer = new NotificationDeliveryConsumer(queue, sseEmitterService, fcmService);
+        consumer = createConsumer();
         consumer.start();
     }
 
@@ -145,7 +150,7 @@ class NotificationDeliveryConsumerTest {
 
         // 새 큐 & 컨슈머로 다시 테스트
         queue = new LinkedBlockingQueue<>(100);
-        consumer = new NotificationDeliveryConsumer(queue, sseEmitterService, fcmService);
+        consumer = createConsumer();
         // start()를 호출하지 않아서 큐에서 take()하는 스레드가 없음
 
         NotificationDeliveryTask task = createTask(List.of(99L));
@@ -181,6 +186,56 @@ class NotificationDeliveryConsumerTest {
                 .sendToUsers(List.of(1L), task.sseEvent());
     }
 
+    @Test
+    @DisplayName("FCM 발송이 느려도 SSE 레인은 기다리지 않고 처리한다")
+    void consume_slowFcm_doesNotDelaySse() {
+        // given
+        willAnswer(invocation -> {
+            TimeUnit.SECONDS.sleep(2);
+            return null;
+        }).given(fcmService).sendToUsers(anyList(), anyString(), anyString(), anyString());
+        NotificationDeliveryTask task1 = createTask(List.of(1L));
+        NotificationDeliveryTask task2 = createTask(List.of(2L));
+        NotificationDeliveryTask task3 = createTask(List.of(3L));
+
+        // when
+        queue.offer(task1);
+        queue.offer(task2);
+        queue.offer(task3);
+
+        // then
+        then(sseEmitterService).should(timeout(500))
+                .sendToUsers(List.of(1L), task1.sseEvent());
+        then(sseEmitterService).should(timeout(500))
+                .sendToUsers(List.of(2L), task2.sseEvent());
+        then(sseEmitterService).should(timeout(500))
+                .sendToUsers(List.of(3L), task3.sseEvent());
+    }
+
+    @Test
+    @DisplayName("SSE와 FCM 발송이 모두 끝나면 아웃박스 완료를 알린다")
+    void consume_outboxTask_acknowledgedAfterBothLanes() {
+        // given
+        NotificationDeliveryTask base = createTask(List.of(1L));
+        NotificationDeliveryTask task = new NotificationDeliveryTask(
+                base.userIds(), base.title(), base.message(), base.linkPath(), base.sseEvent(), 10L);
+
+        // when
+        queue.offer(task);
+
+        // then
+        then(sseEmitterService).should(timeout(3000))
+                .sendToUsers(List.of(1L), task.sseEvent());
+        then(fcmService).should(timeout(3000))
+                .sendToUsers(List.of(1L), "제목", "메시지", "/link");
+        then(notificationOutboxRelay).should(timeout(3000).times(1)).acknowledge(10L);
+    }
+
+    private NotificationDeliveryConsumer createConsumer() {
+        return new NotificationDeliveryConsumer(
+                queue, sseEmitterService, fcmService, notificationOutboxRelay, new SimpleMeterRegistry(), 2, 2);
+    }
+
     private NotificationDeliveryTask createTask(List<Long> userIds) {
         SseNotificationEvent sseEvent = new SseNotificationEvent(
                 null,
@@ -0,0 +1,151 @@
+package com.example.doktoribackend.notification.service;
+
+import com.example.doktoribackend.notification.domain.NotificationOutbox;
+import com.example.doktoribackend.notification.domain.NotificationTypeCode;
+import com.example.doktoribackend.notification.dto.NotificationDeliveryTask;
+import com.example.doktoribackend.notification.dto.SseNotificationEvent;
+import com.example.doktoribackend.notification.repository.NotificationOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxRelayTest {
+
+    @Mock
+    NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    BlockingQueue<NotificationDeliveryTask> queue;
+    NotificationOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        queue = new LinkedBlockingQueue<>(100);
+        relay = new NotificationOutboxRelay(notificationOutboxRepository, queue, transactionManager);
+    }
+
+    @Test
+    @DisplayName("가져온 아웃박스 행을 발송 큐에 넣고 lease를 연장한다")
+    void relay_claimsRowsIntoQueue() {
+        // given
+        NotificationOutbox outbox = createOutbox(1L, List.of(1L, 2L));
+        given(notificationOutboxRepository.findClaimable(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(outbox));
+
+        // when
+        relay.relay();
+
+        // then
+        assertThat(queue).hasSize(1);
+        NotificationDeliveryTask task = queue.peek();
+        assertThat(task.outboxId()).isEqualTo(1L);
+        assertThat(task.userIds()).containsExactly(1L, 2L);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getAvailableAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("발송 중인 행을 다시 가져와도 큐에 중복으로 넣지 않는다")
+    void relay_inFlightRow_notEnqueuedTwice() {
+        // given
+        NotificationOutbox outbox = createOutbox(1L, List.of(1L));
+        given(notificationOutboxRepository.findClaimable(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(outbox));
+
+        // when
+        relay.relay();
+        relay.relay();
+
+        // then
+        assertThat(queue).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("발송 레인에서 버려진 행은 다시 가져오면 큐에 넣는다")
+    void relay_releasedRow_enqueuedAgain() {
+        // given
+        NotificationOutbox outbox = createOutbox(1L, List.of(1L));
+        given(notificationOutboxRepository.findClaimable(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(outbox));
+        relay.relay();
+        queue.clear();
+
+        // when
+        relay.release(1L);
+        relay.relay();
+
+        // then
+        assertThat(queue).hasSize(1);
+        assertThat(queue.peek().outboxId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("발송 완료된 행은 다음 릴레이에서 한 번에 완료 처리한다")
+    void relay_flushesAcknowledgedRows() {
+        // given
+        given(notificationOutboxRepository.findClaimable(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of());
+        relay.acknowledge(1L);
+        relay.acknowledge(2L);
+
+        // when
+        relay.relay();
+
+        // then
+        then(notificationOutboxRepository).should()
+                .markDelivered(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("발송 큐가 가득 차면 행을 가져오지 않는다")
+    void relay_queueFull_skipsClaim() {
+        // given
+        queue = new LinkedBlockingQueue<>(1);
+        queue.offer(createOutbox(9L, List.of(1L)).toTask());
+        relay = new NotificationOutboxRelay(notificationOutboxRepository, queue, transactionManager);
+
+        // when
+        relay.relay();
+
+        // then
+        then(notificationOutboxRepository).should(never()).findClaimable(any(), any());
+        then(notificationOutboxRepository).should(never()).markDelivered(anyList(), any());
+    }
+
+    private NotificationOutbox createOutbox(Long id, List<Long> userIds) {
+        SseNotificationEvent event = new SseNotificationEvent(
+                null,
+                NotificationTypeCode.ROUND_START_10M_BEFORE,
+                "제목",
+                "메시지",
+                "/link",
+                LocalDateTime.now()
+        );
+        NotificationOutbox outbox = NotificationOutbox.from(
+                new NotificationDeliveryTask(userIds, "제목", "메시지", "/link", event));
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+}
@@ -1,10 +1,11 @@
 package com.example.doktoribackend.notification.service;
 
-import com.example.doktoribackend.meeting.domain.Meeting;
-import com.example.doktoribackend.meeting.domain.MeetingRound;
-import com.example.doktoribackend.meeting.repository.MeetingMemberRepository;
+import com.example.doktoribackend.common.scheduling.ScheduledJobLock;
 import com.example.doktoribackend.meeting.repository.MeetingRoundRepository;
+import com.example.doktoribackend.meeting.repository.RoundMemberProjection;
 import com.example.doktoribackend.notification.domain.NotificationTypeCode;
+import com.example.doktoribackend.notification.dto.NotificationBatch;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -20,10 +22,13 @@ import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationSchedulerServiceTest {
@@ -32,14 +37,22 @@ class NotificationSchedulerServiceTest {
     private MeetingRoundRepository meetingRoundRepository;
 
     @Mock
-    private MeetingMemberRepository meetingMemberRepository;
+    private NotificationService notificationService;
 
     @Mock
-    private NotificationService notificationService;
+    private ScheduledJobLock scheduledJobLock;
 
     @InjectMocks
     private NotificationSchedulerService schedulerService;
 
+    @BeforeEach
+    void setUp() {
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return true;
+        }).given(scheduledJobLock).runExclusively(anyString(), any(), any(), any());
+    }
+
     @Nested
     @DisplayName("독후감 마감 24시간 전 알림")
     class ReviewDeadline24hNotificationTests {
@@ -48,22 +61,55 @@ class NotificationSchedulerServiceTest {
         @DisplayName("대상 회차가 있으면 멤버들에게 알림을 발송한다")
         void sendReviewDeadline24hNotifications_success() {
             // given
-            MeetingRound round = createMockMeetingRound(1L, 100L);
-            List<Long> memberIds = List.of(1L, 2L);
+            given(meetingRoundRepository.findApprovedMembersOfRoundsStartingBetween(
+                    any(LocalDateTime.class), any(LocalDateTime.class)))
+                    .willReturn(List.of(
+                            row(1L, 100L, "테스트 모임", 1L),
+                            row(1L, 100L, "테스트 모임", 2L)
+                    ));
 
-            given(meetingRoundRepository.findRoundsStartingBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
-                    .willReturn(List.of(round));
-            given(meetingMemberRepository.findApprovedMemberUserIds(100L))
-                    .willReturn(memberIds);
+            // when
+            schedulerService.sendReviewDeadline24hNotifications();
+
+            // then
+            verify(notificationService).createAndSendBatches(
+                    NotificationTypeCode.BOOK_REPORT_DEADLINE_24H_BEFORE,
+                    List.of(new NotificationBatch(
+                            List.of(1L, 2L),
+                            Map.of("meetingId", "100", "meetingTitle", "테스트 모임")
+                    ))
+            );
+        }
+
+        @Test
+        @DisplayName("여러 모임의 회차는 모임별로 묶어 한 번에 발송한다")
+        void sendReviewDeadline24hNotifications_multipleMeetings_singleCall() {
+            // given
+            given(meetingRoundRepository.findApprovedMembersOfRoundsStartingBetween(
+                    any(LocalDateTime.class), any(LocalDateTime.class)))
+                    .willReturn(List.of(
+                            row(1L, 100L, "모임 A", 1L),
+                            row(1L, 100L, "모임 A", 2L),
+                            row(2L, 100L, "모임 A", 2L),
+                            row(3L, 200L, "모임 B", 3L)
+                    ));
 
             // when
             schedulerService.sendReviewDeadline24hNotifications();
 
             // then
-            verify(notificationService).createAndSendBatch(
-                    memberIds,
+            verify(notificationService).createAndSendBatches(
                     NotificationTypeCode.BOOK_REPORT_DEADLINE_24H_BEFORE,
-                    Map.of("meetingId", "100", "meetingTitle", "테스트 모임")
+                    List.of(
+                            new NotificationBatch(
+                                    List.of(1L, 2L),
+                                    Map.of("meetingId", "100", "meetingTitle", "모임 A")
+                            ),
+                            new NotificationBatch(
+                                    List.of(3L),
+                                    Map.of("meetingId", "200", "meetingTitle", "모임 B")
+                            )
+                    )
             );
         }
 
@@ -71,14 +117,15 @@ class NotificationSchedulerServiceTest {
         @DisplayName("대상 회차가 없으면 아무것도 하지 않는다")
         void sendReviewDeadline24hNotifications_noRounds_doesNothing() {
             // given
-            given(meetingRoundRepository.findRoundsStartingBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
+            given(meetingRoundRepository.findApprovedMembersOfRoundsStartingBetween(
+                    any(LocalDateTime.class), any(LocalDateTime.class)))
                     .willReturn(Collections.emptyList());
 
             // when
             schedulerService.sendReviewDeadline24hNotifications();
 
             // then
-            verify(notificationService, never()).createAndSendBatch(anyList(), any(), any());
+            verify(notificationService, never()).createAndSendBatches(any(), anyList());
         }
     }
 
@@ -90,22 +137,23 @@ class NotificationSchedulerServiceTest {
         @DisplayName("대상 회차가 있으면 멤버들에게 알림을 발송한다")
         void sendReviewDeadline30mNotifications_success() {
             // given
-            MeetingRound round = createMockMeetingRound(1L, 100L);
-            List<Long> memberIds = List.of(1L, 2L);
-
-            given(meetingRoundRepository.findRoundsStartingBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
-                    .willReturn(List.of(round));
-            given(meetingMemberRepository.findApprovedMemberUserIds(100L))
-                    .willReturn(memberIds);
+            given(meetingRoundRepository.findApprovedMembersOfRoundsStartingBetween(
+                    any(LocalDateTime.class), any(LocalDateTime.class)))
+                    .willReturn(List.of(
+                            row(1L, 100L, "테스트 모임", 1L),
+                            row(1L, 100L, "테스트 모임", 2L)
+                    ));
 
             // when
             schedulerService.sendReviewDeadline30mNotifications();
 
             // then
-            verify(notificationService).createAndSendBatch(
-                    memberIds,
+            verify(notificationService).createAndSendBatches(
                     NotificationTypeCode.BOOK_REPORT_DEADLINE_30M_BEFORE,
-                    Map.of("meetingId", "100", "meetingTitle", "테스트 모임")
+                    List.of(new NotificationBatch(
+                            List.of(1L, 2L),
+                            Map.of("meetingId", "100", "meetingTitle", "테스트 모임")
+                    ))
             );
         }
 
@@ -113,26 +161,25 @@ class NotificationSchedulerServiceTest {
         @DisplayName("대상 회차가 없으면 아무것도 하지 않는다")
         void sendReviewDeadline30mNotifications_noRounds_doesNothing() {
             // given
-            given(meetingRoundRepository.findRoundsStartingBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
+            given(meetingRoundRepository.findApprovedMembersOfRoundsStartingBetween(
+                    any(LocalDateTime.class), any(LocalDateTime.class)))
                     .willReturn(Collections.emptyList());
 
             // when
             schedulerService.sendReviewDeadline30mNotifications();
 
             // then
-            verify(notificationService, never()).createAndSendBatch(anyList(), any(), any());
+            verify(notificationService, never()).createAndSendBatches(any(), anyList());
         }
     }
 
-    private MeetingRound createMockMeetingRound(Long roundId, Long meetingId) {
-        Meeting meeting = mock(Meeting.class);
-        given(meeting.getId()).willReturn(meetingId);
-        given(meeting.getTitle()).willReturn("테스트 모임");
-
-        MeetingRound round = mock(MeetingRound.class);
-        given(round.getId()).willReturn(roundId);
-        given(round.getMeeting()).willReturn(meeting);
-
-        return round;
+    private RoundMemberProjection row(Long roundId, Long meetingId, String meetingTitle, Long userId) {
+        // 모임의 첫 행에서만 제목을 읽으므로 나머지 행의 스텁은 쓰이지 않는다.
+        RoundMemberProjection row = mock(RoundMemberProjection.class, withSettings().strictness(Strictness.LENIENT));
+        given(row.getRoundId()).willReturn(roundId);
+        given(row.getMeetingId()).willReturn(meetingId);
+        given(row.getMeetingTitle()).willReturn(meetingTitle);
+        given(row.getUserId()).willReturn(userId);
+        return row;
     }
 }
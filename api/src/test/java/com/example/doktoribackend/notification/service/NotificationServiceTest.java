@@ -4,35 +4,40 @@ import com.example.doktoribackend.common.error.ErrorCode;
 import com.example.doktoribackend.exception.BusinessException;
 import com.example.doktoribackend.exception.UserNotFoundException;
 import com.example.doktoribackend.notification.domain.Notification;
+import com.example.doktoribackend.notification.domain.NotificationOutbox;
 import com.example.doktoribackend.notification.domain.NotificationType;
 import com.example.doktoribackend.notification.domain.NotificationTypeCode;
+import com.example.doktoribackend.notification.domain.NotificationUnreadCounter;
 import com.example.doktoribackend.notification.dto.HasUnreadResponse;
-import com.example.doktoribackend.notification.dto.NotificationDeliveryTask;
+import com.example.doktoribackend.notification.dto.NotificationBatch;
 import com.example.doktoribackend.notification.dto.NotificationListResponse;
 import com.example.doktoribackend.notification.exception.NotificationTypeNotFoundException;
+import com.example.doktoribackend.notification.repository.NotificationBulkRepository;
+import com.example.doktoribackend.notification.repository.NotificationOutboxRepository;
 import com.example.doktoribackend.notification.repository.NotificationRepository;
 import com.example.doktoribackend.notification.repository.NotificationTypeRepository;
+import com.example.doktoribackend.notification.repository.NotificationUnreadCounterRepository;
 import com.example.doktoribackend.user.domain.User;
 import com.example.doktoribackend.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.BlockingQueue;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -44,17 +49,26 @@ class NotificationServiceTest {
     @Mock
     NotificationRepository notificationRepository;
 
+    @Mock
+    NotificationBulkRepository notificationBulkRepository;
+
     @Mock
     NotificationTypeRepository notificationTypeRepository;
 
+    @Mock
+    NotificationUnreadCounterRepository notificationUnreadCounterRepository;
+
     @Mock
     UserRepository userRepository;
 
     @Mock
-    TemplateRenderer templateRenderer;
+    NotificationTypeRegistry notificationTypeRegistry;
 
     @Mock
-    BlockingQueue<NotificationDeliveryTask> notificationDeliveryQueue;
+    NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    NotificationOutboxRelay notificationOutboxRelay;
 
     @InjectMocks
     NotificationService notificationService;
@@ -86,10 +100,9 @@ class NotificationServiceTest {
         ReflectionTestUtils.setField(savedNotification, "createdAt", LocalDateTime.now());
 
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(notificationTypeRepository.findByCodeAndDeletedAtIsNull(NotificationTypeCode.ROUND_START_10M_BEFORE))
-                .willReturn(Optional.of(type));
-        given(templateRenderer.render(eq("곧 화상 토론이 열려요."), any())).willReturn("곧 화상 토론이 열려요.");
-        given(templateRenderer.render(eq("/users/me/meetings/{meetingId}"), any())).willReturn("/users/me/meetings/123");
+        given(notificationTypeRegistry.get(NotificationTypeCode.ROUND_START_10M_BEFORE))
+                .willReturn(templateOf(type));
+        given(notificationTypeRepository.getReferenceById(1L)).willReturn(type);
         given(notificationRepository.save(any(Notification.class))).willReturn(savedNotification);
 
         // when
@@ -103,8 +116,12 @@ class NotificationServiceTest {
         assertThat(result.getId()).isEqualTo(100L);
         assertThat(result.getTitle()).isEqualTo("10분 후 토론이 시작돼요");
 
-        then(notificationRepository).should().save(any(Notification.class));
-        then(notificationDeliveryQueue).should().offer(any(NotificationDeliveryTask.class));
+        ArgumentCaptor<Notification> captor = ArgumentCaptor.forClass(Notification.class);
+        then(notificationRepository).should().save(captor.capture());
+        assertThat(captor.getValue().getLinkPath()).isEqualTo("/users/me/meetings/123");
+        then(notificationUnreadCounterRepository).should().increment(eq(userId), any(LocalDateTime.class));
+        then(notificationOutboxRepository).should().save(any(NotificationOutbox.class));
+        then(notificationOutboxRelay).should().triggerAfterCommit();
     }
 
     @Test
@@ -132,8 +149,8 @@ class NotificationServiceTest {
         ReflectionTestUtils.setField(user, "id", 1L);
 
         given(userRepository.findById(1L)).willReturn(Optional.of(user));
-        given(notificationTypeRepository.findByCodeAndDeletedAtIsNull(any()))
-                .willReturn(Optional.empty());
+        given(notificationTypeRegistry.get(any()))
+                .willThrow(new NotificationTypeNotFoundException());
 
         // when & then
         assertThatThrownBy(() -> notificationService.createAndSend(
@@ -152,24 +169,16 @@ class NotificationServiceTest {
         // given
         List<Long> userIds = List.of(1L, 2L, 3L);
 
-        User user1 = User.builder().nickname("user1").build();
-        User user2 = User.builder().nickname("user2").build();
-        User user3 = User.builder().nickname("user3").build();
-        ReflectionTestUtils.setField(user1, "id", 1L);
-        ReflectionTestUtils.setField(user2, "id", 2L);
-        ReflectionTestUtils.setField(user3, "id", 3L);
-
         NotificationType type = NotificationType.builder()
                 .code(NotificationTypeCode.ROUND_START_10M_BEFORE)
                 .title("10분 후 토론이 시작돼요")
                 .messageTemplate("곧 화상 토론이 열려요.")
                 .linkTemplate("/users/me/meetings/{meetingId}")
                 .build();
+        ReflectionTestUtils.setField(type, "id", 1L);
 
-        given(notificationTypeRepository.findByCodeAndDeletedAtIsNull(NotificationTypeCode.ROUND_START_10M_BEFORE))
-                .willReturn(Optional.of(type));
-        given(userRepository.findAllById(userIds)).willReturn(List.of(user1, user2, user3));
-        given(templateRenderer.render(anyString(), any())).willAnswer(inv -> inv.getArgument(0));
+        given(notificationTypeRegistry.get(NotificationTypeCode.ROUND_START_10M_BEFORE))
+                .willReturn(templateOf(type));
 
         // when
         notificationService.createAndSendBatch(
@@ -179,8 +188,12 @@ class NotificationServiceTest {
         );
 
         // then
-        then(notificationRepository).should().saveAll(anyList());
-        then(notificationDeliveryQueue).should().offer(any(NotificationDeliveryTask.class));
+        then(notificationBulkRepository).should().insertForUsers(
+                eq(userIds), eq(1L), eq("10분 후 토론이 시작돼요"), eq("곧 화상 토론이 열려요."),
+                eq("/users/me/meetings/123"), any(LocalDateTime.class));
+        then(userRepository).should(never()).findAllById(anyList());
+        then(notificationOutboxRepository).should().save(any(NotificationOutbox.class));
+        then(notificationOutboxRelay).should().triggerAfterCommit();
     }
 
     @Test
@@ -194,8 +207,65 @@ class NotificationServiceTest {
         );
 
         // then
-        then(notificationRepository).should(never()).saveAll(anyList());
-        then(notificationDeliveryQueue).should(never()).offer(any(NotificationDeliveryTask.class));
+        then(notificationBulkRepository).should(never())
+                .insertForUsers(anyList(), any(), any(), any(), any(), any());
+        then(notificationOutboxRepository).should(never()).save(any(NotificationOutbox.class));
+    }
+
+    @Test
+    @DisplayName("createAndSendBatches: 모임별 배치를 한 번의 타입 조회와 한 번의 아웃박스 저장으로 처리한다")
+    void createAndSendBatches_success() {
+        // given
+        NotificationType type = NotificationType.builder()
+                .code(NotificationTypeCode.BOOK_REPORT_DEADLINE_24H_BEFORE)
+                .title("독후감 마감 24시간 전")
+                .messageTemplate("{meetingTitle} 독후감을 작성해 주세요.")
+                .linkTemplate("/users/me/meetings/{meetingId}")
+                .build();
+        ReflectionTestUtils.setField(type, "id", 3L);
+
+        given(notificationTypeRegistry.get(NotificationTypeCode.BOOK_REPORT_DEADLINE_24H_BEFORE))
+                .willReturn(templateOf(type));
+
+        List<NotificationBatch> batches = List.of(
+                new NotificationBatch(List.of(1L, 2L), Map.of("meetingId", "100", "meetingTitle", "모임 A")),
+                new NotificationBatch(List.of(), Map.of("meetingId", "150", "meetingTitle", "빈 모임")),
+                new NotificationBatch(List.of(3L), Map.of("meetingId", "200", "meetingTitle", "모임 B"))
+        );
+
+        // when
+        int sent = notificationService.createAndSendBatches(
+                NotificationTypeCode.BOOK_REPORT_DEADLINE_24H_BEFORE, batches);
+
+        // then
+        assertThat(sent).isEqualTo(3);
+        then(notificationTypeRegistry).should().get(NotificationTypeCode.BOOK_REPORT_DEADLINE_24H_BEFORE);
+        then(notificationBulkRepository).should().insertForUsers(
+                eq(List.of(1L, 2L)), eq(3L), eq("독후감 마감 24시간 전"), eq("모임 A 독후감을 작성해 주세요."),
+                eq("/users/me/meetings/100"), any(LocalDateTime.class));
+        then(notificationBulkRepository).should().insertForUsers(
+                eq(List.of(3L)), eq(3L), eq("독후감 마감 24시간 전"), eq("모임 B 독후감을 작성해 주세요."),
+                eq("/users/me/meetings/200"), any(LocalDateTime.class));
+        then(notificationBulkRepository).should(never()).insertForUsers(
+                eq(List.of()), any(), any(), any(), any(), any());
+        then(notificationOutboxRepository).should().saveAll(anyList());
+        then(notificationOutboxRelay).should().triggerAfterCommit();
+    }
+
+    @Test
+    @DisplayName("createAndSendBatches: 수신자가 없으면 아무것도 하지 않는다")
+    void createAndSendBatches_noRecipients_doesNothing() {
+        // when
+        int sent = notificationService.createAndSendBatches(
+                NotificationTypeCode.BOOK_REPORT_DEADLINE_24H_BEFORE,
+                List.of(new NotificationBatch(List.of(), Map.of()))
+        );
+
+        // then
+        assertThat(sent).isZero();
+        then(notificationTypeRegistry).should(never()).get(any());
+        then(notificationOutboxRepository).should(never()).saveAll(anyList());
+        then(notificationOutboxRelay).should(never()).triggerAfterCommit();
     }
 
     @Test
@@ -278,18 +348,47 @@ class NotificationServiceTest {
     }
 
     @Test
-    @DisplayName("hasUnread: 읽지 않은 알림 존재 여부를 반환한다")
+    @DisplayName("hasUnread: 읽지 않은 알림 카운터로 존재 여부를 반환한다")
     void hasUnread_success() {
         // given
         Long userId = 1L;
-        given(notificationRepository.existsUnreadByUserIdSince(eq(userId), any(LocalDateTime.class)))
-                .willReturn(true);
+        given(notificationUnreadCounterRepository.findById(userId))
+                .willReturn(Optional.of(createCounter(userId, 2, LocalDateTime.now().minusHours(1))));
 
         // when
         HasUnreadResponse response = notificationService.hasUnread(userId);
 
         // then
         assertThat(response.hasUnread()).isTrue();
+        then(notificationRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("hasUnread: 마지막 알림이 조회 기간 밖이면 false다")
+    void hasUnread_lastNotifiedBeforeWindow_false() {
+        // given
+        Long userId = 1L;
+        given(notificationUnreadCounterRepository.findById(userId))
+                .willReturn(Optional.of(createCounter(userId, 2, LocalDateTime.now().minusDays(4))));
+
+        // when
+        HasUnreadResponse response = notificationService.hasUnread(userId);
+
+        // then
+        assertThat(response.hasUnread()).isFalse();
+    }
+
+    @Test
+    @DisplayName("hasUnread: 카운터가 없으면 false다")
+    void hasUnread_noCounter_false() {
+        // given
+        given(notificationUnreadCounterRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when
+        HasUnreadResponse response = notificationService.hasUnread(1L);
+
+        // then
+        assertThat(response.hasUnread()).isFalse();
     }
 
     @Test
@@ -315,6 +414,7 @@ class NotificationServiceTest {
                 .message("Message")
                 .build();
         ReflectionTestUtils.setField(notification, "id", notificationId);
+        ReflectionTestUtils.setField(notification, "createdAt", LocalDateTime.now().minusHours(1));
 
         given(notificationRepository.findById(notificationId)).willReturn(Optional.of(notification));
 
@@ -324,6 +424,42 @@ class NotificationServiceTest {
         // then
         assertThat(notification.isRead()).isTrue();
         assertThat(notification.getReadAt()).isNotNull();
+        then(notificationUnreadCounterRepository).should().decrement(userId);
+    }
+
+    @Test
+    @DisplayName("markAsRead: 조회 기간 밖의 알림은 카운터를 줄이지 않는다")
+    void markAsRead_outsideRecentWindow_keepsCounter() {
+        // given
+        Long userId = 1L;
+        Long notificationId = 100L;
+
+        User user = User.builder().nickname("testUser").build();
+        ReflectionTestUtils.setField(user, "id", userId);
+
+        NotificationType type = NotificationType.builder()
+                .code(NotificationTypeCode.BOOK_REPORT_CHECKED)
+                .title("Title")
+                .messageTemplate("Message")
+                .build();
+
+        Notification notification = Notification.builder()
+                .user(user)
+                .type(type)
+                .title("Title")
+                .message("Message")
+                .build();
+        ReflectionTestUtils.setField(notification, "id", notificationId);
+        ReflectionTestUtils.setField(notification, "createdAt", LocalDateTime.now().minusDays(4));
+
+        given(notificationRepository.findById(notificationId)).willReturn(Optional.of(notification));
+
+        // when
+        notificationService.markAsRead(userId, notificationId);
+
+        // then
+        assertThat(notification.isRead()).isTrue();
+        then(notificationUnreadCounterRepository).should(never()).decrement(any());
     }
 
     @Test
@@ -373,37 +509,36 @@ class NotificationServiceTest {
     }
 
     @Test
-    @DisplayName("markAllAsRead: 모든 알림을 읽음 처리한다")
+    @DisplayName("markAllAsRead: 한 번의 UPDATE로 읽음 처리하고 카운터를 초기화한다")
     void markAllAsRead_success() {
         // given
         Long userId = 1L;
-        User user = User.builder().nickname("testUser").build();
-        ReflectionTestUtils.setField(user, "id", userId);
-
-        NotificationType type = NotificationType.builder()
-                .code(NotificationTypeCode.BOOK_REPORT_CHECKED)
-                .title("Title")
-                .messageTemplate("Message")
-                .build();
-
-        Notification notification1 = Notification.builder()
-                .user(user).type(type).title("Title").message("Message").build();
-        ReflectionTestUtils.setField(notification1, "id", 1L);
-        ReflectionTestUtils.setField(notification1, "isRead", false);
-
-        Notification notification2 = Notification.builder()
-                .user(user).type(type).title("Title").message("Message").build();
-        ReflectionTestUtils.setField(notification2, "id", 2L);
-        ReflectionTestUtils.setField(notification2, "isRead", false);
-
-        given(notificationRepository.findRecentByUserId(eq(userId), any(LocalDateTime.class)))
-                .willReturn(List.of(notification1, notification2));
 
         // when
         notificationService.markAllAsRead(userId);
 
         // then
-        assertThat(notification1.isRead()).isTrue();
-        assertThat(notification2.isRead()).isTrue();
+        then(notificationRepository).should()
+                .markAllAsReadSince(eq(userId), any(LocalDateTime.class), any(LocalDateTime.class));
+        then(notificationRepository).should(never()).findRecentByUserId(any(), any());
+        then(notificationUnreadCounterRepository).should().reset(userId);
+    }
+
+    private NotificationUnreadCounter createCounter(Long userId, int unreadCount, LocalDateTime lastNotifiedAt) {
+        NotificationUnreadCounter counter = BeanUtils.instantiateClass(NotificationUnreadCounter.class);
+        ReflectionTestUtils.setField(counter, "userId", userId);
+        ReflectionTestUtils.setField(counter, "unreadCount", unreadCount);
+        ReflectionTestUtils.setField(counter, "lastNotifiedAt", lastNotifiedAt);
+        return counter;
+    }
+
+    private NotificationTypeRegistry.NotificationTemplate templateOf(NotificationType type) {
+        return new NotificationTypeRegistry.NotificationTemplate(
+                type.getId(),
+                type.getCode(),
+                type.getTitle(),
+                CompiledTemplate.compile(type.getMessageTemplate()),
+                CompiledTemplate.compile(type.getLinkTemplate())
+        );
     }
 }
@@ -0,0 +1,113 @@
+package com.example.doktoribackend.notification.service;
+
+import com.example.doktoribackend.notification.domain.NotificationType;
+import com.example.doktoribackend.notification.domain.NotificationTypeCode;
+import com.example.doktoribackend.notification.exception.NotificationTypeNotFoundException;
+import com.example.doktoribackend.notification.repository.NotificationTypeRepository;
+import com.example.doktoribackend.notification.service.NotificationTypeRegistry.NotificationTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationTypeRegistryTest {
+
+    @Mock
+    NotificationTypeRepository notificationTypeRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    NotificationTypeRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new NotificationTypeRegistry(notificationTypeRepository, new TemplateRenderer(), transactionManager);
+    }
+
+    private NotificationType createType(Long id, NotificationTypeCode code, String linkTemplate) {
+        NotificationType type = NotificationType.builder()
+                .code(code)
+                .title("제목")
+                .messageTemplate("{meetingTitle} 모임")
+                .linkTemplate(linkTemplate)
+                .build();
+        ReflectionTestUtils.setField(type, "id", id);
+        return type;
+    }
+
+    @Test
+    @DisplayName("적재한 알림 타입은 DB 조회 없이 컴파일된 템플릿으로 렌더링한다")
+    void get_loadedType_rendersWithoutQuery() {
+        // given
+        given(notificationTypeRepository.findAllByDeletedAtIsNull()).willReturn(List.of(
+                createType(1L, NotificationTypeCode.ROUND_START_10M_BEFORE, "/my-meeting/{meetingId}")));
+        given(notificationTypeRepository.findLastUpdatedAt()).willReturn(Optional.of(LocalDateTime.now()));
+        registry.reload();
+
+        // when
+        NotificationTemplate template = registry.get(NotificationTypeCode.ROUND_START_10M_BEFORE);
+
+        // then
+        Map<String, String> parameters = Map.of("meetingTitle", "독서", "meetingId", "3");
+        assertThat(template.typeId()).isEqualTo(1L);
+        assertThat(template.renderMessage(parameters)).isEqualTo("독서 모임");
+        assertThat(template.renderLink(parameters)).isEqualTo("/my-meeting/3");
+        then(notificationTypeRepository).should(never()).findByCodeAndDeletedAtIsNull(any());
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 코드는 DB에서 찾고, 없으면 예외가 발생한다")
+    void get_missingType_fallsBackToRepository() {
+        // given
+        given(notificationTypeRepository.findByCodeAndDeletedAtIsNull(NotificationTypeCode.BOOK_REPORT_CHECKED))
+                .willReturn(Optional.of(createType(2L, NotificationTypeCode.BOOK_REPORT_CHECKED, null)));
+        given(notificationTypeRepository.findByCodeAndDeletedAtIsNull(NotificationTypeCode.ROUND_START_10M_BEFORE))
+                .willReturn(Optional.empty());
+
+        // when
+        NotificationTemplate template = registry.get(NotificationTypeCode.BOOK_REPORT_CHECKED);
+
+        // then
+        assertThat(template.typeId()).isEqualTo(2L);
+        assertThat(template.renderLink(Map.of())).isNull();
+        assertThatThrownBy(() -> registry.get(NotificationTypeCode.ROUND_START_10M_BEFORE))
+                .isInstanceOf(NotificationTypeNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("마지막 수정 시각이 바뀐 경우에만 다시 적재한다")
+    void refreshIfChanged_reloadsOnlyOnChange() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.now();
+        given(notificationTypeRepository.findAllByDeletedAtIsNull()).willReturn(List.of());
+        given(notificationTypeRepository.findLastUpdatedAt()).willReturn(Optional.of(updatedAt));
+        registry.reload();
+
+        // when
+        registry.refreshIfChanged();
+        given(notificationTypeRepository.findLastUpdatedAt()).willReturn(Optional.of(updatedAt.plusSeconds(1)));
+        registry.refreshIfChanged();
+
+        // then
+        then(notificationTypeRepository).should(times(2)).findAllByDeletedAtIsNull();
+    }
+}
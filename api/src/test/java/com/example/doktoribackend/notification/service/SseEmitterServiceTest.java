@@ -2,6 +2,7 @@ package com.example.doktoribackend.notification.service;
 
 import com.example.doktoribackend.notification.domain.NotificationTypeCode;
 import com.example.doktoribackend.notification.dto.SseNotificationEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,16 +10,19 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class SseEmitterServiceTest {
 
     SseEmitterService sseEmitterService;
+    SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
-        sseEmitterService = new SseEmitterService();
+        meterRegistry = new SimpleMeterRegistry();
+        sseEmitterService = new SseEmitterService(meterRegistry);
     }
 
     @Test
@@ -36,8 +40,8 @@ class SseEmitterServiceTest {
     }
 
     @Test
-    @DisplayName("subscribe: 기존 연결이 있으면 완료하고 새 연결을 생성한다")
-    void subscribe_existingConnection_replacesIt() {
+    @DisplayName("subscribe: 기존 연결을 유지한 채 새 연결을 추가한다")
+    void subscribe_existingConnection_keepsBoth() {
         // given
         Long userId = 1L;
         SseEmitter firstEmitter = sseEmitterService.subscribe(userId);
@@ -48,6 +52,26 @@ class SseEmitterServiceTest {
         // then
         assertThat(secondEmitter).isNotNull();
         assertThat(secondEmitter).isNotSameAs(firstEmitter);
+        assertThat(sseEmitterService.connectionCount(userId)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("subscribe: 사용자별 연결 수 상한을 넘으면 가장 오래된 연결을 닫는다")
+    void subscribe_overLimit_closesOldest() {
+        // given
+        Long userId = 1L;
+        for (int i = 0; i < SseEmitterService.MAX_CONNECTIONS_PER_USER; i++) {
+            sseEmitterService.subscribe(userId);
+        }
+
+        // when
+        sseEmitterService.subscribe(userId);
+
+        // then
+        assertThat(sseEmitterService.connectionCount(userId))
+                .isEqualTo(SseEmitterService.MAX_CONNECTIONS_PER_USER);
+        assertThat(meterRegistry.get("notification.sse.connections").gauge().value())
+                .isEqualTo(SseEmitterService.MAX_CONNECTIONS_PER_USER);
     }
 
     @Test
@@ -66,10 +90,11 @@ class SseEmitterServiceTest {
                 LocalDateTime.now()
         );
 
-        // when - 예외 없이 실행되어야 함
+        // when
         sseEmitterService.sendToUser(userId, event);
 
-        // then - 예외가 발생하지 않으면 성공
+        // then - 연결별 큐를 비우는 가상 스레드가 전송한다
+        await(() -> meterRegistry.get("notification.sse.send").timer().count() == 1);
     }
 
     @Test
@@ -111,4 +136,12 @@ class SseEmitterServiceTest {
         // when - 예외 없이 실행되어야 함
         sseEmitterService.sendToUsers(List.of(1L, 2L, 3L), event);
     }
+
+    private void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
 }
@@ -124,4 +124,44 @@ class TemplateRendererTest {
         // then
         assertThat(result).isEqualTo("제목: 책 제목 (특별판) $100");
     }
+
+    @Test
+    @DisplayName("render: 닫히지 않았거나 단어 문자가 아닌 중괄호는 리터럴로 둔다")
+    void render_malformedPlaceholder_keptAsLiteral() {
+        // given
+        String template = "{a{b} {} {c-d} {e";
+        Map<String, String> parameters = Map.of("b", "B", "c-d", "X", "e", "E");
+
+        // when
+        String result = templateRenderer.render(template, parameters);
+
+        // then
+        assertThat(result).isEqualTo("{aB {} {c-d} {e");
+    }
+
+    @Test
+    @DisplayName("render: 연속된 placeholder와 일부 누락을 함께 처리한다")
+    void render_adjacentPlaceholders() {
+        // given
+        String template = "{a}{b}{c}";
+        Map<String, String> parameters = Map.of("a", "1", "c", "3");
+
+        // when
+        String result = templateRenderer.render(template, parameters);
+
+        // then
+        assertThat(result).isEqualTo("1{b}3");
+    }
+
+    @Test
+    @DisplayName("compile: 같은 템플릿은 한 번만 파싱한다")
+    void compile_cachesByTemplate() {
+        // when
+        CompiledTemplate first = templateRenderer.compile("/my-meeting/{meetingId}");
+        CompiledTemplate second = templateRenderer.compile("/my-meeting/{meetingId}");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.render(Map.of("meetingId", "7"))).isEqualTo("/my-meeting/7");
+    }
 }
@@ -0,0 +1,173 @@
+package com.example.doktoribackend.scheduler;
+
+import com.example.doktoribackend.book.domain.Book;
+import com.example.doktoribackend.book.repository.BookRepository;
+import com.example.doktoribackend.common.scheduling.ScheduledJobLock;
+import com.example.doktoribackend.meeting.domain.Meeting;
+import com.example.doktoribackend.meeting.domain.MeetingDayOfWeek;
+import com.example.doktoribackend.meeting.domain.MeetingListView;
+import com.example.doktoribackend.meeting.domain.MeetingRound;
+import com.example.doktoribackend.meeting.domain.MeetingRoundStatus;
+import com.example.doktoribackend.meeting.domain.MeetingStatus;
+import com.example.doktoribackend.meeting.repository.MeetingListViewRepository;
+import com.example.doktoribackend.meeting.repository.MeetingRepository;
+import com.example.doktoribackend.meeting.repository.MeetingRoundRepository;
+import com.example.doktoribackend.meeting.service.MeetingListViewService;
+import com.example.doktoribackend.user.domain.User;
+import com.example.doktoribackend.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willAnswer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("모임/회차 상태 전환 스케줄러")
+class MeetingSchedulerTest {
+
+    @Autowired
+    private MeetingScheduler meetingScheduler;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private MeetingRoundRepository meetingRoundRepository;
+    @Autowired
+    private MeetingListViewRepository meetingListViewRepository;
+    @Autowired
+    private MeetingListViewService meetingListViewService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    // 노드 간 단일 실행은 ScheduledJobLockTest에서 검증하고, 여기서는 lease 없이 바로 실행한다.
+    @MockitoBean
+    private ScheduledJobLock scheduledJobLock;
+
+    private User leader;
+    private Book book;
+    private Long genreId;
+
+    @BeforeEach
+    void setUp() {
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return true;
+        }).given(scheduledJobLock).runExclusively(anyString(), any(), any(), any());
+
+        jdbcTemplate.execute(
+                "INSERT INTO reading_genres (code, name, priority, created_at, updated_at) " +
+                        "VALUES ('SCHEDULER', '테스트장르', 1, NOW(), NOW())"
+        );
+        genreId = jdbcTemplate.queryForObject(
+                "SELECT id FROM reading_genres WHERE code = 'SCHEDULER'", Long.class);
+
+        leader = userRepository.save(new User("모임장", null, null, null));
+        book = bookRepository.save(Book.create(
+                "9788901234560", "테스트 책", "테스트 저자", "테스트 출판사", null, LocalDate.now()));
+    }
+
+    private Meeting createFinishedMeeting(LocalDateTime lastRoundStartAt) {
+        Meeting meeting = meetingRepository.save(Meeting.create(
+                leader, genreId, "소개", "meeting/test.jpg", "모임", "설명",
+                8, 2, MeetingDayOfWeek.MON, LocalTime.of(19, 0), 60,
+                lastRoundStartAt.minusDays(7), LocalDate.now().minusDays(10), 1
+        ));
+        List<MeetingRound> rounds = meetingRoundRepository.saveAll(List.of(
+                MeetingRound.create(meeting, book, 1, lastRoundStartAt.minusDays(7),
+                        lastRoundStartAt.minusDays(7).plusHours(1)),
+                MeetingRound.create(meeting, book, 2, lastRoundStartAt, lastRoundStartAt.plusHours(1))
+        ));
+        meeting.scheduleTransition(rounds);
+        meeting.updateStatusToFinished();
+        meetingListViewService.sync(meeting);
+        entityManager.flush();
+        return meeting;
+    }
+
+    private void runScheduler() {
+        meetingScheduler.advanceMeetingStates();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("마지막 회차 종료 시각이 지난 FINISHED 모임은 CANCELED로 전환된다")
+    void advanceMeetingStates_cancelsCompletedMeeting() {
+        // given
+        Meeting meeting = createFinishedMeeting(LocalDateTime.now().minusDays(1));
+
+        // when
+        runScheduler();
+
+        // then
+        assertThat(meetingRepository.findById(meeting.getId()))
+                .get().extracting(Meeting::getStatus).isEqualTo(MeetingStatus.CANCELED);
+        assertThat(meetingListViewRepository.findById(meeting.getId()))
+                .get().extracting(MeetingListView::getStatus).isEqualTo(MeetingStatus.CANCELED);
+        assertThat(meetingRoundRepository.findByMeetingIdWithBook(meeting.getId()))
+                .extracting(MeetingRound::getStatus)
+                .containsOnly(MeetingRoundStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("남은 회차가 있으면 지난 회차만 DONE으로 바꾸고 모임은 FINISHED로 유지한다")
+    void advanceMeetingStates_keepsMeetingWithRemainingRounds() {
+        // given
+        Meeting meeting = createFinishedMeeting(LocalDateTime.now().plusDays(1));
+
+        // when
+        runScheduler();
+
+        // then
+        assertThat(meetingRepository.findById(meeting.getId()))
+                .get().extracting(Meeting::getStatus).isEqualTo(MeetingStatus.FINISHED);
+        assertThat(meetingRoundRepository.findByMeetingIdWithBook(meeting.getId()))
+                .extracting(MeetingRound::getStatus)
+                .containsExactly(MeetingRoundStatus.DONE, MeetingRoundStatus.SCHEDULED);
+    }
+
+    @Test
+    @DisplayName("회차가 없는 FINISHED 모임도 CANCELED로 전환된다")
+    void advanceMeetingStates_cancelsMeetingWithoutRounds() {
+        // given
+        Meeting meeting = meetingRepository.save(Meeting.create(
+                leader, genreId, "소개", "meeting/test.jpg", "모임", "설명",
+                8, 2, MeetingDayOfWeek.MON, LocalTime.of(19, 0), 60,
+                LocalDateTime.now().minusDays(7), LocalDate.now().minusDays(10), 1
+        ));
+        meeting.scheduleTransition(List.of());
+        meeting.updateStatusToFinished();
+        meetingListViewService.sync(meeting);
+        entityManager.flush();
+
+        // when
+        runScheduler();
+
+        // then
+        assertThat(meetingRepository.findById(meeting.getId()))
+                .get().extracting(Meeting::getStatus).isEqualTo(MeetingStatus.CANCELED);
+        assertThat(meetingListViewRepository.findById(meeting.getId()))
+                .get().extracting(MeetingListView::getStatus).isEqualTo(MeetingStatus.CANCELED);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.doktoribackend.user.service;
 
 import com.example.doktoribackend.exception.UserNotFoundException;
 import com.example.doktoribackend.common.s3.ImageUrlResolver;
+import com.example.doktoribackend.meeting.service.MeetingListViewService;
 import com.example.doktoribackend.s3.service.FileService;
 import com.example.doktoribackend.user.domain.User;
 import com.example.doktoribackend.user.dto.UpdateUserProfileRequest;
@@ -40,6 +41,9 @@ class UserServiceTest {
     @Mock
     FileService fileService;
 
+    @Mock
+    MeetingListViewService meetingListViewService;
+
     @InjectMocks
     UserService userService;
 
@@ -150,6 +154,7 @@ class UserServiceTest {
         then(userRepository).should().findByIdAndDeletedAtIsNull(5L);
         then(fileService).should().deleteImageIfChanged("images/profiles/old.png", "images/profiles/new.png");
         then(imageUrlResolver).should().toUrl("images/profiles/new.png");
+        then(meetingListViewService).should().syncLeaderNickname(5L, "newNick");
     }
 
     @Test
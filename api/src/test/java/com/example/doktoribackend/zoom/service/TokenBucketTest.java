@@ -0,0 +1,66 @@
+package com.example.doktoribackend.zoom.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("burst만큼은 바로 쓰고, 그 뒤로는 다음 토큰까지 기다릴 시간을 알려준다")
+    void burstThenWait() {
+        // given
+        TokenBucket bucket = new TokenBucket(10, 3, clock::get);
+
+        // when & then
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 속도만큼 채워지고 burst를 넘지 않는다")
+    void refillsUpToBurst() {
+        // given
+        TokenBucket bucket = new TokenBucket(10, 2, clock::get);
+        bucket.tryAcquire();
+        bucket.tryAcquire();
+
+        // when
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+
+        // then
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isPositive();
+    }
+
+    @Test
+    @DisplayName("deadline 전에 토큰을 얻을 수 없으면 기다리지 않고 false를 반환한다")
+    void acquire_beforeDeadlineOnly() throws InterruptedException {
+        // given
+        TokenBucket bucket = new TokenBucket(1, 1, clock::get);
+        bucket.tryAcquire();
+
+        // when
+        boolean acquired = bucket.acquire(clock.get() + TimeUnit.MILLISECONDS.toNanos(500));
+
+        // then
+        assertThat(acquired).isFalse();
+    }
+
+    @Test
+    @DisplayName("속도나 burst가 0 이하이면 만들 수 없다")
+    void invalidArguments() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.doktoribackend.zoom.service;
+
+import com.example.doktoribackend.config.ZoomConfig;
+import com.example.doktoribackend.meeting.domain.Meeting;
+import com.example.doktoribackend.meeting.domain.MeetingRound;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Zoom 링크 동시 생성 - 로컬 스텁 Zoom 서버")
+class ZoomLinkProvisionerTest {
+
+    private static final long STUB_LATENCY_MILLIS = 100;
+    private static final Pattern TOPIC = Pattern.compile("\"topic\"\\s*:\\s*\"([^\"]+)\"");
+
+    @Mock
+    private ZoomLinkUpdateService zoomLinkUpdateService;
+
+    private HttpServer server;
+    private ZoomService zoomService;
+    private final List<Long> requestNanos = new CopyOnWriteArrayList<>();
+    private final List<String> createdTopics = new CopyOnWriteArrayList<>();
+    private final Set<String> rateLimitedOnce = ConcurrentHashMap.newKeySet();
+    private volatile boolean rateLimitFirstAttempt = false;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/oauth/token", exchange ->
+                respond(exchange, 200, "{\"access_token\":\"stub-token\",\"expires_in\":3600}"));
+        server.createContext("/v2/users/me/meetings", this::createMeeting);
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        ZoomConfig zoomConfig = new ZoomConfig(
+                "account", "client", "secret", baseUrl + "/v2", baseUrl + "/oauth/token");
+        zoomService = new ZoomService(zoomConfig, new ZoomTokenManager(
+                zoomConfig, new SimpleMeterRegistry(), Duration.ofSeconds(60), Duration.ofMinutes(5)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void createMeeting(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        Matcher matcher = TOPIC.matcher(body);
+        String topic = matcher.find() ? matcher.group(1) : "unknown";
+
+        if (rateLimitFirstAttempt && rateLimitedOnce.add(topic)) {
+            respond(exchange, 429, "{\"code\":429,\"message\":\"Too Many Requests\"}");
+            return;
+        }
+
+        requestNanos.add(System.nanoTime());
+        try {
+            Thread.sleep(STUB_LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        createdTopics.add(topic);
+        respond(exchange, 201, "{\"join_url\":\"https://zoom.us/j/" + createdTopics.size() + "\"}");
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 생성하되 토큰 버킷 한도를 넘지 않는다")
+    void provision_concurrentWithinRateLimit() {
+        // given
+        int requestsPerSecond = 40;
+        int burst = 5;
+        ZoomLinkProvisioner provisioner = provisioner(requestsPerSecond, burst, 8);
+        List<MeetingRound> rounds = rounds(80);
+        AtomicInteger notified = new AtomicInteger();
+
+        // when
+        long start = System.nanoTime();
+        ZoomLinkProvisioner.Result result = provisioner.provision(rounds, deadlineAfterSeconds(30),
+                round -> notified.incrementAndGet());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(80);
+        assertThat(result.unprocessed()).isZero();
+        assertThat(notified).hasValue(80);
+        // 한 번에 하나씩 보내면 80 * 100ms = 8초 이상 걸린다.
+        assertThat(elapsedMillis).isLessThan(5_000);
+        assertThat(maxRequestsInAnySecond()).isLessThanOrEqualTo(requestsPerSecond + burst);
+    }
+
+    @Test
+    @DisplayName("클러스터 한도를 노드 수로 나눈 속도로 생성한다")
+    void provision_splitsRateAcrossNodes() {
+        // given
+        ZoomLinkProvisioner provisioner = provisioner(40, 4, 4, 8);
+        List<MeetingRound> rounds = rounds(20);
+
+        // when
+        ZoomLinkProvisioner.Result result = provisioner.provision(rounds, deadlineAfterSeconds(1), round -> { });
+
+        // then
+        // 노드당 초당 10건, burst 1건
+        assertThat(result.succeeded()).isLessThanOrEqualTo(11);
+        assertThat(maxRequestsInAnySecond()).isLessThanOrEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("429 응답은 백오프 후 재시도해 생성한다")
+    void provision_retriesRateLimitedRequests() {
+        // given
+        rateLimitFirstAttempt = true;
+        ZoomLinkProvisioner provisioner = provisioner(100, 10, 4);
+        List<MeetingRound> rounds = rounds(10);
+
+        // when
+        ZoomLinkProvisioner.Result result = provisioner.provision(rounds, deadlineAfterSeconds(30), round -> { });
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(10);
+        assertThat(rateLimitedOnce).hasSize(10);
+        assertThat(createdTopics).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("시작 시각이 이른 회차부터 생성한다")
+    void provision_earliestStartFirst() {
+        // given
+        ZoomLinkProvisioner provisioner = provisioner(100, 10, 1);
+        List<MeetingRound> rounds = new ArrayList<>(rounds(5));
+        Collections.reverse(rounds);
+
+        // when
+        provisioner.provision(rounds, deadlineAfterSeconds(30), round -> { });
+
+        // then
+        assertThat(createdTopics).containsExactly(
+                "모임 - 1회차", "모임 - 2회차", "모임 - 3회차", "모임 - 4회차", "모임 - 5회차");
+    }
+
+    @Test
+    @DisplayName("실행 시간을 넘기면 남은 회차는 다음 실행으로 넘긴다")
+    void provision_stopsAtDeadline() {
+        // given
+        ZoomLinkProvisioner provisioner = provisioner(2, 1, 2);
+        List<MeetingRound> rounds = rounds(20);
+
+        // when
+        ZoomLinkProvisioner.Result result = provisioner.provision(rounds, deadlineAfterSeconds(1), round -> { });
+
+        // then
+        assertThat(result.succeeded()).isBetween(1, 4);
+        assertThat(result.succeeded() + result.failed() + result.unprocessed()).isEqualTo(20);
+    }
+
+    private ZoomLinkProvisioner provisioner(double requestsPerSecond, int burst, int concurrency) {
+        return provisioner(requestsPerSecond, burst, 1, concurrency);
+    }
+
+    private ZoomLinkProvisioner provisioner(double requestsPerSecond, int burst, int nodes, int concurrency) {
+        return new ZoomLinkProvisioner(zoomService, zoomLinkUpdateService, new SimpleMeterRegistry(),
+                requestsPerSecond, burst, nodes, concurrency, 3, Duration.ofMillis(20));
+    }
+
+    private long deadlineAfterSeconds(long seconds) {
+        return System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    private int maxRequestsInAnySecond() {
+        List<Long> sorted = requestNanos.stream().sorted().toList();
+        int max = 0;
+        int from = 0;
+        for (int to = 0; to < sorted.size(); to++) {
+            while (sorted.get(to) - sorted.get(from) >= TimeUnit.SECONDS.toNanos(1)) {
+                from++;
+            }
+            max = Math.max(max, to - from + 1);
+        }
+        return max;
+    }
+
+    private List<MeetingRound> rounds(int count) {
+        Meeting meeting = mock(Meeting.class);
+        given(meeting.getTitle()).willReturn("모임");
+        LocalDateTime base = LocalDateTime.now().plusMinutes(30);
+
+        List<MeetingRound> rounds = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            MeetingRound round = mock(MeetingRound.class);
+            given(round.getId()).willReturn((long) i);
+            given(round.getMeeting()).willReturn(meeting);
+            given(round.getRoundNo()).willReturn(i);
+            given(round.getStartAt()).willReturn(base.plusMinutes(i));
+            rounds.add(round);
+        }
+        return rounds;
+    }
+}
@@ -1,30 +1,38 @@
 package com.example.doktoribackend.zoom.service;
 
+import com.example.doktoribackend.common.scheduling.ScheduledJobLock;
+import com.example.doktoribackend.common.scheduling.Shard;
 import com.example.doktoribackend.meeting.domain.Meeting;
 import com.example.doktoribackend.meeting.domain.MeetingRound;
 import com.example.doktoribackend.meeting.repository.MeetingMemberRepository;
 import com.example.doktoribackend.meeting.repository.MeetingRoundRepository;
 import com.example.doktoribackend.notification.domain.NotificationTypeCode;
 import com.example.doktoribackend.notification.service.NotificationService;
+import com.example.doktoribackend.zoom.exception.ZoomApiException;
 import com.example.doktoribackend.zoom.exception.ZoomAuthenticationException;
 import com.example.doktoribackend.zoom.exception.ZoomRetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,9 +54,32 @@ class ZoomLinkSchedulerServiceTest {
     @Mock
     private NotificationService notificationService;
 
-    @InjectMocks
+    @Mock
+    private ScheduledJobLock scheduledJobLock;
+
     private ZoomLinkSchedulerService schedulerService;
 
+    @BeforeEach
+    void setUp() {
+        // 워커 하나로 순서를 고정하고, 재시도 백오프는 짧게 둔다.
+        ZoomLinkProvisioner provisioner = new ZoomLinkProvisioner(
+                zoomService, zoomLinkUpdateService, new SimpleMeterRegistry(),
+                1_000, 100, 1, 1, 3, Duration.ofMillis(1));
+        schedulerService = new ZoomLinkSchedulerService(
+                meetingRoundRepository, meetingMemberRepository, provisioner,
+                notificationService, scheduledJobLock, Duration.ofMinutes(60));
+
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return true;
+        }).given(scheduledJobLock).runExclusively(anyString(), any(), any(), any());
+        // 샤드 하나로 모든 회차를 이 노드가 처리한다.
+        willAnswer(invocation -> {
+            invocation.<Consumer<Shard>>getArgument(4).accept(new Shard(0, 1));
+            return 1;
+        }).given(scheduledJobLock).runSharded(anyString(), anyInt(), any(), any(), any());
+    }
+
     @Nested
     @DisplayName("정상 케이스 테스트")
     class NormalCases {
@@ -97,6 +128,32 @@ class ZoomLinkSchedulerServiceTest {
             verify(notificationService, never()).createAndSendBatch(anyList(), any(), anyMap());
         }
 
+        @Test
+        @DisplayName("이 노드가 잡은 샤드의 회차만 처리한다")
+        void createZoomLink_ProcessesOnlyAcquiredShard() {
+            // given
+            willAnswer(invocation -> {
+                invocation.<Consumer<Shard>>getArgument(4).accept(new Shard(0, 2));
+                return 1;
+            }).given(scheduledJobLock).runSharded(anyString(), anyInt(), any(), any(), any());
+
+            MeetingRound mockRound = createMockMeetingRound(100L, 1, null, LocalDateTime.now().plusMinutes(5));
+            given(meetingRoundRepository.findMeetingRoundIdsForZoomLinkCreation(anyList(), any(), any()))
+                    .willReturn(List.of(100L, 101L));
+            given(meetingRoundRepository.findByIdsWithMeeting(List.of(100L)))
+                    .willReturn(List.of(mockRound));
+            given(zoomService.createMeeting(anyString(), any(), anyInt()))
+                    .willReturn("https://zoom.us/j/100");
+
+            // when
+            schedulerService.createZoomLinksForUpcomingMeetings();
+
+            // then
+            verify(meetingRoundRepository, times(1)).findByIdsWithMeeting(List.of(100L));
+            verify(zoomLinkUpdateService, times(1)).saveMeetingLink(100L, "https://zoom.us/j/100");
+            verify(zoomLinkUpdateService, never()).saveMeetingLink(eq(101L), anyString());
+        }
+
         @Test
         @DisplayName("이미 meetingLink가 존재하는 경우 스킵")
         void createZoomLink_SkipIfLinkExists() {
@@ -122,8 +179,8 @@ class ZoomLinkSchedulerServiceTest {
     class RetryOnNextExecutionTests {
 
         @Test
-        @DisplayName("실패 시 1회만 시도하고 종료 - 알림도 미발송")
-        void createZoomLink_FailOnce_NoNotification() {
+        @DisplayName("재시도 가능한 오류가 계속되면 최대 횟수만큼 시도하고 종료 - 알림도 미발송")
+        void createZoomLink_RetryableFailure_GivesUpAfterMaxAttempts() {
             // given
             MeetingRound mockMeetingRound = createMockMeetingRound(100L, 1, null, LocalDateTime.now().plusMinutes(5));
 
@@ -138,10 +195,32 @@ class ZoomLinkSchedulerServiceTest {
             schedulerService.createZoomLinksForUpcomingMeetings();
 
             // then
-            verify(zoomService, times(1)).createMeeting(anyString(), any(), eq(30));
+            verify(zoomService, times(3)).createMeeting(anyString(), any(), eq(30));
             verify(zoomLinkUpdateService, never()).saveMeetingLink(anyLong(), anyString());
             verify(notificationService, never()).createAndSendBatch(anyList(), any(), anyMap());
         }
+
+        @Test
+        @DisplayName("재시도 가능한 오류 후 재시도에서 성공하면 링크를 저장한다")
+        void createZoomLink_RetryableFailure_SucceedsOnRetry() {
+            // given
+            MeetingRound mockMeetingRound = createMockMeetingRound(100L, 1, null, LocalDateTime.now().plusMinutes(5));
+
+            given(meetingRoundRepository.findMeetingRoundIdsForZoomLinkCreation(anyList(), any(), any()))
+                    .willReturn(List.of(100L));
+            given(meetingRoundRepository.findByIdsWithMeeting(anyList()))
+                    .willReturn(List.of(mockMeetingRound));
+            given(zoomService.createMeeting(anyString(), any(), anyInt()))
+                    .willThrow(new ZoomRetryableException("Rate Limit"))
+                    .willReturn("https://zoom.us/j/100");
+
+            // when
+            schedulerService.createZoomLinksForUpcomingMeetings();
+
+            // then
+            verify(zoomService, times(2)).createMeeting(anyString(), any(), eq(30));
+            verify(zoomLinkUpdateService, times(1)).saveMeetingLink(100L, "https://zoom.us/j/100");
+        }
     }
 
     @Nested
@@ -216,7 +295,7 @@ class ZoomLinkSchedulerServiceTest {
                     .willReturn(Arrays.asList(mockRound1, mockRound2, mockRound3));
             given(zoomService.createMeeting(anyString(), any(), anyInt()))
                     .willReturn("https://zoom.us/j/1")
-                    .willThrow(new ZoomRetryableException("Failed"))
+                    .willThrow(new ZoomApiException("Failed"))
                     .willReturn("https://zoom.us/j/3");
             given(meetingMemberRepository.findApprovedMemberUserIds(1L))
                     .willReturn(List.of(10L, 20L));
@@ -232,6 +311,79 @@ class ZoomLinkSchedulerServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("미리 생성 / 시작 알림 테스트")
+    class PreProvisioningTests {
+
+        @Test
+        @DisplayName("시작까지 10분 넘게 남은 회차는 링크만 미리 만들고 알림은 보내지 않는다")
+        void createZoomLink_FarAhead_NoNotificationYet() {
+            // given
+            MeetingRound mockMeetingRound = createMockMeetingRound(100L, 1, null, LocalDateTime.now().plusMinutes(45));
+
+            given(meetingRoundRepository.findMeetingRoundIdsForZoomLinkCreation(anyList(), any(), any()))
+                    .willReturn(List.of(100L));
+            given(meetingRoundRepository.findByIdsWithMeeting(anyList()))
+                    .willReturn(List.of(mockMeetingRound));
+            given(zoomService.createMeeting(anyString(), any(), anyInt()))
+                    .willReturn("https://zoom.us/j/100");
+
+            // when
+            schedulerService.createZoomLinksForUpcomingMeetings();
+
+            // then
+            verify(zoomLinkUpdateService, times(1)).saveMeetingLink(100L, "https://zoom.us/j/100");
+            verify(notificationService, never()).createAndSendBatch(anyList(), any(), anyMap());
+        }
+
+        @Test
+        @DisplayName("링크가 있는 회차가 10분 전 구간에 들어오면 시작 알림을 보낸다")
+        void roundWithLink_EntersNotifyWindow_SendsNotification() {
+            // given
+            MeetingRound mockMeetingRound = createMockMeetingRound(
+                    100L, 1, "https://zoom.us/j/100", LocalDateTime.now().plusMinutes(10));
+
+            given(meetingRoundRepository.findRoundsWithLinkStartingBetween(anyList(), any(), any()))
+                    .willReturn(List.of(mockMeetingRound));
+            given(meetingRoundRepository.findMeetingRoundIdsForZoomLinkCreation(anyList(), any(), any()))
+                    .willReturn(Collections.emptyList());
+            given(meetingMemberRepository.findApprovedMemberUserIds(1L))
+                    .willReturn(List.of(10L, 20L));
+
+            // when
+            schedulerService.createZoomLinksForUpcomingMeetings();
+
+            // then
+            verify(zoomService, never()).createMeeting(anyString(), any(), anyInt());
+            verify(notificationService, times(1)).createAndSendBatch(
+                    eq(List.of(10L, 20L)), eq(NotificationTypeCode.ROUND_START_10M_BEFORE), anyMap());
+        }
+
+        @Test
+        @DisplayName("시작 시각이 이른 회차부터 링크를 만든다")
+        void createZoomLink_EarliestStartFirst() {
+            // given
+            LocalDateTime base = LocalDateTime.now();
+            MeetingRound later = createMockMeetingRound(101L, 2, null, base.plusMinutes(50));
+            MeetingRound sooner = createMockMeetingRound(102L, 1, null, base.plusMinutes(20));
+
+            given(meetingRoundRepository.findMeetingRoundIdsForZoomLinkCreation(anyList(), any(), any()))
+                    .willReturn(List.of(101L, 102L));
+            given(meetingRoundRepository.findByIdsWithMeeting(anyList()))
+                    .willReturn(List.of(later, sooner));
+            given(zoomService.createMeeting(anyString(), any(), anyInt()))
+                    .willReturn("https://zoom.us/j/1");
+
+            // when
+            schedulerService.createZoomLinksForUpcomingMeetings();
+
+            // then
+            InOrder inOrder = inOrder(zoomLinkUpdateService);
+            inOrder.verify(zoomLinkUpdateService).saveMeetingLink(eq(102L), anyString());
+            inOrder.verify(zoomLinkUpdateService).saveMeetingLink(eq(101L), anyString());
+        }
+    }
+
     @Nested
     @DisplayName("엣지 케이스 테스트")
     class EdgeCaseTests {
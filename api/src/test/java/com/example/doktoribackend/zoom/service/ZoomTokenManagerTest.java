@@ -0,0 +1,230 @@
+package com.example.doktoribackend.zoom.service;
+
+import com.example.doktoribackend.config.ZoomConfig;
+import com.example.doktoribackend.zoom.exception.ZoomAuthenticationException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Zoom Access Token 캐시 - 로컬 스텁 Zoom 서버")
+class ZoomTokenManagerTest {
+
+    private HttpServer server;
+    private ZoomConfig zoomConfig;
+    private SimpleMeterRegistry meterRegistry;
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+    private final AtomicInteger meetingRequests = new AtomicInteger();
+    private final Set<String> rejectedTokens = ConcurrentHashMap.newKeySet();
+    private volatile long tokenLatencyMillis = 0;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/oauth/token", this::issueToken);
+        server.createContext("/v2/users/me/meetings", this::createMeeting);
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        zoomConfig = new ZoomConfig("account", "client", "secret", baseUrl + "/v2", baseUrl + "/oauth/token");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void issueToken(HttpExchange exchange) throws IOException {
+        int issued = tokenRequests.incrementAndGet();
+        sleep(tokenLatencyMillis);
+        respond(exchange, 200, "{\"access_token\":\"token-" + issued + "\",\"expires_in\":3600}");
+    }
+
+    private void createMeeting(HttpExchange exchange) throws IOException {
+        meetingRequests.incrementAndGet();
+        String token = exchange.getRequestHeaders().getFirst("Authorization").substring("Bearer ".length());
+        if (rejectedTokens.contains(token)) {
+            respond(exchange, 401, "{\"code\":124,\"message\":\"Invalid access token.\"}");
+            return;
+        }
+        respond(exchange, 201, "{\"join_url\":\"https://zoom.us/j/1\"}");
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Test
+    @DisplayName("만료 전에는 캐시된 토큰을 재사용한다")
+    void getAccessToken_reusesCachedToken() {
+        // given
+        ZoomTokenManager tokenManager = tokenManager(Duration.ofMinutes(5));
+
+        // when
+        List<String> tokens = IntStream.range(0, 5).mapToObj(i -> tokenManager.getAccessToken()).toList();
+
+        // then
+        assertThat(tokens).containsOnly("token-1");
+        assertThat(tokenRequests).hasValue(1);
+        assertThat(meterRegistry.counter("zoom.token.cache", "result", "miss").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("zoom.token.cache", "result", "hit").count()).isEqualTo(4);
+        assertThat(meterRegistry.timer("zoom.token.refresh").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 토큰 발급은 한 번만 한다")
+    void getAccessToken_singleFlight() throws Exception {
+        // given
+        tokenLatencyMillis = 200;
+        ZoomTokenManager tokenManager = tokenManager(Duration.ofMinutes(5));
+        int callers = 50;
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<String> caller = () -> {
+            start.await();
+            return tokenManager.getAccessToken();
+        };
+
+        // when
+        List<String> tokens;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> futures = IntStream.range(0, callers)
+                    .mapToObj(i -> executor.submit(caller))
+                    .toList();
+            start.countDown();
+            tokens = futures.stream().map(this::join).toList();
+        }
+
+        // then
+        assertThat(tokens).hasSize(callers).containsOnly("token-1");
+        assertThat(tokenRequests).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("만료가 가까워지면 기존 토큰을 돌려주면서 백그라운드에서 갱신한다")
+    void getAccessToken_refreshesAheadInBackground() throws InterruptedException {
+        // given
+        // refresh-ahead가 토큰 수명보다 길면 발급 직후부터 갱신 구간이다.
+        ZoomTokenManager tokenManager = tokenManager(Duration.ofHours(2));
+        tokenManager.getAccessToken();
+        tokenLatencyMillis = 200;
+
+        // when
+        String duringRefresh = tokenManager.getAccessToken();
+
+        // then
+        assertThat(duringRefresh).isEqualTo("token-1");
+        String refreshed = awaitTokenOtherThan(tokenManager, "token-1");
+        assertThat(refreshed).isEqualTo("token-2");
+    }
+
+    @Test
+    @DisplayName("거절된 토큰만 무효화한다")
+    void invalidate_onlyRejectedToken() {
+        // given
+        ZoomTokenManager tokenManager = tokenManager(Duration.ofMinutes(5));
+        tokenManager.getAccessToken();
+
+        // when
+        tokenManager.invalidate("token-0");
+        String unchanged = tokenManager.getAccessToken();
+        tokenManager.invalidate("token-1");
+        String reissued = tokenManager.getAccessToken();
+
+        // then
+        assertThat(unchanged).isEqualTo("token-1");
+        assertThat(reissued).isEqualTo("token-2");
+        assertThat(tokenRequests).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("미팅 생성이 401이면 토큰을 새로 받아 한 번 재시도한다")
+    void createMeeting_retriesOnceWithFreshToken() {
+        // given
+        ZoomService zoomService = new ZoomService(zoomConfig, tokenManager(Duration.ofMinutes(5)));
+        zoomService.createMeeting("모임 - 1회차", LocalDateTime.now().plusHours(1), 30);
+        rejectedTokens.add("token-1");
+
+        // when
+        String joinUrl = zoomService.createMeeting("모임 - 2회차", LocalDateTime.now().plusHours(1), 30);
+
+        // then
+        assertThat(joinUrl).isEqualTo("https://zoom.us/j/1");
+        assertThat(tokenRequests).hasValue(2);
+        assertThat(meetingRequests).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("새 토큰으로도 401이면 더 재시도하지 않고 인증 예외를 던진다")
+    void createMeeting_rejectedTwice_throws() {
+        // given
+        ZoomService zoomService = new ZoomService(zoomConfig, tokenManager(Duration.ofMinutes(5)));
+        rejectedTokens.addAll(List.of("token-1", "token-2"));
+
+        // when & then
+        assertThatThrownBy(() -> zoomService.createMeeting("모임 - 1회차", LocalDateTime.now().plusHours(1), 30))
+                .isInstanceOf(ZoomAuthenticationException.class);
+        assertThat(tokenRequests).hasValue(2);
+        assertThat(meetingRequests).hasValue(2);
+    }
+
+    private ZoomTokenManager tokenManager(Duration refreshAhead) {
+        return new ZoomTokenManager(zoomConfig, meterRegistry, Duration.ofSeconds(60), refreshAhead);
+    }
+
+    private String awaitTokenOtherThan(ZoomTokenManager tokenManager, String previous) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            String token = tokenManager.getAccessToken();
+            if (!token.equals(previous)) {
+                return token;
+            }
+            Thread.sleep(20);
+        }
+        return previous;
+    }
+
+    private String join(Future<String> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.doktoribackend.benchmark;
+
+import com.example.doktoribackend.book.dto.BookSearchResponse;
+import com.example.doktoribackend.book.service.BookSearchServiceImpl;
+import com.example.doktoribackend.common.client.KakaoBookClient;
+import com.example.doktoribackend.common.client.KakaoBookResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kakao 도서 검색 결과 한 페이지를 응답으로 바꾸는 비용(저자 합치기, 출간일 파싱, "ISBN10 ISBN13"에서 ISBN 고르기).
+ * Kakao 호출은 미리 만든 응답을 돌려주는 클라이언트로 대신한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookSearchMappingBenchmark {
+
+    @Param({"10", "50"})
+    public int size;
+
+    private BookSearchServiceImpl bookSearchService;
+
+    @Setup
+    public void setUp() {
+        List<KakaoBookResponse.KakaoBookDocument> documents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String suffix = String.format("%02d", i % 100);
+            String isbn10 = "89374604" + suffix;
+            String isbn13 = "97889374604" + suffix;
+            String isbn = switch (i % 3) {
+                case 0 -> isbn10 + " " + isbn13;
+                case 1 -> isbn10;
+                default -> " " + isbn13 + " ";
+            };
+            documents.add(new KakaoBookResponse.KakaoBookDocument(
+                    "데미안 " + i,
+                    List.of("헤르만 헤세", "전영애"),
+                    "민음사",
+                    "https://search1.kakaocdn.net/thumb/" + i + ".jpg",
+                    "2000-12-20T00:00:00.000+09:00",
+                    isbn
+            ));
+        }
+        KakaoBookResponse response = new KakaoBookResponse(
+                new KakaoBookResponse.KakaoBookMeta(size, true), documents);
+
+        KakaoBookClient kakaoBookClient = new KakaoBookClient(null, "http://localhost", "benchmark") {
+            @Override
+            public KakaoBookResponse search(String query, int page, int size) {
+                return response;
+            }
+        };
+        bookSearchService = new BookSearchServiceImpl(kakaoBookClient);
+    }
+
+    @Benchmark
+    public BookSearchResponse search() {
+        return bookSearchService.search("데미안", 1, size);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.doktoribackend.benchmark;
+
+import com.example.doktoribackend.common.s3.ImageUrlResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답마다 이미지 키를 URL로 바꾸고, 요청마다 URL에서 키를 꺼내는 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ImageUrlResolverBenchmark {
+
+    private static final String BASE_URL = "https://doktori-dev-images.s3.ap-northeast-2.amazonaws.com";
+    private static final String KEY = "images/profiles/1024/3f2a9c1e-7b4d-4e8a-9f00-1a2b3c4d5e6f.png";
+    private static final String URL = BASE_URL + "/" + KEY;
+    private static final String EXTERNAL_URL = "https://k.kakaocdn.net/dn/profile/1024.jpg";
+
+    private ImageUrlResolver imageUrlResolver;
+
+    @Setup
+    public void setUp() {
+        imageUrlResolver = new ImageUrlResolver(BASE_URL);
+    }
+
+    @Benchmark
+    public String toUrlFromKey() {
+        return imageUrlResolver.toUrl(KEY);
+    }
+
+    @Benchmark
+    public String toUrlFromExternalUrl() {
+        return imageUrlResolver.toUrl(EXTERNAL_URL);
+    }
+
+    @Benchmark
+    public String extractKeyFromUrl() {
+        return imageUrlResolver.extractKey(URL);
+    }
+
+    @Benchmark
+    public String extractKeyFromKey() {
+        return imageUrlResolver.extractKey(KEY);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.doktoribackend.benchmark;
+
+import com.example.doktoribackend.security.jwt.AccessTokenVerifier;
+import com.example.doktoribackend.security.jwt.JwtAuthenticationFilter;
+import com.example.doktoribackend.security.jwt.JwtPrincipal;
+import com.example.doktoribackend.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 하는 access token 검증: 기존 이중 파싱, 한 번 만든 parser로 한 번 파싱, 검증 캐시 적중, 필터 전체 경로 비교.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-jwt-secret-key-at-least-32-characters-long";
+
+    private String token;
+    private AccessTokenVerifier uncachedVerifier;
+    private AccessTokenVerifier cachedVerifier;
+    private JwtAuthenticationFilter filter;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 30, 1209600, 10000);
+        token = jwtTokenProvider.createAccessToken(1024L, "독서왕");
+        uncachedVerifier = new AccessTokenVerifier(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), 0);
+        cachedVerifier = new AccessTokenVerifier(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), 10000);
+        cachedVerifier.verify(token);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider);
+    }
+
+    @Benchmark
+    public Object legacyDoubleParse() {
+        return legacyParse(token).get("userId", Long.class) + legacyParse(token).get("nickname", String.class);
+    }
+
+    @Benchmark
+    public JwtPrincipal singleParse() {
+        return uncachedVerifier.verify(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal cachedVerify() {
+        return cachedVerifier.verify(token);
+    }
+
+    @Benchmark
+    public Object authenticationFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/meetings");
+        request.setServletPath("/meetings");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    // 변경 전 JwtTokenProvider.parseClaims: 호출마다 키와 parser를 새로 만든다.
+    private static Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
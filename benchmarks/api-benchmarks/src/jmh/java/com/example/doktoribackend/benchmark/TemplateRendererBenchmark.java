@@ -0,0 +1,76 @@
+package com.example.doktoribackend.benchmark;
+
+import com.example.doktoribackend.notification.service.CompiledTemplate;
+import com.example.doktoribackend.notification.service.TemplateRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 알림 템플릿 렌더링: 기존 정규식 치환과 미리 컴파일한 템플릿 비교.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TemplateRendererBenchmark {
+
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{(\\w+)}");
+
+    private static final String MESSAGE_TEMPLATE = "{meetingTitle} 모임의 {roundNo}회차 독후감 마감이 {remaining} 남았어요.";
+    private static final String LINK_TEMPLATE = "/my-meeting/{meetingId}";
+
+    private Map<String, String> parameters;
+    private TemplateRenderer templateRenderer;
+    private CompiledTemplate compiledMessage;
+    private CompiledTemplate compiledLink;
+
+    @Setup
+    public void setUp() {
+        parameters = Map.of(
+                "meetingTitle", "주말 독서 토론",
+                "roundNo", "3",
+                "remaining", "24시간",
+                "meetingId", "1024"
+        );
+        templateRenderer = new TemplateRenderer();
+        compiledMessage = CompiledTemplate.compile(MESSAGE_TEMPLATE);
+        compiledLink = CompiledTemplate.compile(LINK_TEMPLATE);
+    }
+
+    @Benchmark
+    public String regex() {
+        return regexRender(MESSAGE_TEMPLATE, parameters) + regexRender(LINK_TEMPLATE, parameters);
+    }
+
+    @Benchmark
+    public String rendererWithCache() {
+        return templateRenderer.render(MESSAGE_TEMPLATE, parameters) + templateRenderer.render(LINK_TEMPLATE, parameters);
+    }
+
+    @Benchmark
+    public String compiled() {
+        return compiledMessage.render(parameters) + compiledLink.render(parameters);
+    }
+
+    // 변경 전 TemplateRenderer.render
+    private static String regexRender(String template, Map<String, String> parameters) {
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(template);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String key = matcher.group(1);
+            String replacement = parameters.getOrDefault(key, matcher.group(0));
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.doktoribackend.benchmark;
+
+import com.example.doktoribackend.message.domain.MessageType;
+import com.example.doktoribackend.message.dto.MessageResponse;
+import com.example.doktoribackend.room.domain.MemberRole;
+import com.example.doktoribackend.room.domain.Position;
+import com.example.doktoribackend.room.dto.WaitingRoomMemberItem;
+import com.example.doktoribackend.room.dto.WaitingRoomResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 채팅 메시지와 대기실 응답의 JSON 직렬화 비용. ObjectMapper는 Spring Boot 기본 설정과 같은 빌더로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private MessageResponse messageResponse;
+    private WaitingRoomResponse waitingRoomResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        messageResponse = new MessageResponse(
+                1024L,
+                7L,
+                "독서왕",
+                MessageType.TEXT,
+                "데미안에서 새는 알을 깨고 나온다는 문장이 가장 기억에 남아요.",
+                null,
+                LocalDateTime.of(2026, 3, 14, 20, 30, 15)
+        );
+        List<WaitingRoomMemberItem> members = IntStream.range(0, 8)
+                .mapToObj(i -> new WaitingRoomMemberItem(
+                        "참여자" + i,
+                        "https://doktori-dev-images.s3.ap-northeast-2.amazonaws.com/images/profiles/" + i + ".png",
+                        i % 2 == 0 ? Position.AGREE : Position.DISAGREE,
+                        i == 0 ? MemberRole.HOST : MemberRole.PARTICIPANT))
+                .toList();
+        waitingRoomResponse = new WaitingRoomResponse(1L, 4, 4, 4, members);
+    }
+
+    @Benchmark
+    public String messageResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(messageResponse);
+    }
+
+    @Benchmark
+    public String waitingRoomResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(waitingRoomResponse);
+    }
+}
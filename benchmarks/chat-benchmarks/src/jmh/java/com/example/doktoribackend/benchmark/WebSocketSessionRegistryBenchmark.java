@@ -0,0 +1,68 @@
+package com.example.doktoribackend.benchmark;
+
+import com.example.doktoribackend.config.ClusterMessageBus;
+import com.example.doktoribackend.config.WebSocketSessionRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 여러 스레드가 같은 채팅방에 세션을 등록/해제할 때의 경합 비용. 클러스터 버스는 아무것도 하지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class WebSocketSessionRegistryBenchmark {
+
+    private static final Long ROOM_ID = 1L;
+
+    private final AtomicLong nextUserId = new AtomicLong();
+    private WebSocketSessionRegistry registry;
+
+    @Setup
+    public void setUp() {
+        registry = new WebSocketSessionRegistry(new NoOpClusterMessageBus(), Duration.ofSeconds(30));
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+
+        private Long userId;
+        private String sessionId;
+
+        @Setup
+        public void setUp(WebSocketSessionRegistryBenchmark benchmark) {
+            userId = benchmark.nextUserId.incrementAndGet();
+            sessionId = "session-" + userId;
+        }
+    }
+
+    @Benchmark
+    public Optional<WebSocketSessionRegistry.SessionInfo> registerAndUnregister(Session session) {
+        registry.register(session.sessionId, session.userId, ROOM_ID);
+        return registry.unregister(session.sessionId);
+    }
+
+    private static final class NoOpClusterMessageBus implements ClusterMessageBus {
+
+        @Override
+        public void publish(String channel, Object payload) {
+        }
+
+        @Override
+        public <T> void subscribe(String channel, Class<T> payloadType, Consumer<T> handler) {
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.doktoribackend.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * STOMP 브로커 설정.
+ * simple은 JVM 내장 브로커(단일 노드), relay는 외부 STOMP 브로커로 중계해 여러 채팅 노드가 같은 토픽을 공유한다.
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "chat.broker")
+public class ChatBrokerProperties {
+
+    private final BrokerType type;
+    private final Relay relay;
+
+    public boolean isRelay() {
+        return type == BrokerType.RELAY;
+    }
+
+    public enum BrokerType {
+        SIMPLE, RELAY
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Relay {
+
+        private final String host;
+        private final int port;
+        private final String login;
+        private final String passcode;
+        private final String virtualHost;
+    }
+}
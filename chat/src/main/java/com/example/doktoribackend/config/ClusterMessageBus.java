@@ -0,0 +1,16 @@
+package com.example.doktoribackend.config;
+
+import java.util.function.Consumer;
+
+/**
+ * 채팅 노드 간 이벤트 전달 통로.
+ * 발행한 노드 자신을 포함해 해당 채널을 구독한 모든 노드의 핸들러가 이벤트를 받는다.
+ */
+public interface ClusterMessageBus {
+
+    String DESTINATION_PREFIX = "/topic/cluster.";
+
+    void publish(String channel, Object payload);
+
+    <T> void subscribe(String channel, Class<T> payloadType, Consumer<T> handler);
+}
@@ -0,0 +1,43 @@
+package com.example.doktoribackend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * simple 브로커용 구현. 같은 JVM 안의 구독자에게 호출 스레드에서 바로 전달한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.type", havingValue = "simple", matchIfMissing = true)
+public class LocalClusterMessageBus implements ClusterMessageBus {
+
+    private final Map<String, List<Consumer<Object>>> handlers = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String channel, Object payload) {
+        List<Consumer<Object>> channelHandlers = handlers.get(channel);
+        if (channelHandlers == null) {
+            return;
+        }
+        for (Consumer<Object> handler : channelHandlers) {
+            try {
+                handler.accept(payload);
+            } catch (Exception e) {
+                log.error("[Cluster] 이벤트 처리 실패 - channel: {}", channel, e);
+            }
+        }
+    }
+
+    @Override
+    public <T> void subscribe(String channel, Class<T> payloadType, Consumer<T> handler) {
+        handlers.computeIfAbsent(channel, k -> new CopyOnWriteArrayList<>())
+                .add(payload -> handler.accept(payloadType.cast(payload)));
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.doktoribackend.config;
 
 import com.example.doktoribackend.security.CustomUserDetails;
+import com.example.doktoribackend.security.jwt.JwtPrincipal;
 import com.example.doktoribackend.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,7 +32,13 @@ public class StompChannelInterceptor implements ChannelInterceptor {
         StompHeaderAccessor accessor =
                 MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
 
-        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+        if (accessor == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() != StompCommand.CONNECT) {
+            // 클라이언트는 클러스터 내부 채널을 구독하거나 그곳으로 보낼 수 없다(SEND, SUBSCRIBE 등 모든 프레임).
+            rejectInternalDestination(accessor);
             return message;
         }
 
@@ -45,10 +52,9 @@ public class StompChannelInterceptor implements ChannelInterceptor {
             }
 
             String token = authHeader.substring(BEARER_PREFIX.length());
-            Long userId = jwtTokenProvider.getUserIdFromAccessToken(token);
-            String nickname = jwtTokenProvider.getNicknameFromAccessToken(token);
+            JwtPrincipal principal = jwtTokenProvider.verifyAccessToken(token);
 
-            CustomUserDetails userDetails = CustomUserDetails.of(userId, nickname);
+            CustomUserDetails userDetails = CustomUserDetails.of(principal.userId(), principal.nickname());
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
                             userDetails, null, userDetails.getAuthorities());
@@ -63,4 +69,13 @@ public class StompChannelInterceptor implements ChannelInterceptor {
             throw new MessageDeliveryException("인증에 실패했습니다: " + ex.getMessage());
         }
     }
+
+    private void rejectInternalDestination(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination != null && destination.startsWith(ClusterMessageBus.DESTINATION_PREFIX)) {
+            log.warn("[WebSocket] 내부 채널 접근 거부 - sessionId: {}, command: {}, destination: {}",
+                    accessor.getSessionId(), accessor.getCommand(), destination);
+            throw new MessageDeliveryException("접근할 수 없는 경로입니다.");
+        }
+    }
 }
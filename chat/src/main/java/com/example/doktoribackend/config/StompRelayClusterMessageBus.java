@@ -0,0 +1,184 @@
+package com.example.doktoribackend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.ReactorNettyTcpStompClient;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * relay 브로커용 구현.
+ * 발행은 브로커 relay의 system 세션을 그대로 사용하고, 수신은 노드마다 외부 브로커에 별도 STOMP 세션을 열어 구독한다.
+ * 연결이 끊기면 일정 간격으로 재연결하고 등록된 채널을 다시 구독한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.type", havingValue = "relay")
+public class StompRelayClusterMessageBus implements ClusterMessageBus {
+
+    private static final long RECONNECT_DELAY_SECONDS = 5;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ReactorNettyTcpStompClient stompClient;
+    private final StompHeaders connectHeaders = new StompHeaders();
+
+    private final List<ChannelSubscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean reconnectScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService reconnectExecutor =
+            Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "cluster-bus-reconnect");
+                t.setDaemon(true);
+                return t;
+            });
+
+    private volatile StompSession session;
+    private volatile boolean running;
+
+    public StompRelayClusterMessageBus(ChatBrokerProperties brokerProperties,
+                                       SimpMessagingTemplate messagingTemplate,
+                                       ObjectMapper objectMapper,
+                                       @Qualifier("heartbeatScheduler") TaskScheduler heartbeatScheduler) {
+        this.messagingTemplate = messagingTemplate;
+
+        ChatBrokerProperties.Relay relay = brokerProperties.getRelay();
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        this.stompClient = new ReactorNettyTcpStompClient(relay.getHost(), relay.getPort());
+        this.stompClient.setMessageConverter(converter);
+        this.stompClient.setTaskScheduler(heartbeatScheduler);
+
+        connectHeaders.setLogin(relay.getLogin());
+        connectHeaders.setPasscode(relay.getPasscode());
+        if (StringUtils.hasText(relay.getVirtualHost())) {
+            connectHeaders.setHost(relay.getVirtualHost());
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        connect();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        reconnectExecutor.shutdownNow();
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            current.disconnect();
+        }
+        stompClient.shutdown();
+    }
+
+    @Override
+    public void publish(String channel, Object payload) {
+        messagingTemplate.convertAndSend(DESTINATION_PREFIX + channel, payload);
+    }
+
+    @Override
+    public synchronized <T> void subscribe(String channel, Class<T> payloadType, Consumer<T> handler) {
+        ChannelSubscription<T> subscription = new ChannelSubscription<>(channel, payloadType, handler);
+        subscriptions.add(subscription);
+
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            subscription.subscribeOn(current);
+        }
+    }
+
+    private void connect() {
+        stompClient.connectAsync(connectHeaders, new SessionHandler())
+                .whenComplete((connected, ex) -> {
+                    if (ex != null) {
+                        log.warn("[Cluster] 브로커 연결 실패 - reason: {}", ex.getMessage());
+                        scheduleReconnect();
+                    }
+                });
+    }
+
+    private void scheduleReconnect() {
+        if (!running || !reconnectScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        reconnectExecutor.schedule(() -> {
+            reconnectScheduled.set(false);
+            connect();
+        }, RECONNECT_DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private synchronized void onConnected(StompSession connected) {
+        session = connected;
+        subscriptions.forEach(subscription -> subscription.subscribeOn(connected));
+        log.info("[Cluster] 브로커 연결 - channels: {}", subscriptions.size());
+    }
+
+    private class SessionHandler extends StompSessionHandlerAdapter {
+
+        @Override
+        public void afterConnected(@NonNull StompSession connected, @NonNull StompHeaders connectedHeaders) {
+            onConnected(connected);
+        }
+
+        @Override
+        public void handleException(@NonNull StompSession failed, StompCommand command,
+                                    @NonNull StompHeaders headers, @NonNull byte[] payload,
+                                    @NonNull Throwable exception) {
+            log.error("[Cluster] 이벤트 처리 실패 - destination: {}", headers.getDestination(), exception);
+        }
+
+        @Override
+        public void handleTransportError(@NonNull StompSession failed, @NonNull Throwable exception) {
+            log.warn("[Cluster] 브로커 연결 끊김 - reason: {}", exception.getMessage());
+            if (session == failed) {
+                session = null;
+            }
+            scheduleReconnect();
+        }
+    }
+
+    private record ChannelSubscription<T>(String channel, Class<T> payloadType, Consumer<T> handler)
+            implements StompFrameHandler {
+
+        void subscribeOn(StompSession target) {
+            target.subscribe(DESTINATION_PREFIX + channel, this);
+        }
+
+        @Override
+        @NonNull
+        public Type getPayloadType(@NonNull StompHeaders headers) {
+            return payloadType;
+        }
+
+        @Override
+        public void handleFrame(@NonNull StompHeaders headers, Object payload) {
+            try {
+                handler.accept(payloadType.cast(payload));
+            } catch (Exception e) {
+                log.error("[Cluster] 이벤트 처리 실패 - channel: {}", channel, e);
+            }
+        }
+    }
+}
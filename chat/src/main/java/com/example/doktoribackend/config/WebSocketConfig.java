@@ -1,12 +1,15 @@
 package com.example.doktoribackend.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -14,20 +17,41 @@ import org.springframework.web.socket.config.annotation.WebMvcStompEndpointRegis
 
 @Configuration
 @EnableWebSocketMessageBroker
+@EnableConfigurationProperties(ChatBrokerProperties.class)
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompChannelInterceptor stompChannelInterceptor;
     private final WebSocketErrorHandler webSocketErrorHandler;
+    private final ChatBrokerProperties brokerProperties;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic")
-                .setHeartbeatValue(new long[]{10000, 10000})
-                .setTaskScheduler(heartbeatScheduler());
+        if (brokerProperties.isRelay()) {
+            enableBrokerRelay(registry, brokerProperties.getRelay());
+        } else {
+            registry.enableSimpleBroker("/topic")
+                    .setHeartbeatValue(new long[]{10000, 10000})
+                    .setTaskScheduler(heartbeatScheduler());
+        }
         registry.setApplicationDestinationPrefixes("/app");
     }
 
+    private void enableBrokerRelay(MessageBrokerRegistry registry, ChatBrokerProperties.Relay relay) {
+        StompBrokerRelayRegistration registration = registry.enableStompBrokerRelay("/topic")
+                .setRelayHost(relay.getHost())
+                .setRelayPort(relay.getPort())
+                .setClientLogin(relay.getLogin())
+                .setClientPasscode(relay.getPasscode())
+                .setSystemLogin(relay.getLogin())
+                .setSystemPasscode(relay.getPasscode())
+                .setSystemHeartbeatSendInterval(10000)
+                .setSystemHeartbeatReceiveInterval(10000);
+        if (StringUtils.hasText(relay.getVirtualHost())) {
+            registration.setVirtualHost(relay.getVirtualHost());
+        }
+    }
+
     @Bean
     public TaskScheduler heartbeatScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
@@ -66,6 +67,19 @@ public class WebSocketEventListener {
         log.info("[WebSocket] SUBSCRIBE - sessionId: {}, roomId: {}", sessionId, roomId);
     }
 
+    /**
+     * 하트비트를 보내고, 응답 없는 노드에만 세션이 있던 멤버는 연결 해제로 처리한다.
+     * 살아 있는 노드마다 같은 멤버를 처리할 수 있지만 handleDisconnect가 JOINED일 때만 바꾼다.
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.heartbeat-interval-ms:10000}")
+    public void checkPresence() {
+        sessionRegistry.sendHeartbeat();
+        sessionRegistry.expireSilentNodes().forEach(info -> {
+            log.info("[WebSocket] 종료된 노드의 마지막 세션 정리 - roomId: {}", info.roomId());
+            connectionService.handleDisconnect(info.roomId(), info.userId());
+        });
+    }
+
     @EventListener
     public void handleWebSocketDisconnected(SessionDisconnectEvent event) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
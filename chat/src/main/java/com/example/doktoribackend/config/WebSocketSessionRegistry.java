@@ -1,24 +1,82 @@
 package com.example.doktoribackend.config;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.broker.BrokerAvailabilityEvent;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 웹소켓 세션과 (userId, roomId) 매핑.
+ * 세션 자체는 연결된 노드에만 있고, 노드별 세션 수는 클러스터 버스로 공유해
+ * 모든 노드에서 세션이 끊겼을 때만 마지막 세션 해제로 판단한다.
+ * 노드는 주기적으로 하트비트를 보내고, nodeExpiry 동안 아무 이벤트도 보내지 않은 노드(비정상 종료 등)의 세션 수는 버린다.
+ */
+@Slf4j
 @Component
 public class WebSocketSessionRegistry {
 
+    private static final String CHANNEL = "presence";
+
     public record SessionInfo(Long userId, Long roomId) {}
 
+    public record PresenceEvent(Type type, String nodeId, Long userId, Long roomId, int sessionCount) {
+
+        public enum Type {
+            SESSIONS, ROOM_CLEARED, NODE_JOINED, NODE_LEFT, HEARTBEAT
+        }
+    }
+
+    private final ClusterMessageBus clusterMessageBus;
+    private final Duration nodeExpiry;
+    private final String nodeId = UUID.randomUUID().toString();
+
     private final Map<String, SessionInfo> sessionMap = new ConcurrentHashMap<>();
-    private final Map<String, Set<String>> userRoomSessions = new ConcurrentHashMap<>();
+    private final Map<SessionInfo, Set<String>> userRoomSessions = new ConcurrentHashMap<>();
+    private final Map<SessionInfo, Map<String, Integer>> remoteSessionCounts = new ConcurrentHashMap<>();
+    private final Map<String, Long> nodeLastSeen = new ConcurrentHashMap<>();
+    private final Map<String, Long> expiredNodes = new ConcurrentHashMap<>();
+
+    public WebSocketSessionRegistry(ClusterMessageBus clusterMessageBus,
+                                    @Value("${chat.presence.node-expiry:30s}") Duration nodeExpiry) {
+        this.clusterMessageBus = clusterMessageBus;
+        this.nodeExpiry = nodeExpiry;
+    }
+
+    @PostConstruct
+    void start() {
+        clusterMessageBus.subscribe(CHANNEL, PresenceEvent.class, this::handlePresence);
+    }
+
+    @EventListener
+    public void handleBrokerAvailability(BrokerAvailabilityEvent event) {
+        if (event.isBrokerAvailable()) {
+            publish(PresenceEvent.Type.NODE_JOINED, null, null, 0);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        publish(PresenceEvent.Type.NODE_LEFT, null, null, 0);
+    }
 
     public void register(String sessionId, Long userId, Long roomId) {
-        sessionMap.put(sessionId, new SessionInfo(userId, roomId));
-        String key = userId + ":" + roomId;
-        userRoomSessions.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(sessionId);
+        SessionInfo info = new SessionInfo(userId, roomId);
+        sessionMap.put(sessionId, info);
+        Set<String> sessions = userRoomSessions.computeIfAbsent(info, k -> ConcurrentHashMap.newKeySet());
+        sessions.add(sessionId);
+        publish(PresenceEvent.Type.SESSIONS, userId, roomId, sessions.size());
     }
 
     public Optional<SessionInfo> unregister(String sessionId) {
@@ -27,26 +85,125 @@ public class WebSocketSessionRegistry {
             return Optional.empty();
         }
 
-        String key = info.userId() + ":" + info.roomId();
-        Set<String> sessions = userRoomSessions.get(key);
+        Set<String> sessions = userRoomSessions.get(info);
         if (sessions != null) {
             sessions.remove(sessionId);
+            publish(PresenceEvent.Type.SESSIONS, info.userId(), info.roomId(), sessions.size());
             if (sessions.isEmpty()) {
-                userRoomSessions.remove(key);
-                return Optional.of(info);
+                userRoomSessions.remove(info);
+                if (!hasRemoteSessions(info)) {
+                    return Optional.of(info);
+                }
             }
         }
         return Optional.empty();
     }
 
+    public void sendHeartbeat() {
+        publish(PresenceEvent.Type.HEARTBEAT, null, null, 0);
+    }
+
+    /**
+     * nodeExpiry 동안 이벤트가 없던 노드를 종료된 것으로 보고 그 노드의 세션 수를 버린다.
+     * 그 결과 어느 노드에도 세션이 남지 않은 (userId, roomId)를 돌려준다.
+     */
+    public List<SessionInfo> expireSilentNodes() {
+        long now = System.nanoTime();
+        List<SessionInfo> orphaned = new ArrayList<>();
+        nodeLastSeen.forEach((remoteNodeId, lastSeen) -> {
+            if (now - lastSeen <= nodeExpiry.toNanos() || !nodeLastSeen.remove(remoteNodeId, lastSeen)) {
+                return;
+            }
+            expiredNodes.put(remoteNodeId, now);
+            log.warn("[Presence] 응답 없는 노드 제외 - nodeId: {}", remoteNodeId);
+            orphaned.addAll(removeNode(remoteNodeId));
+        });
+        // 다시 돌아오지 않는 노드 id가 계속 쌓이지 않도록 오래된 기록은 지운다.
+        expiredNodes.values().removeIf(expiredAt -> now - expiredAt > nodeExpiry.toNanos() * 10);
+        return orphaned;
+    }
+
     public void removeAllForRoom(Long roomId) {
+        removeLocalSessionsForRoom(roomId);
+        publish(PresenceEvent.Type.ROOM_CLEARED, null, roomId, 0);
+    }
+
+    private void removeLocalSessionsForRoom(Long roomId) {
         sessionMap.entrySet().removeIf(entry -> {
             if (entry.getValue().roomId().equals(roomId)) {
-                String key = entry.getValue().userId() + ":" + roomId;
-                userRoomSessions.remove(key);
+                userRoomSessions.remove(entry.getValue());
                 return true;
             }
             return false;
         });
+        remoteSessionCounts.keySet().removeIf(info -> info.roomId().equals(roomId));
+    }
+
+    private void handlePresence(PresenceEvent event) {
+        if (nodeId.equals(event.nodeId())) {
+            return;
+        }
+
+        if (event.type() == PresenceEvent.Type.NODE_LEFT) {
+            nodeLastSeen.remove(event.nodeId());
+            removeNode(event.nodeId());
+            return;
+        }
+        nodeLastSeen.put(event.nodeId(), System.nanoTime());
+        if (expiredNodes.remove(event.nodeId()) != null && event.type() != PresenceEvent.Type.NODE_JOINED) {
+            // 제외했던 노드가 돌아왔으면 그 노드의 세션 수를 다시 받는다.
+            publish(PresenceEvent.Type.NODE_JOINED, null, null, 0);
+        }
+
+        switch (event.type()) {
+            case SESSIONS -> updateRemoteCount(event);
+            case ROOM_CLEARED -> removeLocalSessionsForRoom(event.roomId());
+            case NODE_JOINED -> userRoomSessions.forEach((info, sessions) ->
+                    publish(PresenceEvent.Type.SESSIONS, info.userId(), info.roomId(), sessions.size()));
+            case NODE_LEFT, HEARTBEAT -> {
+            }
+        }
+    }
+
+    private List<SessionInfo> removeNode(String remoteNodeId) {
+        List<SessionInfo> orphaned = new ArrayList<>();
+        for (Map.Entry<SessionInfo, Map<String, Integer>> entry : remoteSessionCounts.entrySet()) {
+            if (!entry.getValue().containsKey(remoteNodeId)) {
+                continue;
+            }
+            Map<String, Integer> remaining = remoteSessionCounts.computeIfPresent(entry.getKey(), (k, counts) -> {
+                counts.remove(remoteNodeId);
+                return counts.isEmpty() ? null : counts;
+            });
+            if (remaining == null && !userRoomSessions.containsKey(entry.getKey())) {
+                orphaned.add(entry.getKey());
+            }
+        }
+        return orphaned;
+    }
+
+    private void updateRemoteCount(PresenceEvent event) {
+        SessionInfo info = new SessionInfo(event.userId(), event.roomId());
+        if (event.sessionCount() > 0) {
+            remoteSessionCounts.compute(info, (k, counts) -> {
+                Map<String, Integer> updated = counts != null ? counts : new ConcurrentHashMap<>();
+                updated.put(event.nodeId(), event.sessionCount());
+                return updated;
+            });
+            return;
+        }
+        remoteSessionCounts.computeIfPresent(info, (k, counts) -> {
+            counts.remove(event.nodeId());
+            return counts.isEmpty() ? null : counts;
+        });
+    }
+
+    private boolean hasRemoteSessions(SessionInfo info) {
+        Map<String, Integer> counts = remoteSessionCounts.get(info);
+        return counts != null && !counts.isEmpty();
+    }
+
+    private void publish(PresenceEvent.Type type, Long userId, Long roomId, int sessionCount) {
+        clusterMessageBus.publish(CHANNEL, new PresenceEvent(type, nodeId, userId, roomId, sessionCount));
     }
 }
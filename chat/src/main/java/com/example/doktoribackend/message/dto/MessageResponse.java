@@ -28,4 +28,17 @@ public record MessageResponse(
                 message.getCreatedAt()
         );
     }
+
+    public static MessageResponse pending(Message message, String senderNickname,
+                                          LocalDateTime createdAt, ImageUrlResolver imageUrlResolver) {
+        return new MessageResponse(
+                null,
+                message.getSenderId(),
+                senderNickname,
+                message.getMessageType(),
+                message.getTextMessage(),
+                imageUrlResolver.toUrl(message.getFilePath()),
+                createdAt
+        );
+    }
 }
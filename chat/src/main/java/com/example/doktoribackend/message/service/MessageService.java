@@ -9,15 +9,10 @@ import com.example.doktoribackend.message.dto.MessageListResponse;
 import com.example.doktoribackend.message.dto.MessageResponse;
 import com.example.doktoribackend.message.dto.MessageSendRequest;
 import com.example.doktoribackend.message.repository.MessageRepository;
-import com.example.doktoribackend.room.domain.ChattingRoom;
-import com.example.doktoribackend.room.domain.ChattingRoomMember;
-import com.example.doktoribackend.room.domain.MemberStatus;
-import com.example.doktoribackend.room.domain.RoomRound;
+import com.example.doktoribackend.room.cache.RoomState;
+import com.example.doktoribackend.room.cache.RoomStateCache;
 import com.example.doktoribackend.room.domain.RoomStatus;
 import com.example.doktoribackend.room.dto.PageInfo;
-import com.example.doktoribackend.room.repository.ChattingRoomMemberRepository;
-import com.example.doktoribackend.room.repository.ChattingRoomRepository;
-import com.example.doktoribackend.room.repository.RoomRoundRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
@@ -25,30 +20,26 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class MessageService {
 
     private final MessageRepository messageRepository;
-    private final ChattingRoomRepository chattingRoomRepository;
-    private final ChattingRoomMemberRepository chattingRoomMemberRepository;
-    private final RoomRoundRepository roomRoundRepository;
+    private final RoomStateCache roomStateCache;
     private final ImageUrlResolver imageUrlResolver;
+    private final MessageWriteBehindBuffer messageWriteBehindBuffer;
 
     @Transactional(readOnly = true)
     public MessageListResponse getMessages(Long roomId, Long userId, Long cursorId, int size) {
-        chattingRoomRepository.findById(roomId)
+        RoomState room = roomStateCache.get(roomId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
-        ChattingRoomMember member = chattingRoomMemberRepository.findByChattingRoomIdAndUserId(roomId, userId)
+        RoomState.MemberState member = room.member(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_MEMBER_NOT_FOUND));
 
-        if (member.getStatus() != MemberStatus.JOINED && member.getStatus() != MemberStatus.DISCONNECTED) {
+        if (!member.isInChat()) {
             throw new BusinessException(ErrorCode.CHAT_ROOM_MEMBER_NOT_FOUND);
         }
 
@@ -64,17 +55,8 @@ public class MessageService {
             return new MessageListResponse(List.of(), pageInfo);
         }
 
-        Set<Long> senderIds = content.stream()
-                .map(Message::getSenderId)
-                .collect(Collectors.toSet());
-
-        List<ChattingRoomMember> members = chattingRoomMemberRepository
-                .findByChattingRoomIdAndUserIdIn(roomId, senderIds);
-        Map<Long, String> nicknameMap = members.stream()
-                .collect(Collectors.toMap(ChattingRoomMember::getUserId, ChattingRoomMember::getNickname, (a, b) -> a));
-
         List<MessageResponse> messageResponses = content.stream()
-                .map(m -> MessageResponse.from(m, nicknameMap.getOrDefault(m.getSenderId(), "알 수 없음"), imageUrlResolver))
+                .map(m -> MessageResponse.from(m, senderNickname(room, m.getSenderId()), imageUrlResolver))
                 .toList();
 
         Long nextCursorId = hasNext ? content.getLast().getId() : null;
@@ -83,41 +65,46 @@ public class MessageService {
         return new MessageListResponse(messageResponses, pageInfo);
     }
 
-    @Transactional
     public MessageResponse sendMessage(Long roomId, Long senderId, String senderNickname,
                                        MessageSendRequest request) {
-        ChattingRoom room = chattingRoomRepository.findById(roomId)
+        RoomState room = roomStateCache.get(roomId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
-        if (room.getStatus() != RoomStatus.CHATTING) {
+        if (room.status() != RoomStatus.CHATTING) {
             throw new BusinessException(ErrorCode.CHAT_ROOM_NOT_CHATTING);
         }
 
-        ChattingRoomMember member = chattingRoomMemberRepository
-                .findByChattingRoomIdAndUserId(roomId, senderId)
+        RoomState.MemberState member = room.member(senderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_MEMBER_NOT_FOUND));
 
-        if (member.getStatus() != MemberStatus.JOINED && member.getStatus() != MemberStatus.DISCONNECTED) {
+        if (!member.isInChat()) {
             throw new BusinessException(ErrorCode.CHAT_ROOM_MEMBER_NOT_FOUND);
         }
 
-        RoomRound activeRound = roomRoundRepository.findByChattingRoomIdAndEndedAtIsNull(roomId)
+        RoomState.RoundState activeRound = room.findActiveRound()
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_ROUND_NOT_FOUND));
 
-        Optional<Message> existing = messageRepository.findByRoomIdAndSenderIdAndClientMessageId(
-                roomId, senderId, request.clientMessageId());
-        if (existing.isPresent()) {
-            return MessageResponse.from(existing.get(), senderNickname, imageUrlResolver);
-        }
-
         Message message = request.messageType() == MessageType.FILE
                 ? Message.createFileMessage(
-                        roomId, activeRound.getId(), senderId,
+                        roomId, activeRound.roundId(), senderId,
                         request.clientMessageId(), request.filePath())
                 : Message.createTextMessage(
-                        roomId, activeRound.getId(), senderId,
+                        roomId, activeRound.roundId(), senderId,
                         request.clientMessageId(), request.textMessage());
 
+        if (messageWriteBehindBuffer.isEnabled()) {
+            Optional<MessageResponse> buffered = messageWriteBehindBuffer.enqueue(message, senderNickname);
+            if (buffered.isPresent()) {
+                return buffered.get();
+            }
+        }
+
+        Optional<Message> existing = messageRepository.findByRoomIdAndSenderIdAndClientMessageId(
+                roomId, senderId, request.clientMessageId());
+        if (existing.isPresent()) {
+            return MessageResponse.from(existing.get(), senderNickname, imageUrlResolver);
+        }
+
         try {
             messageRepository.saveAndFlush(message);
         } catch (DataIntegrityViolationException e) {
@@ -129,4 +116,10 @@ public class MessageService {
 
         return MessageResponse.from(message, senderNickname, imageUrlResolver);
     }
+
+    private String senderNickname(RoomState room, Long senderId) {
+        return room.member(senderId)
+                .map(RoomState.MemberState::nickname)
+                .orElse("알 수 없음");
+    }
 }
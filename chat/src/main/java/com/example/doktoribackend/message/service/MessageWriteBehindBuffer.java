@@ -0,0 +1,401 @@
+package com.example.doktoribackend.message.service;
+
+import com.example.doktoribackend.common.error.ErrorCode;
+import com.example.doktoribackend.common.s3.ImageUrlResolver;
+import com.example.doktoribackend.exception.BusinessException;
+import com.example.doktoribackend.message.domain.Message;
+import com.example.doktoribackend.message.dto.MessageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 채팅 메시지 write-behind 버퍼.
+ * 방별 bounded queue에 메시지를 적재하고, 단일 flusher 스레드가 multi-row INSERT로 일괄 저장한다.
+ * 중복 판단 키는 (roomId, senderId, clientMessageId)이며 DB 레벨에서는 유니크 키 + ON DUPLICATE KEY UPDATE로 한 번 더 보장한다.
+ * INSERT IGNORE와 달리 FK 위반이나 길이 초과는 경고로 묻히지 않고 실패로 집계된다.
+ * DB 연결 실패처럼 다시 시도하면 성공할 수 있는 오류로 저장하지 못한 배치는 버리지 않고 방 버퍼에 남겨
+ * 백오프 후 큐의 다른 메시지보다 먼저 다시 저장한다. 유니크 키 덕분에 재시도는 중복 행을 만들지 않는다.
+ */
+@Slf4j
+@Component
+public class MessageWriteBehindBuffer {
+
+    private static final String INSERT_PREFIX = "INSERT INTO messages "
+            + "(room_id, round_id, sender_id, client_message_id, message_type, text_message, file_path, created_at) VALUES ";
+    // uk_messages_room_sender_client 충돌만 흡수한다.
+    private static final String INSERT_SUFFIX = " ON DUPLICATE KEY UPDATE id = id";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int RECENT_KEY_LIMIT = 500;
+    private static final Duration IDLE_ROOM_TTL = Duration.ofMinutes(10);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(30);
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageUrlResolver imageUrlResolver;
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final Map<Long, RoomBuffer> roomBuffers = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+    private final ScheduledExecutorService flusher =
+            Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "message-write-behind");
+                t.setDaemon(true);
+                return t;
+            });
+
+    private final DistributionSummary batchSizeSummary;
+    private final Counter fallbackCounter;
+    private final Counter duplicateCounter;
+    private final Counter ignoredCounter;
+    private final Counter failedCounter;
+    private final Counter retryCounter;
+    private final Counter syncFlushCounter;
+
+    public MessageWriteBehindBuffer(
+            JdbcTemplate jdbcTemplate,
+            ImageUrlResolver imageUrlResolver,
+            MeterRegistry meterRegistry,
+            @Value("${chat.message.write-behind.enabled:false}") boolean enabled,
+            @Value("${chat.message.write-behind.queue-capacity:1000}") int queueCapacity,
+            @Value("${chat.message.write-behind.batch-size:100}") int batchSize,
+            @Value("${chat.message.write-behind.flush-interval-ms:100}") long flushIntervalMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.imageUrlResolver = imageUrlResolver;
+        this.enabled = enabled;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+
+        Gauge.builder("chat.message.write_behind.queue.depth", this, MessageWriteBehindBuffer::pendingCount)
+                .description("flush 대기 중인 메시지 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("chat.message.write_behind.batch.size")
+                .description("한 번의 INSERT로 저장한 메시지 수")
+                .register(meterRegistry);
+        this.fallbackCounter = meterRegistry.counter("chat.message.write_behind.fallback");
+        this.duplicateCounter = meterRegistry.counter("chat.message.write_behind.duplicate");
+        this.ignoredCounter = meterRegistry.counter("chat.message.write_behind.ignored");
+        this.failedCounter = meterRegistry.counter("chat.message.write_behind.failed");
+        this.retryCounter = meterRegistry.counter("chat.message.write_behind.retry");
+        this.syncFlushCounter = meterRegistry.counter("chat.message.write_behind.sync_flush");
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        flusher.scheduleWithFixedDelay(this::flushAll, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("[Chat] 메시지 write-behind 활성화 - queueCapacity: {}, batchSize: {}, flushIntervalMs: {}",
+                queueCapacity, batchSize, flushIntervalMs);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        closed = true;
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flusher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        int remaining = pendingCount();
+        if (remaining > 0) {
+            log.info("[Chat] 종료 전 write-behind 메시지 flush - count: {}", remaining);
+        }
+        roomBuffers.forEach((roomId, buffer) -> {
+            synchronized (buffer) {
+                flushRoom(roomId, buffer, true);
+            }
+        });
+
+        int unsaved = pendingCount();
+        if (unsaved > 0) {
+            log.error("[Chat] 종료 시점까지 저장하지 못한 write-behind 메시지 - count: {}", unsaved);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 메시지를 버퍼에 적재하고 브로드캐스트할 응답을 반환한다.
+     * 같은 키의 메시지가 최근에 적재된 적이 있으면 그때의 응답을 그대로 돌려준다.
+     * 방 큐가 가득 차면 쌓인 메시지를 호출 스레드에서 먼저 저장해 자리를 만들고, 종료 중이면 쌓인 메시지를 저장한 뒤
+     * 빈 값을 반환해 호출자가 동기 저장으로 처리하도록 한다. 어느 쪽이든 먼저 보낸 메시지가 남아 있는 채로
+     * 뒤 메시지가 먼저 id를 받지 않도록, 쌓인 메시지를 저장하지 못하면 예외를 던진다.
+     */
+    public Optional<MessageResponse> enqueue(Message message, String senderNickname) {
+        Long roomId = message.getRoomId();
+        String key = message.getSenderId() + ":" + message.getClientMessageId();
+
+        while (true) {
+            RoomBuffer buffer = roomBuffers.computeIfAbsent(roomId, id -> new RoomBuffer(queueCapacity));
+            synchronized (buffer) {
+                if (buffer.retired) {
+                    continue;
+                }
+
+                MessageResponse recent = buffer.recentResponses.get(key);
+                if (recent != null) {
+                    duplicateCounter.increment();
+                    return Optional.of(recent);
+                }
+
+                if (closed) {
+                    flushRoom(roomId, buffer, true);
+                    rejectIfUnsaved(roomId, buffer);
+                    fallbackCounter.increment();
+                    return Optional.empty();
+                }
+
+                LocalDateTime createdAt = LocalDateTime.now();
+                PendingMessage pending = new PendingMessage(message, createdAt);
+                if (!buffer.queue.offer(pending)) {
+                    // 큐를 건너뛰고 동기 저장하면 먼저 적재된 메시지보다 id가 앞서므로, 쌓인 메시지를 먼저 저장한다.
+                    syncFlushCounter.increment();
+                    flushRoom(roomId, buffer, true);
+                    if (!buffer.queue.offer(pending)) {
+                        rejectIfUnsaved(roomId, buffer);
+                    }
+                }
+
+                MessageResponse response = MessageResponse.pending(message, senderNickname, createdAt, imageUrlResolver);
+                buffer.recentResponses.put(key, response);
+                buffer.lastActivityAt = System.nanoTime();
+
+                if (buffer.queue.size() >= batchSize) {
+                    try {
+                        flusher.execute(() -> flushRoom(roomId, buffer, false));
+                    } catch (RejectedExecutionException e) {
+                        // 종료가 시작된 뒤라면 flusher 대신 호출 스레드에서 저장한다.
+                        flushRoom(roomId, buffer, true);
+                    }
+                }
+                return Optional.of(response);
+            }
+        }
+    }
+
+    int pendingCount() {
+        int count = 0;
+        for (RoomBuffer buffer : roomBuffers.values()) {
+            count += buffer.queue.size() + buffer.retry.size();
+        }
+        return count;
+    }
+
+    void flushAll() {
+        try {
+            roomBuffers.forEach((roomId, buffer) -> {
+                flushRoom(roomId, buffer, false);
+                retireIfIdle(roomId, buffer);
+            });
+        } catch (Exception e) {
+            log.error("[Chat] write-behind flush 실패", e);
+        }
+    }
+
+    /**
+     * 방의 메시지를 적재 순서대로 저장한다. 이전에 저장하지 못한 배치가 있으면 그것부터 저장하고,
+     * 다시 실패하면 큐의 메시지는 건드리지 않고 다음 시도로 미룬다.
+     * flusher와 호출 스레드가 같은 방을 동시에 저장해 순서가 뒤바뀌지 않도록 방별 lock 안에서 실행한다.
+     */
+    private void flushRoom(Long roomId, RoomBuffer buffer, boolean ignoreBackoff) {
+        buffer.flushLock.lock();
+        try {
+            if (!buffer.retry.isEmpty()) {
+                if (!ignoreBackoff && System.nanoTime() < buffer.retryAt) {
+                    return;
+                }
+                retryCounter.increment();
+                if (!persist(roomId, buffer.retry)) {
+                    backOff(roomId, buffer);
+                    return;
+                }
+                buffer.retry.clear();
+                buffer.retryAttempts = 0;
+            }
+
+            List<PendingMessage> batch = new ArrayList<>(batchSize);
+            while (buffer.queue.drainTo(batch, batchSize) > 0) {
+                if (!persist(roomId, batch)) {
+                    buffer.retry.addAll(batch);
+                    backOff(roomId, buffer);
+                    return;
+                }
+                batch.clear();
+            }
+        } finally {
+            buffer.flushLock.unlock();
+        }
+    }
+
+    private void backOff(Long roomId, RoomBuffer buffer) {
+        long delayMs = Math.min(flushIntervalMs << Math.min(buffer.retryAttempts, MAX_BACKOFF_SHIFT),
+                MAX_RETRY_BACKOFF.toMillis());
+        buffer.retryAttempts++;
+        buffer.retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+        log.warn("[Chat] write-behind 저장 실패, 재시도 대기 - roomId: {}, size: {}, attempt: {}, delayMs: {}",
+                roomId, buffer.retry.size(), buffer.retryAttempts, delayMs);
+    }
+
+    private void rejectIfUnsaved(Long roomId, RoomBuffer buffer) {
+        if (!buffer.retry.isEmpty() || !buffer.queue.isEmpty()) {
+            log.warn("[Chat] write-behind 버퍼를 비우지 못해 메시지 전송 거부 - roomId: {}, pending: {}",
+                    roomId, buffer.queue.size() + buffer.retry.size());
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private void retireIfIdle(Long roomId, RoomBuffer buffer) {
+        synchronized (buffer) {
+            long idleNanos = System.nanoTime() - buffer.lastActivityAt;
+            if (buffer.queue.isEmpty() && buffer.retry.isEmpty() && idleNanos > IDLE_ROOM_TTL.toNanos()) {
+                buffer.retired = true;
+                roomBuffers.remove(roomId, buffer);
+            }
+        }
+    }
+
+    /**
+     * 배치를 저장한다. 다시 시도해야 하는 오류로 실패하면 false를 반환한다.
+     */
+    private boolean persist(Long roomId, List<PendingMessage> batch) {
+        batchSizeSummary.record(batch.size());
+        try {
+            // 드라이버가 affected rows를 돌려줄 때(useAffectedRows=true)만 중복 건수가 0으로 잡혀 집계된다.
+            int inserted = jdbcTemplate.update(buildInsertSql(batch.size()), toArgs(batch));
+            if (inserted < batch.size()) {
+                ignoredCounter.increment(batch.size() - inserted);
+            }
+            return true;
+        } catch (DataAccessException e) {
+            if (isRetryable(e)) {
+                return false;
+            }
+            log.warn("[Chat] write-behind 일괄 저장 실패, 단건 저장으로 재시도 - roomId: {}, size: {}",
+                    roomId, batch.size(), e);
+            return persistOneByOne(roomId, batch);
+        }
+    }
+
+    private boolean persistOneByOne(Long roomId, List<PendingMessage> batch) {
+        for (PendingMessage pending : batch) {
+            try {
+                int inserted = jdbcTemplate.update(buildInsertSql(1), toArgs(List.of(pending)));
+                if (inserted == 0) {
+                    ignoredCounter.increment();
+                }
+            } catch (DataAccessException e) {
+                if (isRetryable(e)) {
+                    // 이미 저장된 행은 재시도 때 유니크 키로 흡수된다.
+                    return false;
+                }
+                failedCounter.increment();
+                log.error("[Chat] write-behind 메시지 저장 실패 - roomId: {}, senderId: {}, clientMessageId: {}",
+                        roomId, pending.message().getSenderId(), pending.message().getClientMessageId(), e);
+            }
+        }
+        return true;
+    }
+
+    // FK 위반, 길이 초과처럼 같은 행을 다시 넣어도 실패하는 오류만 포기하고, 연결 실패나 타임아웃은 재시도한다.
+    private static boolean isRetryable(DataAccessException e) {
+        return !(e instanceof NonTransientDataAccessException)
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private static String buildInsertSql(int rows) {
+        StringBuilder sql = new StringBuilder(
+                INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2) + INSERT_SUFFIX.length());
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        sql.append(INSERT_SUFFIX);
+        return sql.toString();
+    }
+
+    private static Object[] toArgs(List<PendingMessage> batch) {
+        Object[] args = new Object[batch.size() * 8];
+        int i = 0;
+        for (PendingMessage pending : batch) {
+            Message message = pending.message();
+            args[i++] = message.getRoomId();
+            args[i++] = message.getRoundId();
+            args[i++] = message.getSenderId();
+            args[i++] = message.getClientMessageId();
+            args[i++] = message.getMessageType().name();
+            args[i++] = message.getTextMessage();
+            args[i++] = message.getFilePath();
+            args[i++] = Timestamp.valueOf(pending.createdAt());
+        }
+        return args;
+    }
+
+    private record PendingMessage(Message message, LocalDateTime createdAt) {}
+
+    private static final class RoomBuffer {
+
+        private final BlockingQueue<PendingMessage> queue;
+        private final Map<String, MessageResponse> recentResponses = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MessageResponse> eldest) {
+                return size() > RECENT_KEY_LIMIT;
+            }
+        };
+        // flushLock 안에서만 바꾼다.
+        private final List<PendingMessage> retry = new ArrayList<>();
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private int retryAttempts;
+        private long retryAt;
+        private long lastActivityAt = System.nanoTime();
+        private boolean retired;
+
+        private RoomBuffer(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+}
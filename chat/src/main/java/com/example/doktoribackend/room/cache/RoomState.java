@@ -0,0 +1,93 @@
+package com.example.doktoribackend.room.cache;
+
+import com.example.doktoribackend.room.domain.ChattingRoom;
+import com.example.doktoribackend.room.domain.ChattingRoomMember;
+import com.example.doktoribackend.room.domain.MemberRole;
+import com.example.doktoribackend.room.domain.MemberStatus;
+import com.example.doktoribackend.room.domain.Position;
+import com.example.doktoribackend.room.domain.RoomRound;
+import com.example.doktoribackend.room.domain.RoomStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public record RoomState(
+        Long roomId,
+        String topic,
+        RoomStatus status,
+        int capacity,
+        RoundState activeRound,
+        Map<Long, MemberState> members
+) {
+
+    public record MemberState(
+            Long userId,
+            String nickname,
+            String profileImageUrl,
+            Position position,
+            MemberRole role,
+            MemberStatus status
+    ) {
+
+        public static MemberState from(ChattingRoomMember member) {
+            return new MemberState(
+                    member.getUserId(),
+                    member.getNickname(),
+                    member.getProfileImageUrl(),
+                    member.getPosition(),
+                    member.getRole(),
+                    member.getStatus()
+            );
+        }
+
+        public boolean isActive() {
+            return status == MemberStatus.WAITING
+                    || status == MemberStatus.JOINED
+                    || status == MemberStatus.DISCONNECTED;
+        }
+
+        public boolean isInChat() {
+            return status == MemberStatus.JOINED || status == MemberStatus.DISCONNECTED;
+        }
+    }
+
+    public record RoundState(Long roundId, int roundNumber, LocalDateTime startedAt) {
+
+        public static RoundState from(RoomRound round) {
+            return new RoundState(round.getId(), round.getRoundNumber(), round.getStartedAt());
+        }
+    }
+
+    public static RoomState of(ChattingRoom room, List<ChattingRoomMember> members, RoomRound activeRound) {
+        Map<Long, MemberState> memberMap = new LinkedHashMap<>();
+        for (ChattingRoomMember member : members) {
+            memberMap.put(member.getUserId(), MemberState.from(member));
+        }
+        return new RoomState(
+                room.getId(),
+                room.getTopic(),
+                room.getStatus(),
+                room.getCapacity(),
+                activeRound != null ? RoundState.from(activeRound) : null,
+                Collections.unmodifiableMap(memberMap)
+        );
+    }
+
+    public Optional<MemberState> member(Long userId) {
+        return Optional.ofNullable(members.get(userId));
+    }
+
+    public Optional<RoundState> findActiveRound() {
+        return Optional.ofNullable(activeRound);
+    }
+
+    public List<MemberState> activeMembers() {
+        return members.values().stream()
+                .filter(MemberState::isActive)
+                .toList();
+    }
+}
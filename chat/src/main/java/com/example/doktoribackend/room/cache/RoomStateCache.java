@@ -0,0 +1,158 @@
+package com.example.doktoribackend.room.cache;
+
+import com.example.doktoribackend.config.ClusterMessageBus;
+import com.example.doktoribackend.room.domain.ChattingRoomMember;
+import com.example.doktoribackend.room.domain.RoomRound;
+import com.example.doktoribackend.room.repository.ChattingRoomMemberRepository;
+import com.example.doktoribackend.room.repository.ChattingRoomRepository;
+import com.example.doktoribackend.room.repository.RoomRoundRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅방 상태(방 상태, 정원, 멤버 명단, 진행 중인 라운드) 캐시.
+ * 상태를 바꾸는 트랜잭션은 커밋 후 {@link #evictAfterCommit(Long)}로 해당 방을 무효화하고,
+ * 다음 조회 시 DB에서 다시 적재한다. 적재 도중 무효화가 일어나면 적재한 값은 캐시에 넣지 않는다.
+ * 무효화는 클러스터 버스로 모든 노드에 전파하고, 전파가 유실돼도 적재 후 MAX_AGE가 지나면 다시 적재한다.
+ */
+@Slf4j
+@Component
+public class RoomStateCache {
+
+    private static final String CHANNEL = "room-state";
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    public record RoomStateEvicted(Long roomId) {}
+
+    private final ChattingRoomRepository chattingRoomRepository;
+    private final ChattingRoomMemberRepository chattingRoomMemberRepository;
+    private final RoomRoundRepository roomRoundRepository;
+    private final TransactionTemplate loadTx;
+    private final ClusterMessageBus clusterMessageBus;
+
+    private final Map<Long, CachedRoom> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RoomStateCache(ChattingRoomRepository chattingRoomRepository,
+                          ChattingRoomMemberRepository chattingRoomMemberRepository,
+                          RoomRoundRepository roomRoundRepository,
+                          PlatformTransactionManager transactionManager,
+                          ClusterMessageBus clusterMessageBus,
+                          MeterRegistry meterRegistry) {
+        this.chattingRoomRepository = chattingRoomRepository;
+        this.chattingRoomMemberRepository = chattingRoomMemberRepository;
+        this.roomRoundRepository = roomRoundRepository;
+        // 커밋 직후 다시 적재하므로 지연이 있을 수 있는 레플리카가 아닌 프라이머리에서 읽는다.
+        // 읽기 전용 트랜잭션 안에서 호출돼도 합류하지 않도록 새 읽기/쓰기 트랜잭션을 연다.
+        this.loadTx = new TransactionTemplate(transactionManager);
+        this.loadTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clusterMessageBus = clusterMessageBus;
+
+        this.hitCounter = meterRegistry.counter("chat.room_state.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("chat.room_state.cache", "result", "miss");
+        Gauge.builder("chat.room_state.cache.size", rooms, Map::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        clusterMessageBus.subscribe(CHANNEL, RoomStateEvicted.class, event -> evict(event.roomId()));
+    }
+
+    public Optional<RoomState> get(Long roomId) {
+        CachedRoom cached = rooms.get(roomId);
+        if (cached != null && !cached.isExpiredAt(System.nanoTime())) {
+            hitCounter.increment();
+            return Optional.of(cached.state);
+        }
+
+        missCounter.increment();
+        long loadedVersion = version.get();
+        RoomState loaded = loadTx.execute(status -> load(roomId));
+        if (loaded == null) {
+            return Optional.empty();
+        }
+
+        rooms.compute(roomId, (id, existing) ->
+                version.get() == loadedVersion ? new CachedRoom(loaded) : existing);
+        return Optional.of(loaded);
+    }
+
+    public void evict(Long roomId) {
+        version.incrementAndGet();
+        rooms.remove(roomId);
+    }
+
+    public void evictAfterCommit(Long roomId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictEverywhere(roomId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evictEverywhere(roomId);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredRooms() {
+        long now = System.nanoTime();
+        rooms.values().removeIf(cached -> cached.isExpiredAt(now));
+    }
+
+    private void evictEverywhere(Long roomId) {
+        evict(roomId);
+        try {
+            clusterMessageBus.publish(CHANNEL, new RoomStateEvicted(roomId));
+        } catch (Exception e) {
+            log.warn("[RoomState] 무효화 전파 실패 - roomId: {}, reason: {}", roomId, e.getMessage());
+        }
+    }
+
+    private RoomState load(Long roomId) {
+        return chattingRoomRepository.findById(roomId)
+                .map(room -> {
+                    List<ChattingRoomMember> members = chattingRoomMemberRepository.findByChattingRoomId(roomId);
+                    RoomRound activeRound = roomRoundRepository.findByChattingRoomIdAndEndedAtIsNull(roomId)
+                            .orElse(null);
+                    return RoomState.of(room, members, activeRound);
+                })
+                .orElse(null);
+    }
+
+    private static final class CachedRoom {
+
+        private final RoomState state;
+        private final long loadedAt = System.nanoTime();
+
+        private CachedRoom(RoomState state) {
+            this.state = state;
+        }
+
+        private boolean isExpiredAt(long now) {
+            return now - loadedAt > MAX_AGE.toNanos();
+        }
+    }
+}
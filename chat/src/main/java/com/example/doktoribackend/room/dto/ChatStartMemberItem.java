@@ -1,6 +1,7 @@
 package com.example.doktoribackend.room.dto;
 
 import com.example.doktoribackend.common.s3.ImageUrlResolver;
+import com.example.doktoribackend.room.cache.RoomState;
 import com.example.doktoribackend.room.domain.ChattingRoomMember;
 
 public record ChatStartMemberItem(Long userId, String nickname, String profileImageUrl) {
@@ -12,4 +13,12 @@ public record ChatStartMemberItem(Long userId, String nickname, String profileIm
                 resolver.toUrl(member.getProfileImageUrl())
         );
     }
+
+    public static ChatStartMemberItem from(RoomState.MemberState member, ImageUrlResolver resolver) {
+        return new ChatStartMemberItem(
+                member.userId(),
+                member.nickname(),
+                resolver.toUrl(member.profileImageUrl())
+        );
+    }
 }
@@ -0,0 +1,27 @@
+package com.example.doktoribackend.room.dto;
+
+public record WaitingRoomEvent(
+        Type type,
+        Long roomId,
+        WaitingRoomResponse waitingRoom,
+        ChatRoomStartResponse started,
+        // 발행 시각(epoch millis). 버스가 발행 순서를 보장하지 않으므로 수신 측이 더 오래된 스냅샷을 가려낸다.
+        long issuedAt
+) {
+
+    public enum Type {
+        UPDATED, CANCELLED, STARTED
+    }
+
+    public static WaitingRoomEvent updated(Long roomId, WaitingRoomResponse response) {
+        return new WaitingRoomEvent(Type.UPDATED, roomId, response, null, System.currentTimeMillis());
+    }
+
+    public static WaitingRoomEvent cancelled(Long roomId) {
+        return new WaitingRoomEvent(Type.CANCELLED, roomId, null, null, System.currentTimeMillis());
+    }
+
+    public static WaitingRoomEvent started(Long roomId, ChatRoomStartResponse response) {
+        return new WaitingRoomEvent(Type.STARTED, roomId, null, response, System.currentTimeMillis());
+    }
+}
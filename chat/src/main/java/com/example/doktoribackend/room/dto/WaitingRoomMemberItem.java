@@ -1,6 +1,7 @@
 package com.example.doktoribackend.room.dto;
 
 import com.example.doktoribackend.common.s3.ImageUrlResolver;
+import com.example.doktoribackend.room.cache.RoomState;
 import com.example.doktoribackend.room.domain.ChattingRoomMember;
 import com.example.doktoribackend.room.domain.MemberRole;
 import com.example.doktoribackend.room.domain.Position;
@@ -20,4 +21,13 @@ public record WaitingRoomMemberItem(
                 member.getRole()
         );
     }
+
+    public static WaitingRoomMemberItem from(RoomState.MemberState member, ImageUrlResolver imageUrlResolver) {
+        return new WaitingRoomMemberItem(
+                member.nickname(),
+                imageUrlResolver.toUrl(member.profileImageUrl()),
+                member.position(),
+                member.role()
+        );
+    }
 }
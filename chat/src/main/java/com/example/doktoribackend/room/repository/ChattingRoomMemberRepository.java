@@ -15,6 +15,8 @@ public interface ChattingRoomMemberRepository extends JpaRepository<ChattingRoom
 
     Optional<ChattingRoomMember> findByChattingRoomIdAndUserId(Long roomId, Long userId);
 
+    List<ChattingRoomMember> findByChattingRoomId(Long roomId);
+
     List<ChattingRoomMember> findByChattingRoomIdAndStatusIn(Long roomId, List<MemberStatus> statuses);
 
     List<ChattingRoomMember> findByChattingRoomIdAndUserIdIn(Long chattingRoomId, Collection<Long> userIds);
@@ -1,5 +1,7 @@
 package com.example.doktoribackend.room.service;
 
+import com.example.doktoribackend.room.cache.RoomState;
+import com.example.doktoribackend.room.cache.RoomStateCache;
 import com.example.doktoribackend.room.domain.ChattingRoom;
 import com.example.doktoribackend.room.domain.ChattingRoomMember;
 import com.example.doktoribackend.room.domain.MemberStatus;
@@ -11,7 +13,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
@@ -21,52 +24,77 @@ public class ChatRoomConnectionService {
     private final ChattingRoomRepository chattingRoomRepository;
     private final ChattingRoomMemberRepository chattingRoomMemberRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final RoomStateCache roomStateCache;
+    private final PlatformTransactionManager transactionManager;
 
-    @Transactional
     public void handleDisconnect(Long roomId, Long userId) {
-        ChattingRoom room = chattingRoomRepository.findById(roomId).orElse(null);
-        if (room == null || room.getStatus() != RoomStatus.CHATTING) {
+        if (!isChattingMemberWithStatus(roomId, userId, MemberStatus.JOINED)) {
             return;
         }
 
-        ChattingRoomMember member = chattingRoomMemberRepository
-                .findByChattingRoomIdAndUserId(roomId, userId).orElse(null);
-        if (member == null || member.getStatus() != MemberStatus.JOINED) {
-            return;
-        }
+        TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+        txTemplate.executeWithoutResult(status -> {
+            ChattingRoom room = chattingRoomRepository.findById(roomId).orElse(null);
+            if (room == null || room.getStatus() != RoomStatus.CHATTING) {
+                return;
+            }
 
-        member.disconnect();
-        log.info("[Chat] 멤버 연결 해제 - roomId: {}", roomId);
+            ChattingRoomMember member = chattingRoomMemberRepository
+                    .findByChattingRoomIdAndUserId(roomId, userId).orElse(null);
+            if (member == null || member.getStatus() != MemberStatus.JOINED) {
+                return;
+            }
 
-        messagingTemplate.convertAndSend("/topic/chat-rooms/" + roomId,
-                new MemberStatusChangeEvent(
-                        "MEMBER_DISCONNECTED",
-                        userId,
-                        member.getNickname(),
-                        MemberStatus.DISCONNECTED.name()));
+            member.disconnect();
+            roomStateCache.evictAfterCommit(roomId);
+            log.info("[Chat] 멤버 연결 해제 - roomId: {}", roomId);
+
+            messagingTemplate.convertAndSend("/topic/chat-rooms/" + roomId,
+                    new MemberStatusChangeEvent(
+                            "MEMBER_DISCONNECTED",
+                            userId,
+                            member.getNickname(),
+                            MemberStatus.DISCONNECTED.name()));
+        });
     }
 
-    @Transactional
     public void handleReconnect(Long roomId, Long userId) {
-        ChattingRoom room = chattingRoomRepository.findById(roomId).orElse(null);
-        if (room == null || room.getStatus() != RoomStatus.CHATTING) {
+        if (!isChattingMemberWithStatus(roomId, userId, MemberStatus.DISCONNECTED)) {
             return;
         }
 
-        ChattingRoomMember member = chattingRoomMemberRepository
-                .findByChattingRoomIdAndUserId(roomId, userId).orElse(null);
-        if (member == null || member.getStatus() != MemberStatus.DISCONNECTED) {
-            return;
-        }
+        TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+        txTemplate.executeWithoutResult(status -> {
+            ChattingRoom room = chattingRoomRepository.findById(roomId).orElse(null);
+            if (room == null || room.getStatus() != RoomStatus.CHATTING) {
+                return;
+            }
+
+            ChattingRoomMember member = chattingRoomMemberRepository
+                    .findByChattingRoomIdAndUserId(roomId, userId).orElse(null);
+            if (member == null || member.getStatus() != MemberStatus.DISCONNECTED) {
+                return;
+            }
 
-        member.join();
-        log.info("[Chat] 멤버 재연결 - roomId: {}", roomId);
+            member.join();
+            roomStateCache.evictAfterCommit(roomId);
+            log.info("[Chat] 멤버 재연결 - roomId: {}", roomId);
+
+            messagingTemplate.convertAndSend("/topic/chat-rooms/" + roomId,
+                    new MemberStatusChangeEvent(
+                            "MEMBER_RECONNECTED",
+                            userId,
+                            member.getNickname(),
+                            MemberStatus.JOINED.name()));
+        });
+    }
 
-        messagingTemplate.convertAndSend("/topic/chat-rooms/" + roomId,
-                new MemberStatusChangeEvent(
-                        "MEMBER_RECONNECTED",
-                        userId,
-                        member.getNickname(),
-                        MemberStatus.JOINED.name()));
+    private boolean isChattingMemberWithStatus(Long roomId, Long userId, MemberStatus expected) {
+        return roomStateCache.get(roomId)
+                .filter(room -> room.status() == RoomStatus.CHATTING)
+                .flatMap(room -> room.member(userId))
+                .map(RoomState.MemberState::status)
+                .filter(status -> status == expected)
+                .isPresent();
     }
 }
@@ -3,6 +3,8 @@ package com.example.doktoribackend.room.service;
 import com.example.doktoribackend.common.error.ErrorCode;
 import com.example.doktoribackend.common.s3.ImageUrlResolver;
 import com.example.doktoribackend.exception.BusinessException;
+import com.example.doktoribackend.room.cache.RoomState;
+import com.example.doktoribackend.room.cache.RoomStateCache;
 import com.example.doktoribackend.room.domain.ChattingRoom;
 import com.example.doktoribackend.room.domain.ChattingRoomMember;
 import com.example.doktoribackend.room.domain.MemberStatus;
@@ -41,6 +43,7 @@ public class ChatRoomQueryService {
     private final ChattingRoomRepository chattingRoomRepository;
     private final ChattingRoomMemberRepository chattingRoomMemberRepository;
     private final RoomRoundRepository roomRoundRepository;
+    private final RoomStateCache roomStateCache;
     private final ImageUrlResolver imageUrlResolver;
     private final ObjectMapper objectMapper;
 
@@ -61,34 +64,56 @@ public class ChatRoomQueryService {
     }
 
     public WaitingRoomResponse getWaitingRoom(Long roomId, Long userId) {
-        ChattingRoom room = findRoom(roomId);
+        RoomState room = findRoomState(roomId);
 
-        chattingRoomMemberRepository.findByChattingRoomIdAndUserId(roomId, userId)
+        room.member(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_MEMBER_NOT_FOUND));
 
         return buildWaitingRoomResponse(room);
     }
 
     public ChatRoomStartResponse getChatRoomDetail(Long roomId, Long userId) {
-        ChattingRoomAndMember context = findChattingRoomAndMember(roomId, userId);
-        ChattingRoom room = context.room();
+        RoomState room = findRoomState(roomId);
+
+        if (room.status() != RoomStatus.CHATTING) {
+            throw new BusinessException(ErrorCode.CHAT_ROOM_NOT_CHATTING);
+        }
+
+        room.member(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_MEMBER_NOT_FOUND));
 
-        List<ChattingRoomMember> activeMembers = findActiveMembers(roomId);
+        List<RoomState.MemberState> activeMembers = room.activeMembers();
 
         List<ChatStartMemberItem> agreeMembers = activeMembers.stream()
-                .filter(m -> m.getPosition() == Position.AGREE)
+                .filter(m -> m.position() == Position.AGREE)
                 .map(m -> ChatStartMemberItem.from(m, imageUrlResolver))
                 .toList();
         List<ChatStartMemberItem> disagreeMembers = activeMembers.stream()
-                .filter(m -> m.getPosition() == Position.DISAGREE)
+                .filter(m -> m.position() == Position.DISAGREE)
                 .map(m -> ChatStartMemberItem.from(m, imageUrlResolver))
                 .toList();
 
-        RoomRound activeRound = roomRoundRepository.findByChattingRoomIdAndEndedAtIsNull(roomId)
+        RoomState.RoundState activeRound = room.findActiveRound()
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_ROUND_NOT_FOUND));
 
         return new ChatRoomStartResponse(
-                room.getTopic(), agreeMembers, disagreeMembers, activeRound.getRoundNumber(), activeRound.getStartedAt());
+                room.topic(), agreeMembers, disagreeMembers, activeRound.roundNumber(), activeRound.startedAt());
+    }
+
+    WaitingRoomResponse buildWaitingRoomResponse(RoomState room) {
+        List<RoomState.MemberState> activeMembers = room.activeMembers();
+
+        int agreeCount = (int) activeMembers.stream()
+                .filter(m -> m.position() == Position.AGREE).count();
+        int disagreeCount = (int) activeMembers.stream()
+                .filter(m -> m.position() == Position.DISAGREE).count();
+        int maxPerPosition = room.capacity() / 2;
+
+        List<WaitingRoomMemberItem> members = activeMembers.stream()
+                .map(m -> WaitingRoomMemberItem.from(m, imageUrlResolver))
+                .toList();
+
+        return new WaitingRoomResponse(room.roomId(), agreeCount, disagreeCount, maxPerPosition, members);
     }
 
     WaitingRoomResponse buildWaitingRoomResponse(ChattingRoom room) {
@@ -143,13 +168,14 @@ public class ChatRoomQueryService {
         }
     }
 
-    private ChattingRoom findRoom(Long roomId) {
-        return chattingRoomRepository.findById(roomId)
+    private RoomState findRoomState(Long roomId) {
+        return roomStateCache.get(roomId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
     }
 
-    private List<ChattingRoomMember> findActiveMembers(Long roomId) {
-        return chattingRoomMemberRepository.findByChattingRoomIdAndStatusIn(roomId, ACTIVE_STATUSES);
+    private ChattingRoom findRoom(Long roomId) {
+        return chattingRoomRepository.findById(roomId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
     }
 
     record ChattingRoomAndMember(ChattingRoom room, ChattingRoomMember member) {}
@@ -9,6 +9,7 @@ import com.example.doktoribackend.exception.BusinessException;
 import com.example.doktoribackend.summary.service.RoundSummaryService;
 import com.example.doktoribackend.vote.service.VoteService;
 import com.example.doktoribackend.quiz.service.QuizService;
+import com.example.doktoribackend.room.cache.RoomStateCache;
 import com.example.doktoribackend.room.domain.ChattingRoom;
 import com.example.doktoribackend.room.domain.ChattingRoomMember;
 import com.example.doktoribackend.room.domain.MemberStatus;
@@ -60,6 +61,7 @@ public class ChatRoomService {
     private final BookRepository bookRepository;
     private final ChatRoomQueryService chatRoomQueryService;
     private final RoundSummaryService roundSummaryService;
+    private final RoomStateCache roomStateCache;
 
     public ChatRoomCreateResponse createChatRoom(Long userId, ChatRoomCreateRequest request) {
         validateCapacity(request.capacity());
@@ -101,6 +103,7 @@ public class ChatRoomService {
 
         member.leave();
         room.decreaseMemberCount();
+        roomStateCache.evictAfterCommit(roomId);
 
         if (room.getStatus() == RoomStatus.WAITING && member.isHost()) {
             room.cancel();
@@ -133,6 +136,7 @@ public class ChatRoomService {
         chattingRoomMemberRepository.save(member);
 
         room.increaseMemberCount();
+        roomStateCache.evictAfterCommit(roomId);
 
         WaitingRoomResponse response = chatRoomQueryService.buildWaitingRoomResponse(room);
         chatRoomEventPublisher.broadcastWaitingRoomUpdate(roomId, response);
@@ -171,6 +175,7 @@ public class ChatRoomService {
         }
 
         RoomRound firstRound = createRound(room, 1);
+        roomStateCache.evictAfterCommit(roomId);
 
         List<ChattingRoomMember> activeMembers = findActiveMembers(roomId);
 
@@ -215,6 +220,7 @@ public class ChatRoomService {
         currentRound.endRound();
 
         RoomRound newRound = createRound(room, completedRoundNumber + 1);
+        roomStateCache.evictAfterCommit(roomId);
 
         NextRoundResponse response = new NextRoundResponse(newRound.getRoundNumber(), newRound.getStartedAt());
         chatRoomEventPublisher.broadcastNextRound(roomId, response);
@@ -271,6 +277,7 @@ public class ChatRoomService {
         leaveAllActiveMembers(room.getId());
         voteService.createVote(room, memberCount);
         sessionRegistry.removeAllForRoom(room.getId());
+        roomStateCache.evictAfterCommit(room.getId());
         chatRoomEventPublisher.broadcastEnded(room.getId());
 
         if (lastRound != null) {
@@ -1,135 +1,312 @@
 package com.example.doktoribackend.room.service;
 
+import com.example.doktoribackend.config.ClusterMessageBus;
 import com.example.doktoribackend.room.dto.ChatRoomStartResponse;
+import com.example.doktoribackend.room.dto.WaitingRoomEvent;
 import com.example.doktoribackend.room.dto.WaitingRoomResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
+/**
+ * 대기실 SSE 연결 관리.
+ * 브로드캐스트는 클러스터 버스로 발행하고, 각 노드는 버스에서 받은 이벤트를 자신에게 연결된 emitter에만 전달한다.
+ * 대기실 갱신은 방마다 짧은 구간 동안 모아 발행 시각이 가장 늦은 스냅샷만 보내고, 이미 받은 것보다 오래된 스냅샷은 버린다.
+ * 연결마다 작은 전송 큐를 두고 가상 스레드가 순서대로 비우며, 큐가 가득 찬 느린 연결은 끊어 재연결하게 한다.
+ * 채팅 시작/취소와 연결 종료는 버리지 않으며, 큐가 가득 차 있으면 대기 중인 스냅샷을 밀어내고 넣는다.
+ */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class WaitingRoomSseService {
 
     private static final long SSE_TIMEOUT = 30 * 60 * 1000L;
     private static final long HEARTBEAT_INTERVAL_SECONDS = 15;
+    static final long COALESCE_WINDOW_MILLIS = 100;
+    static final int SEND_QUEUE_CAPACITY = 8;
+    private static final String CHANNEL = "waiting-room";
+    // 큐에서 이 항목을 꺼내면 앞선 이벤트를 모두 보낸 뒤이므로 emitter를 닫는다.
+    private static final Outgoing CLOSE = new Outgoing(() -> null, false);
 
-    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService heartbeatExecutor =
+    private final ClusterMessageBus clusterMessageBus;
+
+    private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+    // 방별 마지막으로 받은 스냅샷. 전송한 뒤에도 남겨 두어 늦게 도착한 오래된 스냅샷을 걸러낸다.
+    private final Map<Long, PendingUpdate> pendingUpdates = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler =
             Executors.newSingleThreadScheduledExecutor(r -> {
-                Thread t = new Thread(r, "sse-heartbeat");
+                Thread t = new Thread(r, "sse-scheduler");
                 t.setDaemon(true);
                 return t;
             });
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     @jakarta.annotation.PostConstruct
     private void startHeartbeat() {
-        heartbeatExecutor.scheduleAtFixedRate(this::sendHeartbeatToAll,
+        clusterMessageBus.subscribe(CHANNEL, WaitingRoomEvent.class, this::handleEvent);
+        scheduler.scheduleAtFixedRate(this::sendHeartbeatToAll,
                 HEARTBEAT_INTERVAL_SECONDS, HEARTBEAT_INTERVAL_SECONDS, TimeUnit.SECONDS);
     }
 
     @jakarta.annotation.PreDestroy
     private void stopHeartbeat() {
-        heartbeatExecutor.shutdown();
+        scheduler.shutdown();
+        sendExecutor.shutdown();
     }
 
     private void sendHeartbeatToAll() {
-        emitters.forEach((roomId, roomEmitters) -> {
-            for (SseEmitter emitter : roomEmitters) {
-                try {
-                    emitter.send(SseEmitter.event().comment("heartbeat"));
-                } catch (IOException e) {
-                    remove(roomId, emitter);
-                }
+        connections.values().forEach(roomConnections -> {
+            for (Connection connection : roomConnections) {
+                connection.enqueueHeartbeat();
             }
         });
     }
 
     public SseEmitter subscribe(Long roomId) {
         SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
-
-        emitters.computeIfAbsent(roomId, k -> new CopyOnWriteArrayList<>()).add(emitter);
-
-        emitter.onCompletion(() -> remove(roomId, emitter));
-        emitter.onTimeout(() -> remove(roomId, emitter));
-        emitter.onError(e -> remove(roomId, emitter));
+        Connection connection = register(roomId, emitter);
 
         try {
             emitter.send(SseEmitter.event()
                     .name("connect")
                     .data("connected"));
         } catch (IOException e) {
-            remove(roomId, emitter);
+            remove(connection);
         }
 
         return emitter;
     }
 
+    Connection register(Long roomId, SseEmitter emitter) {
+        Connection connection = new Connection(roomId, emitter);
+        connections.computeIfAbsent(roomId, k -> new CopyOnWriteArrayList<>()).add(connection);
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+        return connection;
+    }
+
+    int connectionCount(Long roomId) {
+        List<Connection> roomConnections = connections.get(roomId);
+        return roomConnections == null ? 0 : roomConnections.size();
+    }
+
     public void broadcast(Long roomId, WaitingRoomResponse response) {
-        List<SseEmitter> roomEmitters = emitters.get(roomId);
-        if (roomEmitters == null) {
+        clusterMessageBus.publish(CHANNEL, WaitingRoomEvent.updated(roomId, response));
+    }
+
+    public void broadcastCancelledAndClose(Long roomId) {
+        clusterMessageBus.publish(CHANNEL, WaitingRoomEvent.cancelled(roomId));
+    }
+
+    public void broadcastStartedAndClose(Long roomId, ChatRoomStartResponse response) {
+        clusterMessageBus.publish(CHANNEL, WaitingRoomEvent.started(roomId, response));
+    }
+
+    private void handleEvent(WaitingRoomEvent event) {
+        switch (event.type()) {
+            case UPDATED -> sendUpdate(event.roomId(), event.waitingRoom(), event.issuedAt());
+            case CANCELLED -> sendCancelledAndClose(event.roomId());
+            case STARTED -> sendStartedAndClose(event.roomId(), event.started());
+        }
+    }
+
+    private void sendUpdate(Long roomId, WaitingRoomResponse response, long issuedAt) {
+        if (!connections.containsKey(roomId)) {
             return;
         }
 
-        for (SseEmitter emitter : roomEmitters) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("waiting-room-update")
-                        .data(response));
-            } catch (IOException e) {
-                remove(roomId, emitter);
+        // 더 늦게 발행된 스냅샷만 받아들이고, 보낼 스냅샷이 없던 상태에서 받았을 때만 전송을 예약한다.
+        boolean[] scheduleFlush = {false};
+        pendingUpdates.compute(roomId, (id, current) -> {
+            if (current != null && current.issuedAt() > issuedAt) {
+                return current;
             }
+            scheduleFlush[0] = current == null || current.sent();
+            return new PendingUpdate(response, issuedAt, false);
+        });
+        if (scheduleFlush[0]) {
+            scheduler.schedule(() -> flushUpdate(roomId), COALESCE_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
         }
     }
 
-    public void broadcastCancelledAndClose(Long roomId) {
-        List<SseEmitter> roomEmitters = emitters.remove(roomId);
-        if (roomEmitters == null) {
+    private void flushUpdate(Long roomId) {
+        PendingUpdate[] flushed = {null};
+        pendingUpdates.computeIfPresent(roomId, (id, current) -> {
+            if (current.sent()) {
+                return current;
+            }
+            flushed[0] = current;
+            return new PendingUpdate(current.response(), current.issuedAt(), true);
+        });
+        List<Connection> roomConnections = connections.get(roomId);
+        if (flushed[0] == null || roomConnections == null) {
             return;
         }
 
-        for (SseEmitter emitter : roomEmitters) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("room-cancelled")
-                        .data("방장이 나가 채팅방이 취소되었습니다."));
-            } catch (IOException e) {
-                remove(roomId, emitter);
-            }
+        WaitingRoomResponse response = flushed[0].response();
+        for (Connection connection : roomConnections) {
+            connection.enqueue(() -> SseEmitter.event()
+                    .name("waiting-room-update")
+                    .data(response));
         }
     }
 
-    public void broadcastStartedAndClose(Long roomId, ChatRoomStartResponse response) {
-        List<SseEmitter> roomEmitters = emitters.remove(roomId);
-        if (roomEmitters == null) {
+    private void sendCancelledAndClose(Long roomId) {
+        sendAndClose(roomId, () -> SseEmitter.event()
+                .name("room-cancelled")
+                .data("방장이 나가 채팅방이 취소되었습니다."));
+    }
+
+    private void sendStartedAndClose(Long roomId, ChatRoomStartResponse response) {
+        sendAndClose(roomId, () -> SseEmitter.event()
+                .name("room-started")
+                .data(response));
+    }
+
+    private void sendAndClose(Long roomId, Supplier<SseEmitter.SseEventBuilder> event) {
+        pendingUpdates.remove(roomId);
+        List<Connection> roomConnections = connections.remove(roomId);
+        if (roomConnections == null) {
             return;
         }
 
-        for (SseEmitter emitter : roomEmitters) {
+        for (Connection connection : roomConnections) {
+            connection.enqueueTerminal(new Outgoing(event, false));
+            connection.enqueueTerminal(CLOSE);
+        }
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.roomId, (id, roomConnections) -> {
+            roomConnections.remove(connection);
+            if (roomConnections.isEmpty()) {
+                pendingUpdates.remove(id);
+                return null;
+            }
+            return roomConnections;
+        });
+    }
+
+    private record PendingUpdate(WaitingRoomResponse response, long issuedAt, boolean sent) {}
+
+    /**
+     * 전송 큐 항목. 스냅샷과 heartbeat는 더 중요한 이벤트에 자리를 내줄 수 있다(droppable).
+     */
+    private record Outgoing(Supplier<SseEmitter.SseEventBuilder> event, boolean droppable) {}
+
+    /**
+     * 연결 하나와 그 연결의 전송 큐.
+     * SseEventBuilder는 build 시 내부 버퍼를 변경하므로 전송 직전에 만든다.
+     */
+    final class Connection {
+
+        private final Long roomId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Outgoing> queue = new ArrayBlockingQueue<>(SEND_QUEUE_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        private Connection(Long roomId, SseEmitter emitter) {
+            this.roomId = roomId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(Supplier<SseEmitter.SseEventBuilder> event) {
+            if (!queue.offer(new Outgoing(event, true))) {
+                log.warn("[SSE] 대기실 전송 큐가 가득 차 연결을 끊음 - roomId: {}", roomId);
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * 채팅 시작/취소와 연결 종료처럼 버리면 안 되는 항목. 큐가 가득 차 있으면 가장 오래된 스냅샷을 밀어낸다.
+         */
+        private void enqueueTerminal(Outgoing outgoing) {
+            while (!queue.offer(outgoing)) {
+                if (!evictDroppable()) {
+                    log.warn("[SSE] 대기실 전송 큐에 종료 이벤트를 넣지 못해 연결을 끊음 - roomId: {}", roomId);
+                    emitter.complete();
+                    return;
+                }
+            }
+            scheduleDrain();
+        }
+
+        private boolean evictDroppable() {
+            Iterator<Outgoing> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().droppable()) {
+                    iterator.remove();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void enqueueHeartbeat() {
+            // 밀린 이벤트가 있으면 그 전송이 연결 확인을 대신한다.
+            if (queue.isEmpty() && queue.offer(new Outgoing(() -> SseEmitter.event().comment("heartbeat"), true))) {
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
             try {
-                emitter.send(SseEmitter.event()
-                        .name("room-started")
-                        .data(response));
-            } catch (IOException e) {
-                remove(roomId, emitter);
+                Outgoing outgoing;
+                while ((outgoing = queue.poll()) != null) {
+                    if (outgoing == CLOSE) {
+                        queue.clear();
+                        emitter.complete();
+                        return;
+                    }
+                    if (!send(outgoing.event().get())) {
+                        queue.clear();
+                        return;
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+            // 비운 직후 들어온 이벤트를 놓치지 않도록 다시 확인한다.
+            if (!queue.isEmpty()) {
+                scheduleDrain();
             }
         }
-    }
 
-    private void remove(Long roomId, SseEmitter emitter) {
-        List<SseEmitter> roomEmitters = emitters.get(roomId);
-        if (roomEmitters != null) {
-            roomEmitters.remove(emitter);
-            if (roomEmitters.isEmpty()) {
-                emitters.remove(roomId);
+        private boolean send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.warn("[SSE] 대기실 이벤트 전송 실패 - roomId: {}, reason: {}", roomId, e.toString());
+                remove(this);
+                return false;
             }
         }
     }
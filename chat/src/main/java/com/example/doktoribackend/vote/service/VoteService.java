@@ -4,7 +4,7 @@ import com.example.doktoribackend.common.error.ErrorCode;
 import com.example.doktoribackend.exception.BusinessException;
 import com.example.doktoribackend.room.domain.ChattingRoom;
 import com.example.doktoribackend.room.domain.Position;
-import com.example.doktoribackend.room.repository.ChattingRoomMemberRepository;
+import com.example.doktoribackend.room.cache.RoomStateCache;
 import com.example.doktoribackend.vote.domain.Vote;
 import com.example.doktoribackend.vote.domain.VoteCast;
 import com.example.doktoribackend.vote.domain.VoteCastId;
@@ -26,7 +26,7 @@ public class VoteService {
 
     private final VoteRepository voteRepository;
     private final VoteCastRepository voteCastRepository;
-    private final ChattingRoomMemberRepository chattingRoomMemberRepository;
+    private final RoomStateCache roomStateCache;
 
     @Transactional
     public void createVote(ChattingRoom room, int totalMemberCount) {
@@ -86,7 +86,8 @@ public class VoteService {
     }
 
     private void validateMember(Long roomId, Long userId) {
-        chattingRoomMemberRepository.findByChattingRoomIdAndUserId(roomId, userId)
+        roomStateCache.get(roomId)
+                .flatMap(room -> room.member(userId))
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_MEMBER_NOT_FOUND));
     }
 }
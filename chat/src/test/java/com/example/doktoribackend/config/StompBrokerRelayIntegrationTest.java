@@ -0,0 +1,181 @@
+package com.example.doktoribackend.config;
+
+import com.example.doktoribackend.room.dto.WaitingRoomEvent;
+import com.example.doktoribackend.security.jwt.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 Artemis를 외부 STOMP 브로커 대신 띄워 relay 모드를 검증한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DirtiesContext
+class StompBrokerRelayIntegrationTest {
+
+    private static final int BROKER_PORT = findFreePort();
+    private static EmbeddedActiveMQ broker;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ClusterMessageBus clusterMessageBus;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private StompBrokerRelayMessageHandler brokerRelay;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void startBroker() throws Exception {
+        broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + BROKER_PORT
+                        + "?protocols=STOMP;anycastPrefix=/queue/;multicastPrefix=/topic/"));
+        broker.start();
+    }
+
+    @AfterAll
+    static void stopBroker() throws Exception {
+        broker.stop();
+    }
+
+    @DynamicPropertySource
+    static void brokerProperties(DynamicPropertyRegistry registry) {
+        registry.add("chat.broker.type", () -> "relay");
+        registry.add("chat.broker.relay.host", () -> "127.0.0.1");
+        registry.add("chat.broker.relay.port", () -> BROKER_PORT);
+    }
+
+    @Test
+    @DisplayName("relay 모드에서는 StompRelayClusterMessageBus가 사용된다")
+    void relayBusIsActive() {
+        assertThat(clusterMessageBus).isInstanceOf(StompRelayClusterMessageBus.class);
+    }
+
+    @Test
+    @DisplayName("클러스터 버스로 발행한 이벤트가 외부 브로커를 거쳐 구독자에게 전달된다")
+    void clusterBus_roundTripThroughBroker() throws Exception {
+        // given
+        awaitBrokerAvailable();
+        BlockingQueue<WaitingRoomEvent> received = new LinkedBlockingQueue<>();
+        clusterMessageBus.subscribe("relay-test", WaitingRoomEvent.class, received::offer);
+
+        // when
+        WaitingRoomEvent event = null;
+        for (int attempt = 0; attempt < 20 && event == null; attempt++) {
+            clusterMessageBus.publish("relay-test", WaitingRoomEvent.cancelled(10L));
+            event = received.poll(500, TimeUnit.MILLISECONDS);
+        }
+
+        // then
+        assertThat(event).isNotNull();
+        assertThat(event.type()).isEqualTo(WaitingRoomEvent.Type.CANCELLED);
+        assertThat(event.roomId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("채팅방 토픽 브로드캐스트가 외부 브로커를 거쳐 웹소켓 구독자에게 전달된다")
+    void chatRoomTopic_relayedToSubscriber() throws Exception {
+        // given
+        awaitBrokerAvailable();
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        stompClient.setMessageConverter(converter);
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + jwtTokenProvider.createAccessToken(1L, "테스터"));
+        StompSession session = stompClient.connectAsync(
+                "ws://localhost:" + port + "/api/ws",
+                new WebSocketHttpHeaders(),
+                connectHeaders,
+                new StompSessionHandlerAdapter() {}
+        ).get(5, TimeUnit.SECONDS);
+
+        BlockingQueue<Map<String, Object>> queue = new LinkedBlockingQueue<>();
+        session.subscribe("/topic/chat-rooms/999", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return new ParameterizedTypeReference<Map<String, Object>>() {}.getType();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void handleFrame(StompHeaders headers, Object payload) {
+                queue.offer((Map<String, Object>) payload);
+            }
+        });
+
+        // when
+        Map<String, Object> received = null;
+        for (int attempt = 0; attempt < 20 && received == null; attempt++) {
+            messagingTemplate.convertAndSend("/topic/chat-rooms/999", Map.of("type", "ROOM_ENDED"));
+            received = queue.poll(500, TimeUnit.MILLISECONDS);
+        }
+
+        // then
+        assertThat(received).isNotNull();
+        assertThat(received.get("type")).isEqualTo("ROOM_ENDED");
+
+        stompClient.stop();
+    }
+
+    private void awaitBrokerAvailable() throws InterruptedException {
+        for (int attempt = 0; attempt < 50 && !brokerRelay.isBrokerAvailable(); attempt++) {
+            Thread.sleep(200);
+        }
+        assertThat(brokerRelay.isBrokerAvailable()).isTrue();
+    }
+
+    private static int findFreePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
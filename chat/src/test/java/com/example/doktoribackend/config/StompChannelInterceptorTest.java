@@ -3,6 +3,7 @@ package com.example.doktoribackend.config;
 import com.example.doktoribackend.common.error.ErrorCode;
 import com.example.doktoribackend.exception.BusinessException;
 import com.example.doktoribackend.security.CustomUserDetails;
+import com.example.doktoribackend.security.jwt.JwtPrincipal;
 import com.example.doktoribackend.security.jwt.JwtTokenProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +20,8 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
+import java.time.Instant;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
@@ -58,8 +61,8 @@ class StompChannelInterceptorTest {
         accessor.setLeaveMutable(true);
         Message<?> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
 
-        given(jwtTokenProvider.getUserIdFromAccessToken(VALID_TOKEN)).willReturn(USER_ID);
-        given(jwtTokenProvider.getNicknameFromAccessToken(VALID_TOKEN)).willReturn(NICKNAME);
+        given(jwtTokenProvider.verifyAccessToken(VALID_TOKEN))
+                .willReturn(new JwtPrincipal(USER_ID, NICKNAME, Instant.now().plusSeconds(1800)));
 
         Message<?> result = interceptor.preSend(message, channel);
 
@@ -104,11 +107,45 @@ class StompChannelInterceptorTest {
         accessor.addNativeHeader("Authorization", "Bearer expired.token");
         Message<?> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
 
-        given(jwtTokenProvider.getUserIdFromAccessToken("expired.token"))
+        given(jwtTokenProvider.verifyAccessToken("expired.token"))
                 .willThrow(new BusinessException(ErrorCode.TOKEN_EXPIRED));
 
         assertThatThrownBy(() -> interceptor.preSend(message, channel))
                 .isInstanceOf(MessageDeliveryException.class)
                 .hasMessageContaining("토큰이 만료되었습니다");
     }
+
+    @Test
+    @DisplayName("내부 클러스터 채널은 구독할 수 없다")
+    void subscribeToClusterChannelThrowsException() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(ClusterMessageBus.DESTINATION_PREFIX + "presence");
+        Message<?> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        assertThatThrownBy(() -> interceptor.preSend(message, channel))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    @DisplayName("내부 클러스터 채널로는 메시지를 보낼 수 없다")
+    void sendToClusterChannelThrowsException() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination(ClusterMessageBus.DESTINATION_PREFIX + "room-state");
+        Message<?> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        assertThatThrownBy(() -> interceptor.preSend(message, channel))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    @DisplayName("채팅방 토픽 구독은 그대로 통과한다")
+    void subscribeToChatRoomTopicPassesThrough() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination("/topic/chat-rooms/1");
+        Message<?> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        Message<?> result = interceptor.preSend(message, channel);
+
+        assertThat(result).isSameAs(message);
+    }
 }
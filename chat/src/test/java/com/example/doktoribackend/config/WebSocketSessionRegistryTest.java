@@ -0,0 +1,138 @@
+package com.example.doktoribackend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebSocketSessionRegistryTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long ROOM_ID = 10L;
+
+    private static final Duration NODE_EXPIRY = Duration.ofSeconds(30);
+
+    private LocalClusterMessageBus bus;
+    private WebSocketSessionRegistry nodeA;
+    private WebSocketSessionRegistry nodeB;
+
+    @BeforeEach
+    void setUp() {
+        bus = new LocalClusterMessageBus();
+        nodeA = new WebSocketSessionRegistry(bus, NODE_EXPIRY);
+        nodeB = new WebSocketSessionRegistry(bus, NODE_EXPIRY);
+        nodeA.start();
+        nodeB.start();
+    }
+
+    @Test
+    @DisplayName("마지막 세션이 해제되면 세션 정보를 반환한다")
+    void unregister_lastSession() {
+        // given
+        nodeA.register("s1", USER_ID, ROOM_ID);
+
+        // when
+        Optional<WebSocketSessionRegistry.SessionInfo> result = nodeA.unregister("s1");
+
+        // then
+        assertThat(result).contains(new WebSocketSessionRegistry.SessionInfo(USER_ID, ROOM_ID));
+    }
+
+    @Test
+    @DisplayName("같은 노드에 세션이 남아 있으면 빈 값을 반환한다")
+    void unregister_otherLocalSessionRemains() {
+        // given
+        nodeA.register("s1", USER_ID, ROOM_ID);
+        nodeA.register("s2", USER_ID, ROOM_ID);
+
+        // when
+        Optional<WebSocketSessionRegistry.SessionInfo> result = nodeA.unregister("s1");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드에 세션이 남아 있으면 빈 값을 반환한다")
+    void unregister_remoteSessionRemains() {
+        // given
+        nodeA.register("s1", USER_ID, ROOM_ID);
+        nodeB.register("s2", USER_ID, ROOM_ID);
+
+        // when
+        Optional<WebSocketSessionRegistry.SessionInfo> result = nodeA.unregister("s1");
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(nodeB.unregister("s2")).isPresent();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 종료되면 그 노드의 세션은 더 이상 고려하지 않는다")
+    void unregister_remoteNodeLeft() {
+        // given
+        nodeA.register("s1", USER_ID, ROOM_ID);
+        nodeB.register("s2", USER_ID, ROOM_ID);
+        nodeB.stop();
+
+        // when
+        Optional<WebSocketSessionRegistry.SessionInfo> result = nodeA.unregister("s1");
+
+        // then
+        assertThat(result).isPresent();
+    }
+
+    @Test
+    @DisplayName("방의 세션을 정리하면 모든 노드에서 해당 방 세션이 제거된다")
+    void removeAllForRoom_clearsEveryNode() {
+        // given
+        nodeA.register("s1", USER_ID, ROOM_ID);
+        nodeB.register("s2", 2L, ROOM_ID);
+
+        // when
+        nodeA.removeAllForRoom(ROOM_ID);
+
+        // then
+        assertThat(nodeA.unregister("s1")).isEmpty();
+        assertThat(nodeB.unregister("s2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("하트비트가 오는 동안에는 다른 노드의 세션을 유지한다")
+    void expireSilentNodes_keepsLiveNodes() {
+        // given
+        nodeA.register("s1", USER_ID, ROOM_ID);
+        nodeB.register("s2", USER_ID, ROOM_ID);
+        nodeB.sendHeartbeat();
+
+        // when
+        List<WebSocketSessionRegistry.SessionInfo> orphaned = nodeA.expireSilentNodes();
+
+        // then
+        assertThat(orphaned).isEmpty();
+        assertThat(nodeA.unregister("s1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("응답 없는 노드의 세션 수는 버리고, 그 노드에만 세션이 있던 멤버를 돌려준다")
+    void expireSilentNodes_dropsCrashedNode() {
+        // given
+        WebSocketSessionRegistry survivor = new WebSocketSessionRegistry(bus, Duration.ZERO);
+        survivor.start();
+        survivor.register("s1", USER_ID, ROOM_ID);
+        nodeB.register("s2", USER_ID, ROOM_ID);
+        nodeB.register("s3", 2L, ROOM_ID);
+
+        // when
+        List<WebSocketSessionRegistry.SessionInfo> orphaned = survivor.expireSilentNodes();
+
+        // then
+        assertThat(orphaned).containsExactly(new WebSocketSessionRegistry.SessionInfo(2L, ROOM_ID));
+        assertThat(survivor.unregister("s1")).contains(new WebSocketSessionRegistry.SessionInfo(USER_ID, ROOM_ID));
+    }
+}
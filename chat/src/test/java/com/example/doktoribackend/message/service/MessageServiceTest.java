@@ -9,15 +9,14 @@ import com.example.doktoribackend.message.dto.MessageListResponse;
 import com.example.doktoribackend.message.dto.MessageResponse;
 import com.example.doktoribackend.message.dto.MessageSendRequest;
 import com.example.doktoribackend.message.repository.MessageRepository;
+import com.example.doktoribackend.room.cache.RoomState;
+import com.example.doktoribackend.room.cache.RoomStateCache;
 import com.example.doktoribackend.room.domain.ChattingRoom;
 import com.example.doktoribackend.room.domain.ChattingRoomMember;
 import com.example.doktoribackend.room.domain.MemberStatus;
 import com.example.doktoribackend.room.domain.Position;
 import com.example.doktoribackend.room.domain.RoomRound;
 import com.example.doktoribackend.room.domain.RoomStatus;
-import com.example.doktoribackend.room.repository.ChattingRoomMemberRepository;
-import com.example.doktoribackend.room.repository.ChattingRoomRepository;
-import com.example.doktoribackend.room.repository.RoomRoundRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -33,7 +32,6 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -51,16 +49,13 @@ class MessageServiceTest {
     private MessageRepository messageRepository;
 
     @Mock
-    private ChattingRoomRepository chattingRoomRepository;
+    private RoomStateCache roomStateCache;
 
     @Mock
-    private ChattingRoomMemberRepository chattingRoomMemberRepository;
-
-    @Mock
-    private RoomRoundRepository roomRoundRepository;
+    private ImageUrlResolver imageUrlResolver;
 
     @Mock
-    private ImageUrlResolver imageUrlResolver;
+    private MessageWriteBehindBuffer messageWriteBehindBuffer;
 
     @InjectMocks
     private MessageService messageService;
@@ -98,6 +93,15 @@ class MessageServiceTest {
         return round;
     }
 
+    private void stubRoomState(RoomStatus roomStatus, MemberStatus memberStatus, boolean hasActiveRound) {
+        List<ChattingRoomMember> members = memberStatus == null
+                ? List.of()
+                : List.of(createMemberWithStatus(memberStatus));
+        RoomState state = RoomState.of(
+                createRoomWithStatus(roomStatus), members, hasActiveRound ? createActiveRound() : null);
+        given(roomStateCache.get(ROOM_ID)).willReturn(Optional.of(state));
+    }
+
     private static final String FILE_PATH = "images/chats/550e8400-e29b-41d4-a716-446655440000.png";
 
     private MessageSendRequest createRequest() {
@@ -109,12 +113,7 @@ class MessageServiceTest {
     }
 
     private void stubSuccessScenario() {
-        given(chattingRoomRepository.findById(ROOM_ID))
-                .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
-        given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, SENDER_ID))
-                .willReturn(Optional.of(createMemberWithStatus(MemberStatus.JOINED)));
-        given(roomRoundRepository.findByChattingRoomIdAndEndedAtIsNull(ROOM_ID))
-                .willReturn(Optional.of(createActiveRound()));
+        stubRoomState(RoomStatus.CHATTING, MemberStatus.JOINED, true);
         given(messageRepository.findByRoomIdAndSenderIdAndClientMessageId(
                 ROOM_ID, SENDER_ID, CLIENT_MESSAGE_ID))
                 .willReturn(Optional.empty());
@@ -217,7 +216,7 @@ class MessageServiceTest {
         void sendMessage_roomNotFound() {
             // given
             MessageSendRequest request = createRequest();
-            given(chattingRoomRepository.findById(ROOM_ID)).willReturn(Optional.empty());
+            given(roomStateCache.get(ROOM_ID)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> messageService.sendMessage(
@@ -232,8 +231,7 @@ class MessageServiceTest {
         void sendMessage_waitingRoom() {
             // given
             MessageSendRequest request = createRequest();
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.WAITING)));
+            stubRoomState(RoomStatus.WAITING, null, false);
 
             // when & then
             assertThatThrownBy(() -> messageService.sendMessage(
@@ -248,8 +246,7 @@ class MessageServiceTest {
         void sendMessage_endedRoom() {
             // given
             MessageSendRequest request = createRequest();
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.ENDED)));
+            stubRoomState(RoomStatus.ENDED, null, false);
 
             // when & then
             assertThatThrownBy(() -> messageService.sendMessage(
@@ -264,8 +261,7 @@ class MessageServiceTest {
         void sendMessage_cancelledRoom() {
             // given
             MessageSendRequest request = createRequest();
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CANCELLED)));
+            stubRoomState(RoomStatus.CANCELLED, null, false);
 
             // when & then
             assertThatThrownBy(() -> messageService.sendMessage(
@@ -285,10 +281,7 @@ class MessageServiceTest {
         void sendMessage_memberNotFound() {
             // given
             MessageSendRequest request = createRequest();
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, SENDER_ID))
-                    .willReturn(Optional.empty());
+            stubRoomState(RoomStatus.CHATTING, null, false);
 
             // when & then
             assertThatThrownBy(() -> messageService.sendMessage(
@@ -303,10 +296,7 @@ class MessageServiceTest {
         void sendMessage_waitingMember() {
             // given
             MessageSendRequest request = createRequest();
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, SENDER_ID))
-                    .willReturn(Optional.of(createMemberWithStatus(MemberStatus.WAITING)));
+            stubRoomState(RoomStatus.CHATTING, MemberStatus.WAITING, false);
 
             // when & then
             assertThatThrownBy(() -> messageService.sendMessage(
@@ -321,12 +311,7 @@ class MessageServiceTest {
         void sendMessage_disconnectedMember() {
             // given
             MessageSendRequest request = createRequest();
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, SENDER_ID))
-                    .willReturn(Optional.of(createMemberWithStatus(MemberStatus.DISCONNECTED)));
-            given(roomRoundRepository.findByChattingRoomIdAndEndedAtIsNull(ROOM_ID))
-                    .willReturn(Optional.of(createActiveRound()));
+            stubRoomState(RoomStatus.CHATTING, MemberStatus.DISCONNECTED, true);
             given(messageRepository.findByRoomIdAndSenderIdAndClientMessageId(
                     ROOM_ID, SENDER_ID, CLIENT_MESSAGE_ID))
                     .willReturn(Optional.empty());
@@ -346,10 +331,7 @@ class MessageServiceTest {
         void sendMessage_leftMember() {
             // given
             MessageSendRequest request = createRequest();
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, SENDER_ID))
-                    .willReturn(Optional.of(createMemberWithStatus(MemberStatus.LEFT)));
+            stubRoomState(RoomStatus.CHATTING, MemberStatus.LEFT, false);
 
             // when & then
             assertThatThrownBy(() -> messageService.sendMessage(
@@ -369,12 +351,7 @@ class MessageServiceTest {
         void sendMessage_roundNotFound() {
             // given
             MessageSendRequest request = createRequest();
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, SENDER_ID))
-                    .willReturn(Optional.of(createMemberWithStatus(MemberStatus.JOINED)));
-            given(roomRoundRepository.findByChattingRoomIdAndEndedAtIsNull(ROOM_ID))
-                    .willReturn(Optional.empty());
+            stubRoomState(RoomStatus.CHATTING, MemberStatus.JOINED, false);
 
             // when & then
             assertThatThrownBy(() -> messageService.sendMessage(
@@ -401,12 +378,7 @@ class MessageServiceTest {
         void sendMessage_duplicate_returnsExistingMessage() {
             // given
             Message existingMessage = createExistingMessage();
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, SENDER_ID))
-                    .willReturn(Optional.of(createMemberWithStatus(MemberStatus.JOINED)));
-            given(roomRoundRepository.findByChattingRoomIdAndEndedAtIsNull(ROOM_ID))
-                    .willReturn(Optional.of(createActiveRound()));
+            stubRoomState(RoomStatus.CHATTING, MemberStatus.JOINED, true);
             given(messageRepository.findByRoomIdAndSenderIdAndClientMessageId(
                     ROOM_ID, SENDER_ID, CLIENT_MESSAGE_ID))
                     .willReturn(Optional.of(existingMessage));
@@ -428,12 +400,7 @@ class MessageServiceTest {
         void sendMessage_duplicate_saveNotCalled() {
             // given
             Message existingMessage = createExistingMessage();
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, SENDER_ID))
-                    .willReturn(Optional.of(createMemberWithStatus(MemberStatus.JOINED)));
-            given(roomRoundRepository.findByChattingRoomIdAndEndedAtIsNull(ROOM_ID))
-                    .willReturn(Optional.of(createActiveRound()));
+            stubRoomState(RoomStatus.CHATTING, MemberStatus.JOINED, true);
             given(messageRepository.findByRoomIdAndSenderIdAndClientMessageId(
                     ROOM_ID, SENDER_ID, CLIENT_MESSAGE_ID))
                     .willReturn(Optional.of(existingMessage));
@@ -451,12 +418,7 @@ class MessageServiceTest {
         void sendMessage_raceCondition_returnsExistingMessage() {
             // given
             Message existingMessage = createExistingMessage();
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, SENDER_ID))
-                    .willReturn(Optional.of(createMemberWithStatus(MemberStatus.JOINED)));
-            given(roomRoundRepository.findByChattingRoomIdAndEndedAtIsNull(ROOM_ID))
-                    .willReturn(Optional.of(createActiveRound()));
+            stubRoomState(RoomStatus.CHATTING, MemberStatus.JOINED, true);
             given(messageRepository.findByRoomIdAndSenderIdAndClientMessageId(
                     ROOM_ID, SENDER_ID, CLIENT_MESSAGE_ID))
                     .willReturn(Optional.empty())
@@ -477,6 +439,76 @@ class MessageServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("write-behind 모드")
+    class WriteBehind {
+
+        private void stubValidationPasses() {
+            stubRoomState(RoomStatus.CHATTING, MemberStatus.JOINED, true);
+            given(messageWriteBehindBuffer.isEnabled()).willReturn(true);
+        }
+
+        @Test
+        @DisplayName("버퍼에 적재되면 버퍼의 응답을 반환하고 DB에 직접 저장하지 않는다")
+        void sendMessage_buffered() {
+            // given
+            stubValidationPasses();
+            MessageResponse buffered = new MessageResponse(
+                    null, SENDER_ID, SENDER_NICKNAME, MessageType.TEXT, TEXT_MESSAGE, null, null);
+            given(messageWriteBehindBuffer.enqueue(any(Message.class), eq(SENDER_NICKNAME)))
+                    .willReturn(Optional.of(buffered));
+
+            // when
+            MessageResponse response = messageService.sendMessage(
+                    ROOM_ID, SENDER_ID, SENDER_NICKNAME, createRequest());
+
+            // then
+            assertThat(response).isSameAs(buffered);
+            then(messageRepository).should(never()).findByRoomIdAndSenderIdAndClientMessageId(any(), any(), any());
+            then(messageRepository).should(never()).saveAndFlush(any());
+        }
+
+        @Test
+        @DisplayName("버퍼에 적재되는 메시지는 진행 중인 라운드 id를 가진다")
+        void sendMessage_buffered_correctRoundId() {
+            // given
+            stubValidationPasses();
+            ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+            given(messageWriteBehindBuffer.enqueue(messageCaptor.capture(), eq(SENDER_NICKNAME)))
+                    .willReturn(Optional.of(new MessageResponse(
+                            null, SENDER_ID, SENDER_NICKNAME, MessageType.TEXT, TEXT_MESSAGE, null, null)));
+
+            // when
+            messageService.sendMessage(ROOM_ID, SENDER_ID, SENDER_NICKNAME, createRequest());
+
+            // then
+            Message queued = messageCaptor.getValue();
+            assertThat(queued.getRoundId()).isEqualTo(ROUND_ID);
+            assertThat(queued.getClientMessageId()).isEqualTo(CLIENT_MESSAGE_ID);
+        }
+
+        @Test
+        @DisplayName("버퍼가 메시지를 받지 않으면(종료 중) 동기 저장으로 처리한다")
+        void sendMessage_bufferClosed_fallsBackToSync() {
+            // given
+            stubValidationPasses();
+            given(messageWriteBehindBuffer.enqueue(any(Message.class), eq(SENDER_NICKNAME)))
+                    .willReturn(Optional.empty());
+            given(messageRepository.findByRoomIdAndSenderIdAndClientMessageId(
+                    ROOM_ID, SENDER_ID, CLIENT_MESSAGE_ID))
+                    .willReturn(Optional.empty());
+            given(imageUrlResolver.toUrl(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            MessageResponse response = messageService.sendMessage(
+                    ROOM_ID, SENDER_ID, SENDER_NICKNAME, createRequest());
+
+            // then
+            assertThat(response.textMessage()).isEqualTo(TEXT_MESSAGE);
+            then(messageRepository).should().saveAndFlush(any(Message.class));
+        }
+    }
+
     @Nested
     @DisplayName("메시지 목록 조회")
     class GetMessages {
@@ -488,7 +520,7 @@ class MessageServiceTest {
             return message;
         }
 
-        private ChattingRoomMember createRoomMember(Long userId, String nickname) {
+        private ChattingRoomMember createRoomMember(Long userId, String nickname, MemberStatus status) {
             ChattingRoom room = createRoomWithStatus(RoomStatus.CHATTING);
             ChattingRoomMember member = ChattingRoomMember.builder()
                     .chattingRoom(room)
@@ -496,13 +528,20 @@ class MessageServiceTest {
                     .nickname(nickname)
                     .position(Position.AGREE)
                     .build();
-            ReflectionTestUtils.setField(member, "status", MemberStatus.JOINED);
+            ReflectionTestUtils.setField(member, "status", status);
             return member;
         }
 
+        private void stubMemberWithStatus(MemberStatus status) {
+            RoomState state = RoomState.of(
+                    createRoomWithStatus(RoomStatus.CHATTING),
+                    List.of(createRoomMember(SENDER_ID, SENDER_NICKNAME, status)),
+                    createActiveRound());
+            given(roomStateCache.get(ROOM_ID)).willReturn(Optional.of(state));
+        }
+
         private void stubMemberExists() {
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, SENDER_ID))
-                    .willReturn(Optional.of(createRoomMember(SENDER_ID, SENDER_NICKNAME)));
+            stubMemberWithStatus(MemberStatus.JOINED);
         }
 
         private void stubImageUrlResolver() {
@@ -518,14 +557,10 @@ class MessageServiceTest {
                     createMessage(3L, SENDER_ID, "세번째"),
                     createMessage(2L, SENDER_ID, "두번째")
             );
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
             stubMemberExists();
             stubImageUrlResolver();
             given(messageRepository.findByRoomIdWithCursor(eq(ROOM_ID), eq(null), any(PageRequest.class)))
                     .willReturn(messages);
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserIdIn(eq(ROOM_ID), eq(Set.of(SENDER_ID))))
-                    .willReturn(List.of(createRoomMember(SENDER_ID, SENDER_NICKNAME)));
 
             // when
             MessageListResponse response = messageService.getMessages(ROOM_ID, SENDER_ID, null, size);
@@ -548,14 +583,10 @@ class MessageServiceTest {
                     createMessage(4L, SENDER_ID, "네번째"),
                     createMessage(3L, SENDER_ID, "세번째")
             );
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
             stubMemberExists();
             stubImageUrlResolver();
             given(messageRepository.findByRoomIdWithCursor(eq(ROOM_ID), eq(null), any(PageRequest.class)))
                     .willReturn(messages);
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserIdIn(eq(ROOM_ID), eq(Set.of(SENDER_ID))))
-                    .willReturn(List.of(createRoomMember(SENDER_ID, SENDER_NICKNAME)));
 
             // when
             MessageListResponse response = messageService.getMessages(ROOM_ID, SENDER_ID, null, size);
@@ -577,14 +608,10 @@ class MessageServiceTest {
                     createMessage(4L, SENDER_ID, "네번째"),
                     createMessage(3L, SENDER_ID, "세번째")
             );
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
             stubMemberExists();
             stubImageUrlResolver();
             given(messageRepository.findByRoomIdWithCursor(eq(ROOM_ID), eq(cursorId), any(PageRequest.class)))
                     .willReturn(messages);
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserIdIn(eq(ROOM_ID), eq(Set.of(SENDER_ID))))
-                    .willReturn(List.of(createRoomMember(SENDER_ID, SENDER_NICKNAME)));
 
             // when
             MessageListResponse response = messageService.getMessages(ROOM_ID, SENDER_ID, cursorId, size);
@@ -598,8 +625,6 @@ class MessageServiceTest {
         @DisplayName("메시지가 없으면 빈 리스트를 반환한다")
         void getMessages_emptyResult() {
             // given
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
             stubMemberExists();
             given(messageRepository.findByRoomIdWithCursor(eq(ROOM_ID), eq(null), any(PageRequest.class)))
                     .willReturn(Collections.emptyList());
@@ -611,14 +636,13 @@ class MessageServiceTest {
             assertThat(response.messages()).isEmpty();
             assertThat(response.pageInfo().hasNext()).isFalse();
             assertThat(response.pageInfo().nextCursorId()).isNull();
-            then(chattingRoomMemberRepository).should(never()).findByChattingRoomIdAndUserIdIn(any(), any());
         }
 
         @Test
         @DisplayName("존재하지 않는 채팅방이면 CHAT_ROOM_NOT_FOUND 예외가 발생한다")
         void getMessages_roomNotFound() {
             // given
-            given(chattingRoomRepository.findById(ROOM_ID)).willReturn(Optional.empty());
+            given(roomStateCache.get(ROOM_ID)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> messageService.getMessages(ROOM_ID, SENDER_ID, null, 20))
@@ -631,10 +655,7 @@ class MessageServiceTest {
         @DisplayName("채팅방 멤버가 아니면 CHAT_ROOM_MEMBER_NOT_FOUND 예외가 발생한다")
         void getMessages_memberNotFound() {
             // given
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, SENDER_ID))
-                    .willReturn(Optional.empty());
+            stubRoomState(RoomStatus.CHATTING, null, false);
 
             // when & then
             assertThatThrownBy(() -> messageService.getMessages(ROOM_ID, SENDER_ID, null, 20))
@@ -647,12 +668,7 @@ class MessageServiceTest {
         @DisplayName("WAITING 상태 멤버면 메시지 조회 시 CHAT_ROOM_MEMBER_NOT_FOUND 예외가 발생한다")
         void getMessages_waitingMember() {
             // given
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
-            ChattingRoomMember waitingMember = createRoomMember(SENDER_ID, SENDER_NICKNAME);
-            ReflectionTestUtils.setField(waitingMember, "status", MemberStatus.WAITING);
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, SENDER_ID))
-                    .willReturn(Optional.of(waitingMember));
+            stubMemberWithStatus(MemberStatus.WAITING);
 
             // when & then
             assertThatThrownBy(() -> messageService.getMessages(ROOM_ID, SENDER_ID, null, 20))
@@ -665,12 +681,7 @@ class MessageServiceTest {
         @DisplayName("DISCONNECTED 상태 멤버도 메시지를 조회할 수 있다")
         void getMessages_disconnectedMember() {
             // given
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
-            ChattingRoomMember disconnectedMember = createRoomMember(SENDER_ID, SENDER_NICKNAME);
-            ReflectionTestUtils.setField(disconnectedMember, "status", MemberStatus.DISCONNECTED);
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, SENDER_ID))
-                    .willReturn(Optional.of(disconnectedMember));
+            stubMemberWithStatus(MemberStatus.DISCONNECTED);
             given(messageRepository.findByRoomIdWithCursor(eq(ROOM_ID), eq(null), any(PageRequest.class)))
                     .willReturn(Collections.emptyList());
 
@@ -686,12 +697,7 @@ class MessageServiceTest {
         @DisplayName("LEFT 상태 멤버면 메시지 조회 시 CHAT_ROOM_MEMBER_NOT_FOUND 예외가 발생한다")
         void getMessages_leftMember() {
             // given
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
-            ChattingRoomMember leftMember = createRoomMember(SENDER_ID, SENDER_NICKNAME);
-            ReflectionTestUtils.setField(leftMember, "status", MemberStatus.LEFT);
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, SENDER_ID))
-                    .willReturn(Optional.of(leftMember));
+            stubMemberWithStatus(MemberStatus.LEFT);
 
             // when & then
             assertThatThrownBy(() -> messageService.getMessages(ROOM_ID, SENDER_ID, null, 20))
@@ -708,14 +714,10 @@ class MessageServiceTest {
             List<Message> messages = List.of(
                     createMessage(1L, unknownSenderId, "메시지")
             );
-            given(chattingRoomRepository.findById(ROOM_ID))
-                    .willReturn(Optional.of(createRoomWithStatus(RoomStatus.CHATTING)));
             stubMemberExists();
             stubImageUrlResolver();
             given(messageRepository.findByRoomIdWithCursor(eq(ROOM_ID), eq(null), any(PageRequest.class)))
                     .willReturn(messages);
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserIdIn(eq(ROOM_ID), eq(Set.of(unknownSenderId))))
-                    .willReturn(List.of(createRoomMember(SENDER_ID, SENDER_NICKNAME)));
 
             // when
             MessageListResponse response = messageService.getMessages(ROOM_ID, SENDER_ID, null, 20);
@@ -0,0 +1,264 @@
+package com.example.doktoribackend.message.service;
+
+import com.example.doktoribackend.common.s3.ImageUrlResolver;
+import com.example.doktoribackend.exception.BusinessException;
+import com.example.doktoribackend.message.domain.Message;
+import com.example.doktoribackend.message.dto.MessageResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class MessageWriteBehindBufferTest {
+
+    private static final Long ROOM_ID = 10L;
+    private static final Long ROUND_ID = 100L;
+    private static final Long SENDER_ID = 1L;
+    private static final String SENDER_NICKNAME = "테스터";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private MeterRegistry meterRegistry;
+    private MessageWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = new MessageWriteBehindBuffer(
+                jdbcTemplate, new ImageUrlResolver(""), meterRegistry, true, 2, 100, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.shutdown();
+    }
+
+    private Message textMessage(String clientMessageId) {
+        return Message.createTextMessage(ROOM_ID, ROUND_ID, SENDER_ID, clientMessageId, "안녕하세요");
+    }
+
+    @Test
+    @DisplayName("적재된 메시지는 messageId 없이 createdAt이 채워진 응답을 반환한다")
+    void enqueue_returnsPendingResponse() {
+        // when
+        Optional<MessageResponse> response = buffer.enqueue(textMessage("c-1"), SENDER_NICKNAME);
+
+        // then
+        assertThat(response).isPresent();
+        assertThat(response.get().messageId()).isNull();
+        assertThat(response.get().createdAt()).isNotNull();
+        assertThat(response.get().senderNickname()).isEqualTo(SENDER_NICKNAME);
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 clientMessageId는 다시 적재하지 않고 기존 응답을 반환한다")
+    void enqueue_duplicate_returnsSameResponse() {
+        // given
+        MessageResponse first = buffer.enqueue(textMessage("c-1"), SENDER_NICKNAME).orElseThrow();
+
+        // when
+        MessageResponse second = buffer.enqueue(textMessage("c-1"), SENDER_NICKNAME).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.message.write_behind.duplicate").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("방 큐가 가득 차면 쌓인 메시지를 먼저 저장한 뒤 새 메시지를 적재한다")
+    void enqueue_queueFull_flushesBeforeAccepting() {
+        // given
+        buffer.enqueue(textMessage("c-1"), SENDER_NICKNAME);
+        buffer.enqueue(textMessage("c-2"), SENDER_NICKNAME);
+        given(jdbcTemplate.update(anyString(), any(Object[].class))).willReturn(2);
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+
+        // when
+        Optional<MessageResponse> response = buffer.enqueue(textMessage("c-3"), SENDER_NICKNAME);
+
+        // then
+        assertThat(response).isPresent();
+        then(jdbcTemplate).should(times(1)).update(anyString(), argsCaptor.capture());
+        assertThat(argsCaptor.getValue()).contains("c-1", "c-2").doesNotContain("c-3");
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.message.write_behind.sync_flush").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.message.write_behind.fallback").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 장애로 방 큐를 비울 수 없으면 메시지를 버리지 않고 새 메시지 전송을 거부한다")
+    void enqueue_queueFullAndDbDown_rejectsWithoutDropping() {
+        // given
+        given(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .willThrow(new CannotGetJdbcConnectionException("down"));
+        buffer.enqueue(textMessage("c-1"), SENDER_NICKNAME);
+        buffer.enqueue(textMessage("c-2"), SENDER_NICKNAME);
+        buffer.enqueue(textMessage("c-3"), SENDER_NICKNAME);
+        buffer.enqueue(textMessage("c-4"), SENDER_NICKNAME);
+
+        // when & then
+        assertThatThrownBy(() -> buffer.enqueue(textMessage("c-5"), SENDER_NICKNAME))
+                .isInstanceOf(BusinessException.class);
+        assertThat(buffer.pendingCount()).isEqualTo(4);
+        assertThat(meterRegistry.counter("chat.message.write_behind.failed").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush 시 방의 메시지를 하나의 multi-row INSERT로 저장한다")
+    void flushAll_multiRowInsert() {
+        // given
+        buffer.enqueue(textMessage("c-1"), SENDER_NICKNAME);
+        buffer.enqueue(textMessage("c-2"), SENDER_NICKNAME);
+        given(jdbcTemplate.update(anyString(), any(Object[].class))).willReturn(2);
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+
+        // when
+        buffer.flushAll();
+
+        // then
+        then(jdbcTemplate).should(times(1)).update(sqlCaptor.capture(), any(Object[].class));
+        assertThat(sqlCaptor.getValue())
+                .startsWith("INSERT INTO messages")
+                .contains("(?, ?, ?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?, ?, ?)")
+                .endsWith("ON DUPLICATE KEY UPDATE id = id")
+                .doesNotContain("IGNORE");
+        assertThat(buffer.pendingCount()).isZero();
+        assertThat(meterRegistry.summary("chat.message.write_behind.batch.size").totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일괄 저장이 실패하면 단건 저장으로 재시도한다")
+    void flushAll_batchFailure_retriesOneByOne() {
+        // given
+        buffer.enqueue(textMessage("c-1"), SENDER_NICKNAME);
+        buffer.enqueue(textMessage("c-2"), SENDER_NICKNAME);
+        given(jdbcTemplate.update(anyString(), any(Object[].class))).willAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            if (sql.contains("), (")) {
+                throw new DataIntegrityViolationException("fk");
+            }
+            return 1;
+        });
+
+        // when
+        buffer.flushAll();
+
+        // then
+        then(jdbcTemplate).should(times(3)).update(anyString(), any(Object[].class));
+        assertThat(meterRegistry.counter("chat.message.write_behind.failed").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 남아 있는 메시지를 모두 저장한다")
+    void shutdown_flushesRemaining() {
+        // given
+        buffer.enqueue(textMessage("c-1"), SENDER_NICKNAME);
+        given(jdbcTemplate.update(anyString(), any(Object[].class))).willReturn(1);
+
+        // when
+        buffer.shutdown();
+
+        // then
+        then(jdbcTemplate).should().update(anyString(), any(Object[].class));
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 장애로 저장하지 못한 배치는 버리지 않고 백오프 후 다시 저장한다")
+    void flushAll_dbUnavailable_keepsBatchForRetry() {
+        // given
+        buffer.enqueue(textMessage("c-1"), SENDER_NICKNAME);
+        given(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .willThrow(new CannotGetJdbcConnectionException("down"))
+                .willReturn(1);
+
+        // when
+        buffer.flushAll();
+        buffer.flushAll();
+
+        // then
+        then(jdbcTemplate).should(times(1)).update(anyString(), any(Object[].class));
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.message.write_behind.failed").count()).isZero();
+
+        // when
+        buffer.shutdown();
+
+        // then
+        then(jdbcTemplate).should(times(2)).update(anyString(), any(Object[].class));
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("단건 저장도 실패한 메시지(FK 위반 등)는 실패로 집계한다")
+    void flushAll_rowFailure_countsFailed() {
+        // given
+        buffer.enqueue(textMessage("c-1"), SENDER_NICKNAME);
+        given(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .willThrow(new DataIntegrityViolationException("fk"));
+
+        // when
+        buffer.flushAll();
+
+        // then
+        assertThat(meterRegistry.counter("chat.message.write_behind.failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.message.write_behind.ignored").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료가 시작된 뒤의 적재는 빈 값을 반환해 동기 저장으로 넘긴다")
+    void enqueue_afterShutdown_fallsBack() {
+        // given
+        MessageWriteBehindBuffer small = new MessageWriteBehindBuffer(
+                jdbcTemplate, new ImageUrlResolver(""), meterRegistry, true, 10, 1, 60_000);
+        small.shutdown();
+
+        // when
+        Optional<MessageResponse> response = small.enqueue(textMessage("c-1"), SENDER_NICKNAME);
+
+        // then
+        assertThat(response).isEmpty();
+        assertThat(small.pendingCount()).isZero();
+        assertThat(meterRegistry.counter("chat.message.write_behind.fallback").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 flush 스레드를 시작하지 않는다")
+    void disabled_doesNotSchedule() {
+        // given
+        MessageWriteBehindBuffer disabled = new MessageWriteBehindBuffer(
+                jdbcTemplate, new ImageUrlResolver(""), new SimpleMeterRegistry(), false, 10, 100, 10);
+
+        // when
+        disabled.start();
+        disabled.shutdown();
+
+        // then
+        assertThat(disabled.isEnabled()).isFalse();
+        then(jdbcTemplate).should(never()).update(anyString(), any(Object[].class));
+    }
+}
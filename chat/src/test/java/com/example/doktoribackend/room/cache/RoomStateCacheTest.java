@@ -0,0 +1,282 @@
+package com.example.doktoribackend.room.cache;
+
+import com.example.doktoribackend.config.LocalClusterMessageBus;
+import com.example.doktoribackend.room.domain.ChattingRoom;
+import com.example.doktoribackend.room.domain.ChattingRoomMember;
+import com.example.doktoribackend.room.domain.MemberStatus;
+import com.example.doktoribackend.room.domain.Position;
+import com.example.doktoribackend.room.domain.RoomRound;
+import com.example.doktoribackend.room.domain.RoomStatus;
+import com.example.doktoribackend.room.repository.ChattingRoomMemberRepository;
+import com.example.doktoribackend.room.repository.ChattingRoomRepository;
+import com.example.doktoribackend.room.repository.RoomRoundRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class RoomStateCacheTest {
+
+    private static final Long ROOM_ID = 10L;
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private ChattingRoomRepository chattingRoomRepository;
+
+    @Mock
+    private ChattingRoomMemberRepository chattingRoomMemberRepository;
+
+    @Mock
+    private RoomRoundRepository roomRoundRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+    private LocalClusterMessageBus clusterMessageBus;
+    private RoomStateCache roomStateCache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any()))
+                .thenReturn(mock(TransactionStatus.class));
+        meterRegistry = new SimpleMeterRegistry();
+        clusterMessageBus = new LocalClusterMessageBus();
+        roomStateCache = new RoomStateCache(chattingRoomRepository, chattingRoomMemberRepository,
+                roomRoundRepository, transactionManager, clusterMessageBus, meterRegistry);
+        roomStateCache.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private ChattingRoom createRoom() {
+        ChattingRoom room = ChattingRoom.builder()
+                .topic("주제").description("설명").capacity(4).build();
+        ReflectionTestUtils.setField(room, "id", ROOM_ID);
+        ReflectionTestUtils.setField(room, "status", RoomStatus.CHATTING);
+        return room;
+    }
+
+    private void stubRoomLoad() {
+        ChattingRoom room = createRoom();
+        ChattingRoomMember member = ChattingRoomMember.builder()
+                .chattingRoom(room).userId(USER_ID).nickname("테스터")
+                .position(Position.AGREE).build();
+        ReflectionTestUtils.setField(member, "status", MemberStatus.JOINED);
+        RoomRound round = RoomRound.builder().chattingRoom(room).roundNumber(1).build();
+        ReflectionTestUtils.setField(round, "id", 100L);
+
+        given(chattingRoomRepository.findById(ROOM_ID)).willReturn(Optional.of(room));
+        given(chattingRoomMemberRepository.findByChattingRoomId(ROOM_ID)).willReturn(List.of(member));
+        given(roomRoundRepository.findByChattingRoomIdAndEndedAtIsNull(ROOM_ID)).willReturn(Optional.of(round));
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.counter("chat.room_state.cache", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("처음 조회하면 DB에서 적재하고 이후 조회는 캐시에서 반환한다")
+    void get_loadsOnceThenHits() {
+        // given
+        stubRoomLoad();
+
+        // when
+        RoomState first = roomStateCache.get(ROOM_ID).orElseThrow();
+        RoomState second = roomStateCache.get(ROOM_ID).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.member(USER_ID)).isPresent();
+        assertThat(first.findActiveRound()).map(RoomState.RoundState::roundId).contains(100L);
+        then(chattingRoomRepository).should(times(1)).findById(ROOM_ID);
+        assertThat(cacheCount("miss")).isEqualTo(1);
+        assertThat(cacheCount("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 방은 캐시하지 않고 빈 값을 반환한다")
+    void get_roomNotFound() {
+        // given
+        given(chattingRoomRepository.findById(ROOM_ID)).willReturn(Optional.empty());
+
+        // when
+        Optional<RoomState> result = roomStateCache.get(ROOM_ID);
+        roomStateCache.get(ROOM_ID);
+
+        // then
+        assertThat(result).isEmpty();
+        then(chattingRoomRepository).should(times(2)).findById(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("evict 이후 조회는 DB에서 다시 적재한다")
+    void evict_reloads() {
+        // given
+        stubRoomLoad();
+        roomStateCache.get(ROOM_ID);
+
+        // when
+        roomStateCache.evict(ROOM_ID);
+        roomStateCache.get(ROOM_ID);
+
+        // then
+        then(chattingRoomRepository).should(times(2)).findById(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서의 무효화는 트랜잭션이 끝난 뒤에 반영된다")
+    void evictAfterCommit_deferredUntilCompletion() {
+        // given
+        stubRoomLoad();
+        roomStateCache.get(ROOM_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        roomStateCache.evictAfterCommit(ROOM_ID);
+        roomStateCache.get(ROOM_ID);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        roomStateCache.get(ROOM_ID);
+
+        // then
+        then(chattingRoomRepository).should(times(2)).findById(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("커밋 후 무효화는 클러스터 버스로 다른 노드에 전파된다")
+    void evictAfterCommit_publishesToCluster() {
+        // given
+        List<RoomStateCache.RoomStateEvicted> published = new ArrayList<>();
+        clusterMessageBus.subscribe("room-state", RoomStateCache.RoomStateEvicted.class, published::add);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        roomStateCache.evictAfterCommit(ROOM_ID);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        assertThat(published).containsExactly(new RoomStateCache.RoomStateEvicted(ROOM_ID));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 이벤트를 받으면 캐시된 방을 다시 적재한다")
+    void remoteEviction_reloads() {
+        // given
+        stubRoomLoad();
+        roomStateCache.get(ROOM_ID);
+
+        // when
+        clusterMessageBus.publish("room-state", new RoomStateCache.RoomStateEvicted(ROOM_ID));
+        roomStateCache.get(ROOM_ID);
+
+        // then
+        then(chattingRoomRepository).should(times(2)).findById(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 안에서 조회해도 새 읽기/쓰기 트랜잭션에서 적재한다")
+    void get_insideReadOnlyTransaction_loadsInNewReadWriteTransaction() {
+        // given
+        RecordingTransactionManager recordingManager = new RecordingTransactionManager();
+        RoomStateCache cache = new RoomStateCache(chattingRoomRepository, chattingRoomMemberRepository,
+                roomRoundRepository, recordingManager, clusterMessageBus, meterRegistry);
+        List<Boolean> readOnlyDuringLoad = new ArrayList<>();
+        given(chattingRoomRepository.findById(ROOM_ID)).willAnswer(invocation -> {
+            readOnlyDuringLoad.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return Optional.of(createRoom());
+        });
+        TransactionTemplate readOnlyTx = new TransactionTemplate(recordingManager);
+        readOnlyTx.setReadOnly(true);
+
+        // when
+        readOnlyTx.executeWithoutResult(status -> cache.get(ROOM_ID));
+
+        // then
+        assertThat(readOnlyDuringLoad).containsExactly(false);
+        assertThat(recordingManager.begun).hasSize(2);
+        TransactionDefinition loadDefinition = recordingManager.begun.get(1);
+        assertThat(loadDefinition.getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        assertThat(loadDefinition.isReadOnly()).isFalse();
+    }
+
+    /**
+     * 트랜잭션 시작/합류/일시 중지를 실제 매니저처럼 처리하고, 새로 시작한 트랜잭션의 정의를 기록한다.
+     */
+    private static final class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+        private final List<TransactionDefinition> begun = new ArrayList<>();
+        private int depth;
+
+        @Override
+        protected Object doGetTransaction() {
+            return depth > 0;
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return (Boolean) transaction;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            begun.add(definition);
+            depth++;
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            depth--;
+            return transaction;
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+            depth++;
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            depth--;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            depth--;
+        }
+    }
+}
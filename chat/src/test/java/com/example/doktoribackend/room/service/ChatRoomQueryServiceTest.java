@@ -3,6 +3,8 @@ package com.example.doktoribackend.room.service;
 import com.example.doktoribackend.common.error.ErrorCode;
 import com.example.doktoribackend.common.s3.ImageUrlResolver;
 import com.example.doktoribackend.exception.BusinessException;
+import com.example.doktoribackend.room.cache.RoomState;
+import com.example.doktoribackend.room.cache.RoomStateCache;
 import com.example.doktoribackend.room.domain.ChattingRoom;
 import com.example.doktoribackend.room.domain.ChattingRoomMember;
 import com.example.doktoribackend.room.domain.MemberRole;
@@ -50,6 +52,9 @@ class ChatRoomQueryServiceTest {
     @Mock
     private RoomRoundRepository roomRoundRepository;
 
+    @Mock
+    private RoomStateCache roomStateCache;
+
     @Mock
     private ImageUrlResolver imageUrlResolver;
 
@@ -207,11 +212,8 @@ class ChatRoomQueryServiceTest {
                     .profileImageUrl("http://host.url")
                     .role(MemberRole.HOST).position(Position.AGREE).build();
 
-            given(chattingRoomRepository.findById(ROOM_ID)).willReturn(Optional.of(room));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, USER_ID))
-                    .willReturn(Optional.of(host));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndStatusIn(eq(ROOM_ID), any()))
-                    .willReturn(List.of(host));
+            given(roomStateCache.get(ROOM_ID))
+                    .willReturn(Optional.of(RoomState.of(room, List.of(host), null)));
 
             // when
             WaitingRoomResponse response = chatRoomQueryService.getWaitingRoom(ROOM_ID, USER_ID);
@@ -228,7 +230,7 @@ class ChatRoomQueryServiceTest {
         @DisplayName("존재하지 않는 채팅방이면 CHAT_ROOM_NOT_FOUND 예외가 발생한다")
         void getWaitingRoom_roomNotFound() {
             // given
-            given(chattingRoomRepository.findById(ROOM_ID)).willReturn(Optional.empty());
+            given(roomStateCache.get(ROOM_ID)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> chatRoomQueryService.getWaitingRoom(ROOM_ID, USER_ID))
@@ -245,9 +247,8 @@ class ChatRoomQueryServiceTest {
                     .topic("주제").description("설명").capacity(4).build();
             ReflectionTestUtils.setField(room, "id", ROOM_ID);
 
-            given(chattingRoomRepository.findById(ROOM_ID)).willReturn(Optional.of(room));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, USER_ID))
-                    .willReturn(Optional.empty());
+            given(roomStateCache.get(ROOM_ID))
+                    .willReturn(Optional.of(RoomState.of(room, List.of(), null)));
 
             // when & then
             assertThatThrownBy(() -> chatRoomQueryService.getWaitingRoom(ROOM_ID, USER_ID))
@@ -295,13 +296,8 @@ class ChatRoomQueryServiceTest {
             ChattingRoomMember disagreeMember = createMember(room, 2L, Position.DISAGREE);
             RoomRound activeRound = createActiveRound(room, 1);
 
-            given(chattingRoomRepository.findById(ROOM_ID)).willReturn(Optional.of(room));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, USER_ID))
-                    .willReturn(Optional.of(agreeMember));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndStatusIn(eq(ROOM_ID), any()))
-                    .willReturn(List.of(agreeMember, disagreeMember));
-            given(roomRoundRepository.findByChattingRoomIdAndEndedAtIsNull(ROOM_ID))
-                    .willReturn(Optional.of(activeRound));
+            given(roomStateCache.get(ROOM_ID)).willReturn(Optional.of(
+                    RoomState.of(room, List.of(agreeMember, disagreeMember), activeRound)));
             given(imageUrlResolver.toUrl("http://profile.url")).willReturn("http://profile.url");
 
             // when
@@ -318,7 +314,7 @@ class ChatRoomQueryServiceTest {
         @DisplayName("존재하지 않는 채팅방이면 CHAT_ROOM_NOT_FOUND 예외가 발생한다")
         void getChatRoomDetail_roomNotFound() {
             // given
-            given(chattingRoomRepository.findById(ROOM_ID)).willReturn(Optional.empty());
+            given(roomStateCache.get(ROOM_ID)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> chatRoomQueryService.getChatRoomDetail(ROOM_ID, USER_ID))
@@ -333,7 +329,7 @@ class ChatRoomQueryServiceTest {
             // given
             ChattingRoom room = createChattingRoom();
             ReflectionTestUtils.setField(room, "status", RoomStatus.WAITING);
-            given(chattingRoomRepository.findById(ROOM_ID)).willReturn(Optional.of(room));
+            given(roomStateCache.get(ROOM_ID)).willReturn(Optional.of(RoomState.of(room, List.of(), null)));
 
             // when & then
             assertThatThrownBy(() -> chatRoomQueryService.getChatRoomDetail(ROOM_ID, USER_ID))
@@ -348,7 +344,7 @@ class ChatRoomQueryServiceTest {
             // given
             ChattingRoom room = createChattingRoom();
             ReflectionTestUtils.setField(room, "status", RoomStatus.ENDED);
-            given(chattingRoomRepository.findById(ROOM_ID)).willReturn(Optional.of(room));
+            given(roomStateCache.get(ROOM_ID)).willReturn(Optional.of(RoomState.of(room, List.of(), null)));
 
             // when & then
             assertThatThrownBy(() -> chatRoomQueryService.getChatRoomDetail(ROOM_ID, USER_ID))
@@ -362,9 +358,8 @@ class ChatRoomQueryServiceTest {
         void getChatRoomDetail_memberNotFound() {
             // given
             ChattingRoom room = createChattingRoom();
-            given(chattingRoomRepository.findById(ROOM_ID)).willReturn(Optional.of(room));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, USER_ID))
-                    .willReturn(Optional.empty());
+            given(roomStateCache.get(ROOM_ID))
+                    .willReturn(Optional.of(RoomState.of(room, List.of(), null)));
 
             // when & then
             assertThatThrownBy(() -> chatRoomQueryService.getChatRoomDetail(ROOM_ID, USER_ID))
@@ -380,13 +375,8 @@ class ChatRoomQueryServiceTest {
             ChattingRoom room = createChattingRoom();
             ChattingRoomMember member = createMember(room, USER_ID, Position.AGREE);
 
-            given(chattingRoomRepository.findById(ROOM_ID)).willReturn(Optional.of(room));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, USER_ID))
-                    .willReturn(Optional.of(member));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndStatusIn(eq(ROOM_ID), any()))
-                    .willReturn(List.of(member));
-            given(roomRoundRepository.findByChattingRoomIdAndEndedAtIsNull(ROOM_ID))
-                    .willReturn(Optional.empty());
+            given(roomStateCache.get(ROOM_ID))
+                    .willReturn(Optional.of(RoomState.of(room, List.of(member), null)));
 
             // when & then
             assertThatThrownBy(() -> chatRoomQueryService.getChatRoomDetail(ROOM_ID, USER_ID))
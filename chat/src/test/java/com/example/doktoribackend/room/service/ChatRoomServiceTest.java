@@ -7,6 +7,7 @@ import com.example.doktoribackend.common.error.ErrorCode;
 import com.example.doktoribackend.exception.BusinessException;
 import com.example.doktoribackend.quiz.service.QuizService;
 import com.example.doktoribackend.summary.service.RoundSummaryService;
+import com.example.doktoribackend.room.cache.RoomStateCache;
 import com.example.doktoribackend.room.domain.ChattingRoom;
 import com.example.doktoribackend.room.domain.ChattingRoomMember;
 import com.example.doktoribackend.room.domain.MemberRole;
@@ -99,6 +100,9 @@ class ChatRoomServiceTest {
     @Mock
     private RoundSummaryService roundSummaryService;
 
+    @Mock
+    private RoomStateCache roomStateCache;
+
     @InjectMocks
     private ChatRoomService chatRoomService;
 
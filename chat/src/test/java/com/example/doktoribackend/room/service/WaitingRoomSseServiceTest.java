@@ -0,0 +1,222 @@
+package com.example.doktoribackend.room.service;
+
+import com.example.doktoribackend.config.LocalClusterMessageBus;
+import com.example.doktoribackend.room.dto.ChatRoomStartResponse;
+import com.example.doktoribackend.room.dto.WaitingRoomEvent;
+import com.example.doktoribackend.room.dto.WaitingRoomResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+class WaitingRoomSseServiceTest {
+
+    private static final Long ROOM_ID = 10L;
+
+    private LocalClusterMessageBus clusterMessageBus;
+    private WaitingRoomSseService waitingRoomSseService;
+
+    @BeforeEach
+    void setUp() {
+        clusterMessageBus = new LocalClusterMessageBus();
+        waitingRoomSseService = new WaitingRoomSseService(clusterMessageBus);
+        ReflectionTestUtils.invokeMethod(waitingRoomSseService, "startHeartbeat");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(waitingRoomSseService, "stopHeartbeat");
+    }
+
+    private SseEmitter connect() {
+        SseEmitter emitter = mock(SseEmitter.class);
+        waitingRoomSseService.register(ROOM_ID, emitter);
+        return emitter;
+    }
+
+    private WaitingRoomResponse waitingRoom(int agreeCount) {
+        return new WaitingRoomResponse(ROOM_ID, agreeCount, 0, 2, List.of());
+    }
+
+    private void publishUpdate(WaitingRoomResponse response, long issuedAt) {
+        clusterMessageBus.publish("waiting-room",
+                new WaitingRoomEvent(WaitingRoomEvent.Type.UPDATED, ROOM_ID, response, null, issuedAt));
+    }
+
+    private static String render(SseEmitter.SseEventBuilder event) {
+        return event.build().stream()
+                .map(part -> String.valueOf(part.getData()))
+                .collect(Collectors.joining());
+    }
+
+    @Test
+    @DisplayName("짧은 구간 안의 대기실 갱신은 마지막 스냅샷 한 번으로 합쳐 전송한다")
+    void broadcast_coalescesUpdates() throws Exception {
+        // given
+        SseEmitter first = connect();
+        SseEmitter second = connect();
+
+        // when
+        for (int i = 1; i <= 10; i++) {
+            waitingRoomSseService.broadcast(ROOM_ID, waitingRoom(i));
+        }
+
+        // then
+        then(first).should(after(WaitingRoomSseService.COALESCE_WINDOW_MILLIS * 5).times(1))
+                .send(any(SseEmitter.SseEventBuilder.class));
+        then(second).should(times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("전송이 멈춘 emitter는 다른 emitter 전송을 막지 않는다")
+    void broadcast_stalledEmitterDoesNotBlockOthers() throws Exception {
+        // given
+        SseEmitter stalled = connect();
+        SseEmitter healthy = connect();
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            release.await();
+            return null;
+        }).given(stalled).send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        waitingRoomSseService.broadcast(ROOM_ID, waitingRoom(1));
+        waitingRoomSseService.broadcastCancelledAndClose(ROOM_ID);
+
+        // then
+        then(healthy).should(timeout(WaitingRoomSseService.COALESCE_WINDOW_MILLIS * 5)).complete();
+        then(stalled).should(never()).complete();
+        release.countDown();
+        then(stalled).should(timeout(WaitingRoomSseService.COALESCE_WINDOW_MILLIS * 5)).complete();
+    }
+
+    @Test
+    @DisplayName("종료 이벤트는 앞선 갱신 뒤에 전송하고 emitter를 닫는다")
+    void broadcastCancelled_keepsOrderAndCompletes() throws Exception {
+        // given
+        SseEmitter emitter = connect();
+        waitingRoomSseService.broadcast(ROOM_ID, waitingRoom(1));
+        then(emitter).should(timeout(WaitingRoomSseService.COALESCE_WINDOW_MILLIS * 5))
+                .send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        waitingRoomSseService.broadcastCancelledAndClose(ROOM_ID);
+
+        // then
+        then(emitter).should(timeout(WaitingRoomSseService.COALESCE_WINDOW_MILLIS * 5)).complete();
+        InOrder inOrder = inOrder(emitter);
+        inOrder.verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+        inOrder.verify(emitter).complete();
+        assertThat(waitingRoomSseService.connectionCount(ROOM_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 중인 갱신은 채팅 시작 이벤트가 오면 버리고 시작 이벤트만 전송한다")
+    void broadcastStarted_dropsPendingUpdate() throws Exception {
+        // given
+        SseEmitter emitter = connect();
+        ChatRoomStartResponse started = new ChatRoomStartResponse(
+                "주제", List.of(), List.of(), 1, LocalDateTime.now());
+
+        // when
+        waitingRoomSseService.broadcast(ROOM_ID, waitingRoom(1));
+        waitingRoomSseService.broadcastStartedAndClose(ROOM_ID, started);
+
+        // then
+        then(emitter).should(after(WaitingRoomSseService.COALESCE_WINDOW_MILLIS * 5).times(1))
+                .send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(waitingRoomSseService.connectionCount(ROOM_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("구간 안에 늦게 도착한 오래된 스냅샷은 더 최신 스냅샷을 덮어쓰지 않는다")
+    void broadcast_keepsNewestSnapshot() throws Exception {
+        // given
+        SseEmitter emitter = connect();
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+
+        // when
+        publishUpdate(waitingRoom(2), 2_000L);
+        publishUpdate(waitingRoom(1), 1_000L);
+
+        // then
+        then(emitter).should(after(WaitingRoomSseService.COALESCE_WINDOW_MILLIS * 5).times(1))
+                .send(captor.capture());
+        assertThat(captor.getValue().build())
+                .extracting(ResponseBodyEmitter.DataWithMediaType::getData)
+                .contains(waitingRoom(2));
+    }
+
+    @Test
+    @DisplayName("이미 전송한 스냅샷보다 오래된 스냅샷은 다음 구간에도 보내지 않는다")
+    void broadcast_dropsSnapshotOlderThanSent() throws Exception {
+        // given
+        SseEmitter emitter = connect();
+        publishUpdate(waitingRoom(2), 2_000L);
+        then(emitter).should(timeout(WaitingRoomSseService.COALESCE_WINDOW_MILLIS * 5))
+                .send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        publishUpdate(waitingRoom(1), 1_000L);
+
+        // then
+        then(emitter).should(after(WaitingRoomSseService.COALESCE_WINDOW_MILLIS * 5).times(1))
+                .send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("전송 큐가 가득 차 있어도 채팅 시작 이벤트와 종료는 스냅샷을 밀어내고 전송한다")
+    void broadcastStarted_evictsSnapshotWhenQueueFull() throws Exception {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        WaitingRoomSseService.Connection connection = waitingRoomSseService.register(ROOM_ID, emitter);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> sent = new CopyOnWriteArrayList<>();
+        willAnswer(invocation -> {
+            release.await();
+            sent.add(render(invocation.getArgument(0)));
+            return null;
+        }).given(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        connection.enqueue(() -> SseEmitter.event().name("waiting-room-update").data(waitingRoom(0)));
+        then(emitter).should(timeout(WaitingRoomSseService.COALESCE_WINDOW_MILLIS * 5))
+                .send(any(SseEmitter.SseEventBuilder.class));
+        for (int i = 1; i <= WaitingRoomSseService.SEND_QUEUE_CAPACITY; i++) {
+            WaitingRoomResponse snapshot = waitingRoom(i);
+            connection.enqueue(() -> SseEmitter.event().name("waiting-room-update").data(snapshot));
+        }
+        ChatRoomStartResponse started = new ChatRoomStartResponse(
+                "주제", List.of(), List.of(), 1, LocalDateTime.now());
+
+        // when
+        waitingRoomSseService.broadcastStartedAndClose(ROOM_ID, started);
+        release.countDown();
+
+        // then
+        then(emitter).should(timeout(WaitingRoomSseService.COALESCE_WINDOW_MILLIS * 5)).complete();
+        assertThat(sent).hasSize(WaitingRoomSseService.SEND_QUEUE_CAPACITY);
+        assertThat(sent.getLast()).contains("room-started");
+    }
+}
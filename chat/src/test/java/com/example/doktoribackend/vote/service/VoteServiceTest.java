@@ -2,12 +2,13 @@ package com.example.doktoribackend.vote.service;
 
 import com.example.doktoribackend.common.error.ErrorCode;
 import com.example.doktoribackend.exception.BusinessException;
+import com.example.doktoribackend.room.cache.RoomState;
+import com.example.doktoribackend.room.cache.RoomStateCache;
 import com.example.doktoribackend.room.domain.ChattingRoom;
 import com.example.doktoribackend.room.domain.ChattingRoomMember;
 import com.example.doktoribackend.room.domain.MemberRole;
 import com.example.doktoribackend.room.domain.MemberStatus;
 import com.example.doktoribackend.room.domain.Position;
-import com.example.doktoribackend.room.repository.ChattingRoomMemberRepository;
 import com.example.doktoribackend.vote.domain.Vote;
 import com.example.doktoribackend.vote.domain.VoteCast;
 import com.example.doktoribackend.vote.domain.VoteCastId;
@@ -24,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,7 +44,7 @@ class VoteServiceTest {
     private VoteCastRepository voteCastRepository;
 
     @Mock
-    private ChattingRoomMemberRepository chattingRoomMemberRepository;
+    private RoomStateCache roomStateCache;
 
     @InjectMocks
     private VoteService voteService;
@@ -79,6 +81,10 @@ class VoteServiceTest {
         return member;
     }
 
+    private Optional<RoomState> roomStateWith(List<ChattingRoomMember> members) {
+        return Optional.of(RoomState.of(createRoom(), members, null));
+    }
+
     @Nested
     @DisplayName("투표 생성")
     class CreateVote {
@@ -107,8 +113,7 @@ class VoteServiceTest {
             // given
             Vote vote = createOpenVote();
             given(voteRepository.findById(ROOM_ID)).willReturn(Optional.of(vote));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, USER_ID))
-                    .willReturn(Optional.of(createMember()));
+            given(roomStateCache.get(ROOM_ID)).willReturn(roomStateWith(List.of(createMember())));
             given(voteCastRepository.existsById(new VoteCastId(ROOM_ID, USER_ID))).willReturn(false);
 
             // when
@@ -126,8 +131,7 @@ class VoteServiceTest {
             // given
             Vote vote = createOpenVote();
             given(voteRepository.findById(ROOM_ID)).willReturn(Optional.of(vote));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, USER_ID))
-                    .willReturn(Optional.of(createMember()));
+            given(roomStateCache.get(ROOM_ID)).willReturn(roomStateWith(List.of(createMember())));
             given(voteCastRepository.existsById(new VoteCastId(ROOM_ID, USER_ID))).willReturn(false);
 
             // when
@@ -173,8 +177,7 @@ class VoteServiceTest {
             // given
             Vote vote = createOpenVote();
             given(voteRepository.findById(ROOM_ID)).willReturn(Optional.of(vote));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, USER_ID))
-                    .willReturn(Optional.empty());
+            given(roomStateCache.get(ROOM_ID)).willReturn(roomStateWith(List.of()));
 
             // when & then
             assertThatThrownBy(() -> voteService.castVote(ROOM_ID, USER_ID, Position.AGREE))
@@ -189,8 +192,7 @@ class VoteServiceTest {
             // given
             Vote vote = createOpenVote();
             given(voteRepository.findById(ROOM_ID)).willReturn(Optional.of(vote));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, USER_ID))
-                    .willReturn(Optional.of(createMember()));
+            given(roomStateCache.get(ROOM_ID)).willReturn(roomStateWith(List.of(createMember())));
             given(voteCastRepository.existsById(new VoteCastId(ROOM_ID, USER_ID))).willReturn(true);
 
             // when & then
@@ -216,8 +218,7 @@ class VoteServiceTest {
             VoteCast myVoteCast = VoteCast.create(vote, USER_ID, Position.AGREE);
 
             given(voteRepository.findById(ROOM_ID)).willReturn(Optional.of(vote));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, USER_ID))
-                    .willReturn(Optional.of(createMember()));
+            given(roomStateCache.get(ROOM_ID)).willReturn(roomStateWith(List.of(createMember())));
             given(voteCastRepository.findById(new VoteCastId(ROOM_ID, USER_ID)))
                     .willReturn(Optional.of(myVoteCast));
 
@@ -238,8 +239,7 @@ class VoteServiceTest {
             // given
             Vote vote = createOpenVote();
             given(voteRepository.findById(ROOM_ID)).willReturn(Optional.of(vote));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, USER_ID))
-                    .willReturn(Optional.of(createMember()));
+            given(roomStateCache.get(ROOM_ID)).willReturn(roomStateWith(List.of(createMember())));
             given(voteCastRepository.findById(new VoteCastId(ROOM_ID, USER_ID)))
                     .willReturn(Optional.empty());
 
@@ -257,8 +257,7 @@ class VoteServiceTest {
             // given
             Vote vote = createExpiredVote();
             given(voteRepository.findById(ROOM_ID)).willReturn(Optional.of(vote));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, USER_ID))
-                    .willReturn(Optional.of(createMember()));
+            given(roomStateCache.get(ROOM_ID)).willReturn(roomStateWith(List.of(createMember())));
             given(voteCastRepository.findById(new VoteCastId(ROOM_ID, USER_ID)))
                     .willReturn(Optional.empty());
 
@@ -289,8 +288,7 @@ class VoteServiceTest {
             // given
             Vote vote = createOpenVote();
             given(voteRepository.findById(ROOM_ID)).willReturn(Optional.of(vote));
-            given(chattingRoomMemberRepository.findByChattingRoomIdAndUserId(ROOM_ID, USER_ID))
-                    .willReturn(Optional.empty());
+            given(roomStateCache.get(ROOM_ID)).willReturn(roomStateWith(List.of()));
 
             // when & then
             assertThatThrownBy(() -> voteService.getVoteResult(ROOM_ID, USER_ID))
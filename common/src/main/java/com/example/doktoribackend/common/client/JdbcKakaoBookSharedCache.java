@@ -0,0 +1,53 @@
+package com.example.doktoribackend.common.client;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * api와 chat이 같이 쓰는 DB의 kakao_book_cache 테이블을 2차 캐시로 쓴다.
+ * kakao.book.cache.shared.enabled=true일 때만 등록된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kakao.book.cache.shared.enabled", havingValue = "true")
+public class JdbcKakaoBookSharedCache implements KakaoBookSharedCache {
+
+    private static final String SELECT_SQL = "SELECT payload FROM kakao_book_cache "
+            + "WHERE cache_key = ? AND expires_at > ?";
+    private static final String UPSERT_SQL = "INSERT INTO kakao_book_cache (cache_key, payload, expires_at) "
+            + "VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE payload = VALUES(payload), expires_at = VALUES(expires_at)";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM kakao_book_cache WHERE expires_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<String> get(String key) {
+        return jdbcTemplate.queryForList(SELECT_SQL, String.class, key, Timestamp.valueOf(LocalDateTime.now()))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public void put(String key, String payload, Duration ttl) {
+        jdbcTemplate.update(UPSERT_SQL, key, payload, Timestamp.valueOf(LocalDateTime.now().plus(ttl)));
+    }
+
+    @Scheduled(fixedDelay = 600_000)
+    public void deleteExpired() {
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(LocalDateTime.now()));
+        if (deleted > 0) {
+            log.debug("만료된 Kakao 도서 캐시 {}건 삭제", deleted);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.doktoribackend.common.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Kakao 도서 검색/ISBN 조회 결과 캐시.
+ * 1차는 서버 메모리(크기 + TTL 제한), 2차는 선택적인 {@link KakaoBookSharedCache}이다.
+ * 같은 키를 동시에 조회하면 먼저 온 요청 하나만 Kakao를 호출하고 나머지는 그 결과를 기다린다.
+ * ISBN으로 찾지 못한 결과도 짧은 TTL로 캐시하지만, 호출 실패(loader 예외)는 캐시하지 않는다.
+ */
+@Slf4j
+@Component
+public class KakaoBookCache {
+
+    private static final int MAX_SHARED_KEY_LENGTH = 255;
+
+    private final Region<KakaoBookResponse> searches;
+    private final Region<Optional<KakaoBookResponse.KakaoBookDocument>> isbns;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final KakaoBookSharedCache sharedCache;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public KakaoBookCache(
+            Optional<KakaoBookSharedCache> sharedCache,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${kakao.book.cache.search-ttl:10m}") Duration searchTtl,
+            @Value("${kakao.book.cache.search-max-size:2000}") int searchMaxSize,
+            @Value("${kakao.book.cache.isbn-ttl:24h}") Duration isbnTtl,
+            @Value("${kakao.book.cache.isbn-miss-ttl:1h}") Duration isbnMissTtl,
+            @Value("${kakao.book.cache.isbn-max-size:10000}") int isbnMaxSize
+    ) {
+        this.sharedCache = sharedCache.orElse(null);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.searches = new Region<>("search", new LruTtlCache<>(searchMaxSize),
+                response -> searchTtl,
+                this::toJson,
+                payload -> fromJson(payload, KakaoBookResponse.class));
+        this.isbns = new Region<>("isbn", new LruTtlCache<>(isbnMaxSize),
+                document -> document.isPresent() ? isbnTtl : isbnMissTtl,
+                document -> toJson(document.orElse(null)),
+                payload -> Optional.ofNullable(fromJson(payload, KakaoBookResponse.KakaoBookDocument.class)));
+
+        Gauge.builder("kakao.book.cache.size", searches.local(), LruTtlCache::size)
+                .tag("cache", searches.name())
+                .register(meterRegistry);
+        Gauge.builder("kakao.book.cache.size", isbns.local(), LruTtlCache::size)
+                .tag("cache", isbns.name())
+                .register(meterRegistry);
+    }
+
+    private record Region<V>(
+            String name,
+            LruTtlCache<String, V> local,
+            Function<V, Duration> ttl,
+            Function<V, String> serializer,
+            Function<String, V> deserializer
+    ) {
+    }
+
+    public KakaoBookResponse search(String query, int page, int size, Supplier<KakaoBookResponse> loader) {
+        return get(searches, "search:" + page + ":" + size + ":" + query, loader);
+    }
+
+    public Optional<KakaoBookResponse.KakaoBookDocument> searchByIsbn(
+            String isbn, Supplier<Optional<KakaoBookResponse.KakaoBookDocument>> loader) {
+        return get(isbns, "isbn:" + isbn, loader);
+    }
+
+    private <V> V get(Region<V> region, String key, Supplier<V> loader) {
+        V cached = region.local().get(key, System.nanoTime());
+        if (cached != null) {
+            record(region, "hit");
+            return cached;
+        }
+
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, loading);
+        if (running != null) {
+            record(region, "coalesced");
+            return await(running);
+        }
+
+        try {
+            V value = load(region, key, loader);
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, loading);
+        }
+    }
+
+    private <V> V load(Region<V> region, String key, Supplier<V> loader) {
+        // 캐시를 확인한 뒤 다른 요청이 방금 채웠을 수 있다.
+        V value = region.local().get(key, System.nanoTime());
+        if (value != null) {
+            record(region, "hit");
+            return value;
+        }
+
+        value = readShared(region, key);
+        if (value != null) {
+            record(region, "shared_hit");
+        } else {
+            record(region, "miss");
+            meterRegistry.counter("kakao.book.upstream", "cache", region.name()).increment();
+            value = loader.get();
+            writeShared(region, key, value);
+        }
+        region.local().put(key, value, System.nanoTime() + region.ttl().apply(value).toNanos());
+        return value;
+    }
+
+    private <V> V readShared(Region<V> region, String key) {
+        if (sharedCache == null || key.length() > MAX_SHARED_KEY_LENGTH) {
+            return null;
+        }
+        try {
+            return sharedCache.get(key).map(region.deserializer()).orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("Kakao 도서 2차 캐시 조회 실패 - Key: {}, Error: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private <V> void writeShared(Region<V> region, String key, V value) {
+        if (sharedCache == null || key.length() > MAX_SHARED_KEY_LENGTH) {
+            return;
+        }
+        try {
+            sharedCache.put(key, region.serializer().apply(value), region.ttl().apply(value));
+        } catch (RuntimeException e) {
+            log.warn("Kakao 도서 2차 캐시 저장 실패 - Key: {}, Error: {}", key, e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V await(CompletableFuture<Object> running) {
+        try {
+            return (V) running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void record(Region<?> region, String result) {
+        meterRegistry.counter("kakao.book.cache", "cache", region.name(), "result", result).increment();
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Kakao 도서 캐시 직렬화 실패", e);
+        }
+    }
+
+    private <T> T fromJson(String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Kakao 도서 캐시 역직렬화 실패", e);
+        }
+    }
+}
@@ -15,11 +15,14 @@ import java.util.Optional;
 public class KakaoBookClient {
 
     private final RestClient restClient;
+    private final KakaoBookCache kakaoBookCache;
 
     public KakaoBookClient(
+            KakaoBookCache kakaoBookCache,
             @Value("${kakao.book.base-url}") String baseUrl,
             @Value("${kakao.book.rest-api-key}") String restApiKey
     ) {
+        this.kakaoBookCache = kakaoBookCache;
         this.restClient = RestClient.builder()
                 .baseUrl(baseUrl)
                 .defaultHeader("Authorization", "KakaoAK " + restApiKey)
@@ -27,6 +30,19 @@ public class KakaoBookClient {
     }
 
     public KakaoBookResponse search(String query, int page, int size) {
+        return kakaoBookCache.search(query, page, size, () -> fetch(query, page, size));
+    }
+
+    public Optional<KakaoBookResponse.KakaoBookDocument> searchByIsbn(String isbn) {
+        try {
+            return kakaoBookCache.searchByIsbn(isbn, () -> fetchByIsbn(isbn));
+        } catch (Exception ex) {
+            log.warn("Kakao book search by ISBN failed: isbn={}, error={}", isbn, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private KakaoBookResponse fetch(String query, int page, int size) {
         try {
             KakaoBookResponse response = restClient.get()
                     .uri(uriBuilder -> uriBuilder
@@ -52,26 +68,26 @@ public class KakaoBookClient {
         }
     }
 
-    public Optional<KakaoBookResponse.KakaoBookDocument> searchByIsbn(String isbn) {
-        try {
-            KakaoBookResponse body = restClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .queryParam("query", isbn)
-                            .queryParam("target", "isbn")
-                            .queryParam("size", 1)
-                            .build())
-                    .retrieve()
-                    .onStatus(HttpStatusCode::isError, (req, res) ->
-                            log.warn("Kakao book search by ISBN failed: isbn={}, status={}", isbn, res.getStatusCode()))
-                    .body(KakaoBookResponse.class);
+    /**
+     * 찾지 못하면 빈 값을, 호출이 실패하면 예외를 던진다. 실패는 캐시하지 않기 위해 둘을 구분한다.
+     */
+    private Optional<KakaoBookResponse.KakaoBookDocument> fetchByIsbn(String isbn) {
+        KakaoBookResponse body = restClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .queryParam("query", isbn)
+                        .queryParam("target", "isbn")
+                        .queryParam("size", 1)
+                        .build())
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, (req, res) -> {
+                    log.warn("Kakao book search by ISBN failed: isbn={}, status={}", isbn, res.getStatusCode());
+                    throw new BusinessException(ErrorCode.UPSTREAM_KAKAO_FAILED);
+                })
+                .body(KakaoBookResponse.class);
 
-            if (body == null || body.documents() == null || body.documents().isEmpty()) {
-                return Optional.empty();
-            }
-            return Optional.of(body.documents().getFirst());
-        } catch (Exception ex) {
-            log.warn("Kakao book search by ISBN failed: isbn={}, error={}", isbn, ex.getMessage());
+        if (body == null || body.documents() == null || body.documents().isEmpty()) {
             return Optional.empty();
         }
+        return Optional.of(body.documents().getFirst());
     }
 }
@@ -0,0 +1,15 @@
+package com.example.doktoribackend.common.client;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * {@link KakaoBookCache}의 2차 캐시. api와 chat 서버가 함께 보는 저장소에 직렬화된 응답을 둔다.
+ * 빈이 없으면 서버별 메모리 캐시만 사용한다.
+ */
+public interface KakaoBookSharedCache {
+
+    Optional<String> get(String key);
+
+    void put(String key, String payload, Duration ttl);
+}
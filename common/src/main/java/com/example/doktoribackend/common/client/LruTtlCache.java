@@ -0,0 +1,48 @@
+package com.example.doktoribackend.common.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최대 maxSize개까지 담고, 넘치면 가장 오래 쓰지 않은 항목부터 버리는 TTL 캐시.
+ * 만료 시각은 System.nanoTime 기준이며 만료된 항목은 조회할 때 지운다.
+ */
+final class LruTtlCache<K, V> {
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    LruTtlCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize는 0보다 커야 합니다.");
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    synchronized V get(K key, long now) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - now <= 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    synchronized void put(K key, V value, long expiresAt) {
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.doktoribackend.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * readOnly 트랜잭션은 레플리카로, 그 외는 프라이머리로 보낸다.
+ * 레플리카 지연이 허용치를 넘거나 상태 확인에 실패하면 readOnly 트랜잭션도 프라이머리를 사용한다.
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicationLagMonitor replicationLagMonitor;
+
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicationLagMonitor replicationLagMonitor
+    ) {
+        this.replicationLagMonitor = replicationLagMonitor;
+        setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primary,
+                DataSourceType.REPLICA, replica
+        ));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (readOnly && replicationLagMonitor.isReplicaAvailable()) {
+            return DataSourceType.REPLICA;
+        }
+        return DataSourceType.PRIMARY;
+    }
+
+    public enum DataSourceType {
+        PRIMARY, REPLICA
+    }
+}
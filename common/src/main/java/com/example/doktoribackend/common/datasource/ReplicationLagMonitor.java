@@ -0,0 +1,65 @@
+package com.example.doktoribackend.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 레플리카 복제 지연을 주기적으로 확인한다.
+ * 지연 값이 NULL(복제 중단)이거나 허용치를 넘거나 조회에 실패하면 레플리카를 사용하지 않는다.
+ * 조회 결과가 없으면 복제 상태를 노출하지 않는 읽기 엔드포인트로 보고 지연 0으로 취급한다.
+ */
+@Slf4j
+public class ReplicationLagMonitor {
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final Duration maxLag;
+
+    private volatile boolean replicaAvailable = false;
+
+    public ReplicationLagMonitor(DataSource replica, String lagQuery, String lagColumn, Duration maxLag) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLag = maxLag;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:5s}")
+    public void check() {
+        boolean available = measureLagSeconds() <= maxLag.toSeconds();
+        if (available != replicaAvailable) {
+            if (available) {
+                log.info("[Replica] 레플리카 읽기를 재개합니다.");
+            } else {
+                log.warn("[Replica] 레플리카를 사용할 수 없어 읽기를 프라이머리로 전환합니다.");
+            }
+        }
+        replicaAvailable = available;
+    }
+
+    private long measureLagSeconds() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return 0;
+            }
+            long lag = resultSet.getLong(lagColumn);
+            return resultSet.wasNull() ? Long.MAX_VALUE : lag;
+        } catch (Exception e) {
+            log.warn("[Replica] 복제 지연 조회 실패: {}", e.getMessage());
+            return Long.MAX_VALUE;
+        }
+    }
+}
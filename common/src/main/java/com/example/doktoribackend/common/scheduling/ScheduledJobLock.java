@@ -0,0 +1,157 @@
+package com.example.doktoribackend.common.scheduling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * 여러 노드에서 같은 스케줄 작업이 한 번만 실행되도록 DB lease를 잡고 실행한다.
+ * lease는 scheduler_leases 행의 조건부 UPDATE(없으면 INSERT)로 잡으며, 잡지 못한 노드는 이번 주기를 건너뛴다.
+ * leaseFor는 작업이 비정상 종료됐을 때 다른 노드가 이어받기까지의 시간이고,
+ * minHold는 작업이 빨리 끝나도 lease를 유지하는 시간으로 노드 간 시계 차이로 같은 주기를 다시 실행하는 것을 막는다.
+ */
+@Slf4j
+@Component
+public class ScheduledJobLock {
+
+    private static final String ACQUIRE_SQL = "UPDATE scheduler_leases "
+            + "SET owner = ?, locked_at = ?, locked_until = ? "
+            + "WHERE name = ? AND locked_until <= ?";
+    private static final String INSERT_SQL = "INSERT INTO scheduler_leases "
+            + "(name, owner, locked_at, locked_until) VALUES (?, ?, ?, ?)";
+    private static final String RELEASE_SQL = "UPDATE scheduler_leases "
+            + "SET locked_until = ? "
+            + "WHERE name = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate leaseTx;
+    private final MeterRegistry meterRegistry;
+    private final String owner;
+
+    public ScheduledJobLock(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaseTx = new TransactionTemplate(transactionManager);
+        this.leaseTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName()
+                + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * lease를 잡으면 작업을 실행하고 true를 반환한다. 다른 노드가 잡고 있으면 실행하지 않고 false를 반환한다.
+     * 작업의 예외는 그대로 던지며, 호출한 쪽 트랜잭션이 있으면 lease는 그 트랜잭션이 끝난 뒤에 반납한다.
+     */
+    public boolean runExclusively(String jobName, Duration leaseFor, Duration minHold, Runnable job) {
+        LocalDateTime acquiredAt = LocalDateTime.now();
+        if (!tryAcquire(jobName, acquiredAt, acquiredAt.plus(leaseFor))) {
+            meterRegistry.counter("scheduler.lease", "job", jobName, "result", "skipped").increment();
+            return false;
+        }
+        meterRegistry.counter("scheduler.lease", "job", jobName, "result", "acquired").increment();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            job.run();
+            return true;
+        } catch (RuntimeException e) {
+            meterRegistry.counter("scheduler.lease", "job", jobName, "result", "failed").increment();
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("scheduler.job.duration", "job", jobName));
+            releaseAfterCompletion(jobName, acquiredAt.plus(minHold));
+        }
+    }
+
+    /**
+     * 작업을 shardCount개의 샤드로 나눠, 이 노드가 lease를 잡은 샤드만 실행한다. 실행한 샤드 수를 반환한다.
+     * 노드마다 시작 샤드를 달리해 동시에 돌 때 서로 다른 샤드부터 가져가고, 먼저 끝난 노드가 남은 샤드를 이어받는다.
+     */
+    public int runSharded(
+            String jobName,
+            int shardCount,
+            Duration leaseFor,
+            Duration minHold,
+            Consumer<Shard> job
+    ) {
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        int executed = 0;
+        for (int i = 0; i < shardCount; i++) {
+            Shard shard = new Shard((start + i) % shardCount, shardCount);
+            if (runExclusively(jobName + "#" + shard.index(), leaseFor, minHold, () -> job.accept(shard))) {
+                executed++;
+            }
+        }
+        return executed;
+    }
+
+    String owner() {
+        return owner;
+    }
+
+    private boolean tryAcquire(String jobName, LocalDateTime now, LocalDateTime until) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        Timestamp untilTs = Timestamp.valueOf(until);
+        try {
+            Integer updated = leaseTx.execute(status ->
+                    jdbcTemplate.update(ACQUIRE_SQL, owner, nowTs, untilTs, jobName, nowTs));
+            if (updated != null && updated > 0) {
+                return true;
+            }
+            // 처음 실행되는 작업이면 행을 만든다. 다른 노드가 먼저 만들었으면 그 노드가 실행한다.
+            leaseTx.executeWithoutResult(status ->
+                    jdbcTemplate.update(INSERT_SQL, jobName, owner, nowTs, untilTs));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        } catch (Exception e) {
+            log.warn("[Scheduler] lease 획득 실패로 이번 주기를 건너뜁니다 - job: {}, error: {}", jobName, e.getMessage());
+            meterRegistry.counter("scheduler.lease", "job", jobName, "result", "error").increment();
+            return false;
+        }
+    }
+
+    private void releaseAfterCompletion(String jobName, LocalDateTime holdUntil) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(jobName, holdUntil);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release(jobName, holdUntil);
+            }
+        });
+    }
+
+    private void release(String jobName, LocalDateTime holdUntil) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp untilTs = Timestamp.valueOf(holdUntil.isAfter(now) ? holdUntil : now);
+        try {
+            leaseTx.executeWithoutResult(status ->
+                    jdbcTemplate.update(RELEASE_SQL, untilTs, jobName, owner));
+        } catch (Exception e) {
+            // 반납하지 못해도 leaseFor가 지나면 다른 노드가 이어받는다.
+            log.warn("[Scheduler] lease 반납 실패 - job: {}, error: {}", jobName, e.getMessage());
+        }
+    }
+}
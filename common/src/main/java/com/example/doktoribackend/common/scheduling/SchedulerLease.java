@@ -0,0 +1,36 @@
+package com.example.doktoribackend.common.scheduling;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 실행권(lease).
+ * 작업 이름마다 한 행이며, locked_until 전까지는 owner 노드만 작업을 실행한다.
+ * 획득/반납은 {@link ScheduledJobLock}이 조건부 UPDATE로 처리한다.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "owner", nullable = false, length = 150)
+    private String owner;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
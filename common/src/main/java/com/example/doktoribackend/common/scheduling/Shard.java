@@ -0,0 +1,18 @@
+package com.example.doktoribackend.common.scheduling;
+
+/**
+ * 샤딩된 스케줄 작업에서 한 노드가 맡은 키 구간.
+ * 키를 샤드 수로 나눈 나머지로 나누므로, 노드마다 대상 목록을 따로 조회해도 같은 키는 항상 같은 샤드에 속한다.
+ */
+public record Shard(int index, int count) {
+
+    public Shard {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard " + index + "/" + count);
+        }
+    }
+
+    public boolean contains(long key) {
+        return Math.floorMod(key, count) == index;
+    }
+}
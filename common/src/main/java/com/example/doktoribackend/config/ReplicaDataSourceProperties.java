@@ -0,0 +1,21 @@
+package com.example.doktoribackend.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 레플리카 설정. 커넥션 풀 설정은 app.datasource.replica.hikari 아래에 둔다.
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private final boolean enabled;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final Duration maxLag;
+}
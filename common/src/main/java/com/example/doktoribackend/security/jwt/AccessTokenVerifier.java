@@ -0,0 +1,106 @@
+package com.example.doktoribackend.security.jwt;
+
+import com.example.doktoribackend.common.error.ErrorCode;
+import com.example.doktoribackend.exception.BusinessException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * access token 검증기. 서명 키와 parser는 한 번만 만들고, 토큰을 한 번 파싱해 {@link JwtPrincipal}로 돌려준다.
+ * 검증에 성공한 토큰은 SHA-256 해시를 키로 만료 시각까지 최대 maxCachedTokens개 보관해,
+ * 같은 토큰이 다시 오면 서명 검증과 파싱을 건너뛴다. 캐시가 가득 차면 새 토큰은 캐시하지 않고,
+ * 만료된 항목은 주기적인 {@link #evictExpired}로만 치워 검증 경로에서 전체 순회가 일어나지 않게 한다.
+ */
+public final class AccessTokenVerifier {
+
+    private final JwtParser parser;
+    private final int maxCachedTokens;
+    private final Clock clock;
+    private final Map<String, JwtPrincipal> verified = new ConcurrentHashMap<>();
+
+    public AccessTokenVerifier(Key key, int maxCachedTokens) {
+        this(key, maxCachedTokens, Clock.systemUTC());
+    }
+
+    AccessTokenVerifier(Key key, int maxCachedTokens, Clock clock) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setClock(() -> Date.from(clock.instant()))
+                .build();
+        this.maxCachedTokens = maxCachedTokens;
+        this.clock = clock;
+    }
+
+    /**
+     * 만료된 토큰은 TOKEN_EXPIRED, 그 밖의 잘못된 토큰은 INVALID_ACCESS_TOKEN을 던진다.
+     */
+    public JwtPrincipal verify(String token) {
+        String cacheKey = hash(token);
+        JwtPrincipal cached = verified.get(cacheKey);
+        if (cached != null) {
+            if (!cached.isExpiredAt(clock.instant())) {
+                return cached;
+            }
+            verified.remove(cacheKey, cached);
+            throw new BusinessException(ErrorCode.TOKEN_EXPIRED);
+        }
+
+        JwtPrincipal principal = parse(token);
+        if (principal.expiresAt() != null && verified.size() < maxCachedTokens) {
+            verified.put(cacheKey, principal);
+        }
+        return principal;
+    }
+
+    public void evictExpired() {
+        Instant now = clock.instant();
+        verified.values().removeIf(principal -> principal.isExpiredAt(now));
+    }
+
+    int cachedTokens() {
+        return verified.size();
+    }
+
+    JwtParser parser() {
+        return parser;
+    }
+
+    private JwtPrincipal parse(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            return new JwtPrincipal(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("nickname", String.class),
+                    expiration != null ? expiration.toInstant() : null
+            );
+        } catch (ExpiredJwtException e) {
+            throw new BusinessException(ErrorCode.TOKEN_EXPIRED);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_ACCESS_TOKEN);
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
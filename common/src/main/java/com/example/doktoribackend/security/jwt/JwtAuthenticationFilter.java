@@ -48,13 +48,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = header.substring(7);
         try {
-            Long userId = jwtTokenProvider.getUserIdFromAccessToken(token);
-            String nickname = jwtTokenProvider.getNicknameFromAccessToken(token);
+            JwtPrincipal principal = jwtTokenProvider.verifyAccessToken(token);
 
-            if (userId != null &&
+            if (principal != null && principal.userId() != null &&
                     SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                CustomUserDetails userDetails = CustomUserDetails.of(userId, nickname);
+                CustomUserDetails userDetails = CustomUserDetails.of(principal.userId(), principal.nickname());
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
@@ -0,0 +1,13 @@
+package com.example.doktoribackend.security.jwt;
+
+import java.time.Instant;
+
+/**
+ * 검증된 access token에서 꺼낸 사용자 정보.
+ */
+public record JwtPrincipal(Long userId, String nickname, Instant expiresAt) {
+
+    boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -6,7 +6,9 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
@@ -15,20 +17,51 @@ import java.time.temporal.ChronoUnit;
 import java.util.Date;
 
 @Component
-@Getter
 public class JwtTokenProvider {
 
-    @Value("${app.jwt.secret}")
-    private String secret;
-
-    @Value("${app.jwt.access-exp-minutes}")
-    private long accessExpMinutes;
-
-    @Value("${app.jwt.refresh-exp-seconds}")
-    private long refreshExpSeconds;
+    @Getter
+    private final String secret;
+
+    @Getter
+    private final long accessExpMinutes;
+
+    @Getter
+    private final long refreshExpSeconds;
+
+    // 키가 짧으면 hmacShaKeyFor가 예외를 던지므로, 기동 시점이 아닌 첫 사용 시점에 한 번 만든다.
+    private final SingletonSupplier<Key> key;
+    private final int verifiedTokenCacheSize;
+    private volatile AccessTokenVerifier accessTokenVerifier;
+
+    public JwtTokenProvider(
+            @Value("${app.jwt.secret}") String secret,
+            @Value("${app.jwt.access-exp-minutes}") long accessExpMinutes,
+            @Value("${app.jwt.refresh-exp-seconds}") long refreshExpSeconds,
+            @Value("${app.jwt.verified-token-cache-size:10000}") int verifiedTokenCacheSize
+    ) {
+        this.secret = secret;
+        this.accessExpMinutes = accessExpMinutes;
+        this.refreshExpSeconds = refreshExpSeconds;
+        this.key = SingletonSupplier.of(() -> Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)));
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+    }
 
     private Key getKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return key.obtain();
+    }
+
+    private AccessTokenVerifier accessTokenVerifier() {
+        AccessTokenVerifier verifier = accessTokenVerifier;
+        if (verifier == null) {
+            synchronized (this) {
+                verifier = accessTokenVerifier;
+                if (verifier == null) {
+                    verifier = new AccessTokenVerifier(getKey(), verifiedTokenCacheSize);
+                    accessTokenVerifier = verifier;
+                }
+            }
+        }
+        return verifier;
     }
 
     public String createAccessToken(Long userId, String nickname) {
@@ -59,30 +92,28 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * access token을 한 번만 검증하고 사용자 id와 닉네임을 함께 돌려준다. 같은 토큰은 만료 전까지 캐시된 결과를 쓴다.
+     */
+    public JwtPrincipal verifyAccessToken(String accessToken) {
+        return accessTokenVerifier().verify(accessToken);
+    }
+
     public String getNicknameFromAccessToken(String accessToken) {
-        Claims claims = parseClaims(accessToken);
-        return claims.get("nickname", String.class);
+        return verifyAccessToken(accessToken).nickname();
     }
 
-    private Claims parseClaims(String token) {
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (ExpiredJwtException e) {
-            throw new BusinessException(ErrorCode.TOKEN_EXPIRED);
-        } catch (JwtException e) {
-            throw new BusinessException(ErrorCode.INVALID_ACCESS_TOKEN);
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredAccessTokens() {
+        AccessTokenVerifier verifier = accessTokenVerifier;
+        if (verifier != null) {
+            verifier.evictExpired();
         }
     }
 
     private Claims parseRefreshClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getKey())
-                    .build()
+            return accessTokenVerifier().parser()
                     .parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
@@ -93,8 +124,7 @@ public class JwtTokenProvider {
     }
 
     public Long getUserIdFromAccessToken(String accessToken) {
-        Claims claims = parseClaims(accessToken);
-        return Long.parseLong(claims.getSubject());
+        return verifyAccessToken(accessToken).userId();
     }
 
     public Claims validateRefreshToken(String refreshToken) {
@@ -0,0 +1,219 @@
+package com.example.doktoribackend.common.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Kakao 도서 검색 캐시")
+class KakaoBookCacheTest {
+
+    private static final KakaoBookResponse.KakaoBookDocument DOCUMENT = new KakaoBookResponse.KakaoBookDocument(
+            "데미안", List.of("헤르만 헤세"), "민음사", "https://image/1", "2000-12-20T00:00:00.000+09:00",
+            "8937460440 9788937460449");
+    private static final KakaoBookResponse RESPONSE = new KakaoBookResponse(
+            new KakaoBookResponse.KakaoBookMeta(1, true), List.of(DOCUMENT));
+
+    private SimpleMeterRegistry meterRegistry;
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("같은 검색어는 TTL 동안 Kakao를 다시 호출하지 않는다")
+    void search_cachesResponse() {
+        // given
+        KakaoBookCache cache = cache(null);
+
+        // when
+        KakaoBookResponse first = cache.search("데미안", 1, 10, this::upstreamSearch);
+        KakaoBookResponse second = cache.search("데미안", 1, 10, this::upstreamSearch);
+        cache.search("데미안", 2, 10, this::upstreamSearch);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(count("search", "hit")).isEqualTo(1);
+        assertThat(count("search", "miss")).isEqualTo(2);
+        assertThat(meterRegistry.counter("kakao.book.upstream", "cache", "search").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 검색은 Kakao를 한 번만 호출한다")
+    void search_coalescesConcurrentRequests() throws Exception {
+        // given
+        KakaoBookCache cache = cache(null);
+        int callers = 30;
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<KakaoBookResponse> responses;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<KakaoBookResponse>> futures = IntStream.range(0, callers)
+                    .mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        return cache.search("데미안", 1, 10, this::slowUpstreamSearch);
+                    }))
+                    .toList();
+            start.countDown();
+            responses = futures.stream().map(this::join).toList();
+        }
+
+        // then
+        assertThat(responses).hasSize(callers).containsOnly(RESPONSE);
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("ISBN으로 찾지 못한 결과도 캐시한다")
+    void searchByIsbn_cachesMiss() {
+        // given
+        KakaoBookCache cache = cache(null);
+
+        // when
+        Optional<KakaoBookResponse.KakaoBookDocument> first = cache.searchByIsbn("0000000000000", this::upstreamMiss);
+        Optional<KakaoBookResponse.KakaoBookDocument> second = cache.searchByIsbn("0000000000000", this::upstreamMiss);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Kakao 호출 실패는 캐시하지 않는다")
+    void searchByIsbn_doesNotCacheFailure() {
+        // given
+        KakaoBookCache cache = cache(null);
+
+        // when
+        assertThatThrownBy(() -> cache.searchByIsbn("9788937460449", this::upstreamFailure))
+                .isInstanceOf(IllegalStateException.class);
+        Optional<KakaoBookResponse.KakaoBookDocument> result = cache.searchByIsbn("9788937460449", this::upstreamHit);
+
+        // then
+        assertThat(result).contains(DOCUMENT);
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("2차 캐시를 쓰면 다른 서버가 조회한 결과를 Kakao 호출 없이 읽는다")
+    void sharedCache_sharesEntriesBetweenServers() {
+        // given
+        JdbcKakaoBookSharedCache sharedCache = new JdbcKakaoBookSharedCache(sharedDatabase());
+        KakaoBookCache apiCache = cache(sharedCache);
+        KakaoBookCache chatCache = cache(sharedCache);
+
+        // when
+        apiCache.searchByIsbn("9788937460449", this::upstreamHit);
+        apiCache.searchByIsbn("0000000000000", this::upstreamMiss);
+        apiCache.search("데미안", 1, 10, this::upstreamSearch);
+        Optional<KakaoBookResponse.KakaoBookDocument> hit = chatCache.searchByIsbn("9788937460449", this::upstreamHit);
+        Optional<KakaoBookResponse.KakaoBookDocument> miss = chatCache.searchByIsbn("0000000000000", this::upstreamMiss);
+        KakaoBookResponse search = chatCache.search("데미안", 1, 10, this::upstreamSearch);
+
+        // then
+        assertThat(hit).contains(DOCUMENT);
+        assertThat(miss).isEmpty();
+        assertThat(search).isEqualTo(RESPONSE);
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(count("isbn", "shared_hit")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 쓰지 않은 항목부터 버린다")
+    void lruTtlCache_evictsLeastRecentlyUsed() {
+        // given
+        LruTtlCache<String, String> cache = new LruTtlCache<>(2);
+        long expiresAt = System.nanoTime() + Duration.ofMinutes(1).toNanos();
+        cache.put("a", "A", expiresAt);
+        cache.put("b", "B", expiresAt);
+
+        // when
+        cache.get("a", System.nanoTime());
+        cache.put("c", "C", expiresAt);
+
+        // then
+        assertThat(cache.get("a", System.nanoTime())).isEqualTo("A");
+        assertThat(cache.get("b", System.nanoTime())).isNull();
+        assertThat(cache.get("c", System.nanoTime())).isEqualTo("C");
+        assertThat(cache.get("c", expiresAt)).isNull();
+    }
+
+    private KakaoBookCache cache(KakaoBookSharedCache sharedCache) {
+        return new KakaoBookCache(Optional.ofNullable(sharedCache), new ObjectMapper(), meterRegistry,
+                Duration.ofMinutes(10), 100, Duration.ofHours(24), Duration.ofHours(1), 100);
+    }
+
+    private JdbcTemplate sharedDatabase() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:kakao-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE kakao_book_cache ("
+                + "cache_key VARCHAR(255) NOT NULL PRIMARY KEY, "
+                + "payload TEXT NOT NULL, "
+                + "expires_at DATETIME(6) NOT NULL)");
+        return jdbcTemplate;
+    }
+
+    private double count(String cache, String result) {
+        return meterRegistry.counter("kakao.book.cache", "cache", cache, "result", result).count();
+    }
+
+    private KakaoBookResponse upstreamSearch() {
+        upstreamCalls.incrementAndGet();
+        return RESPONSE;
+    }
+
+    private KakaoBookResponse slowUpstreamSearch() {
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return upstreamSearch();
+    }
+
+    private Optional<KakaoBookResponse.KakaoBookDocument> upstreamHit() {
+        upstreamCalls.incrementAndGet();
+        return Optional.of(DOCUMENT);
+    }
+
+    private Optional<KakaoBookResponse.KakaoBookDocument> upstreamMiss() {
+        upstreamCalls.incrementAndGet();
+        return Optional.empty();
+    }
+
+    private Optional<KakaoBookResponse.KakaoBookDocument> upstreamFailure() {
+        upstreamCalls.incrementAndGet();
+        throw new IllegalStateException("Kakao 호출 실패");
+    }
+
+    private <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
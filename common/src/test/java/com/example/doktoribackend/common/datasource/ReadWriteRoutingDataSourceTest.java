@@ -0,0 +1,98 @@
+package com.example.doktoribackend.common.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("readOnly 트랜잭션 레플리카 라우팅")
+class ReadWriteRoutingDataSourceTest {
+
+    private JdbcTemplate replicaJdbcTemplate;
+    private ReplicationLagMonitor replicationLagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        new JdbcTemplate(primary).execute("INSERT INTO node VALUES ('primary')");
+        replicaJdbcTemplate = new JdbcTemplate(replica);
+        replicaJdbcTemplate.execute("INSERT INTO node VALUES ('replica')");
+        replicaJdbcTemplate.execute("CREATE TABLE replica_status (Seconds_Behind_Source BIGINT)");
+        replicaJdbcTemplate.execute("INSERT INTO replica_status VALUES (0)");
+
+        replicationLagMonitor = new ReplicationLagMonitor(
+                replica, "SELECT Seconds_Behind_Source FROM replica_status",
+                "Seconds_Behind_Source", Duration.ofSeconds(5));
+        replicationLagMonitor.check();
+
+        ReadWriteRoutingDataSource routingDataSource =
+                new ReadWriteRoutingDataSource(primary, replica, replicationLagMonitor);
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    private DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(dataSource).execute("CREATE TABLE node (name VARCHAR(20))");
+        return dataSource;
+    }
+
+    private String currentNode(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private void setLag(Long seconds) {
+        replicaJdbcTemplate.update("UPDATE replica_status SET Seconds_Behind_Source = ?", seconds);
+        replicationLagMonitor.check();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 레플리카, 쓰기 트랜잭션은 프라이머리를 사용한다")
+    void routesByReadOnlyFlag() {
+        assertThat(currentNode(true)).isEqualTo("replica");
+        assertThat(currentNode(false)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 조회는 프라이머리를 사용한다")
+    void routesToPrimaryWithoutTransaction() {
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 readOnly 트랜잭션도 프라이머리를 사용하고, 회복되면 레플리카로 돌아간다")
+    void fallsBackToPrimaryWhenLagging() {
+        setLag(30L);
+        assertThat(currentNode(true)).isEqualTo("primary");
+
+        setLag(1L);
+        assertThat(currentNode(true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제가 중단되어 지연 값이 NULL이면 프라이머리를 사용한다")
+    void fallsBackToPrimaryWhenReplicationStopped() {
+        setLag(null);
+
+        assertThat(currentNode(true)).isEqualTo("primary");
+    }
+}
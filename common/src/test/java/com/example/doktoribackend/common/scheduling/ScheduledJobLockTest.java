@@ -0,0 +1,307 @@
+package com.example.doktoribackend.common.scheduling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("스케줄 작업 lease - 두 노드(애플리케이션 컨텍스트)가 하나의 DB를 공유")
+class ScheduledJobLockTest {
+
+    private static final String JOB = "test.job";
+
+    private AnnotationConfigApplicationContext node1;
+    private AnnotationConfigApplicationContext node2;
+    private ScheduledJobLock lock1;
+    private ScheduledJobLock lock2;
+
+    @BeforeEach
+    void setUp() {
+        String url = "jdbc:h2:mem:lease-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+        node1 = startNode(url);
+        node2 = startNode(url);
+        node1.getBean(JdbcTemplate.class).execute("CREATE TABLE scheduler_leases ("
+                + "name VARCHAR(100) NOT NULL PRIMARY KEY, "
+                + "owner VARCHAR(150) NOT NULL, "
+                + "locked_at DATETIME(6) NOT NULL, "
+                + "locked_until DATETIME(6) NOT NULL)");
+        lock1 = node1.getBean(ScheduledJobLock.class);
+        lock2 = node2.getBean(ScheduledJobLock.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        node1.close();
+        node2.close();
+    }
+
+    private AnnotationConfigApplicationContext startNode(String url) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean("jdbcUrl", String.class, () -> url);
+        context.register(NodeConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    @Test
+    @DisplayName("두 노드가 같은 주기에 동시에 실행해도 작업은 한 번만 실행된다")
+    void concurrentNodes_runJobOnce() throws Exception {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Runnable job = () -> {
+            executions.incrementAndGet();
+            sleep(200);
+        };
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<Boolean> ran1 = executor.submit(() -> {
+            start.await();
+            return lock1.runExclusively(JOB, Duration.ofMinutes(1), Duration.ofSeconds(30), job);
+        });
+        Future<Boolean> ran2 = executor.submit(() -> {
+            start.await();
+            return lock2.runExclusively(JOB, Duration.ofMinutes(1), Duration.ofSeconds(30), job);
+        });
+        start.countDown();
+        List<Boolean> results = List.of(ran1.get(10, TimeUnit.SECONDS), ran2.get(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(results).containsExactlyInAnyOrder(true, false);
+    }
+
+    @Test
+    @DisplayName("작업이 끝나도 minHold 동안은 다른 노드가 같은 작업을 실행하지 않는다")
+    void minHold_blocksOtherNodeAfterCompletion() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        lock1.runExclusively(JOB, Duration.ofMinutes(1), Duration.ofSeconds(30), executions::incrementAndGet);
+
+        // when
+        boolean ran = lock2.runExclusively(JOB, Duration.ofMinutes(1), Duration.ofSeconds(30), executions::incrementAndGet);
+
+        // then
+        assertThat(ran).isFalse();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("minHold가 지나면 다른 노드가 다음 주기를 실행한다")
+    void afterMinHold_otherNodeRuns() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        lock1.runExclusively(JOB, Duration.ofMinutes(1), Duration.ZERO, executions::incrementAndGet);
+
+        // when
+        boolean ran = lock2.runExclusively(JOB, Duration.ofMinutes(1), Duration.ZERO, executions::incrementAndGet);
+
+        // then
+        assertThat(ran).isTrue();
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("lease를 잡은 노드가 반납하지 못하면 leaseFor가 지난 뒤 다른 노드가 이어받는다")
+    void expiredLease_isTakenOver() {
+        // given - node1이 실행 중 멈춘 상황을 lease 행으로 재현
+        LocalDateTime now = LocalDateTime.now();
+        node1.getBean(JdbcTemplate.class).update(
+                "INSERT INTO scheduler_leases (name, owner, locked_at, locked_until) VALUES (?, ?, ?, ?)",
+                JOB, "crashed-node", Timestamp.valueOf(now), Timestamp.valueOf(now.plusSeconds(1)));
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        boolean beforeExpiry = lock2.runExclusively(JOB, Duration.ofMinutes(1), Duration.ZERO, executions::incrementAndGet);
+        sleep(1_100);
+        boolean afterExpiry = lock2.runExclusively(JOB, Duration.ofMinutes(1), Duration.ZERO, executions::incrementAndGet);
+
+        // then
+        assertThat(beforeExpiry).isFalse();
+        assertThat(afterExpiry).isTrue();
+        assertThat(executions).hasValue(1);
+        assertThat(node1.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT owner FROM scheduler_leases WHERE name = ?", String.class, JOB))
+                .isEqualTo(lock2.owner());
+    }
+
+    @Test
+    @DisplayName("작업이 예외를 던지면 그대로 전파하고 lease는 반납한다")
+    void failedJob_releasesLease() {
+        // given
+        Runnable failing = () -> {
+            throw new IllegalStateException("boom");
+        };
+
+        // when
+        assertThatThrownBy(() -> lock1.runExclusively(JOB, Duration.ofMinutes(10), Duration.ZERO, failing))
+                .isInstanceOf(IllegalStateException.class);
+        boolean ran = lock2.runExclusively(JOB, Duration.ofMinutes(10), Duration.ZERO, () -> { });
+
+        // then
+        assertThat(ran).isTrue();
+        assertThat(node1.getBean(MeterRegistry.class)
+                .counter("scheduler.lease", "job", JOB, "result", "failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("호출한 쪽 트랜잭션이 있으면 커밋이 끝난 뒤에 lease를 반납한다")
+    void callerTransaction_releasesAfterCompletion() {
+        // given
+        TransactionTemplate tx = new TransactionTemplate(node1.getBean(PlatformTransactionManager.class));
+        AtomicInteger otherNodeRuns = new AtomicInteger();
+
+        // when
+        tx.executeWithoutResult(status -> {
+            lock1.runExclusively(JOB, Duration.ofMinutes(10), Duration.ZERO, () -> { });
+            // 작업은 끝났지만 트랜잭션이 아직 커밋되지 않았다.
+            lock2.runExclusively(JOB, Duration.ofMinutes(10), Duration.ZERO, otherNodeRuns::incrementAndGet);
+        });
+        lock2.runExclusively(JOB, Duration.ofMinutes(10), Duration.ZERO, otherNodeRuns::incrementAndGet);
+
+        // then
+        assertThat(otherNodeRuns).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("샤딩된 작업은 두 노드에 나뉘어 샤드마다 한 번씩만 실행된다")
+    void shardedJob_eachShardRunsOnce() throws Exception {
+        // given
+        int shardCount = 8;
+        Set<Integer> node1Shards = ConcurrentHashMap.newKeySet();
+        Set<Integer> node2Shards = ConcurrentHashMap.newKeySet();
+        List<Integer> allRuns = new CopyOnWriteArrayList<>();
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<Integer> ran1 = executor.submit(() -> lock1.runSharded(JOB, shardCount,
+                Duration.ofMinutes(1), Duration.ofSeconds(30), shard -> {
+                    node1Shards.add(shard.index());
+                    allRuns.add(shard.index());
+                    sleep(50);
+                }));
+        Future<Integer> ran2 = executor.submit(() -> lock2.runSharded(JOB, shardCount,
+                Duration.ofMinutes(1), Duration.ofSeconds(30), shard -> {
+                    node2Shards.add(shard.index());
+                    allRuns.add(shard.index());
+                    sleep(50);
+                }));
+        int total = ran1.get(10, TimeUnit.SECONDS) + ran2.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(total).isEqualTo(shardCount);
+        assertThat(allRuns).hasSize(shardCount).doesNotHaveDuplicates();
+        assertThat(node1Shards).doesNotContainAnyElementsOf(node2Shards);
+    }
+
+    @Test
+    @DisplayName("샤드는 키를 샤드 수로 나눈 나머지로 겹치지 않게 나눈다")
+    void shard_partitionsKeys() {
+        // given
+        List<Shard> shards = List.of(new Shard(0, 3), new Shard(1, 3), new Shard(2, 3));
+
+        // when & then
+        for (long key = -5; key <= 20; key++) {
+            long owners = 0;
+            for (Shard shard : shards) {
+                if (shard.contains(key)) {
+                    owners++;
+                }
+            }
+            assertThat(owners).isEqualTo(1);
+        }
+        assertThatThrownBy(() -> new Shard(3, 3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("lease 획득/건너뜀 횟수를 메트릭으로 남긴다")
+    void recordsLeaseMetrics() {
+        // given
+        lock1.runExclusively(JOB, Duration.ofMinutes(1), Duration.ofSeconds(30), () -> { });
+
+        // when
+        lock2.runExclusively(JOB, Duration.ofMinutes(1), Duration.ofSeconds(30), () -> { });
+
+        // then
+        MeterRegistry registry1 = node1.getBean(MeterRegistry.class);
+        MeterRegistry registry2 = node2.getBean(MeterRegistry.class);
+        assertThat(registry1.counter("scheduler.lease", "job", JOB, "result", "acquired").count()).isEqualTo(1.0);
+        assertThat(registry2.counter("scheduler.lease", "job", JOB, "result", "skipped").count()).isEqualTo(1.0);
+        assertThat(registry1.timer("scheduler.job.duration", "job", JOB).count()).isEqualTo(1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Configuration
+    static class NodeConfig {
+
+        @Bean
+        DataSource dataSource(String jdbcUrl) {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL(jdbcUrl);
+            return dataSource;
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ScheduledJobLock scheduledJobLock(
+                JdbcTemplate jdbcTemplate,
+                PlatformTransactionManager transactionManager,
+                MeterRegistry meterRegistry
+        ) {
+            return new ScheduledJobLock(jdbcTemplate, transactionManager, meterRegistry);
+        }
+    }
+}
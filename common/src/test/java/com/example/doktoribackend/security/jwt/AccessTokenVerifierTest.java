@@ -0,0 +1,191 @@
+package com.example.doktoribackend.security.jwt;
+
+import com.example.doktoribackend.common.error.ErrorCode;
+import com.example.doktoribackend.exception.BusinessException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("access token 검증 캐시")
+class AccessTokenVerifierTest {
+
+    private static final String SECRET = "test-secret-key-for-unit-testing-at-least-32-characters-long";
+    private static final Key KEY = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+    private MutableClock clock;
+    private AccessTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.now());
+        verifier = new AccessTokenVerifier(KEY, 100, clock);
+    }
+
+    @Test
+    @DisplayName("토큰을 한 번 파싱해 사용자 id와 닉네임을 돌려주고, 같은 토큰은 캐시된 결과를 쓴다")
+    void verify_parsesOnceAndCaches() {
+        // given
+        String token = token(KEY, 1L, "독서왕", Duration.ofMinutes(30));
+
+        // when
+        JwtPrincipal first = verifier.verify(token);
+        JwtPrincipal second = verifier.verify(token);
+
+        // then
+        assertThat(first.userId()).isEqualTo(1L);
+        assertThat(first.nickname()).isEqualTo("독서왕");
+        assertThat(second).isSameAs(first);
+        assertThat(verifier.cachedTokens()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 만료 시각이 지나면 TOKEN_EXPIRED를 던지고 캐시에서 뺀다")
+    void verify_cachedTokenExpires() {
+        // given
+        String token = token(KEY, 1L, "독서왕", Duration.ofMinutes(30));
+        verifier.verify(token);
+
+        // when
+        clock.advance(Duration.ofMinutes(31));
+
+        // then
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOKEN_EXPIRED);
+        assertThat(verifier.cachedTokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰은 INVALID_ACCESS_TOKEN이며 캐시하지 않는다")
+    void verify_invalidSignature() {
+        // given
+        Key otherKey = Keys.hmacShaKeyFor("another-secret-key-for-unit-testing-32-characters".getBytes(StandardCharsets.UTF_8));
+        String token = token(otherKey, 1L, "독서왕", Duration.ofMinutes(30));
+
+        // when & then
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_ACCESS_TOKEN);
+        assertThat(verifier.cachedTokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("서명은 맞지만 페이로드를 바꾼 토큰은 캐시된 원본과 별개로 거부한다")
+    void verify_tamperedPayload() {
+        // given
+        String token = token(KEY, 1L, "독서왕", Duration.ofMinutes(30));
+        verifier.verify(token);
+        String other = token(KEY, 2L, "다른사람", Duration.ofMinutes(30));
+        String[] original = token.split("\\.");
+        String[] forged = other.split("\\.");
+        String tampered = original[0] + "." + forged[1] + "." + original[2];
+
+        // when & then
+        assertThatThrownBy(() -> verifier.verify(tampered))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_ACCESS_TOKEN);
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차면 캐시하지 않고, 주기적인 정리로 만료된 항목이 빠진 뒤에 다시 캐시한다")
+    void verify_boundedCache() {
+        // given
+        verifier = new AccessTokenVerifier(KEY, 2, clock);
+        verifier.verify(token(KEY, 1L, "a", Duration.ofMinutes(1)));
+        verifier.verify(token(KEY, 2L, "b", Duration.ofMinutes(30)));
+        String next = token(KEY, 4L, "d", Duration.ofMinutes(30));
+
+        // when
+        verifier.verify(token(KEY, 3L, "c", Duration.ofMinutes(30)));
+        clock.advance(Duration.ofMinutes(2));
+        verifier.verify(next);
+        int beforeSweep = verifier.cachedTokens();
+        verifier.evictExpired();
+        int afterSweep = verifier.cachedTokens();
+        verifier.verify(next);
+
+        // then
+        assertThat(beforeSweep).isEqualTo(2);
+        assertThat(afterSweep).isEqualTo(1);
+        assertThat(verifier.cachedTokens()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("JwtTokenProvider가 만든 access token과 refresh token을 검증한다")
+    void jwtTokenProvider_roundTrip() {
+        // given
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 30, 1209600, 100);
+        String accessToken = provider.createAccessToken(7L, "모임장");
+        String refreshToken = provider.createRefreshToken(7L, "token-id");
+
+        // when
+        JwtPrincipal principal = provider.verifyAccessToken(accessToken);
+        Claims refreshClaims = provider.validateRefreshToken(refreshToken);
+
+        // then
+        assertThat(principal.userId()).isEqualTo(7L);
+        assertThat(principal.nickname()).isEqualTo("모임장");
+        assertThat(provider.getUserIdFromAccessToken(accessToken)).isEqualTo(7L);
+        assertThat(provider.getNicknameFromAccessToken(accessToken)).isEqualTo("모임장");
+        assertThat(refreshClaims.getId()).isEqualTo("token-id");
+    }
+
+    private String token(Key key, Long userId, String nickname, Duration ttl) {
+        Instant now = clock.instant();
+        return Jwts.builder()
+                .setSubject(userId.toString())
+                .claim("userId", userId)
+                .claim("nickname", nickname)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(ttl)))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}